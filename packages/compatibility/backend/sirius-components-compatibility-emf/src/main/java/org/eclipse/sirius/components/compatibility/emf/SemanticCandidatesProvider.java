@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -65,7 +65,7 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
     public List<?> apply(VariableManager variableManager) {
         List<Object> semanticCandidates = new ArrayList<>();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), this.semanticCandidatesExpression);
 
         DomainClassPredicate domainClassPredicate = new DomainClassPredicate(this.domainClass);
 
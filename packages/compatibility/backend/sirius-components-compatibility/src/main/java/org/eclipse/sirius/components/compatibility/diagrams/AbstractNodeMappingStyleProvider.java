@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -119,7 +119,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         int borderRadius = this.getBorderRadius(flatContainerStyleDescription);
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
@@ -152,7 +152,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         LineStyle borderStyle = new LineStyleConverter().getStyle(squareDescription.getBorderLineStyle());
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), squareDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), squareDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         return RectangularNodeStyle.newRectangularNodeStyle()
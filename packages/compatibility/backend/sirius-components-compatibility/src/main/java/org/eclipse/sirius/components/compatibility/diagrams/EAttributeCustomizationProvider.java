@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -71,7 +71,7 @@ public class EAttributeCustomizationProvider {
         if (eAttributeCustomization.eContainer() instanceof VSMElementCustomization) {
             VSMElementCustomization elementCustomization = (VSMElementCustomization) eAttributeCustomization.eContainer();
             String predicate = elementCustomization.getPredicateExpression();
-            Result result = this.interpreter.evaluateExpression(this.variableManager.getVariables(), predicate);
+            Result result = this.interpreter.evaluateExpression(this.variableManager.getScopedVariables(), predicate);
             return result.asBoolean().orElse(false);
         }
         return false;
@@ -108,15 +108,15 @@ public class EdgeMappingConverter {
 
         Optional<LabelDescription> optionalBeginLabelDescription = Optional.ofNullable(style)
                 .map(EdgeStyleDescription::getBeginLabelStyleDescription)
-                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, "_beginlabel", edgeMapping));
+                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, LabelDescription.BEGIN_LABEL_SUFFIX, edgeMapping));
 
         Optional<LabelDescription> optionalCenterLabelDescription = Optional.ofNullable(style)
                 .map(EdgeStyleDescription::getCenterLabelStyleDescription)
-                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, "_centerlabel", edgeMapping));
+                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, LabelDescription.CENTER_LABEL_SUFFIX, edgeMapping));
 
         Optional<LabelDescription> optionalEndLabelDescription = Optional.ofNullable(style)
                 .map(EdgeStyleDescription::getEndLabelStyleDescription)
-                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, "_endlabel", edgeMapping));
+                .map(labelDescription -> this.createLabelDescription(interpreter, labelStyleDescriptionConverter, labelDescription, LabelDescription.END_LABEL_SUFFIX, edgeMapping));
 
         ToolConverter toolConverter = new ToolConverter(interpreter, this.editService, this.modelOperationHandlerSwitchProvider);
         var deleteHandler = toolConverter.createDeleteToolHandler(edgeMapping.getDeletionDescription());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,7 +42,7 @@ public class EdgeStyleDescriptionProvider {
         List<ConditionalEdgeStyleDescription> conditionnalStyles = this.edgeMapping.getConditionnalStyles();
         for (ConditionalEdgeStyleDescription conditionalStyle : conditionnalStyles) {
             String predicateExpression = conditionalStyle.getPredicateExpression();
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), predicateExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), predicateExpression);
             boolean shouldUseStyle = result.asBoolean().orElse(Boolean.FALSE).booleanValue();
             if (shouldUseStyle) {
                 styleDescription = conditionalStyle.getStyle();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -57,7 +57,7 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         DiagramRenderingCache cache = optionalCache.get();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeMapping.getTargetFinderExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), this.edgeMapping.getTargetFinderExpression());
         return result.asObjects().orElse(List.of()).stream()
                 .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
                 .filter(this.isFromCompatibleTargetMapping())
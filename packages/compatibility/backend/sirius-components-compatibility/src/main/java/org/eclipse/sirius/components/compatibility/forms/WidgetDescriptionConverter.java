@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -180,14 +180,14 @@ public class WidgetDescriptionConverter {
         };
 
         Function<VariableManager, Boolean> optionSelectedProvider = variableManager -> {
-            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getValueExpression()).asObject();
+            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), radioDescription.getValueExpression()).asObject();
             Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
 
             return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
         };
 
         Function<VariableManager, List<?>> optionsProvider = variableManager -> {
-            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getCandidatesExpression()).asObjects();
+            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), radioDescription.getCandidatesExpression()).asObjects();
             return optional.orElse(Collections.emptyList());
         };
 
@@ -240,13 +240,13 @@ public class WidgetDescriptionConverter {
         Function<VariableManager, Boolean> isReadOnlyProvider = this.getReadOnlyValueProvider(selectDescription.getIsEnabledExpression());
         Function<VariableManager, String> valueProvider = variableManager -> {
             String valueExpression = selectDescription.getValueExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
+            return this.interpreter.evaluateExpression(variableManager.getScopedVariables(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
         };
         // @formatter:on
 
         Function<VariableManager, List<?>> optionsProvider = (variableManager) -> {
             String candidateExpression = selectDescription.getCandidatesExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), candidateExpression).asObjects().orElse(new ArrayList<>());
+            return this.interpreter.evaluateExpression(variableManager.getScopedVariables(), candidateExpression).asObjects().orElse(new ArrayList<>());
         };
 
         String candidateDisplayExpression = Optional.ofNullable(selectDescription.getCandidateDisplayExpression()).orElse("");
@@ -326,7 +326,7 @@ public class WidgetDescriptionConverter {
     private Function<VariableManager, Boolean> getReadOnlyValueProvider(String expression) {
         return variableManager -> {
             if (expression != null && !expression.isBlank()) {
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), expression);
+                Result result = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), expression);
                 return result.asBoolean().map(value -> !value).orElse(Boolean.FALSE);
             }
             return Boolean.FALSE;
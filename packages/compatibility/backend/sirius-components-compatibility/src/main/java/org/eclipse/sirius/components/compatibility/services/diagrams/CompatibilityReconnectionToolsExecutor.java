@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -177,7 +177,7 @@ public class CompatibilityReconnectionToolsExecutor implements IReconnectionTool
         String precondition = reconnectEdgeDescription.getPrecondition();
 
         if (precondition != null && !precondition.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), precondition);
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), precondition);
             canReconnect = result.getStatus().compareTo(Status.WARNING) <= 0 && result.asBoolean().orElse(Boolean.FALSE);
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -204,7 +204,7 @@ public class ConnectorToolsProvider implements IConnectorToolsProvider {
                 variableManager.put(Edge.PRE_TARGET_VIEW, edgeTargetDiagramElement);
                 variableManager.put(Environment.ENVIRONMENT, Environment.SIRIUS_COMPONENTS);
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), precondition);
+                Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), precondition);
                 checkPrecondition = result.getStatus().compareTo(Status.WARNING) <= 0 && result.asBoolean().orElse(Boolean.FALSE);
             } else {
                 checkPrecondition = true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -169,7 +169,7 @@ public class DiagramDescriptionNodeAndEdgeDescriptionsPopulator implements IDiag
                     for (ContainerDropDescription dropTool : diagramDropTools) {
                         String precondition = dropTool.getPrecondition();
                         if (precondition != null && !precondition.trim().isBlank()) {
-                            boolean result = interpreter.evaluateExpression(childVariableManager.getVariables(), precondition).asBoolean().orElse(false);
+                            boolean result = interpreter.evaluateExpression(childVariableManager.getScopedVariables(), precondition).asBoolean().orElse(false);
                             if (result) {
                                 candidates.add(dropTool);
                             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
@@ -36,8 +39,31 @@ public interface IDanglingRepresentationDeletionService {
      */
     boolean isDangling(IEditingContext editingContext, IRepresentation representation);
 
+    /**
+     * Returns the identifiers of the semantic elements which have been removed from the editing context since the
+     * previous call.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return The identifiers of the removed semantic elements or an empty optional if they cannot be computed, in
+     *         which case any representation may be dangling
+     */
+    Optional<Set<String>> collectRemovedObjectIds(IEditingContext editingContext);
+
     void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext);
 
+    /**
+     * Deletes the dangling representations whose target object is one of the given removed semantic elements.
+     *
+     * @param cause
+     *            The cause of the deletion
+     * @param editingContext
+     *            The editing context
+     * @param removedObjectIds
+     *            The identifiers of the semantic elements which have been removed
+     */
+    void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> removedObjectIds);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -50,9 +76,18 @@ public interface IDanglingRepresentationDeletionService {
             return false;
         }
 
+        @Override
+        public Optional<Set<String>> collectRemovedObjectIds(IEditingContext editingContext) {
+            return Optional.of(Set.of());
+        }
+
         @Override
         public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext) {
         }
 
+        @Override
+        public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> removedObjectIds) {
+        }
+
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,11 +22,37 @@ public final class Monitoring {
     public static final String EVENT_HANDLER = "siriusweb_eventhandlers";
     public static final String REPRESENTATION_EVENT_PROCESSOR_REFRESH = "siriusweb_representationeventprocessor_refresh";
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
+    public static final String TIMER_REFRESH_OTHER_REPRESENTATION = "timer_refresh_other_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_WAITING_EDITING_CONTEXT_LOADING = "timer_waiting_editing_context_loading";
+    /**
+     * The duration of the persistence of the semantic changes of an editing context.
+     */
+    public static final String TIMER_PERSISTENCE = "timer_persistence";
+
+    /**
+     * The time elapsed between the first semantic change of an editing context which has not been persisted yet and
+     * the end of its delayed persistence.
+     */
+    public static final String TIMER_PERSISTENCE_LAG = "timer_persistence_lag";
+
+    public static final String COUNTER_COALESCED_PERSISTENCE = "counter_coalesced_persistence";
+    public static final String COUNTER_SKIPPED_REPRESENTATION_PERSISTENCE = "counter_skipped_representation_persistence";
+    public static final String COUNTER_COALESCED_REPRESENTATION_PERSISTENCE = "counter_coalesced_representation_persistence";
+    public static final String COUNTER_FAILED_REPRESENTATION_PERSISTENCE = "counter_failed_representation_persistence";
+    public static final String TIMER_WIDGET_VALIDATION = "timer_widget_validation";
+    public static final String COUNTER_EDITING_CONTEXT_CACHE = "counter_editing_context_cache";
+    public static final String GAUGE_EDITING_CONTEXT_CACHE_SIZE = "gauge_editing_context_cache_size";
 
     public static final String NAME = "name";
 
+    public static final String INPUT = "input";
+
+    public static final String OUTCOME = "outcome";
+
+    public static final String REPRESENTATION_KIND = "representationKind";
+
     private Monitoring() {
         // Prevent instantiation
     }
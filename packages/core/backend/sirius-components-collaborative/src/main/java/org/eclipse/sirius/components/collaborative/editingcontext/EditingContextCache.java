@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextVersionProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the least recently used idle editing contexts in memory for a limited time.
+ *
+ * <p>
+ * The cache is disabled by default, it is enabled by configuring the maximum number of editing contexts to keep. The
+ * editing contexts which have not been reused before the end of their time to live are removed from the cache.
+ * </p>
+ *
+ * <p>
+ * The cache owns the editing contexts that it receives, they are disposed as soon as they are evicted, expired or
+ * invalidated and immediately if the cache is disabled. The editing contexts returned by {@link #take(String)} are not
+ * owned by the cache anymore.
+ * </p>
+ *
+ * <p>
+ * The version of the persisted content of each editing context is recorded when it is cached. An editing context is
+ * only reused if its persisted version has not changed since then, so that the changes performed by other servers
+ * sharing the same database are not missed. These versions are retrieved outside of the lock of the cache since they
+ * may require a database query.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextCache implements IEditingContextCache {
+
+    private static final String KIND = "kind";
+
+    private final int maximumSize;
+
+    private final Duration timeToLive;
+
+    private final IEditingContextVersionProvider editingContextVersionProvider;
+
+    /**
+     * The editing contexts are removed from the cache when they are reused so the first ones are the least recently
+     * used.
+     */
+    private final Map<String, CachedEditingContext> editingContexts = new LinkedHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter evictionCounter;
+
+    private final Counter staleCounter;
+
+    public EditingContextCache(@Value("${sirius.components.editingContext.cache.maxEntries:0}") int maximumSize, @Value("${sirius.components.editingContext.cache.timeToLive:10m}") Duration timeToLive,
+            IEditingContextVersionProvider editingContextVersionProvider, MeterRegistry meterRegistry) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.editingContextVersionProvider = Objects.requireNonNull(editingContextVersionProvider);
+
+        this.hitCounter = Counter.builder(Monitoring.COUNTER_EDITING_CONTEXT_CACHE)
+                .tag(KIND, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(Monitoring.COUNTER_EDITING_CONTEXT_CACHE)
+                .tag(KIND, "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder(Monitoring.COUNTER_EDITING_CONTEXT_CACHE)
+                .tag(KIND, "eviction")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder(Monitoring.COUNTER_EDITING_CONTEXT_CACHE)
+                .tag(KIND, "stale")
+                .register(meterRegistry);
+        Gauge.builder(Monitoring.GAUGE_EDITING_CONTEXT_CACHE_SIZE, this::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<IEditingContext> take(String editingContextId) {
+        CachedEditingContext cachedEditingContext;
+        synchronized (this) {
+            this.removeExpiredEditingContexts();
+            cachedEditingContext = this.editingContexts.remove(editingContextId);
+        }
+
+        Optional<IEditingContext> optionalEditingContext = Optional.empty();
+        if (cachedEditingContext != null) {
+            String version = this.editingContextVersionProvider.getVersion(editingContextId).orElse(null);
+            if (Objects.equals(cachedEditingContext.version(), version)) {
+                optionalEditingContext = Optional.of(cachedEditingContext.editingContext());
+            } else {
+                cachedEditingContext.editingContext().dispose();
+                this.staleCounter.increment();
+            }
+        }
+
+        if (optionalEditingContext.isPresent()) {
+            this.hitCounter.increment();
+        } else if (this.maximumSize > 0) {
+            this.missCounter.increment();
+        }
+        return optionalEditingContext;
+    }
+
+    @Override
+    public void put(IEditingContext editingContext) {
+        if (this.maximumSize > 0) {
+            String version = this.editingContextVersionProvider.getVersion(editingContext.getId()).orElse(null);
+            synchronized (this) {
+                this.removeExpiredEditingContexts();
+
+                var previousEditingContext = this.editingContexts.remove(editingContext.getId());
+                if (previousEditingContext != null && previousEditingContext.editingContext() != editingContext) {
+                    previousEditingContext.editingContext().dispose();
+                }
+                this.editingContexts.put(editingContext.getId(), new CachedEditingContext(editingContext, version, System.nanoTime() + this.timeToLive.toNanos()));
+
+                Iterator<CachedEditingContext> iterator = this.editingContexts.values().iterator();
+                while (this.editingContexts.size() > this.maximumSize && iterator.hasNext()) {
+                    iterator.next().editingContext().dispose();
+                    iterator.remove();
+                    this.evictionCounter.increment();
+                }
+            }
+        } else {
+            editingContext.dispose();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String editingContextId) {
+        Optional.ofNullable(this.editingContexts.remove(editingContextId))
+                .map(CachedEditingContext::editingContext)
+                .ifPresent(IEditingContext::dispose);
+    }
+
+    public synchronized int size() {
+        return this.editingContexts.size();
+    }
+
+    private void removeExpiredEditingContexts() {
+        long now = System.nanoTime();
+        Iterator<CachedEditingContext> iterator = this.editingContexts.values().iterator();
+        while (iterator.hasNext()) {
+            var cachedEditingContext = iterator.next();
+            if (now - cachedEditingContext.expirationTime() >= 0) {
+                cachedEditingContext.editingContext().dispose();
+                iterator.remove();
+                this.evictionCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * An idle editing context along with the version of its persisted content when it was cached and the end of its
+     * time to live, as given by {@link System#nanoTime()}.
+     *
+     * @author sbegaudeau
+     */
+    private record CachedEditingContext(IEditingContext editingContext, String version, long expirationTime) {
+    }
+}
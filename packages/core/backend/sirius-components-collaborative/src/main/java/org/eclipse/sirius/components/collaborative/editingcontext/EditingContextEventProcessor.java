@@ -14,16 +14,24 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -50,11 +58,13 @@ import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
+import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
@@ -84,6 +94,20 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private static final String LOG_TIMING_FORMAT = "%1$6s";
 
+    private static final String REPRESENTATION_EVENT_PROCESSOR = "representationEventProcessor";
+
+    private static final String OUTCOME_SUCCESS = "success";
+
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private static final String OUTCOME_ERROR = "error";
+
+    private static final String OUTCOME_REJECTED = "rejected";
+
+    private static final String NONE = "none";
+
+    private static final Duration SLOW_INPUT_LOG_INTERVAL = Duration.ofSeconds(1);
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final ICollaborativeMessageService messageService;
@@ -100,7 +124,11 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
 
-    private final Map<String, RepresentationEventProcessorEntry> representationEventProcessors = new ConcurrentHashMap<>();
+    /**
+     * The representation event processors in the order of their registration, which is also the order in which their
+     * refresh is published.
+     */
+    private final Map<String, RepresentationEventProcessorEntry> representationEventProcessors = Collections.synchronizedMap(new LinkedHashMap<>());
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
@@ -118,6 +146,35 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final MeterRegistry meterRegistry;
 
+    private final Duration persistenceDelay;
+
+    private final Counter coalescedPersistenceCounter;
+
+    private final Timer persistenceTimer;
+
+    private final Timer persistenceLagTimer;
+
+    private final Duration slowInputThreshold;
+
+    private final Executor representationRefreshExecutor;
+
+    /**
+     * The slow inputs are logged at most once per interval, the other ones are only counted.
+     */
+    private final AtomicLong nextSlowInputLogTime = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger skippedSlowInputLogCount = new AtomicInteger();
+
+    /**
+     * The cause of the last semantic change which has not been persisted yet, only used when the persistence is
+     * delayed.
+     */
+    private ICause pendingPersistenceCause;
+
+    private Timer.Sample pendingPersistenceSample;
+
+    private Disposable pendingPersistenceDisposable;
+
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
@@ -131,6 +188,12 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.inputPostProcessors = parameters.inputPostProcessors();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
         this.meterRegistry = parameters.meterRegistry();
+        this.persistenceDelay = parameters.persistenceDelay();
+        this.coalescedPersistenceCounter = Counter.builder(Monitoring.COUNTER_COALESCED_PERSISTENCE).register(this.meterRegistry);
+        this.persistenceTimer = Timer.builder(Monitoring.TIMER_PERSISTENCE).register(this.meterRegistry);
+        this.persistenceLagTimer = Timer.builder(Monitoring.TIMER_PERSISTENCE_LAG).register(this.meterRegistry);
+        this.slowInputThreshold = parameters.slowInputThreshold();
+        this.representationRefreshExecutor = parameters.representationRefreshExecutor();
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -155,9 +218,16 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             }
 
             this.publishEvent(changeDescription);
-            this.disposeRepresentationIfNeeded();
+
+            // Representations can only become dangling if some semantic elements have been removed
+            var optionalRemovedObjectIds = this.danglingRepresentationDeletionService.collectRemovedObjectIds(this.editingContext);
+            boolean hasRemovedObjects = optionalRemovedObjectIds.map(removedObjectIds -> !removedObjectIds.isEmpty()).orElse(true);
+            if (hasRemovedObjects) {
+                this.disposeRepresentationIfNeeded(optionalRemovedObjectIds);
+            }
 
             var refreshRepresentationSample = Timer.start(this.meterRegistry);
+            String representationKind = NONE;
 
             try {
                 RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
@@ -177,6 +247,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                             .log();
 
                     IRepresentation representation = representationEventProcessor.getRepresentation();
+                    representationKind = this.getRepresentationKind(representation);
                     this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
                 }
                 this.refreshOtherRepresentations(changeDescription);
@@ -184,13 +255,20 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                 this.logger.warn(exception.getMessage(), exception);
             }
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
+            var timer = Timer.builder(Monitoring.TIMER_REFRESH_REPRESENTATION)
+                    .tag(Monitoring.REPRESENTATION_KIND, representationKind)
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry);
             refreshRepresentationSample.stop(timer);
 
             if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+                this.persist(changeDescription.getInput());
+            }
+            if (hasRemovedObjects) {
+                optionalRemovedObjectIds.ifPresentOrElse(
+                        removedObjectIds -> this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext, removedObjectIds),
+                        () -> this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext));
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
 
         };
 
@@ -244,30 +322,98 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         Timer.Sample handleTimer = Timer.start(this.meterRegistry);
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
+            handleTimer.stop(this.getProcessingInputTimer(input, OUTCOME_REJECTED));
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
+        // The input is submitted right away in order to keep the ordering guarantee of the editing context while the
+        // caller is released as soon as possible, the payload will be emitted by the thread of the editing context
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
-        try {
-            // Block until the event has been processed
-            future.get();
-        } catch (InterruptedException | ExecutionException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-        }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> this.doHandle(payloadSink, input), this.executorService)
+                .whenComplete((result, throwable) -> {
+                    String outcome = OUTCOME_ERROR;
+                    if (throwable != null) {
+                        this.logger.warn(throwable.getMessage(), throwable);
+                    } else {
+                        outcome = this.getOutcome(payloadSink);
+                    }
+                    long durationInNanoseconds = handleTimer.stop(this.getProcessingInputTimer(input, outcome));
+                    this.logSlowInput(input, outcome, durationInNanoseconds);
+                });
 
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
+        return Mono.fromFuture(future, true)
+                .onErrorResume(throwable -> Mono.empty())
+                .then(payloadSink.asMono()
+                        .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
+                        .timeout(Duration.ofSeconds(5), timeoutFallback)
+                        .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable)));
+    }
+
+    /**
+     * Returns the timer of the processing of the inputs of the same type with the same outcome.
+     *
+     * <p>
+     * The tags of the timers must have a bounded number of values, the identifiers of the inputs or of the editing
+     * contexts would create a new meter for each of them which would never be removed.
+     * </p>
+     *
+     * @param input
+     *         The input processed
+     * @param outcome
+     *         The outcome of the processing
+     * @return The timer
+     */
+    private Timer getProcessingInputTimer(IInput input, String outcome) {
+        return Timer.builder(Monitoring.TIMER_PROCESSING_INPUT)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.OUTCOME, outcome)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private String getOutcome(One<IPayload> payloadSink) {
+        // The payload has already been emitted, if any, once the input has been handled
         return payloadSink.asMono()
-                .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
-                .timeout(Duration.ofSeconds(5), timeoutFallback)
-                .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
+                .map(payload -> {
+                    String outcome = OUTCOME_SUCCESS;
+                    if (payload instanceof ErrorPayload) {
+                        outcome = OUTCOME_FAILURE;
+                    }
+                    return outcome;
+                })
+                .defaultIfEmpty(NONE)
+                .toFuture()
+                .getNow(NONE);
+    }
+
+    private String getRepresentationKind(IRepresentation representation) {
+        return Optional.ofNullable(representation.getKind())
+                .filter(kind -> !kind.isBlank())
+                .orElse(NONE);
+    }
+
+    private void logSlowInput(IInput input, String outcome, long durationInNanoseconds) {
+        if (!this.slowInputThreshold.isZero() && durationInNanoseconds >= this.slowInputThreshold.toNanos()) {
+            long now = System.nanoTime();
+            long nextLogTime = this.nextSlowInputLogTime.get();
+            if (now - nextLogTime >= 0 && this.nextSlowInputLogTime.compareAndSet(nextLogTime, now + SLOW_INPUT_LOG_INTERVAL.toNanos())) {
+                this.logger.atInfo()
+                        .setMessage("EditingContext {}: {}ms to process the {} with id {} ({}), {} other slow inputs since the previous log")
+                        .addArgument(this.editingContext.getId())
+                        .addArgument(TimeUnit.NANOSECONDS.toMillis(durationInNanoseconds))
+                        .addArgument(input.getClass().getSimpleName())
+                        .addArgument(input.id())
+                        .addArgument(outcome)
+                        .addArgument(this.skippedSlowInputLogCount.getAndSet(0))
+                        .log();
+            } else {
+                this.skippedSlowInputLogCount.incrementAndGet();
+            }
+        }
     }
 
     /**
@@ -307,43 +453,151 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     /**
      * Refresh all the representations except the one with the given representationId.
      *
+     * <p>
+     * The representations are refreshed with the representation refresh executor, which runs them one after the other
+     * in the thread of the editing context unless the parallel refresh has been enabled. The thread of the editing
+     * context waits for all of them and publishes their refresh in the order of registration of the representations,
+     * whatever the order in which they complete. A failing refresh does not prevent the other representations from
+     * being refreshed.
+     * </p>
+     *
      * @param changeDescription
      *         The description of change to consider in order to determine if the representation should be refreshed
      */
+    @SuppressWarnings("checkstyle:IllegalCatch")
     private void refreshOtherRepresentations(ChangeDescription changeDescription) {
-        this.representationEventProcessors.entrySet().stream()
+        List<IRepresentationEventProcessor> representationEventProcessorsToRefresh = this.getRepresentationEventProcessorEntries().stream()
             .filter(entry -> !Objects.equals(entry.getKey(), changeDescription.getSourceId()))
             .map(Entry::getValue)
             .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                long start = System.currentTimeMillis();
-                representationEventProcessor.refresh(changeDescription);
-                long end = System.currentTimeMillis();
+            .toList();
 
-                this.logger.atDebug()
-                        .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
-                        .addArgument(this.editingContext.getId())
-                        .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
-                        .addArgument(representationEventProcessor.getClass().getSimpleName())
-                        .addArgument(representationEventProcessor.getRepresentation().getId())
-                        .log();
+        List<CompletableFuture<Void>> refreshes = new ArrayList<>();
+        for (var representationEventProcessor : representationEventProcessorsToRefresh) {
+            try {
+                refreshes.add(CompletableFuture.runAsync(() -> this.refreshRepresentation(representationEventProcessor, changeDescription), this.representationRefreshExecutor));
+            } catch (RuntimeException exception) {
+                refreshes.add(CompletableFuture.failedFuture(exception));
+            }
+        }
+
+        for (int i = 0; i < representationEventProcessorsToRefresh.size(); i++) {
+            try {
+                refreshes.get(i).join();
 
-                IRepresentation representation = representationEventProcessor.getRepresentation();
+                IRepresentation representation = representationEventProcessorsToRefresh.get(i).getRepresentation();
                 this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-            });
+            } catch (CompletionException exception) {
+                this.logger.warn(exception.getCause().getMessage(), exception.getCause());
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private void refreshRepresentation(IRepresentationEventProcessor representationEventProcessor, ChangeDescription changeDescription) {
+        var refreshSample = Timer.start(this.meterRegistry);
+        long start = System.currentTimeMillis();
+        representationEventProcessor.refresh(changeDescription);
+        long end = System.currentTimeMillis();
+
+        var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_OTHER_REPRESENTATION, REPRESENTATION_EVENT_PROCESSOR, representationEventProcessor.getClass().getSimpleName());
+        refreshSample.stop(timer);
+
+        this.logger.atDebug()
+                .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
+                .addArgument(this.editingContext.getId())
+                .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
+                .addArgument(representationEventProcessor.getClass().getSimpleName())
+                .addArgument(representationEventProcessor.getRepresentation().getId())
+                .log();
     }
 
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
 
+    /**
+     * Persists the editing context or, if a persistence delay has been configured, schedules its persistence.
+     *
+     * <p>
+     * All the semantic changes performed during the persistence delay are coalesced into a single persistence which
+     * will be performed in the thread of the editing context at most once the delay has expired after the first of
+     * those changes.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the semantic change
+     */
+    private void persist(ICause cause) {
+        if (!this.isPersistenceDelayed()) {
+            this.persistNow(cause);
+        } else if (this.pendingPersistenceCause != null) {
+            this.pendingPersistenceCause = cause;
+            this.coalescedPersistenceCounter.increment();
+        } else {
+            this.pendingPersistenceCause = cause;
+            this.pendingPersistenceSample = Timer.start(this.meterRegistry);
+            this.pendingPersistenceDisposable = Mono.delay(this.persistenceDelay)
+                    .publishOn(Schedulers.fromExecutorService(this.executorService))
+                    .subscribe(tick -> this.flushPendingPersistence(), throwable -> this.logger.warn(throwable.getMessage(), throwable));
+        }
+    }
+
+    private boolean isPersistenceDelayed() {
+        return !this.persistenceDelay.isZero() && !this.persistenceDelay.isNegative();
+    }
+
+    private void flushPendingPersistence() {
+        if (this.pendingPersistenceCause != null) {
+            var cause = this.pendingPersistenceCause;
+            this.pendingPersistenceCause = null;
+            this.pendingPersistenceDisposable = null;
+
+            this.persistNow(cause);
+            this.pendingPersistenceSample.stop(this.persistenceLagTimer);
+        }
+    }
+
+    private void persistNow(ICause cause) {
+        this.persistenceTimer.record(() -> this.editingContextPersistenceService.persist(cause, this.editingContext));
+    }
+
+    /**
+     * Performs the pending persistence, if any, in the thread of the editing context before its disposal.
+     */
+    private void flushPendingPersistenceBeforeDisposal() {
+        if (this.isPersistenceDelayed() && !this.executorService.isShutdown()) {
+            Future<?> future = this.executorService.submit(() -> {
+                if (this.pendingPersistenceDisposable != null) {
+                    this.pendingPersistenceDisposable.dispose();
+                }
+                this.flushPendingPersistence();
+            });
+            try {
+                future.get();
+            } catch (InterruptedException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+
     /**
      * Disposes the representation when its target object has been removed.
+     *
+     * @param optionalRemovedObjectIds
+     *         The identifiers of the semantic elements which have been removed or an empty optional if all the
+     *         representations should be checked
      */
-    private void disposeRepresentationIfNeeded() {
+    private void disposeRepresentationIfNeeded(Optional<Set<String>> optionalRemovedObjectIds) {
         List<RepresentationEventProcessorEntry> entriesToDispose = new ArrayList<>();
-        for (var entry : this.representationEventProcessors.values()) {
-            if (this.danglingRepresentationDeletionService.isDangling(this.editingContext, entry.getRepresentationEventProcessor().getRepresentation())) {
+        for (var entry : this.getRepresentationEventProcessorEntries().stream().map(Entry::getValue).toList()) {
+            IRepresentation representation = entry.getRepresentationEventProcessor().getRepresentation();
+            boolean mayBeDangling = optionalRemovedObjectIds.map(removedObjectIds -> removedObjectIds.contains(representation.getTargetObjectId())).orElse(true);
+            if (mayBeDangling && this.danglingRepresentationDeletionService.isDangling(this.editingContext, representation)) {
                 entriesToDispose.add(entry);
             }
         }
@@ -412,10 +666,11 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                 this.logger.debug("The representation with the id {} does not exist", representationId);
             }
         } else {
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
+            var timer = Timer.builder(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR)
+                    .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                    .tag(Monitoring.REPRESENTATION_KIND, this.getRepresentationKind(optionalRepresentationEventProcessor.get().getRepresentation()))
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry);
             getRepresentationEventProcessorSample.stop(timer);
         }
 
@@ -426,12 +681,19 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     @Override
     public List<IRepresentationEventProcessor> getRepresentationEventProcessors() {
         // @formatter:off
-        return this.representationEventProcessors.values().stream()
+        return this.getRepresentationEventProcessorEntries().stream()
+                .map(Entry::getValue)
                 .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
+    private List<Entry<String, RepresentationEventProcessorEntry>> getRepresentationEventProcessorEntries() {
+        synchronized (this.representationEventProcessors) {
+            return List.copyOf(this.representationEventProcessors.entrySet());
+        }
+    }
+
     private void disposeRepresentation(String representationId) {
         Optional.ofNullable(this.representationEventProcessors.remove(representationId)).ifPresent(RepresentationEventProcessorEntry::dispose);
 
@@ -465,13 +727,14 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
+        this.flushPendingPersistenceBeforeDisposal();
         this.executorService.shutdown();
 
-        this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
+        this.getRepresentationEventProcessorEntries().stream()
+                .map(Entry::getValue)
+                .forEach(RepresentationEventProcessorEntry::dispose);
         this.representationEventProcessors.clear();
 
-        this.editingContext.dispose();
-
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
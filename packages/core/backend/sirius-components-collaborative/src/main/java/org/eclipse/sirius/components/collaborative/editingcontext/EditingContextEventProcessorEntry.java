@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,21 +15,30 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 
 import reactor.core.Disposable;
 
 /**
  * Entry used to store the editing context event processor along with additional information.
  *
+ * <p>
+ * Disposing the entry only stops the event processor, the editing context is disposed separately by its owner since it
+ * may be reused by another event processor.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class EditingContextEventProcessorEntry {
     private final IEditingContextEventProcessor editingContextEventProcessor;
 
+    private final IEditingContext editingContext;
+
     private final Disposable disposable;
 
-    public EditingContextEventProcessorEntry(IEditingContextEventProcessor editingContextEventProcessor, Disposable disposable) {
+    public EditingContextEventProcessorEntry(IEditingContextEventProcessor editingContextEventProcessor, IEditingContext editingContext, Disposable disposable) {
         this.editingContextEventProcessor = Objects.requireNonNull(editingContextEventProcessor);
+        this.editingContext = Objects.requireNonNull(editingContext);
         this.disposable = Objects.requireNonNull(disposable);
     }
 
@@ -37,6 +46,10 @@ public class EditingContextEventProcessorEntry {
         return this.editingContextEventProcessor;
     }
 
+    public IEditingContext getEditingContext() {
+        return this.editingContext;
+    }
+
     public Disposable getDisposable() {
         return this.disposable;
     }
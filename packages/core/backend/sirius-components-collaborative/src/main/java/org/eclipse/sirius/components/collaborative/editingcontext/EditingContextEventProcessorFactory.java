@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
@@ -27,9 +31,12 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingCo
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * Used to create an {@link IEditingContextEventProcessor}.
  *
@@ -58,8 +65,21 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final MeterRegistry meterRegistry;
 
+    private final Duration persistenceDelay;
+
+    private final Duration slowInputThreshold;
+
+    /**
+     * The pool shared by all the editing contexts to refresh their representations concurrently, only used when the
+     * parallel refresh is enabled.
+     */
+    private final ExecutorService representationRefreshExecutorService;
+
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
-            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters,
+            @Value("${sirius.components.editingContext.persistenceDelay:0s}") Duration persistenceDelay,
+            @Value("${sirius.components.editingContext.slowInputThreshold:0s}") Duration slowInputThreshold,
+            @Value("${sirius.components.editingContext.parallelRefresh:false}") boolean parallelRefresh) {
         this.messageService = Objects.requireNonNull(messageService);
         this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
@@ -70,6 +90,18 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
         this.meterRegistry = parameters.getMeterRegistry();
+        this.persistenceDelay = Objects.requireNonNull(persistenceDelay);
+        this.slowInputThreshold = Objects.requireNonNull(slowInputThreshold);
+        if (parallelRefresh) {
+            this.representationRefreshExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Representation refresh " + thread.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.representationRefreshExecutorService = null;
+        }
     }
 
     @Override
@@ -86,8 +118,26 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
                 .meterRegistry(this.meterRegistry)
+                .persistenceDelay(this.persistenceDelay)
+                .slowInputThreshold(this.slowInputThreshold)
+                .representationRefreshExecutor(this.getRepresentationRefreshExecutor())
                 .build();
         return new EditingContextEventProcessor(parameters);
     }
 
+    private Executor getRepresentationRefreshExecutor() {
+        Executor representationRefreshExecutor = Runnable::run;
+        if (this.representationRefreshExecutorService != null) {
+            representationRefreshExecutor = this.representationRefreshExecutorService;
+        }
+        return representationRefreshExecutor;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (this.representationRefreshExecutorService != null) {
+            this.representationRefreshExecutorService.shutdown();
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.annotations.Builder;
@@ -44,7 +46,10 @@ public record EditingContextEventProcessorParameters(
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        Duration persistenceDelay,
+        Duration slowInputThreshold,
+        Executor representationRefreshExecutor
 ) {
 
     public EditingContextEventProcessorParameters {
@@ -59,6 +64,9 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
         Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(persistenceDelay);
+        Objects.requireNonNull(slowInputThreshold);
+        Objects.requireNonNull(representationRefreshExecutor);
     }
 
     public static EditingContextEventProcessorParametersBuilder newEditingContextEventProcessorParameters() {
@@ -96,6 +104,12 @@ public record EditingContextEventProcessorParameters(
 
         private MeterRegistry meterRegistry;
 
+        private Duration persistenceDelay = Duration.ZERO;
+
+        private Duration slowInputThreshold = Duration.ZERO;
+
+        private Executor representationRefreshExecutor = Runnable::run;
+
         private EditingContextEventProcessorParametersBuilder() {
             // Prevent instantiation
         }
@@ -155,6 +169,21 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder persistenceDelay(Duration persistenceDelay) {
+            this.persistenceDelay = Objects.requireNonNull(persistenceDelay);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder slowInputThreshold(Duration slowInputThreshold) {
+            this.slowInputThreshold = Objects.requireNonNull(slowInputThreshold);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder representationRefreshExecutor(Executor representationRefreshExecutor) {
+            this.representationRefreshExecutor = Objects.requireNonNull(representationRefreshExecutor);
+            return this;
+        }
+
         public EditingContextEventProcessorParameters build() {
             return new EditingContextEventProcessorParameters(
                     this.messageService,
@@ -167,7 +196,10 @@ public record EditingContextEventProcessorParameters(
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
-                    this.meterRegistry
+                    this.meterRegistry,
+                    this.persistenceDelay,
+                    this.slowInputThreshold,
+                    this.representationRefreshExecutor
             );
         }
     }
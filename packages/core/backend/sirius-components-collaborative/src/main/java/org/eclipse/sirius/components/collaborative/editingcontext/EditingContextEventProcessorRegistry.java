@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -32,6 +36,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
@@ -39,6 +45,19 @@ import reactor.core.publisher.Mono;
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * Editing context event processors are created without holding any global lock. The first request for a given editing
+ * context loads it while concurrent requests for the same editing context wait for the very same pending load. Requests
+ * for other editing contexts are not impacted by this load.
+ * </p>
+ *
+ * <p>
+ * Once the event processor of an editing context has been disposed because it was idle, the editing context is given
+ * to the editing context cache so that it can be reused without being loaded again. For this reason, the event
+ * processors never dispose their editing context, it is disposed by this registry or by the editing context cache once
+ * it will not be used anymore.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -50,15 +69,23 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final IEditingContextSearchService editingContextSearchService;
 
+    private final IEditingContextCache editingContextCache;
+
     private final Duration disposeDelay;
 
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> pendingEditingContextEventProcessors = new ConcurrentHashMap<>();
+
+    private final Timer waitingTimer;
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
+            IEditingContextCache editingContextCache, MeterRegistry meterRegistry, @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.editingContextCache = Objects.requireNonNull(editingContextCache);
         this.disposeDelay = disposeDelay;
+        this.waitingTimer = Timer.builder(Monitoring.TIMER_WAITING_EDITING_CONTEXT_LOADING).register(meterRegistry);
     }
 
     @Override
@@ -78,31 +105,17 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+            optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
             if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+                CompletableFuture<Optional<IEditingContextEventProcessor>> future = new CompletableFuture<>();
+                var pendingFuture = this.pendingEditingContextEventProcessors.putIfAbsent(editingContextId, future);
+                if (pendingFuture == null) {
+                    optionalEditingContextEventProcessor = this.loadEditingContextEventProcessor(editingContextId, future);
+                } else {
+                    optionalEditingContextEventProcessor = this.waitForEditingContextEventProcessor(editingContextId, pendingFuture);
                 }
             }
         }
@@ -110,9 +123,99 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         return optionalEditingContextEventProcessor;
     }
 
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(String editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    /**
+     * Loads the editing context and creates its event processor, other callers interested in the same editing context
+     * will wait for the given future.
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @param future
+     *         The future used to share the result of the load with concurrent callers
+     * @return The editing context event processor created or an empty optional if the editing context could not be found
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<IEditingContextEventProcessor> loadEditingContextEventProcessor(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> future) {
+        try {
+            // The processor may have been registered between our first lookup and the registration of our future
+            var optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+            if (optionalEditingContextEventProcessor.isEmpty()) {
+                optionalEditingContextEventProcessor = this.createEditingContextEventProcessor(editingContextId);
+            }
+            future.complete(optionalEditingContextEventProcessor);
+            return optionalEditingContextEventProcessor;
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.pendingEditingContextEventProcessors.remove(editingContextId, future);
+        }
+    }
+
+    private Optional<IEditingContextEventProcessor> waitForEditingContextEventProcessor(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> pendingFuture) {
+        this.logger.trace("Waiting for the editing context {} to be loaded", editingContextId);
+
+        var sample = Timer.start();
+        try {
+            return pendingFuture.join();
+        } catch (CompletionException exception) {
+            // The callers waiting for the load must fail the same way as the caller which has performed it
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        } finally {
+            sample.stop(this.waitingTimer);
+        }
+    }
+
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+
+        Optional<IEditingContext> optionalEditingContext = this.editingContextCache.take(editingContextId)
+                .or(() -> this.editingContextSearchService.findById(editingContextId));
+        if (optionalEditingContext.isPresent()) {
+            IEditingContext editingContext = optionalEditingContext.get();
+
+            var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+            Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+                // We will wait for the delay before trying to dispose the editing context event processor
+                // We will check if the editing context event processor is still empty
+                if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                    this.disposeIdleEditingContextEventProcessor(editingContext, editingContextEventProcessor);
+                } else {
+                    this.logger.trace("Stopping the disposal of the editing context");
+                }
+            });
+
+            var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, editingContext, subscription);
+            this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+            optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+        }
+
+        return optionalEditingContextEventProcessor;
+    }
+
+    private void disposeIdleEditingContextEventProcessor(IEditingContext editingContext, IEditingContextEventProcessor editingContextEventProcessor) {
+        var entry = this.editingContextEventProcessors.get(editingContext.getId());
+        if (entry != null && entry.getEditingContextEventProcessor() == editingContextEventProcessor && this.editingContextEventProcessors.remove(editingContext.getId(), entry)) {
+            // Only the event processor is stopped, the pending changes have been persisted and the editing context can be reused as is
+            entry.dispose();
+            this.editingContextCache.put(editingContext);
+        }
+
+        this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
+    }
+
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
-        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
+        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(this::disposeEntry);
+        this.editingContextCache.invalidate(editingContextId);
 
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
     }
@@ -121,7 +224,12 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors");
 
-        this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
+        this.editingContextEventProcessors.values().forEach(this::disposeEntry);
         this.editingContextEventProcessors.clear();
     }
+
+    private void disposeEntry(EditingContextEventProcessorEntry entry) {
+        entry.dispose();
+        entry.getEditingContext().dispose();
+    }
 }
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to keep in memory the editing contexts which are not used anymore in order to reuse them instead of loading them
+ * again.
+ *
+ * <p>
+ * The editing contexts are only cached once their event processor has been disposed because it was idle. Since they
+ * are not modified anymore by their event processor, they must be invalidated as soon as their persisted content is
+ * modified by someone else.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextCache {
+
+    /**
+     * Removes the editing context with the given id from the cache and returns it.
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @return The editing context or an empty optional if it is not in the cache, if it has expired or if its persisted
+     *         content has changed since it was cached
+     */
+    Optional<IEditingContext> take(String editingContextId);
+
+    void put(IEditingContext editingContext);
+
+    void invalidate(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextCache {
+
+        @Override
+        public Optional<IEditingContext> take(String editingContextId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(IEditingContext editingContext) {
+            // Do nothing
+        }
+
+        @Override
+        public void invalidate(String editingContextId) {
+            // Do nothing
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Optional;
+
+/**
+ * Used to retrieve the version of the persisted content of an editing context.
+ *
+ * <p>
+ * The version is recorded when an editing context is cached and compared with the persisted one when it is reused in
+ * order to detect the changes performed by someone else, for example by another server sharing the same database. It
+ * must thus be cheap to retrieve, without loading the content of the editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextVersionProvider {
+
+    /**
+     * Returns the current version of the persisted content of the given editing context.
+     *
+     * @param editingContextId
+     *         The id of the editing context
+     * @return The version or an empty optional if the editing context does not exist anymore or if its version cannot
+     *         be computed
+     */
+    Optional<String> getVersion(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextVersionProvider {
+
+        @Override
+        public Optional<String> getVersion(String editingContextId) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextVersionProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the cache of the idle editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextCacheTests {
+
+    private static final String KIND = "kind";
+
+    @Test
+    public void givenACacheFullWhenAnEditingContextIsAddedThenTheLeastRecentlyUsedOneIsEvicted() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextCache = new EditingContextCache(2, Duration.ofMinutes(10), new IEditingContextVersionProvider.NoOp(), meterRegistry);
+
+        var first = this.createEditingContext();
+        var second = this.createEditingContext();
+        var third = this.createEditingContext();
+        editingContextCache.put(first);
+        editingContextCache.put(second);
+        editingContextCache.put(third);
+
+        assertThat(editingContextCache.size()).isEqualTo(2);
+        assertThat(editingContextCache.take(first.getId())).isEmpty();
+        assertThat(first.disposed()).isTrue();
+        assertThat(editingContextCache.take(second.getId())).containsSame(second);
+        assertThat(editingContextCache.take(second.getId())).isEmpty();
+        assertThat(second.disposed()).isFalse();
+
+        editingContextCache.invalidate(third.getId());
+        assertThat(editingContextCache.take(third.getId())).isEmpty();
+        assertThat(third.disposed()).isTrue();
+
+        assertThat(meterRegistry.get(Monitoring.COUNTER_EDITING_CONTEXT_CACHE).tag(KIND, "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.COUNTER_EDITING_CONTEXT_CACHE).tag(KIND, "miss").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(Monitoring.COUNTER_EDITING_CONTEXT_CACHE).tag(KIND, "eviction").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenAnExpiredEditingContextWhenItIsRequestedThenItIsNotReused() {
+        var editingContextCache = new EditingContextCache(2, Duration.ZERO, new IEditingContextVersionProvider.NoOp(), new SimpleMeterRegistry());
+
+        var editingContext = this.createEditingContext();
+        editingContextCache.put(editingContext);
+
+        assertThat(editingContextCache.take(editingContext.getId())).isEmpty();
+        assertThat(editingContextCache.size()).isZero();
+        assertThat(editingContext.disposed()).isTrue();
+    }
+
+    @Test
+    public void givenADisabledCacheWhenAnEditingContextIsAddedThenItIsNotKept() {
+        var editingContextCache = new EditingContextCache(0, Duration.ofMinutes(10), new IEditingContextVersionProvider.NoOp(), new SimpleMeterRegistry());
+
+        var editingContext = this.createEditingContext();
+        editingContextCache.put(editingContext);
+
+        assertThat(editingContextCache.take(editingContext.getId())).isEmpty();
+        assertThat(editingContext.disposed()).isTrue();
+    }
+
+    @Test
+    public void givenAnEditingContextModifiedBySomeoneElseWhenItIsRequestedThenItIsNotReused() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var versionProvider = new VersionProvider(new HashMap<>());
+        var editingContextCache = new EditingContextCache(2, Duration.ofMinutes(10), versionProvider, meterRegistry);
+
+        var modified = this.createEditingContext();
+        var unmodified = this.createEditingContext();
+        versionProvider.versions().put(modified.getId(), "1");
+        versionProvider.versions().put(unmodified.getId(), "1");
+        editingContextCache.put(modified);
+        editingContextCache.put(unmodified);
+
+        versionProvider.versions().put(modified.getId(), "2");
+
+        assertThat(editingContextCache.take(modified.getId())).isEmpty();
+        assertThat(modified.disposed()).isTrue();
+        assertThat(editingContextCache.take(unmodified.getId())).containsSame(unmodified);
+        assertThat(unmodified.disposed()).isFalse();
+        assertThat(editingContextCache.size()).isZero();
+
+        assertThat(meterRegistry.get(Monitoring.COUNTER_EDITING_CONTEXT_CACHE).tag(KIND, "stale").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.COUNTER_EDITING_CONTEXT_CACHE).tag(KIND, "hit").counter().count()).isEqualTo(1);
+    }
+
+    private DisposableEditingContext createEditingContext() {
+        return new DisposableEditingContext(UUID.randomUUID().toString(), new AtomicBoolean());
+    }
+
+    /**
+     * Version provider which returns the versions of the given map, like the database would.
+     *
+     * @author sbegaudeau
+     */
+    private record VersionProvider(Map<String, String> versions) implements IEditingContextVersionProvider {
+
+        @Override
+        public Optional<String> getVersion(String editingContextId) {
+            return Optional.ofNullable(this.versions.get(editingContextId));
+        }
+    }
+
+    /**
+     * Editing context which remembers if it has been disposed.
+     *
+     * @author sbegaudeau
+     */
+    private record DisposableEditingContext(String id, AtomicBoolean disposedState) implements IEditingContext {
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public void dispose() {
+            this.disposedState.set(true);
+        }
+
+        public boolean disposed() {
+            return this.disposedState.get();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextVersionProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the editing context event processor registry.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final String OTHER_EDITING_CONTEXT_ID = "otherEditingContextId";
+
+    private static final int CALLER_COUNT = 8;
+
+    private static final String CONTENT = "content";
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CALLER_COUNT);
+
+    @AfterEach
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentRequestsForTheSameEditingContextWhenItIsLoadedThenItIsLoadedOnceAndShared() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCount.incrementAndGet();
+                loadingStarted.countDown();
+                EditingContextEventProcessorRegistryTests.this.await(loadingAllowed);
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        var registry = this.createRegistry(editingContextSearchService);
+
+        List<Future<Optional<IEditingContextEventProcessor>>> futures = new ArrayList<>();
+        futures.add(this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID)));
+        assertThat(loadingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLER_COUNT; i++) {
+            futures.add(this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID)));
+        }
+        loadingAllowed.countDown();
+
+        List<IEditingContextEventProcessor> editingContextEventProcessors = new ArrayList<>();
+        for (var future : futures) {
+            editingContextEventProcessors.add(future.get(10, TimeUnit.SECONDS).orElseThrow());
+        }
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(editingContextEventProcessors).hasSize(CALLER_COUNT).allMatch(editingContextEventProcessor -> editingContextEventProcessor == editingContextEventProcessors.get(0));
+        registry.dispose();
+    }
+
+    @Test
+    public void givenConcurrentRequestsForTheSameEditingContextWhenItsLoadFailsThenAllTheCallersFailTheSameWay() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadingStarted.countDown();
+                EditingContextEventProcessorRegistryTests.this.await(loadingAllowed);
+                throw new IllegalStateException(editingContextId);
+            }
+        };
+        var registry = this.createRegistry(editingContextSearchService);
+
+        List<Future<Optional<IEditingContextEventProcessor>>> futures = new ArrayList<>();
+        futures.add(this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID)));
+        assertThat(loadingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLER_COUNT; i++) {
+            futures.add(this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID)));
+        }
+        loadingAllowed.countDown();
+
+        for (var future : futures) {
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage(EDITING_CONTEXT_ID);
+        }
+        assertThat(registry.getEditingContextEventProcessors()).isEmpty();
+    }
+
+    @Test
+    public void givenAnEditingContextBeingLoadedWhenAnotherEditingContextIsRequestedThenItIsLoadedWithoutWaiting() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                if (EDITING_CONTEXT_ID.equals(editingContextId)) {
+                    loadingStarted.countDown();
+                    EditingContextEventProcessorRegistryTests.this.await(loadingAllowed);
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        var registry = this.createRegistry(editingContextSearchService);
+
+        var blockedFuture = this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID));
+        assertThat(loadingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var otherFuture = this.executorService.submit(() -> registry.getOrCreateEditingContextEventProcessor(OTHER_EDITING_CONTEXT_ID));
+        assertThat(otherFuture.get(10, TimeUnit.SECONDS)).isPresent();
+        assertThat(blockedFuture.isDone()).isFalse();
+
+        loadingAllowed.countDown();
+        assertThat(blockedFuture.get(10, TimeUnit.SECONDS)).isPresent();
+        assertThat(registry.getEditingContextEventProcessors()).hasSize(2);
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnIdleEditingContextWhenItIsRequestedAgainThenItIsReusedWithItsContent() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        var editingContextSearchService = this.createEditingContextSearchService(loadCount);
+        Sinks.Many<Boolean> canBeDisposedSink = Sinks.many().multicast().directBestEffort();
+        CountDownLatch processorDisposed = new CountDownLatch(1);
+        IEditingContextEventProcessorFactory editingContextEventProcessorFactory = editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public Flux<Boolean> canBeDisposed() {
+                return canBeDisposedSink.asFlux();
+            }
+
+            @Override
+            public void dispose() {
+                processorDisposed.countDown();
+            }
+        };
+        var editingContextCache = new EditingContextCache(1, Duration.ofMinutes(10), new IEditingContextVersionProvider.NoOp(), new SimpleMeterRegistry());
+        var registry = new EditingContextEventProcessorRegistry(editingContextEventProcessorFactory, editingContextSearchService, editingContextCache, new SimpleMeterRegistry(), Duration.ofMillis(10));
+
+        var firstEditingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID).orElseThrow();
+        canBeDisposedSink.tryEmitNext(true);
+        assertThat(processorDisposed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(editingContextCache.size()).isEqualTo(1);
+
+        var secondEditingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID).orElseThrow();
+        assertThat(secondEditingContextEventProcessor).isNotSameAs(firstEditingContextEventProcessor);
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        var editingContext = editingContextSearchService.loadedEditingContexts().get(0);
+        assertThat(editingContext.content()).containsExactly(CONTENT);
+
+        registry.dispose();
+        assertThat(editingContext.content()).isEmpty();
+    }
+
+    @Test
+    public void givenAnEditingContextWhenItsEventProcessorIsExplicitlyDisposedThenTheEditingContextIsDisposed() {
+        AtomicInteger loadCount = new AtomicInteger();
+        var editingContextSearchService = this.createEditingContextSearchService(loadCount);
+        var editingContextCache = new EditingContextCache(1, Duration.ofMinutes(10), new IEditingContextVersionProvider.NoOp(), new SimpleMeterRegistry());
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), editingContextSearchService, editingContextCache,
+                new SimpleMeterRegistry(), Duration.ofMillis(10));
+
+        registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID).orElseThrow();
+        registry.disposeEditingContextEventProcessor(EDITING_CONTEXT_ID);
+
+        assertThat(editingContextSearchService.loadedEditingContexts()).hasSize(1);
+        assertThat(editingContextSearchService.loadedEditingContexts().get(0).content()).isEmpty();
+        assertThat(editingContextCache.size()).isZero();
+
+        registry.getOrCreateEditingContextEventProcessor(EDITING_CONTEXT_ID).orElseThrow();
+        assertThat(loadCount.get()).isEqualTo(2);
+        registry.dispose();
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(IEditingContextSearchService editingContextSearchService) {
+        return new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), editingContextSearchService, new IEditingContextCache.NoOp(),
+                new SimpleMeterRegistry(), Duration.ofSeconds(1));
+    }
+
+    private LoadingEditingContextSearchService createEditingContextSearchService(AtomicInteger loadCount) {
+        return new LoadingEditingContextSearchService(loadCount, new ArrayList<>());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Editing context search service which loads editing contexts with some content.
+     *
+     * @author sbegaudeau
+     */
+    private record LoadingEditingContextSearchService(AtomicInteger loadCount, List<ContentEditingContext> loadedEditingContexts) implements IEditingContextSearchService {
+
+        @Override
+        public boolean existsById(String editingContextId) {
+            return true;
+        }
+
+        @Override
+        public Optional<IEditingContext> findById(String editingContextId) {
+            this.loadCount.incrementAndGet();
+            var editingContext = new ContentEditingContext(editingContextId, new ArrayList<>(List.of(CONTENT)));
+            this.loadedEditingContexts.add(editingContext);
+            return Optional.of(editingContext);
+        }
+    }
+
+    /**
+     * Editing context whose content is unloaded when it is disposed, like the EMF based editing contexts.
+     *
+     * @author sbegaudeau
+     */
+    private record ContentEditingContext(String id, List<String> content) implements IEditingContext {
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public void dispose() {
+            this.content.clear();
+        }
+    }
+}
@@ -0,0 +1,492 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.dto.RepresentationRefreshedEvent;
+import org.eclipse.sirius.components.collaborative.editingcontext.EditingContextEventProcessorParameters.EditingContextEventProcessorParametersBuilder;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Tests of the editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final long HANDLING_DURATION = 200;
+
+    /**
+     * Input used to simulate a slow mutation.
+     *
+     * @author sbegaudeau
+     */
+    private record SlowInput(UUID id, int index) implements IInput {
+    }
+
+    private IEditingContextEventProcessor createEditingContextEventProcessor(List<Integer> handledInputs) {
+        return new EditingContextEventProcessor(this.newParameters(handledInputs).build());
+    }
+
+    private IEditingContextEventProcessor createEditingContextEventProcessor(IEditingContextPersistenceService editingContextPersistenceService, Duration persistenceDelay, MeterRegistry meterRegistry) {
+        var parameters = this.newParameters(new CopyOnWriteArrayList<>())
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .persistenceDelay(persistenceDelay)
+                .meterRegistry(meterRegistry)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    private EditingContextEventProcessorParametersBuilder newParameters(List<Integer> handledInputs) {
+        IEditingContextEventHandler slowEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof SlowInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                try {
+                    Thread.sleep(HANDLING_DURATION);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                if (input instanceof SlowInput slowInput) {
+                    handledInputs.add(slowInput.index());
+                }
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        IEditingContext editingContext = () -> UUID.randomUUID().toString();
+        return EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(editingContext)
+                .editingContextPersistenceService(new IEditingContextPersistenceService.NoOp())
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(List.of(slowEventHandler))
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.empty())
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .meterRegistry(new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void givenManyBusyEditingContextsWhenInputsAreDispatchedThenTheCallerIsNotBlocked() throws InterruptedException {
+        int editingContextCount = 32;
+
+        var handlingStarted = new CountDownLatch(editingContextCount);
+        var handlingAllowed = new CountDownLatch(1);
+        List<Integer> handledInputs = new CopyOnWriteArrayList<>();
+        IEditingContextEventHandler blockingEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return input instanceof SlowInput;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                handlingStarted.countDown();
+                try {
+                    handlingAllowed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                if (input instanceof SlowInput slowInput) {
+                    handledInputs.add(slowInput.index());
+                }
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        List<IEditingContextEventProcessor> editingContextEventProcessors = new ArrayList<>();
+        for (int i = 0; i < editingContextCount; i++) {
+            var parameters = this.newParameters(handledInputs)
+                    .editingContextEventHandlers(List.of(blockingEventHandler))
+                    .build();
+            editingContextEventProcessors.add(new EditingContextEventProcessor(parameters));
+        }
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < editingContextCount; i++) {
+            payloads.add(editingContextEventProcessors.get(i).handle(new SlowInput(UUID.randomUUID(), i)));
+        }
+
+        // The caller has dispatched every input while none of them could be completed, with a blocking dispatch it
+        // would have waited for the first one
+        assertThat(handledInputs).isEmpty();
+
+        // The inputs of the various editing contexts are handled at the same time instead of one after the other
+        assertThat(handlingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(handledInputs).isEmpty();
+
+        handlingAllowed.countDown();
+        List<IPayload> results = Flux.merge(payloads).collectList().block(Duration.ofSeconds(10));
+        assertThat(results).hasSize(editingContextCount).allMatch(SuccessPayload.class::isInstance);
+        assertThat(handledInputs).hasSize(editingContextCount);
+
+        editingContextEventProcessors.forEach(IEditingContextEventProcessor::dispose);
+    }
+
+    @Test
+    public void givenAnEditingContextEventProcessorWhenItIsDisposedThenItsEditingContextIsNotDisposed() {
+        String editingContextId = UUID.randomUUID().toString();
+        AtomicBoolean editingContextDisposed = new AtomicBoolean();
+        IEditingContext editingContext = new IEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public void dispose() {
+                editingContextDisposed.set(true);
+            }
+        };
+        var editingContextEventProcessor = new EditingContextEventProcessor(this.newParameters(new CopyOnWriteArrayList<>()).editingContext(editingContext).build());
+
+        editingContextEventProcessor.dispose();
+
+        // The editing context is owned by the registry which may keep it in its cache to reuse it
+        assertThat(editingContextDisposed).isFalse();
+    }
+
+    @Test
+    public void givenAnEditingContextWhenSeveralInputsAreDispatchedThenTheyAreHandledInOrder() {
+        List<Integer> handledInputs = new CopyOnWriteArrayList<>();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(handledInputs);
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            payloads.add(editingContextEventProcessor.handle(new SlowInput(UUID.randomUUID(), i)));
+        }
+
+        // Subscribe in the reverse order to ensure that the order of the subscriptions does not matter
+        Collections.reverse(payloads);
+        List<IPayload> results = Flux.concat(payloads).collectList().block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(5);
+        assertThat(handledInputs).containsExactly(0, 1, 2, 3, 4);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenAPersistenceDelayWhenSeveralSemanticChangesArePerformedThenTheyArePersistedOnce() {
+        List<ICause> persistedCauses = new CopyOnWriteArrayList<>();
+        IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> persistedCauses.add(cause);
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(editingContextPersistenceService, Duration.ofSeconds(2), meterRegistry);
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            payloads.add(editingContextEventProcessor.handle(new SlowInput(UUID.randomUUID(), i)));
+        }
+        Flux.concat(payloads).collectList().block(Duration.ofSeconds(10));
+        assertThat(persistedCauses).isEmpty();
+
+        var lastInput = new SlowInput(UUID.randomUUID(), 3);
+        editingContextEventProcessor.handle(lastInput).block(Duration.ofSeconds(10));
+
+        // The disposal must flush the pending changes
+        editingContextEventProcessor.dispose();
+        assertThat(persistedCauses).hasSize(1);
+        assertThat(persistedCauses.get(0)).isEqualTo(lastInput);
+        assertThat(meterRegistry.get(Monitoring.TIMER_PERSISTENCE).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.TIMER_PERSISTENCE_LAG).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.COUNTER_COALESCED_PERSISTENCE).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void givenAFailingRepresentationRefreshWhenASemanticChangeIsPerformedThenTheOtherRepresentationsAreStillRefreshedInOrder() throws InterruptedException {
+        int representationCount = 4;
+
+        List<IRepresentation> refreshedRepresentations = new CopyOnWriteArrayList<>();
+        var refreshLatch = new CountDownLatch(representationCount - 1);
+        AtomicInteger createdRepresentationEventProcessors = new AtomicInteger();
+        var parameters = this.newParameters(new CopyOnWriteArrayList<>())
+                .representationEventProcessorComposedFactory((context, representationId) -> {
+                    IRepresentationEventProcessor representationEventProcessor = new SlowRepresentationEventProcessor(representationId);
+                    if (createdRepresentationEventProcessors.getAndIncrement() == 0) {
+                        representationEventProcessor = new FailingRepresentationEventProcessor(representationId);
+                    }
+                    return Optional.of(representationEventProcessor);
+                })
+                .applicationEventPublisher(event -> {
+                    if (event instanceof RepresentationRefreshedEvent representationRefreshedEvent) {
+                        refreshedRepresentations.add(representationRefreshedEvent.getRepresentation());
+                        refreshLatch.countDown();
+                    }
+                })
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        var input = new SlowInput(UUID.randomUUID(), 0);
+        for (int i = 0; i < representationCount; i++) {
+            editingContextEventProcessor.acquireRepresentationEventProcessor(UUID.randomUUID().toString(), input);
+        }
+        var expectedRepresentations = editingContextEventProcessor.getRepresentationEventProcessors().stream()
+                .filter(SlowRepresentationEventProcessor.class::isInstance)
+                .map(IRepresentationEventProcessor::getRepresentation)
+                .toList();
+
+        editingContextEventProcessor.handle(input).block(Duration.ofSeconds(10));
+        assertThat(refreshLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(refreshedRepresentations).containsExactlyElementsOf(expectedRepresentations);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenAParallelRefreshWhenASemanticChangeIsPerformedThenTheOtherRepresentationsAreRefreshedConcurrentlyAndPublishedInRegistrationOrder() throws InterruptedException {
+        int representationCount = 2;
+
+        // Each refresh waits for the other one, they can thus only complete if they are performed at the same time
+        var refreshBarrier = new CyclicBarrier(representationCount);
+        List<String> completedRefreshes = new CopyOnWriteArrayList<>();
+        List<IRepresentation> refreshedRepresentations = new CopyOnWriteArrayList<>();
+        var refreshLatch = new CountDownLatch(representationCount);
+        var executorService = Executors.newFixedThreadPool(representationCount);
+        var parameters = this.newParameters(new CopyOnWriteArrayList<>())
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.of(new ConcurrentRepresentationEventProcessor(representationId, refreshBarrier, completedRefreshes)))
+                .applicationEventPublisher(event -> {
+                    if (event instanceof RepresentationRefreshedEvent representationRefreshedEvent) {
+                        refreshedRepresentations.add(representationRefreshedEvent.getRepresentation());
+                        refreshLatch.countDown();
+                    }
+                })
+                .representationRefreshExecutor(executorService)
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        var input = new SlowInput(UUID.randomUUID(), 0);
+        List<String> registeredRepresentationIds = new ArrayList<>();
+        for (int i = 0; i < representationCount; i++) {
+            String representationId = UUID.randomUUID().toString();
+            editingContextEventProcessor.acquireRepresentationEventProcessor(representationId, input);
+            registeredRepresentationIds.add(representationId);
+        }
+
+        editingContextEventProcessor.handle(input).block(Duration.ofSeconds(10));
+        assertThat(refreshLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(completedRefreshes).containsExactlyInAnyOrderElementsOf(registeredRepresentationIds);
+        assertThat(refreshedRepresentations).extracting(IRepresentation::getId).containsExactlyElementsOf(registeredRepresentationIds);
+
+        editingContextEventProcessor.dispose();
+        executorService.shutdown();
+    }
+
+    @Test
+    public void givenASemanticChangeWithoutRemovedObjectsWhenItIsPerformedThenTheRepresentationsAreNotCheckedForDanglingTargets() {
+        AtomicInteger danglingChecks = new AtomicInteger();
+        AtomicInteger danglingDeletions = new AtomicInteger();
+        IDanglingRepresentationDeletionService danglingRepresentationDeletionService = new IDanglingRepresentationDeletionService.NoOp() {
+            @Override
+            public boolean isDangling(IEditingContext editingContext, IRepresentation representation) {
+                danglingChecks.incrementAndGet();
+                return false;
+            }
+
+            @Override
+            public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> removedObjectIds) {
+                danglingDeletions.incrementAndGet();
+            }
+        };
+        var parameters = this.newParameters(new CopyOnWriteArrayList<>())
+                .representationEventProcessorComposedFactory((context, representationId) -> Optional.of(new SlowRepresentationEventProcessor(representationId)))
+                .danglingRepresentationDeletionService(danglingRepresentationDeletionService)
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        var input = new SlowInput(UUID.randomUUID(), 0);
+        editingContextEventProcessor.acquireRepresentationEventProcessor(UUID.randomUUID().toString(), input);
+        editingContextEventProcessor.handle(input).block(Duration.ofSeconds(10));
+        editingContextEventProcessor.dispose();
+
+        assertThat(danglingChecks.get()).isZero();
+        assertThat(danglingDeletions.get()).isZero();
+    }
+
+    @Test
+    public void givenSeveralInputsWhenTheyAreProcessedThenTheirTimersAreSharedByInputTypeAndOutcome() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var parameters = this.newParameters(new CopyOnWriteArrayList<>())
+                .meterRegistry(meterRegistry)
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        for (int i = 0; i < 3; i++) {
+            editingContextEventProcessor.handle(new SlowInput(UUID.randomUUID(), i)).block(Duration.ofSeconds(10));
+        }
+        editingContextEventProcessor.dispose();
+
+        var timers = meterRegistry.find(Monitoring.TIMER_PROCESSING_INPUT).timers();
+        assertThat(timers).hasSize(1);
+        var timer = timers.iterator().next();
+        assertThat(timer.getId().getTags()).extracting(Tag::getKey).containsExactlyInAnyOrder(Monitoring.INPUT, Monitoring.OUTCOME);
+        assertThat(timer.getId().getTag(Monitoring.INPUT)).isEqualTo(SlowInput.class.getSimpleName());
+        assertThat(timer.getId().getTag(Monitoring.OUTCOME)).isEqualTo("success");
+        assertThat(timer.count()).isEqualTo(3);
+    }
+
+    /**
+     * Representation event processor used to simulate a slow refresh.
+     *
+     * @author sbegaudeau
+     */
+    private static final class SlowRepresentationEventProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private final IRepresentation representation;
+
+        SlowRepresentationEventProcessor(String representationId) {
+            this.representation = new IRepresentation.NoOp() {
+                @Override
+                public String getId() {
+                    return representationId;
+                }
+            };
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            return this.representation;
+        }
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            try {
+                Thread.sleep(HANDLING_DURATION);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Representation event processor whose refresh waits for the refresh of other representations.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ConcurrentRepresentationEventProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private final IRepresentation representation;
+
+        private final CyclicBarrier refreshBarrier;
+
+        private final List<String> completedRefreshes;
+
+        ConcurrentRepresentationEventProcessor(String representationId, CyclicBarrier refreshBarrier, List<String> completedRefreshes) {
+            this.representation = new IRepresentation.NoOp() {
+                @Override
+                public String getId() {
+                    return representationId;
+                }
+            };
+            this.refreshBarrier = refreshBarrier;
+            this.completedRefreshes = completedRefreshes;
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            return this.representation;
+        }
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            try {
+                this.refreshBarrier.await(10, TimeUnit.SECONDS);
+                this.completedRefreshes.add(this.representation.getId());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (BrokenBarrierException | TimeoutException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+
+    /**
+     * Representation event processor whose refresh always fails.
+     *
+     * @author sbegaudeau
+     */
+    private static final class FailingRepresentationEventProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private final IRepresentation representation;
+
+        FailingRepresentationEventProcessor(String representationId) {
+            this.representation = new IRepresentation.NoOp() {
+                @Override
+                public String getId() {
+                    return representationId;
+                }
+            };
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            return this.representation;
+        }
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            throw new IllegalStateException(this.representation.getId());
+        }
+    }
+}
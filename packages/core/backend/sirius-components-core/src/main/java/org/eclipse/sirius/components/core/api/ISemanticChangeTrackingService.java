@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Used to find the semantic elements which have been changed in an editing context.
+ *
+ * <p>
+ * Each change performed on the semantic data of an editing context increments its revision. Representations can keep
+ * the revision used during their last rendering in order to retrieve the identifiers of the semantic elements changed
+ * since then.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface ISemanticChangeTrackingService {
+
+    /**
+     * Returns the current revision of the semantic data of the given editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The current revision or an empty optional if the changes of this editing context cannot be tracked
+     */
+    Optional<Long> getRevision(IEditingContext editingContext);
+
+    /**
+     * Returns the identifiers of the semantic elements which have been changed since the given revision.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param revision
+     *         A revision previously returned by {@link #getRevision(IEditingContext)}
+     * @return The identifiers of the changed semantic elements or an empty optional if they cannot be determined
+     *         precisely
+     */
+    Optional<Set<String>> getChangedObjectIds(IEditingContext editingContext, long revision);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements ISemanticChangeTrackingService {
+
+        @Override
+        public Optional<Long> getRevision(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> getChangedObjectIds(IEditingContext editingContext, long revision) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -41,28 +41,31 @@ public class OperationValidator implements IOperationValidator {
 
     @Override
     public void validate(String operationName, Map<String, Object> variables) {
-        var expectedVariables = this.variableProviders.stream()
-                .map(variableProvider -> variableProvider.getVariables(operationName))
-                .flatMap(List::stream)
-                .toList();
+        // The variables are only iterated when the result of the validation can be logged
+        if (this.logger.isTraceEnabled()) {
+            var expectedVariables = this.variableProviders.stream()
+                    .map(variableProvider -> variableProvider.getVariables(operationName))
+                    .flatMap(List::stream)
+                    .toList();
 
-        variables.entrySet().stream()
-                .forEach(entry -> {
-                    var optionalExpectedVariable = expectedVariables.stream()
-                            .filter(variable -> variable.name().equals(entry.getKey()))
-                            .findFirst();
-                    if (optionalExpectedVariable.isPresent()) {
-                        if (entry.getValue() != null) {
-                            var expectedVariable = optionalExpectedVariable.get();
+            variables.entrySet().stream()
+                    .forEach(entry -> {
+                        var optionalExpectedVariable = expectedVariables.stream()
+                                .filter(variable -> variable.name().equals(entry.getKey()))
+                                .findFirst();
+                        if (optionalExpectedVariable.isPresent()) {
+                            if (entry.getValue() != null) {
+                                var expectedVariable = optionalExpectedVariable.get();
 
-                            var matchesExpectedType = expectedVariable.types().stream().anyMatch(type -> type.isInstance(entry.getValue()));
-                            if (!matchesExpectedType) {
-                                this.logger.trace("{}: The variable '{}' does not match one of the expected types {}", operationName, entry.getKey(), expectedVariable.types());
+                                var matchesExpectedType = expectedVariable.types().stream().anyMatch(type -> type.isInstance(entry.getValue()));
+                                if (!matchesExpectedType) {
+                                    this.logger.trace("{}: The variable '{}' does not match one of the expected types {}", operationName, entry.getKey(), expectedVariable.types());
+                                }
                             }
+                        } else {
+                            this.logger.trace("{}: The variable '{}' was not expected", operationName, entry.getKey());
                         }
-                    } else {
-                        this.logger.trace("{}: The variable '{}' was not expected", operationName, entry.getKey());
-                    }
-                });
+                    });
+        }
     }
 }
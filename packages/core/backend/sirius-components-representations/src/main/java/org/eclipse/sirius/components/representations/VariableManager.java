@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used to manage the variables.
@@ -35,6 +40,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables visible from this variable manager.
+     */
+    private final Map<String, Object> scopedVariables = new ScopedVariables();
+
     /**
      * The constructor.
      */
@@ -66,6 +76,22 @@ public class VariableManager {
         return new HashMap<>(this.variables);
     }
 
+    /**
+     * Returns a read-only view of the variables visible from this variable manager.
+     *
+     * <p>
+     * Contrary to {@link #getVariables()}, the variables of the parents are not copied. The lookup of a variable walks
+     * up the parent chain and the variables of this variable manager shadow the ones of its parents. The iteration on
+     * its entries walks the same chain and skips the shadowed variables, nothing is copied. It should be used to
+     * evaluate expressions or to give the variables to code which only reads them.
+     * </p>
+     *
+     * @return A read-only view of the variables
+     */
+    public Map<String, Object> getScopedVariables() {
+        return this.scopedVariables;
+    }
+
     public <T> Optional<T> get(String name, Class<T> expectedType) {
         // @formatter:off
         return Optional.ofNullable(this.get(name))
@@ -109,4 +135,134 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables visible from the variable manager, backed by its parent chain.
+     *
+     * @author sbegaudeau
+     */
+    private final class ScopedVariables extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entrySet = new ScopedEntrySet();
+
+        @Override
+        public Object get(Object key) {
+            Object value = null;
+            VariableManager variableManager = VariableManager.this;
+            while (variableManager != null) {
+                if (variableManager.variables.containsKey(key)) {
+                    value = variableManager.variables.get(key);
+                    variableManager = null;
+                } else {
+                    variableManager = variableManager.parent;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            boolean containsKey = false;
+            VariableManager variableManager = VariableManager.this;
+            while (!containsKey && variableManager != null) {
+                containsKey = variableManager.variables.containsKey(key);
+                variableManager = variableManager.parent;
+            }
+            return containsKey;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            boolean isEmpty = true;
+            VariableManager variableManager = VariableManager.this;
+            while (isEmpty && variableManager != null) {
+                isEmpty = variableManager.variables.isEmpty();
+                variableManager = variableManager.parent;
+            }
+            return isEmpty;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.entrySet;
+        }
+    }
+
+    /**
+     * Read-only set of the entries visible from the variable manager, iterated directly on the variables of each
+     * variable manager of its parent chain.
+     *
+     * @author sbegaudeau
+     */
+    private final class ScopedEntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new ScopedEntryIterator();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            Iterator<Map.Entry<String, Object>> iterator = this.iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+                size++;
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Iterates on the variables of the variable manager and then on the ones of its parents, skipping the variables
+     * shadowed by a variable with the same name in a descendant.
+     *
+     * @author sbegaudeau
+     */
+    private final class ScopedEntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private VariableManager variableManager = VariableManager.this;
+
+        private Iterator<Map.Entry<String, Object>> iterator = VariableManager.this.variables.entrySet().iterator();
+
+        private Map.Entry<String, Object> nextEntry;
+
+        @Override
+        public boolean hasNext() {
+            while (this.nextEntry == null && this.variableManager != null) {
+                if (this.iterator.hasNext()) {
+                    Map.Entry<String, Object> entry = this.iterator.next();
+                    if (!this.isShadowed(entry.getKey())) {
+                        this.nextEntry = new AbstractMap.SimpleImmutableEntry<>(entry);
+                    }
+                } else {
+                    this.variableManager = this.variableManager.parent;
+                    if (this.variableManager != null) {
+                        this.iterator = this.variableManager.variables.entrySet().iterator();
+                    }
+                }
+            }
+            return this.nextEntry != null;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, Object> entry = this.nextEntry;
+            this.nextEntry = null;
+            return entry;
+        }
+
+        private boolean isShadowed(String name) {
+            boolean isShadowed = false;
+            VariableManager descendant = VariableManager.this;
+            while (!isShadowed && descendant != this.variableManager) {
+                isShadowed = descendant.variables.containsKey(name);
+                descendant = descendant.parent;
+            }
+            return isShadowed;
+        }
+    }
 }
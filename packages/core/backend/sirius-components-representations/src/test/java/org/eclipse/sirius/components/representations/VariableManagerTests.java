@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the variable manager.
+ *
+ * @author sbegaudeau
+ */
+public class VariableManagerTests {
+
+    private static final String ROOT = "root";
+
+    private static final String PARENT = "parent";
+
+    private static final String CHILD = "child";
+
+    @Test
+    public void givenVariableManagerWithParentsWhenItsScopedVariablesAreReadThenTheyMatchItsVariables() {
+        var rootVariableManager = new VariableManager();
+        rootVariableManager.put(VariableManager.SELF, ROOT);
+        rootVariableManager.put(ROOT, ROOT);
+
+        var parentVariableManager = rootVariableManager.createChild();
+        parentVariableManager.put(VariableManager.SELF, PARENT);
+        parentVariableManager.put(PARENT, null);
+
+        var childVariableManager = parentVariableManager.createChild();
+        childVariableManager.put(VariableManager.SELF, CHILD);
+
+        Map<String, Object> scopedVariables = childVariableManager.getScopedVariables();
+        assertThat(scopedVariables.get(VariableManager.SELF)).isEqualTo(CHILD);
+        assertThat(scopedVariables.get(ROOT)).isEqualTo(ROOT);
+        assertThat(scopedVariables).containsKey(PARENT);
+        assertThat(scopedVariables).doesNotContainKey(CHILD);
+        assertThat(scopedVariables).isEqualTo(childVariableManager.getVariables());
+
+        rootVariableManager.put(CHILD, ROOT);
+        assertThat(scopedVariables.get(CHILD)).isEqualTo(ROOT);
+    }
+
+    @Test
+    public void givenVariableManagerWithShadowedVariablesWhenItsScopedVariablesAreIteratedThenEachVisibleVariableIsReturnedOnce() {
+        var rootVariableManager = new VariableManager();
+        rootVariableManager.put(VariableManager.SELF, ROOT);
+        rootVariableManager.put(ROOT, ROOT);
+
+        var parentVariableManager = rootVariableManager.createChild();
+        var childVariableManager = parentVariableManager.createChild();
+        childVariableManager.put(VariableManager.SELF, CHILD);
+
+        Map<String, Object> scopedVariables = childVariableManager.getScopedVariables();
+        assertThat(scopedVariables).hasSize(2).isNotEmpty();
+        assertThat(scopedVariables.entrySet()).containsExactlyInAnyOrder(Map.entry(VariableManager.SELF, CHILD), Map.entry(ROOT, ROOT));
+        assertThat(scopedVariables.hashCode()).isEqualTo(childVariableManager.getVariables().hashCode());
+
+        parentVariableManager.put(PARENT, PARENT);
+        assertThat(scopedVariables).hasSize(3).containsEntry(PARENT, PARENT);
+
+        assertThat(new VariableManager().createChild().getScopedVariables()).isEmpty();
+    }
+
+    @Test
+    public void givenScopedVariablesWhenTheyAreModifiedThenAnExceptionIsThrown() {
+        var variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, ROOT);
+
+        Map<String, Object> scopedVariables = variableManager.getScopedVariables();
+        assertThatThrownBy(() -> scopedVariables.put(CHILD, CHILD)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> scopedVariables.remove(VariableManager.SELF)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> scopedVariables.entrySet().iterator().next().setValue(CHILD)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -37,6 +38,8 @@ public class DiagramContext implements IDiagramContext {
 
     private final List<IDiagramEvent> diagramEvents;
 
+    private Long semanticRevision;
+
     public DiagramContext(Diagram initialDiagram) {
         this.diagram = Objects.requireNonNull(initialDiagram);
         this.viewCreationRequests = new ArrayList<>();
@@ -69,6 +72,16 @@ public class DiagramContext implements IDiagramContext {
         return this.diagramEvents;
     }
 
+    @Override
+    public Optional<Long> getSemanticRevision() {
+        return Optional.ofNullable(this.semanticRevision);
+    }
+
+    @Override
+    public void updateSemanticRevision(Long newSemanticRevision) {
+        this.semanticRevision = newSemanticRevision;
+    }
+
     @Override
     public void reset() {
         this.diagramEvents.clear();
@@ -26,12 +26,14 @@ import org.eclipse.sirius.components.core.api.Environment;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectSearchService;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.core.api.ISemanticChangeTrackingService;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps.Builder;
+import org.eclipse.sirius.components.diagrams.components.IncrementalRefreshScope;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
@@ -41,6 +43,7 @@ import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -60,15 +63,22 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final ISemanticChangeTrackingService semanticChangeTrackingService;
+
+    private final boolean incrementalRefresh;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectSearchService objectSearchService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, ISemanticChangeTrackingService semanticChangeTrackingService, MeterRegistry meterRegistry,
+                                  @Value("${sirius.components.diagram.incrementalRefresh:false}") boolean incrementalRefresh) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
+        this.semanticChangeTrackingService = Objects.requireNonNull(semanticChangeTrackingService);
+        this.incrementalRefresh = incrementalRefresh;
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
                 .register(meterRegistry);
@@ -83,7 +93,7 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .map(DiagramDescription.class::cast)
                 .toList();
 
-        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty(), IncrementalRefreshScope.fullRefresh());
     }
 
     @Override
@@ -105,13 +115,38 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext));
+
+            IncrementalRefreshScope incrementalRefreshScope = IncrementalRefreshScope.fullRefresh();
+            if (this.incrementalRefresh) {
+                incrementalRefreshScope = this.getIncrementalRefreshScope(editingContext, diagramContext);
+                diagramContext.updateSemanticRevision(this.semanticChangeTrackingService.getRevision(editingContext).orElse(null));
+            }
+
+            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext), incrementalRefreshScope);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext) {
+    /**
+     * Computes the part of the previous diagram which can be reused using the semantic elements changed since its
+     * rendering. A full refresh is performed if these changes are unknown.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param diagramContext
+     *         The diagram context
+     * @return The scope of the refresh
+     */
+    private IncrementalRefreshScope getIncrementalRefreshScope(IEditingContext editingContext, IDiagramContext diagramContext) {
+        return diagramContext.getSemanticRevision()
+                .flatMap(revision -> this.semanticChangeTrackingService.getChangedObjectIds(editingContext, revision))
+                .map(IncrementalRefreshScope::changedTargetObjectIds)
+                .orElse(IncrementalRefreshScope.fullRefresh());
+    }
+
+    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext,
+            IncrementalRefreshScope incrementalRefreshScope) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -134,7 +169,8 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvents(diagramEvents);
+                .diagramEvents(diagramEvents)
+                .incrementalRefreshScope(incrementalRefreshScope);
 
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
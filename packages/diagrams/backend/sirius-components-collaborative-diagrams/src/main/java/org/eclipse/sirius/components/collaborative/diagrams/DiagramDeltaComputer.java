@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * Used to compute the changes between two revisions of a diagram.
+ *
+ * <p>
+ * Nodes and edges are compared with the node or edge of the previous diagram with the same identifier using the
+ * structural equality of their properties. The child nodes and border nodes of a node are not part of this comparison
+ * since they are compared on their own. Node styles without a structural equality are compared by identity, the nodes
+ * using them are thus considered as modified unless their style has been reused.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaComputer {
+
+    /**
+     * Computes the changes between the two given diagrams.
+     *
+     * @param previousDiagram
+     *         The previous diagram
+     * @param newDiagram
+     *         The new diagram
+     * @return The changes or an empty optional if there are so many changes that the whole diagram should be sent instead
+     */
+    public Optional<DiagramDelta> computeDelta(Diagram previousDiagram, Diagram newDiagram) {
+        var nodeChanges = new NodeChanges(new ArrayList<>(), new ArrayList<>());
+        this.computeNodeChanges(null, false, previousDiagram.getNodes(), newDiagram.getNodes(), nodeChanges);
+
+        List<Edge> edges = new ArrayList<>();
+        List<String> removedEdgeIds = new ArrayList<>();
+        Map<String, Edge> previousEdges = new HashMap<>();
+        previousDiagram.getEdges().forEach(edge -> previousEdges.put(edge.getId(), edge));
+        for (Edge edge : newDiagram.getEdges()) {
+            Edge previousEdge = previousEdges.remove(edge.getId());
+            if (!edge.equals(previousEdge)) {
+                edges.add(edge);
+            }
+        }
+        removedEdgeIds.addAll(previousEdges.keySet());
+
+        List<NodeLayoutData> nodeLayoutData = newDiagram.getLayoutData().nodeLayoutData().values().stream()
+                .filter(layoutData -> !layoutData.equals(previousDiagram.getLayoutData().nodeLayoutData().get(layoutData.id())))
+                .toList();
+        List<EdgeLayoutData> edgeLayoutData = newDiagram.getLayoutData().edgeLayoutData().values().stream()
+                .filter(layoutData -> !layoutData.equals(previousDiagram.getLayoutData().edgeLayoutData().get(layoutData.id())))
+                .toList();
+
+        var delta = new DiagramDelta(nodeChanges.nodes(), nodeChanges.removedNodeIds(), edges, removedEdgeIds, nodeLayoutData, edgeLayoutData);
+
+        Optional<DiagramDelta> optionalDelta = Optional.of(delta);
+        if (delta.getChangeCount() > (this.countNodes(newDiagram.getNodes()) + newDiagram.getEdges().size()) / 2) {
+            optionalDelta = Optional.empty();
+        }
+        return optionalDelta;
+    }
+
+    private void computeNodeChanges(String parentId, boolean borderNode, List<Node> previousNodes, List<Node> newNodes, NodeChanges nodeChanges) {
+        Map<String, Integer> previousIndexes = new HashMap<>();
+        Map<String, Node> previousNodesById = new HashMap<>();
+        for (int i = 0; i < previousNodes.size(); i++) {
+            previousIndexes.put(previousNodes.get(i).getId(), i);
+            previousNodesById.put(previousNodes.get(i).getId(), previousNodes.get(i));
+        }
+
+        for (int i = 0; i < newNodes.size(); i++) {
+            Node node = newNodes.get(i);
+            Node previousNode = previousNodesById.remove(node.getId());
+            if (previousNode == null) {
+                this.addSubtree(parentId, borderNode, i, node, nodeChanges.nodes());
+            } else {
+                boolean hasMoved = previousIndexes.get(node.getId()) != i;
+                boolean hasChanged = this.isModified(previousNode, node);
+                if (hasMoved || hasChanged) {
+                    nodeChanges.nodes().add(new NodeDelta(parentId, borderNode, i, node));
+                }
+                this.computeNodeChanges(node.getId(), false, previousNode.getChildNodes(), node.getChildNodes(), nodeChanges);
+                this.computeNodeChanges(node.getId(), true, previousNode.getBorderNodes(), node.getBorderNodes(), nodeChanges);
+            }
+        }
+        nodeChanges.removedNodeIds().addAll(previousNodesById.keySet());
+    }
+
+    /**
+     * Indicates if the properties of the given node have been modified, its child nodes and border nodes are compared
+     * on their own.
+     */
+    private boolean isModified(Node previousNode, Node node) {
+        boolean isEqual = Objects.equals(previousNode.getType(), node.getType());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectId(), node.getTargetObjectId());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectKind(), node.getTargetObjectKind());
+        isEqual = isEqual && Objects.equals(previousNode.getTargetObjectLabel(), node.getTargetObjectLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getDescriptionId(), node.getDescriptionId());
+        isEqual = isEqual && previousNode.isBorderNode() == node.isBorderNode();
+        isEqual = isEqual && Objects.equals(previousNode.getModifiers(), node.getModifiers());
+        isEqual = isEqual && Objects.equals(previousNode.getState(), node.getState());
+        isEqual = isEqual && Objects.equals(previousNode.getCollapsingState(), node.getCollapsingState());
+        isEqual = isEqual && Objects.equals(previousNode.getInsideLabel(), node.getInsideLabel());
+        isEqual = isEqual && Objects.equals(previousNode.getOutsideLabels(), node.getOutsideLabels());
+        isEqual = isEqual && Objects.equals(previousNode.getStyle(), node.getStyle());
+        isEqual = isEqual && Objects.equals(previousNode.getChildrenLayoutStrategy(), node.getChildrenLayoutStrategy());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultWidth(), node.getDefaultWidth());
+        isEqual = isEqual && Objects.equals(previousNode.getDefaultHeight(), node.getDefaultHeight());
+        isEqual = isEqual && previousNode.isLabelEditable() == node.isLabelEditable();
+        isEqual = isEqual && previousNode.isPinned() == node.isPinned();
+        return !isEqual;
+    }
+
+    private void addSubtree(String parentId, boolean borderNode, int index, Node node, List<NodeDelta> nodeDeltas) {
+        nodeDeltas.add(new NodeDelta(parentId, borderNode, index, node));
+        for (int i = 0; i < node.getChildNodes().size(); i++) {
+            this.addSubtree(node.getId(), false, i, node.getChildNodes().get(i), nodeDeltas);
+        }
+        for (int i = 0; i < node.getBorderNodes().size(); i++) {
+            this.addSubtree(node.getId(), true, i, node.getBorderNodes().get(i), nodeDeltas);
+        }
+    }
+
+    private int countNodes(List<Node> nodes) {
+        int count = nodes.size();
+        for (Node node : nodes) {
+            count += this.countNodes(node.getChildNodes()) + this.countNodes(node.getBorderNodes());
+        }
+        return count;
+    }
+
+    /**
+     * The nodes added or modified and the identifiers of the nodes removed.
+     *
+     * @author sbegaudeau
+     */
+    private record NodeChanges(List<NodeDelta> nodes, List<String> removedNodeIds) {
+    }
+}
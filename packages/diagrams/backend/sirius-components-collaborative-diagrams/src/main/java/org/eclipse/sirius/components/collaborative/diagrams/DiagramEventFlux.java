@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,12 @@
 package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -32,22 +36,35 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Each new version of the diagram is identified by a revision. Subscribers which have asked for delta refreshes receive
+ * the changes since the previous payload they have received, computed only once for all of them. If they have missed a
+ * revision, for example because they were too slow to consume the previous ones, they receive the whole diagram
+ * instead.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
 
     private final Logger logger = LoggerFactory.getLogger(DiagramEventFlux.class);
 
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
+    private final Many<DiagramRevision> sink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramDeltaComputer diagramDeltaComputer = new DiagramDeltaComputer();
 
-    private Diagram currentDiagram;
+    private volatile DiagramRevision currentRevision;
 
     public DiagramEventFlux(Diagram currentDiagram) {
-        this.currentDiagram = Objects.requireNonNull(currentDiagram);
+        this.currentRevision = new DiagramRevision(null, 0, Objects.requireNonNull(currentDiagram), null, null, Mono.just(Optional.empty()));
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
-        this.currentDiagram = newDiagram;
+        Diagram previousDiagram = this.currentRevision.diagram();
+        Mono<Optional<DiagramDelta>> delta = Mono.fromSupplier(() -> this.diagramDeltaComputer.computeDelta(previousDiagram, newDiagram)).cache();
+        var newRevision = new DiagramRevision(id, this.currentRevision.revision() + 1, newDiagram, cause, referencePosition, delta);
+        this.currentRevision = newRevision;
+
         if (this.sink.currentSubscriberCount() > 0) {
             this.logger.atDebug()
                     .setMessage("Diagram {} sent with {} nodes and {} edges")
@@ -56,7 +73,7 @@ public class DiagramEventFlux {
                     .addArgument(() -> newDiagram.getEdges().size())
                     .log();
 
-            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
+            EmitResult emitResult = this.sink.tryEmitNext(newRevision);
             if (emitResult.isFailure()) {
                 String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}";
                 this.logger.warn(pattern, emitResult);
@@ -69,8 +86,44 @@ public class DiagramEventFlux {
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        return this.getFlux(id, cause, false);
+    }
+
+    public Flux<IPayload> getFlux(UUID id, String cause, boolean deltaRefresh) {
+        return Flux.defer(() -> {
+            DiagramRevision initialRevision = this.currentRevision;
+            var initialRefresh = Mono.just(new DiagramRefreshedEventPayload(id, initialRevision.diagram(), cause, null));
+
+            Flux<IPayload> refreshes;
+            if (deltaRefresh) {
+                AtomicLong lastSentRevision = new AtomicLong(initialRevision.revision());
+                // Without prefetch, the revisions emitted while the subscriber is not ready are dropped and detected as missed
+                refreshes = this.sink.asFlux().concatMap(diagramRevision -> this.toPayload(diagramRevision, lastSentRevision), 0);
+            } else {
+                refreshes = this.sink.asFlux().map(DiagramRevision::toDiagramRefreshedEventPayload);
+            }
+            return Flux.concat(initialRefresh, refreshes);
+        });
+    }
+
+    /**
+     * Sends the changes since the last revision sent to the subscriber if possible or the whole diagram otherwise.
+     *
+     * @param diagramRevision
+     *         The new revision of the diagram
+     * @param lastSentRevision
+     *         The last revision sent to the subscriber
+     * @return The payload to send
+     */
+    private Mono<IPayload> toPayload(DiagramRevision diagramRevision, AtomicLong lastSentRevision) {
+        long previousRevision = lastSentRevision.getAndSet(diagramRevision.revision());
+        if (previousRevision != diagramRevision.revision() - 1) {
+            this.logger.debug("Revision {} of the diagram {} missed by a subscriber, sending the whole diagram", previousRevision + 1, diagramRevision.diagram().getId());
+            return Mono.just(diagramRevision.toDiagramRefreshedEventPayload());
+        }
+        return diagramRevision.delta().map(optionalDelta -> optionalDelta
+                .<IPayload>map(delta -> new DiagramDeltaRefreshedEventPayload(diagramRevision.id(), diagramRevision.revision(), previousRevision, diagramRevision.cause(), diagramRevision.referencePosition(), delta))
+                .orElseGet(diagramRevision::toDiagramRefreshedEventPayload));
     }
 
     public void dispose() {
@@ -81,4 +134,15 @@ public class DiagramEventFlux {
         }
     }
 
+    /**
+     * A revision of the diagram.
+     *
+     * @author sbegaudeau
+     */
+    private record DiagramRevision(UUID id, long revision, Diagram diagram, String cause, ReferencePosition referencePosition, Mono<Optional<DiagramDelta>> delta) {
+
+        public DiagramRefreshedEventPayload toDiagramRefreshedEventPayload() {
+            return new DiagramRefreshedEventPayload(this.id, this.diagram, this.cause, this.referencePosition);
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.EdgeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
@@ -254,7 +255,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         return Flux.merge(
-                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause, input instanceof DiagramEventInput diagramEventInput && diagramEventInput.deltaRefresh()),
                 this.subscriptionManager.getFlux(input)
         );
     }
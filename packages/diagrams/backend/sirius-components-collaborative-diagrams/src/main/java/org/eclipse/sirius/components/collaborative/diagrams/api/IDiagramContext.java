@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.diagrams.api;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
@@ -43,6 +44,15 @@ public interface IDiagramContext {
 
     List<IDiagramEvent> getDiagramEvents();
 
+    /**
+     * Returns the revision of the semantic data used to render the current diagram.
+     *
+     * @return The revision of the semantic data or an empty optional if it is unknown
+     */
+    Optional<Long> getSemanticRevision();
+
+    void updateSemanticRevision(Long semanticRevision);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -77,5 +87,14 @@ public interface IDiagramContext {
         public List<IDiagramEvent> getDiagramEvents() {
             return List.of();
         }
+
+        @Override
+        public Optional<Long> getSemanticRevision() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void updateSemanticRevision(Long semanticRevision) {
+        }
     }
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * The changes between two revisions of a diagram.
+ *
+ * <p>
+ * The removed nodes should be removed with their whole subtree before the nodes added or modified are applied in
+ * order, parents always come before their children.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDelta(
+        List<NodeDelta> nodes,
+        List<String> removedNodeIds,
+        List<Edge> edges,
+        List<String> removedEdgeIds,
+        List<NodeLayoutData> nodeLayoutData,
+        List<EdgeLayoutData> edgeLayoutData) {
+
+    public DiagramDelta {
+        Objects.requireNonNull(nodes);
+        Objects.requireNonNull(removedNodeIds);
+        Objects.requireNonNull(edges);
+        Objects.requireNonNull(removedEdgeIds);
+        Objects.requireNonNull(nodeLayoutData);
+        Objects.requireNonNull(edgeLayoutData);
+    }
+
+    public int getChangeCount() {
+        return this.nodes.size() + this.removedNodeIds.size() + this.edges.size() + this.removedEdgeIds.size();
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Payload used to send the changes of the diagram since the previous payload received by the subscriber.
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDeltaRefreshedEventPayload(UUID id, long revision, long previousRevision, String cause, ReferencePosition referencePosition, DiagramDelta delta) implements IPayload {
+
+    public DiagramDeltaRefreshedEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(cause);
+        Objects.requireNonNull(delta);
+    }
+}
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node which has been added or modified, along with its location in the diagram.
+ *
+ * <p>
+ * The child nodes and border nodes of the node are described by their own node deltas.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record NodeDelta(String parentId, boolean borderNode, int index, Node node) {
+
+    public NodeDelta {
+        Objects.requireNonNull(node);
+    }
+}
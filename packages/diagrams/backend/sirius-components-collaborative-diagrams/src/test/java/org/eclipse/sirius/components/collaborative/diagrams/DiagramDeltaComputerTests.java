@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the computation of the changes between two revisions of a diagram.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaComputerTests {
+
+    private static final int NODE_COUNT = 10;
+
+    private static final String EDGE_ID = "edge";
+
+    private static final String BLACK = "#000000";
+
+    private static final String WHITE = "#FFFFFF";
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void givenADiagramRenderedAgainWithEqualElementsWhenTheDeltaIsComputedThenItIsEmpty() {
+        var previousDiagram = this.getDiagram();
+        var newDiagram = this.copy(previousDiagram, -1, WHITE);
+
+        var delta = new DiagramDeltaComputer().computeDelta(previousDiagram, newDiagram).orElseThrow();
+
+        assertThat(delta.getChangeCount()).isZero();
+    }
+
+    @Test
+    public void givenADiagramWithAModifiedNodeAndEdgeWhenTheDeltaIsComputedThenOnlyTheyAreSent() {
+        var previousDiagram = this.getDiagram();
+        var newDiagram = this.copy(previousDiagram, 3, BLACK);
+
+        var delta = new DiagramDeltaComputer().computeDelta(previousDiagram, newDiagram).orElseThrow();
+
+        assertThat(delta.nodes()).extracting(NodeDelta::node).extracting(Node::getId).containsExactly("3");
+        assertThat(delta.edges()).extracting(Edge::getId).containsExactly(EDGE_ID);
+        assertThat(delta.removedNodeIds()).isEmpty();
+        assertThat(delta.removedEdgeIds()).isEmpty();
+    }
+
+    private Diagram getDiagram() {
+        var nodes = IntStream.range(0, NODE_COUNT)
+                .mapToObj(index -> this.testDiagramBuilder.getNode(String.valueOf(index), true))
+                .toList();
+        var edge = this.testDiagramBuilder.getEdge(EDGE_ID, "0", "1");
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID().toString()))
+                .nodes(nodes)
+                .edges(List.of(edge))
+                .build();
+    }
+
+    /**
+     * Copies the given diagram with new instances of the styles, labels and layout strategies of its elements, as a new
+     * rendering would do.
+     */
+    private Diagram copy(Diagram diagram, int modifiedNodeIndex, String edgeColor) {
+        var nodes = IntStream.range(0, diagram.getNodes().size())
+                .mapToObj(index -> {
+                    var node = diagram.getNodes().get(index);
+                    String borderColor = BLACK;
+                    if (index == modifiedNodeIndex) {
+                        borderColor = "#FF0000";
+                    }
+                    var style = RectangularNodeStyle.newRectangularNodeStyle()
+                            .borderColor(borderColor)
+                            .borderSize(1)
+                            .borderStyle(LineStyle.Solid)
+                            .background(WHITE)
+                            .build();
+                    return Node.newNode(node)
+                            .style(style)
+                            .insideLabel(InsideLabel.newInsideLabel(node.getInsideLabel()).build())
+                            .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                            .build();
+                })
+                .toList();
+        var edges = diagram.getEdges().stream()
+                .map(edge -> Edge.newEdge(edge)
+                        .style(EdgeStyle.newEdgeStyle()
+                                .size(1)
+                                .lineStyle(LineStyle.Solid)
+                                .sourceArrow(ArrowStyle.None)
+                                .targetArrow(ArrowStyle.InputArrow)
+                                .color(edgeColor)
+                                .build())
+                        .build())
+                .toList();
+        return Diagram.newDiagram(diagram)
+                .nodes(nodes)
+                .edges(edges)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests of the diagram event flux.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramEventFluxTests {
+
+    private static final int NODE_COUNT = 10;
+
+    private static final String RENAMED = "Renamed";
+
+    private static final String NEW_NODE_ID = "new";
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    private Diagram getInitialDiagram() {
+        var nodes = IntStream.range(0, NODE_COUNT)
+                .mapToObj(index -> this.testDiagramBuilder.getNode(String.valueOf(index), true))
+                .toList();
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID().toString()))
+                .nodes(nodes)
+                .build();
+    }
+
+    private Diagram renameNode(Diagram diagram, int index, String newName) {
+        List<Node> nodes = new ArrayList<>(diagram.getNodes());
+        var node = nodes.get(index);
+        var insideLabel = InsideLabel.newInsideLabel(node.getInsideLabel())
+                .text(newName)
+                .build();
+        nodes.set(index, Node.newNode(node).insideLabel(insideLabel).build());
+        return Diagram.newDiagram(diagram).nodes(nodes).build();
+    }
+
+    @Test
+    public void givenADeltaSubscriberWhenANodeIsModifiedThenOnlyThisNodeIsSent() {
+        var initialDiagram = this.getInitialDiagram();
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        var modifiedDiagram = this.renameNode(initialDiagram, 3, RENAMED);
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, true))
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(() -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), modifiedDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null))
+                .assertNext(payload -> {
+                    assertThat(payload).isInstanceOf(DiagramDeltaRefreshedEventPayload.class);
+                    var delta = ((DiagramDeltaRefreshedEventPayload) payload).delta();
+                    assertThat(delta.nodes()).extracting(NodeDelta::node).extracting(Node::getId).containsExactly("3");
+                    assertThat(delta.nodes()).extracting(NodeDelta::index).containsExactly(3);
+                    assertThat(delta.nodes().get(0).node().getInsideLabel().getText()).isEqualTo(RENAMED);
+                    assertThat(delta.removedNodeIds()).isEmpty();
+                    assertThat(delta.edges()).isEmpty();
+                })
+                .then(diagramEventFlux::dispose)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void givenADeltaSubscriberWhenNodesAreAddedAndRemovedThenTheirIdsAreSent() {
+        var initialDiagram = this.getInitialDiagram();
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+
+        List<Node> nodes = new ArrayList<>(initialDiagram.getNodes());
+        nodes.remove(NODE_COUNT - 1);
+        var childNode = this.testDiagramBuilder.getNode("child", true);
+        nodes.add(Node.newNode(this.testDiagramBuilder.getNode(NEW_NODE_ID, true)).childNodes(List.of(childNode)).build());
+        var newDiagram = Diagram.newDiagram(initialDiagram).nodes(nodes).build();
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, true))
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(() -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), newDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null))
+                .assertNext(payload -> {
+                    assertThat(payload).isInstanceOf(DiagramDeltaRefreshedEventPayload.class);
+                    var delta = ((DiagramDeltaRefreshedEventPayload) payload).delta();
+                    assertThat(delta.nodes()).extracting(NodeDelta::node).extracting(Node::getId).containsExactly(NEW_NODE_ID, "child");
+                    assertThat(delta.nodes()).extracting(NodeDelta::parentId).containsExactly(null, NEW_NODE_ID);
+                    assertThat(delta.removedNodeIds()).containsExactly(String.valueOf(NODE_COUNT - 1));
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void givenASubscriberWithoutDeltaWhenTheDiagramIsRefreshedThenTheWholeDiagramIsSent() {
+        var initialDiagram = this.getInitialDiagram();
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        var modifiedDiagram = this.renameNode(initialDiagram, 3, RENAMED);
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH))
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(() -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), modifiedDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null))
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload diagramRefreshedEventPayload && diagramRefreshedEventPayload.diagram() == modifiedDiagram)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void givenADeltaSubscriberWhichHasMissedARevisionWhenTheDiagramIsRefreshedThenTheWholeDiagramIsSent() {
+        var initialDiagram = this.getInitialDiagram();
+        var diagramEventFlux = new DiagramEventFlux(initialDiagram);
+        var firstDiagram = this.renameNode(initialDiagram, 3, "First");
+        var secondDiagram = this.renameNode(firstDiagram, 4, "Second");
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, true), 1)
+                .expectNextMatches(DiagramRefreshedEventPayload.class::isInstance)
+                .then(() -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), firstDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null))
+                .thenRequest(1)
+                .then(() -> diagramEventFlux.diagramRefreshed(UUID.randomUUID(), secondDiagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null))
+                .expectNextMatches(payload -> payload instanceof DiagramRefreshedEventPayload diagramRefreshedEventPayload && diagramRefreshedEventPayload.diagram() == secondDiagram)
+                .thenCancel()
+                .verify();
+    }
+}
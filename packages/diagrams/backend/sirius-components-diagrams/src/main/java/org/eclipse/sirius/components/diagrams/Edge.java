@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -141,6 +141,34 @@ public final class Edge implements IDiagramElement {
         return this.centerLabelEditable;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof Edge edge) {
+            isEqual = Objects.equals(this.id, edge.id);
+            isEqual = isEqual && Objects.equals(this.type, edge.type);
+            isEqual = isEqual && Objects.equals(this.targetObjectId, edge.targetObjectId);
+            isEqual = isEqual && Objects.equals(this.targetObjectKind, edge.targetObjectKind);
+            isEqual = isEqual && Objects.equals(this.targetObjectLabel, edge.targetObjectLabel);
+            isEqual = isEqual && Objects.equals(this.descriptionId, edge.descriptionId);
+            isEqual = isEqual && Objects.equals(this.beginLabel, edge.beginLabel);
+            isEqual = isEqual && Objects.equals(this.centerLabel, edge.centerLabel);
+            isEqual = isEqual && Objects.equals(this.endLabel, edge.endLabel);
+            isEqual = isEqual && Objects.equals(this.sourceId, edge.sourceId);
+            isEqual = isEqual && Objects.equals(this.targetId, edge.targetId);
+            isEqual = isEqual && Objects.equals(this.modifiers, edge.modifiers);
+            isEqual = isEqual && Objects.equals(this.state, edge.state);
+            isEqual = isEqual && Objects.equals(this.style, edge.style);
+            isEqual = isEqual && this.centerLabelEditable == edge.centerLabelEditable;
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.type, this.targetObjectId, this.targetObjectKind, this.targetObjectLabel, this.descriptionId, this.beginLabel, this.centerLabel, this.endLabel, this.sourceId, this.targetId, this.modifiers, this.state, this.style, this.centerLabelEditable);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, targetObjectId: {2}, targetObjectKind: {3}, targetObjectLabel: {4}, descriptionId: {5}, sourceId: {6}, targetId: {7}, state: {8}'}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -39,6 +39,20 @@ public final class IconLabelNodeStyle implements INodeStyle {
         return this.background;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof IconLabelNodeStyle iconLabelNodeStyle) {
+            isEqual = Objects.equals(this.background, iconLabelNodeStyle.background);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'background: {1}'}'";
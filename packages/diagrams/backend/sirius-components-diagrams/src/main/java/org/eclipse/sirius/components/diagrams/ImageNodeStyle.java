@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -76,6 +76,26 @@ public final class ImageNodeStyle implements INodeStyle {
         return this.positionDependentRotation;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof ImageNodeStyle imageNodeStyle) {
+            isEqual = Objects.equals(this.imageURL, imageNodeStyle.imageURL);
+            isEqual = isEqual && this.scalingFactor == imageNodeStyle.scalingFactor;
+            isEqual = isEqual && Objects.equals(this.borderColor, imageNodeStyle.borderColor);
+            isEqual = isEqual && this.borderSize == imageNodeStyle.borderSize;
+            isEqual = isEqual && this.borderRadius == imageNodeStyle.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, imageNodeStyle.borderStyle);
+            isEqual = isEqual && this.positionDependentRotation == imageNodeStyle.positionDependentRotation;
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.imageURL, this.scalingFactor, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle, this.positionDependentRotation);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'imageURL: {1}', border: '{' size: {2}, color: {3}, style: {4} '}'}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -85,6 +85,27 @@ public final class InsideLabel {
         return this.textAlign;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof InsideLabel insideLabel) {
+            isEqual = Objects.equals(this.id, insideLabel.id);
+            isEqual = isEqual && Objects.equals(this.text, insideLabel.text);
+            isEqual = isEqual && Objects.equals(this.insideLabelLocation, insideLabel.insideLabelLocation);
+            isEqual = isEqual && Objects.equals(this.style, insideLabel.style);
+            isEqual = isEqual && this.isHeader == insideLabel.isHeader;
+            isEqual = isEqual && Objects.equals(this.headerSeparatorDisplayMode, insideLabel.headerSeparatorDisplayMode);
+            isEqual = isEqual && Objects.equals(this.overflowStrategy, insideLabel.overflowStrategy);
+            isEqual = isEqual && Objects.equals(this.textAlign, insideLabel.textAlign);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.text, this.insideLabelLocation, this.style, this.isHeader, this.headerSeparatorDisplayMode, this.overflowStrategy, this.textAlign);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, text: {2}'}'";
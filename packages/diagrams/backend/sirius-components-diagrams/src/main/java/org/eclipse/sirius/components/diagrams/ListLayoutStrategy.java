@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -63,6 +63,23 @@ public final class ListLayoutStrategy implements ILayoutStrategy {
         return this.growableNodeIds;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof ListLayoutStrategy listLayoutStrategy) {
+            isEqual = this.areChildNodesDraggable == listLayoutStrategy.areChildNodesDraggable;
+            isEqual = isEqual && this.topGap == listLayoutStrategy.topGap;
+            isEqual = isEqual && this.bottomGap == listLayoutStrategy.bottomGap;
+            isEqual = isEqual && Objects.equals(this.growableNodeIds, listLayoutStrategy.growableNodeIds);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.areChildNodesDraggable, this.topGap, this.bottomGap, this.growableNodeIds);
+    }
+
     /**
      * The builder used to create a listLayoutStrategy.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -68,6 +68,25 @@ public final class ParametricSVGNodeStyle implements INodeStyle {
         return new Builder();
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof ParametricSVGNodeStyle parametricSVGNodeStyle) {
+            isEqual = Objects.equals(this.svgURL, parametricSVGNodeStyle.svgURL);
+            isEqual = isEqual && Objects.equals(this.backgroundColor, parametricSVGNodeStyle.backgroundColor);
+            isEqual = isEqual && Objects.equals(this.borderColor, parametricSVGNodeStyle.borderColor);
+            isEqual = isEqual && this.borderSize == parametricSVGNodeStyle.borderSize;
+            isEqual = isEqual && this.borderRadius == parametricSVGNodeStyle.borderRadius;
+            isEqual = isEqual && Objects.equals(this.borderStyle, parametricSVGNodeStyle.borderStyle);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.svgURL, this.backgroundColor, this.borderColor, this.borderSize, this.borderRadius, this.borderStyle);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'backgroundcolor: {1}', border: '{' size: {2}, radius: {3}, color: {4}, style: {5} '}', svg: {6}'}'";
@@ -76,6 +76,7 @@ public class DiagramComponent implements IComponent {
                             .diagramEvents(this.props.getDiagramEvents())
                             .parentElementState(ViewModifier.Normal)
                             .operationValidator(this.props.getOperationValidator())
+                            .incrementalRefreshScope(this.props.getIncrementalRefreshScope())
                             .build();
                     return new Element(NodeComponent.class, nodeComponentProps);
                 }).toList();
@@ -85,7 +86,8 @@ public class DiagramComponent implements IComponent {
                     var previousEdges = optionalPreviousDiagram.map(previousDiagram -> diagramElementRequestor.getEdges(previousDiagram, edgeDescription))
                             .orElse(List.of());
                     IEdgesRequestor edgesRequestor = new EdgesRequestor(previousEdges);
-                    var edgeComponentProps = new EdgeComponentProps(variableManager, edgeDescription, edgesRequestor, cache, this.props.getOperationValidator(), this.props.getDiagramEvents());
+                    var edgeComponentProps = new EdgeComponentProps(variableManager, edgeDescription, edgesRequestor, cache, this.props.getOperationValidator(), this.props.getDiagramEvents(),
+                            this.props.getIncrementalRefreshScope());
                     return new Element(EdgeComponent.class, edgeComponentProps);
                 })
                 .toList();
@@ -52,6 +52,8 @@ public final class DiagramComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private IncrementalRefreshScope incrementalRefreshScope;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -88,6 +90,10 @@ public final class DiagramComponentProps implements IProps {
         return this.diagramEvents;
     }
 
+    public IncrementalRefreshScope getIncrementalRefreshScope() {
+        return this.incrementalRefreshScope;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -115,6 +121,8 @@ public final class DiagramComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private IncrementalRefreshScope incrementalRefreshScope = IncrementalRefreshScope.fullRefresh();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -155,6 +163,11 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder incrementalRefreshScope(IncrementalRefreshScope incrementalRefreshScope) {
+            this.incrementalRefreshScope = Objects.requireNonNull(incrementalRefreshScope);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -165,6 +178,7 @@ public final class DiagramComponentProps implements IProps {
             diagramComponentProps.viewCreationRequests = List.copyOf(Objects.requireNonNull(this.viewCreationRequests));
             diagramComponentProps.viewDeletionRequests = List.copyOf(Objects.requireNonNull(this.viewDeletionRequests));
             diagramComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
+            diagramComponentProps.incrementalRefreshScope = Objects.requireNonNull(this.incrementalRefreshScope);
             return diagramComponentProps;
         }
     }
@@ -26,6 +26,7 @@ import java.util.function.Function;
 
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.Label;
 import org.eclipse.sirius.components.diagrams.ViewModifier;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
@@ -34,6 +35,7 @@ import org.eclipse.sirius.components.diagrams.description.LabelDescription;
 import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps.Builder;
+import org.eclipse.sirius.components.diagrams.elements.LabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.events.FadeDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.HideDiagramElementEvent;
@@ -104,12 +106,15 @@ public class EdgeComponent implements IComponent {
 
         List<Element> sourceElements = edgeDescription.getSourceProvider().apply(edgeVariableManager);
         if (!sourceElements.isEmpty()) {
+            Optional<List<Element>> optionalIndexedTargetElements = this.getIndexedTargetElements(edgeDescription, edgeVariableManager);
 
             for (Element sourceElement : sourceElements) {
-                var targetVariableManager = edgeVariableManager.createChild();
-                targetVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, this.props.getCache().getElementToObject().get(sourceElement));
-                targetVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceElement);
-                List<Element> targetElements = edgeDescription.getTargetProvider().apply(targetVariableManager);
+                List<Element> targetElements = optionalIndexedTargetElements.orElseGet(() -> {
+                    var targetVariableManager = edgeVariableManager.createChild();
+                    targetVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, this.props.getCache().getElementToObject().get(sourceElement));
+                    targetVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceElement);
+                    return edgeDescription.getTargetProvider().apply(targetVariableManager);
+                });
                 for (Element targetElement : targetElements) {
                     var edgeInstanceVariableManager = edgeVariableManager.createChild();
                     edgeInstanceVariableManager.put(EdgeDescription.SEMANTIC_EDGE_SOURCE, this.props.getCache().getElementToObject().get(sourceElement));
@@ -117,7 +122,7 @@ public class EdgeComponent implements IComponent {
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceElement);
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_TARGET, targetElement);
 
-                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.getVariables());
+                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.getScopedVariables());
                     var shouldRender = edgeDescription.getShouldRenderPredicate().test(edgeInstanceVariableManager);
                     if (shouldRender) {
                         this.doRenderEdge(edgeInstanceVariableManager, edgeDescription, sourceElement, targetElement, diagramEvents, edgeIdPrefixToCount, lastPreviousRenderedEdgeIds)
@@ -133,11 +138,39 @@ public class EdgeComponent implements IComponent {
         return edgeElements;
     }
 
+    /**
+     * Computes the graphical targets shared by all the sources of an edge semantic element.
+     *
+     * <p>
+     * When the semantic targets of the edge do not depend on its source, they are only computed once and their
+     * graphical elements are retrieved from the rendering cache. Otherwise, the target provider has to be used for each
+     * source and an empty optional is returned.
+     * </p>
+     */
+    private Optional<List<Element>> getIndexedTargetElements(EdgeDescription edgeDescription, VariableManager edgeVariableManager) {
+        DiagramRenderingCache cache = this.props.getCache();
+        return Optional.ofNullable(edgeDescription.getSemanticTargetsProvider())
+                .map(semanticTargetsProvider -> semanticTargetsProvider.apply(edgeVariableManager).stream()
+                        .flatMap(semanticTarget -> cache.getElementsRepresenting(semanticTarget).stream())
+                        .filter(targetElement -> this.isFromDescriptions(targetElement, edgeDescription.getTargetDescriptions()))
+                        .toList());
+    }
+
+    private boolean isFromDescriptions(Element element, List<IDiagramElementDescription> descriptions) {
+        String descriptionId = null;
+        if (element.getProps() instanceof NodeElementProps nodeElementProps) {
+            descriptionId = nodeElementProps.getDescriptionId();
+        } else if (element.getProps() instanceof EdgeElementProps edgeElementProps) {
+            descriptionId = edgeElementProps.getDescriptionId();
+        }
+
+        String elementDescriptionId = descriptionId;
+        return elementDescriptionId != null && descriptions.stream().anyMatch(description -> elementDescriptionId.equals(description.getId()));
+    }
+
     private Optional<Element> doRenderEdge(VariableManager edgeVariableManager, EdgeDescription edgeDescription, Element sourceElement, Element targetElement, List<IDiagramEvent> diagramEvents,
             Map<String, Integer> edgeIdPrefixToCount, List<String> lastPreviousRenderedEdgeIds) {
         String targetObjectId = edgeDescription.getTargetObjectIdProvider().apply(edgeVariableManager);
-        String targetObjectKind = edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager);
-        String targetObjectLabel = edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager);
 
         String edgeIdPrefix = this.computeEdgeIdPrefix(edgeDescription, sourceElement, targetElement);
         int count = edgeIdPrefixToCount.getOrDefault(edgeIdPrefix, 0);
@@ -167,13 +200,27 @@ public class EdgeComponent implements IComponent {
         boolean shouldRender = synchronizationPolicy == SynchronizationPolicy.SYNCHRONIZED || (synchronizationPolicy == SynchronizationPolicy.UNSYNCHRONIZED && optionalPreviousEdge.isPresent());
 
         if (shouldRender) {
-            EdgeStyle style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
+            Optional<Edge> optionalReusedEdge = optionalPreviousEdge.filter(previousEdge -> this.canReuse(previousEdge, targetObjectId, sourceElement, targetElement));
+
+            String targetObjectKind;
+            String targetObjectLabel;
+            EdgeStyle style;
+            if (optionalReusedEdge.isPresent()) {
+                var reusedEdge = optionalReusedEdge.get();
+                targetObjectKind = reusedEdge.getTargetObjectKind();
+                targetObjectLabel = reusedEdge.getTargetObjectLabel();
+                style = reusedEdge.getStyle();
+            } else {
+                targetObjectKind = edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager);
+                targetObjectLabel = edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager);
+                style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
+            }
 
             String edgeType = optionalPreviousEdge
                     .map(Edge::getType)
                     .orElse("edge:straight");
 
-            List<Element> labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, id);
+            List<Element> labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, id, optionalReusedEdge);
             EdgeElementProps edgeElementProps = edgeElementPropsBuilder
                     .type(edgeType)
                     .descriptionId(edgeDescription.getId())
@@ -388,30 +435,63 @@ public class EdgeComponent implements IComponent {
         return this.props.getEdgesRequestor().getById(potentialPreviousEdgeId);
     }
 
-    private List<Element> getLabelsChildren(EdgeDescription edgeDescription, VariableManager edgeVariableManager, String edgeId) {
+    /**
+     * Indicates if the properties computed for the previous edge can be reused. They cannot be reused if the semantic
+     * element of the edge or the semantic elements of its source and target have changed.
+     */
+    private boolean canReuse(Edge previousEdge, String targetObjectId, Element sourceElement, Element targetElement) {
+        IncrementalRefreshScope incrementalRefreshScope = this.props.getIncrementalRefreshScope();
+        return previousEdge.getTargetObjectId().equals(targetObjectId)
+                && incrementalRefreshScope.canReuse(targetObjectId)
+                && this.getTargetObjectId(sourceElement).filter(incrementalRefreshScope::canReuse).isPresent()
+                && this.getTargetObjectId(targetElement).filter(incrementalRefreshScope::canReuse).isPresent();
+    }
+
+    private Optional<String> getTargetObjectId(Element element) {
+        Optional<String> optionalTargetObjectId = Optional.empty();
+        if (element.getProps() instanceof EdgeElementProps edgeElementProps) {
+            optionalTargetObjectId = Optional.of(edgeElementProps.getTargetObjectId());
+        } else if (element.getProps() instanceof NodeElementProps nodeElementProps) {
+            optionalTargetObjectId = Optional.of(nodeElementProps.getTargetObjectId());
+        }
+        return optionalTargetObjectId;
+    }
+
+    private List<Element> getLabelsChildren(EdgeDescription edgeDescription, VariableManager edgeVariableManager, String edgeId, Optional<Edge> optionalReusedEdge) {
         List<Element> edgeChildren = new ArrayList<>();
 
         VariableManager labelVariableManager = edgeVariableManager.createChild();
         labelVariableManager.put(LabelDescription.OWNER_ID, edgeId);
 
-        Optional.ofNullable(edgeDescription.getBeginLabelDescription()).map(labelDescription -> {
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, LabelType.EDGE_BEGIN.getValue());
-            return new Element(LabelComponent.class, labelComponentProps);
-        }).ifPresent(edgeChildren::add);
+        Optional.ofNullable(edgeDescription.getBeginLabelDescription())
+                .map(labelDescription -> this.getLabel(labelVariableManager, labelDescription, LabelType.EDGE_BEGIN, optionalReusedEdge.map(Edge::getBeginLabel)))
+                .ifPresent(edgeChildren::add);
 
-        Optional.ofNullable(edgeDescription.getCenterLabelDescription()).map(labelDescription -> {
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, LabelType.EDGE_CENTER.getValue());
-            return new Element(LabelComponent.class, labelComponentProps);
-        }).ifPresent(edgeChildren::add);
+        Optional.ofNullable(edgeDescription.getCenterLabelDescription())
+                .map(labelDescription -> this.getLabel(labelVariableManager, labelDescription, LabelType.EDGE_CENTER, optionalReusedEdge.map(Edge::getCenterLabel)))
+                .ifPresent(edgeChildren::add);
 
-        Optional.ofNullable(edgeDescription.getEndLabelDescription()).map(labelDescription -> {
-            LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, LabelType.EDGE_END.getValue());
-            return new Element(LabelComponent.class, labelComponentProps);
-        }).ifPresent(edgeChildren::add);
+        Optional.ofNullable(edgeDescription.getEndLabelDescription())
+                .map(labelDescription -> this.getLabel(labelVariableManager, labelDescription, LabelType.EDGE_END, optionalReusedEdge.map(Edge::getEndLabel)))
+                .ifPresent(edgeChildren::add);
 
         return edgeChildren;
     }
 
+    private Element getLabel(VariableManager labelVariableManager, LabelDescription labelDescription, LabelType labelType, Optional<Label> optionalReusedLabel) {
+        if (optionalReusedLabel.isPresent()) {
+            var reusedLabel = optionalReusedLabel.get();
+            LabelElementProps labelElementProps = LabelElementProps.newLabelElementProps(reusedLabel.getId())
+                    .type(reusedLabel.getType())
+                    .text(reusedLabel.getText())
+                    .style(reusedLabel.getStyle())
+                    .build();
+            return new Element(LabelElementProps.TYPE, labelElementProps);
+        }
+        LabelComponentProps labelComponentProps = new LabelComponentProps(labelVariableManager, labelDescription, labelType.getValue());
+        return new Element(LabelComponent.class, labelComponentProps);
+    }
+
     private String computeEdgeId(EdgeDescription edgeDescription, Element sourceElement, Element targetElement, int count) {
         var descriptionId = edgeDescription.getId();
         var sourceId = INVALID_ID;
@@ -427,12 +507,7 @@ public class EdgeComponent implements IComponent {
         } else if (targetElement.getProps() instanceof NodeElementProps nodeElementProps) {
             targetId = nodeElementProps.getId();
         }
-        return this.computeEdgeId(descriptionId, sourceId, targetId, count);
-    }
-
-    private String computeEdgeId(String edgeDescriptionId, String sourceId, String targetId, int count) {
-        String rawIdentifier = edgeDescriptionId + ": " + sourceId + " --> " + targetId + " - " + count;
-        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString();
+        return new EdgeIdProvider().getEdgeId(descriptionId, sourceId, targetId, count);
     }
 
     private String computeEdgeIdPrefix(EdgeDescription edgeDescription, Element sourceElement, Element targetElement) {
@@ -41,13 +41,17 @@ public class EdgeComponentProps implements IProps {
 
     private final List<IDiagramEvent> diagramEvents;
 
-    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator, List<IDiagramEvent> diagramEvents) {
+    private final IncrementalRefreshScope incrementalRefreshScope;
+
+    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator,
+            List<IDiagramEvent> diagramEvents, IncrementalRefreshScope incrementalRefreshScope) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.edgeDescription = Objects.requireNonNull(edgeDescription);
         this.edgesRequestor = Objects.requireNonNull(edgesRequestor);
         this.cache = Objects.requireNonNull(cache);
         this.operationValidator = Objects.requireNonNull(operationValidator);
         this.diagramEvents = Objects.requireNonNull(diagramEvents);
+        this.incrementalRefreshScope = Objects.requireNonNull(incrementalRefreshScope);
     }
 
     public VariableManager getVariableManager() {
@@ -73,4 +77,8 @@ public class EdgeComponentProps implements IProps {
     public List<IDiagramEvent> getDiagramEvents() {
         return this.diagramEvents;
     }
+
+    public IncrementalRefreshScope getIncrementalRefreshScope() {
+        return this.incrementalRefreshScope;
+    }
 }
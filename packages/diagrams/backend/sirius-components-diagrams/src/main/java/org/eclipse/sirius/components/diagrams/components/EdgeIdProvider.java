@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.UUID;
+
+/**
+ * Used to compute the identifier of an edge.
+ *
+ * <p>
+ * The count is used to distinguish the edges of the same description between the same source and target.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EdgeIdProvider {
+    public String getEdgeId(String edgeDescriptionId, String sourceId, String targetId, int count) {
+        String rawIdentifier = edgeDescriptionId + ": " + sourceId + " --> " + targetId + " - " + count;
+        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes()).toString();
+    }
+}
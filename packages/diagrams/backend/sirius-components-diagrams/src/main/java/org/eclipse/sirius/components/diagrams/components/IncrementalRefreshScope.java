@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Used to determine which elements of the previous diagram can be reused during a refresh.
+ *
+ * <p>
+ * During an incremental refresh, the nodes and edges rendered from a semantic element which has not changed since the
+ * previous rendering reuse the type, labels, style and size computed during the previous rendering instead of
+ * evaluating them again. The semantic candidates are still evaluated in order to find the elements which have been
+ * created or deleted.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record IncrementalRefreshScope(boolean incremental, Set<String> changedTargetObjectIds) {
+
+    private static final IncrementalRefreshScope FULL_REFRESH = new IncrementalRefreshScope(false, Set.of());
+
+    public IncrementalRefreshScope {
+        Objects.requireNonNull(changedTargetObjectIds);
+    }
+
+    public static IncrementalRefreshScope fullRefresh() {
+        return FULL_REFRESH;
+    }
+
+    public static IncrementalRefreshScope changedTargetObjectIds(Collection<String> changedTargetObjectIds) {
+        return new IncrementalRefreshScope(true, Set.copyOf(changedTargetObjectIds));
+    }
+
+    /**
+     * Indicates if the elements of the previous diagram rendered from the semantic element with the given identifier
+     * can be reused.
+     *
+     * @param targetObjectId
+     *         The identifier of a semantic element
+     * @return <code>true</code> if the semantic element has not changed since the previous rendering
+     */
+    public boolean canReuse(String targetObjectId) {
+        return this.incremental && !this.changedTargetObjectIds.contains(targetObjectId);
+    }
+}
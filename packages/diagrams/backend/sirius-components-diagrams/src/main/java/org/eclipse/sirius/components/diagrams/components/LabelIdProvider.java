@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.UUID;
+
+/**
+ * Used to compute the identifier of a label from the one returned by the id provider of its description.
+ *
+ * @author sbegaudeau
+ */
+public class LabelIdProvider {
+    public String getLabelId(String labelIdFromProvider) {
+        return UUID.nameUUIDFromBytes(labelIdFromProvider.getBytes()).toString();
+    }
+}
@@ -17,10 +17,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.OutsideLabel;
 import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.description.OutsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.elements.InsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.elements.OutsideLabelElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.Fragment;
@@ -63,16 +67,32 @@ public class NodeChildrenComponent implements IComponent {
         if (labelDescription != null) {
             this.props.getVariableManager().put(InsideLabelDescription.OWNER_ID, nodeId);
 
-            InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(this.props.getVariableManager(), labelDescription);
-            Element insideLabelElement = new Element(InsideLabelComponent.class, insideLabelComponentProps);
-            nodeChildren.add(insideLabelElement);
+            var optionalPreviousInsideLabel = this.props.getReusedPreviousNode().map(Node::getInsideLabel);
+            if (optionalPreviousInsideLabel.isPresent()) {
+                nodeChildren.add(this.toElement(optionalPreviousInsideLabel.get()));
+            } else {
+                InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(this.props.getVariableManager(), labelDescription);
+                Element insideLabelElement = new Element(InsideLabelComponent.class, insideLabelComponentProps);
+                nodeChildren.add(insideLabelElement);
+            }
         }
         return nodeChildren;
     }
 
     private List<Element> getOutsideLabel(String nodeId) {
+        var outsideLabelDescriptions = this.props.getNodeComponentProps().getNodeDescription().getOutsideLabelDescriptions();
 
-        return this.props.getNodeComponentProps().getNodeDescription().getOutsideLabelDescriptions().stream().map(outsideLabelDescription -> {
+        var optionalPreviousOutsideLabels = this.props.getReusedPreviousNode()
+                .map(Node::getOutsideLabels)
+                .filter(previousOutsideLabels -> previousOutsideLabels.size() == outsideLabelDescriptions.size());
+        if (optionalPreviousOutsideLabels.isPresent()) {
+            this.props.getVariableManager().put(OutsideLabelDescription.OWNER_ID, nodeId);
+            return optionalPreviousOutsideLabels.get().stream()
+                    .map(this::toElement)
+                    .toList();
+        }
+
+        return outsideLabelDescriptions.stream().map(outsideLabelDescription -> {
             this.props.getVariableManager().put(OutsideLabelDescription.OWNER_ID, nodeId);
 
             OutsideLabelComponentProps outsideLabelComponentProps = new OutsideLabelComponentProps(this.props.getVariableManager(), outsideLabelDescription);
@@ -81,6 +101,30 @@ public class NodeChildrenComponent implements IComponent {
 
     }
 
+    private Element toElement(InsideLabel insideLabel) {
+        InsideLabelElementProps insideLabelElementProps = InsideLabelElementProps.newInsideLabelElementProps(insideLabel.getId())
+                .text(insideLabel.getText())
+                .insideLabelLocation(insideLabel.getInsideLabelLocation())
+                .style(insideLabel.getStyle())
+                .isHeader(insideLabel.isIsHeader())
+                .headerSeparatorDisplayMode(insideLabel.getHeaderSeparatorDisplayMode())
+                .overflowStrategy(insideLabel.getOverflowStrategy())
+                .textAlign(insideLabel.getTextAlign())
+                .build();
+        return new Element(InsideLabelElementProps.TYPE, insideLabelElementProps);
+    }
+
+    private Element toElement(OutsideLabel outsideLabel) {
+        OutsideLabelElementProps outsideLabelElementProps = OutsideLabelElementProps.newOutsideLabelElementProps(outsideLabel.id())
+                .text(outsideLabel.text())
+                .outsideLabelLocation(outsideLabel.outsideLabelLocation())
+                .style(outsideLabel.style())
+                .overflowStrategy(outsideLabel.overflowStrategy())
+                .textAlign(outsideLabel.textAlign())
+                .build();
+        return new Element(OutsideLabelElementProps.TYPE, outsideLabelElementProps);
+    }
+
     private List<Element> getBorderNodes(Optional<Node> optionalPreviousNode, String nodeId) {
         NodeDescription nodeDescription = this.props.getNodeComponentProps().getNodeDescription();
         DiagramRenderingCache cache = this.props.getNodeComponentProps().getCache();
@@ -110,6 +154,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .incrementalRefreshScope(this.props.getNodeComponentProps().getIncrementalRefreshScope())
                     .build();
             return new Element(NodeComponent.class, nodeComponentProps);
         }).toList();
@@ -144,6 +189,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getParentState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .incrementalRefreshScope(this.props.getNodeComponentProps().getIncrementalRefreshScope())
                     .build();
 
             return new Element(NodeComponent.class, nodeComponentProps);
@@ -13,8 +13,10 @@
 package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.Immutable;
+import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.ViewModifier;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -35,6 +37,8 @@ public final class NodeChildrenComponentProps implements IProps {
 
     private NodeComponentProps nodeComponentProps;
 
+    private Optional<Node> reusedPreviousNode;
+
     private NodeChildrenComponentProps() {
         // Prevent initialisation
     }
@@ -59,6 +63,15 @@ public final class NodeChildrenComponentProps implements IProps {
         return this.nodeComponentProps;
     }
 
+    /**
+     * Returns the previous node whose labels should be reused instead of being rendered again.
+     *
+     * @return The previous node to reuse or an empty optional if the labels should be rendered
+     */
+    public Optional<Node> getReusedPreviousNode() {
+        return this.reusedPreviousNode;
+    }
+
     /**
      * The builder of the node children component props.
      *
@@ -75,6 +88,8 @@ public final class NodeChildrenComponentProps implements IProps {
 
         private NodeComponentProps nodeComponentProps;
 
+        private Optional<Node> reusedPreviousNode = Optional.empty();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -95,12 +110,18 @@ public final class NodeChildrenComponentProps implements IProps {
             return this;
         }
 
+        public Builder reusedPreviousNode(Optional<Node> reusedPreviousNode) {
+            this.reusedPreviousNode = Objects.requireNonNull(reusedPreviousNode);
+            return this;
+        }
+
         public NodeChildrenComponentProps build() {
             NodeChildrenComponentProps nodeChildrenComponentProps = new NodeChildrenComponentProps();
             nodeChildrenComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
             nodeChildrenComponentProps.state = Objects.requireNonNull(this.state);
             nodeChildrenComponentProps.parentState = Objects.requireNonNull(this.parentState);
             nodeChildrenComponentProps.nodeComponentProps = Objects.requireNonNull(this.nodeComponentProps);
+            nodeChildrenComponentProps.reusedPreviousNode = Objects.requireNonNull(this.reusedPreviousNode);
             return nodeChildrenComponentProps;
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -84,7 +84,7 @@ public class NodeComponent implements IComponent {
         }
 
         List<Element> children = new ArrayList<>();
-        this.props.getOperationValidator().validate("Node#semanticCandidates", nodeComponentVariableManager.getVariables());
+        this.props.getOperationValidator().validate("Node#semanticCandidates", nodeComponentVariableManager.getScopedVariables());
         List<?> semanticElements = nodeDescription.getSemanticElementsProvider().apply(nodeComponentVariableManager);
 
         for (Object semanticElement : semanticElements) {
@@ -149,27 +149,22 @@ public class NodeComponent implements IComponent {
         boolean isBorderNode = containmentKind == NodeContainmentKind.BORDER_NODE;
 
         String nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
+        Optional<Node> optionalReusedNode = optionalPreviousNode.filter(previousNode -> this.canReuse(previousNode, diagramEvents));
 
-        Set<ViewModifier> defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
+        Set<ViewModifier> defaultModifiers = Set.of();
+        if (optionalReusedNode.isEmpty()) {
+            defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
+        }
         Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultModifiers);
         ViewModifier state = this.computeState(modifiers);
 
         boolean isPinned = this.isPinned(diagramEvents, nodeId, optionalPreviousNode);
-        boolean isCollapsedByDefault = nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
+        boolean isCollapsedByDefault = optionalReusedNode.isEmpty() && nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
         CollapsingState collapsingState = this.computeCollapsingState(nodeId, optionalPreviousNode, diagramEvents, isCollapsedByDefault);
 
         nodeVariableManager.put(NodeComponent.COLLAPSING_STATE, collapsingState);
         nodeVariableManager.put(NodeComponent.IS_BORDER_NODE, isBorderNode);
 
-        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
-        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
-        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
-
-        INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
-
-        ILayoutStrategy layoutStrategy = nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager);
-
-
         var parentState = state;
         if (collapsingState == CollapsingState.COLLAPSED) {
             parentState = ViewModifier.Hidden;
@@ -180,36 +175,92 @@ public class NodeComponent implements IComponent {
                 .variableManager(nodeVariableManager)
                 .parentState(parentState)
                 .state(state)
+                .reusedPreviousNode(optionalReusedNode)
                 .build();
         Element nodeChildren = new Element(NodeChildrenComponent.class, nodeChildrenComponentProps);
 
-        Integer defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
-        Integer defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
-
         Builder nodeElementPropsBuilder = NodeElementProps.newNodeElementProps(nodeId)
-                .type(type)
                 .targetObjectId(targetObjectId)
-                .targetObjectKind(targetObjectKind)
-                .targetObjectLabel(targetObjectLabel)
                 .descriptionId(nodeDescription.getId())
                 .borderNode(isBorderNode)
-                .style(style)
                 .children(List.of(nodeChildren))
                 .modifiers(modifiers)
                 .state(state)
                 .pinned(isPinned)
                 .collapsingState(collapsingState)
-                .defaultWidth(defaultWidth)
-                .defaultHeight(defaultHeight)
                 .labelEditable(nodeDescription.getLabelEditHandler() != null);
 
-        if (layoutStrategy != null) {
-            nodeElementPropsBuilder.childrenLayoutStrategy(layoutStrategy);
+        if (optionalReusedNode.isPresent()) {
+            this.reuseProperties(nodeElementPropsBuilder, optionalReusedNode.get());
+        } else {
+            this.computeProperties(nodeElementPropsBuilder, nodeVariableManager);
         }
 
         return new Element(NodeElementProps.TYPE, nodeElementPropsBuilder.build());
     }
 
+    /**
+     * Indicates if the properties computed for the previous node can be reused. They cannot be reused if the semantic
+     * element of the node has changed or if a diagram event may change the result of the evaluation of the
+     * description.
+     *
+     * @param previousNode
+     *         The previous node
+     * @param diagramEvents
+     *         The diagram events
+     * @return <code>true</code> if the properties of the previous node can be reused
+     */
+    private boolean canReuse(Node previousNode, List<IDiagramEvent> diagramEvents) {
+        boolean canReuse = this.props.getIncrementalRefreshScope().canReuse(previousNode.getTargetObjectId());
+        for (IDiagramEvent diagramEvent : diagramEvents) {
+            if (diagramEvent instanceof UpdateCollapsingStateEvent updateCollapsingStateEvent) {
+                canReuse = canReuse && !updateCollapsingStateEvent.diagramElementId().equals(previousNode.getId());
+            } else if (diagramEvent instanceof ResetViewModifiersEvent resetViewModifiersEvent) {
+                canReuse = canReuse && !resetViewModifiersEvent.getElementIds().contains(previousNode.getId());
+            }
+        }
+        return canReuse;
+    }
+
+    private void reuseProperties(Builder nodeElementPropsBuilder, Node previousNode) {
+        nodeElementPropsBuilder.type(previousNode.getType())
+                .targetObjectKind(previousNode.getTargetObjectKind())
+                .targetObjectLabel(previousNode.getTargetObjectLabel())
+                .style(previousNode.getStyle())
+                .defaultWidth(previousNode.getDefaultWidth())
+                .defaultHeight(previousNode.getDefaultHeight());
+
+        if (previousNode.getChildrenLayoutStrategy() != null) {
+            nodeElementPropsBuilder.childrenLayoutStrategy(previousNode.getChildrenLayoutStrategy());
+        }
+    }
+
+    private void computeProperties(Builder nodeElementPropsBuilder, VariableManager nodeVariableManager) {
+        NodeDescription nodeDescription = this.props.getNodeDescription();
+
+        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
+        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
+        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
+
+        INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
+
+        ILayoutStrategy layoutStrategy = nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager);
+
+        Integer defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
+        Integer defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
+
+        nodeElementPropsBuilder.type(type)
+                .targetObjectKind(targetObjectKind)
+                .targetObjectLabel(targetObjectLabel)
+                .style(style)
+                .defaultWidth(defaultWidth)
+                .defaultHeight(defaultHeight);
+
+        if (layoutStrategy != null) {
+            nodeElementPropsBuilder.childrenLayoutStrategy(layoutStrategy);
+        }
+    }
+
     private CollapsingState computeCollapsingState(String nodeId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents, boolean isCollapsedByDefault) {
         CollapsingState newCollapsingState = CollapsingState.EXPANDED;
 
@@ -60,6 +60,8 @@ public final class NodeComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private IncrementalRefreshScope incrementalRefreshScope;
+
     private NodeComponentProps() {
         // Prevent instantiation
     }
@@ -116,6 +118,10 @@ public final class NodeComponentProps implements IProps {
         return this.operationValidator;
     }
 
+    public IncrementalRefreshScope getIncrementalRefreshScope() {
+        return this.incrementalRefreshScope;
+    }
+
     public static Builder newNodeComponentProps() {
         return new Builder();
     }
@@ -153,6 +159,8 @@ public final class NodeComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private IncrementalRefreshScope incrementalRefreshScope;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -218,6 +226,11 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder incrementalRefreshScope(IncrementalRefreshScope incrementalRefreshScope) {
+            this.incrementalRefreshScope = Objects.requireNonNull(incrementalRefreshScope);
+            return this;
+        }
+
         public NodeComponentProps build() {
             NodeComponentProps nodeComponentProps = new NodeComponentProps();
             nodeComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -233,6 +246,7 @@ public final class NodeComponentProps implements IProps {
             nodeComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
             nodeComponentProps.operationValidator = Objects.requireNonNull(this.operationValidator);
             nodeComponentProps.parentElementState = Objects.requireNonNull(this.parentElementState);
+            nodeComponentProps.incrementalRefreshScope = Objects.requireNonNull(this.incrementalRefreshScope);
             return nodeComponentProps;
         }
     }
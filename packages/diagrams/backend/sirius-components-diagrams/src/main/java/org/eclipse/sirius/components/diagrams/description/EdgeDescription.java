@@ -85,6 +85,8 @@ public final class EdgeDescription implements IDiagramElementDescription {
 
     private Function<VariableManager, List<Element>> targetProvider;
 
+    private Function<VariableManager, List<?>> semanticTargetsProvider;
+
     private Function<VariableManager, EdgeStyle> styleProvider;
 
     private Function<VariableManager, IStatus> deleteHandler;
@@ -156,6 +158,21 @@ public final class EdgeDescription implements IDiagramElementDescription {
         return this.targetProvider;
     }
 
+    /**
+     * Returns the provider of the semantic targets of an edge semantic element, if any.
+     *
+     * <p>
+     * It is only available when the semantic targets do not depend on the source of the edge. In that case, they are
+     * computed once for each semantic element of the edge and the graphical targets are retrieved from the rendering
+     * cache instead of using the target provider for each source.
+     * </p>
+     *
+     * @return The provider of the semantic targets or <code>null</code>
+     */
+    public Function<VariableManager, List<?>> getSemanticTargetsProvider() {
+        return this.semanticTargetsProvider;
+    }
+
     public Function<VariableManager, EdgeStyle> getStyleProvider() {
         return this.styleProvider;
     }
@@ -210,6 +227,8 @@ public final class EdgeDescription implements IDiagramElementDescription {
 
         private Function<VariableManager, List<Element>> targetProvider;
 
+        private Function<VariableManager, List<?>> semanticTargetsProvider;
+
         private Function<VariableManager, EdgeStyle> styleProvider;
 
         private Function<VariableManager, IStatus> deleteHandler;
@@ -286,6 +305,11 @@ public final class EdgeDescription implements IDiagramElementDescription {
             return this;
         }
 
+        public Builder semanticTargetsProvider(Function<VariableManager, List<?>> semanticTargetsProvider) {
+            this.semanticTargetsProvider = Objects.requireNonNull(semanticTargetsProvider);
+            return this;
+        }
+
         public Builder styleProvider(Function<VariableManager, EdgeStyle> styleProvider) {
             this.styleProvider = Objects.requireNonNull(styleProvider);
             return this;
@@ -317,6 +341,7 @@ public final class EdgeDescription implements IDiagramElementDescription {
             edgeDescription.endLabelDescription = this.endLabelDescription;
             edgeDescription.sourceProvider = Objects.requireNonNull(this.sourceProvider);
             edgeDescription.targetProvider = Objects.requireNonNull(this.targetProvider);
+            edgeDescription.semanticTargetsProvider = this.semanticTargetsProvider; // Optional on purpose
             edgeDescription.styleProvider = Objects.requireNonNull(this.styleProvider);
             edgeDescription.deleteHandler = Objects.requireNonNull(this.deleteHandler);
             edgeDescription.labelEditHandler = this.labelEditHandler; // Optional on purpose
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,21 @@ public final class LabelDescription {
      */
     public static final String OWNER_ID = "ownerId";
 
+    /**
+     * The suffix used to build an edge's begin label's id given its owner's.
+     */
+    public static final String BEGIN_LABEL_SUFFIX = "_beginlabel";
+
+    /**
+     * The suffix used to build an edge's center label's id given its owner's.
+     */
+    public static final String CENTER_LABEL_SUFFIX = "_centerlabel";
+
+    /**
+     * The suffix used to build an edge's end label's id given its owner's.
+     */
+    public static final String END_LABEL_SUFFIX = "_endlabel";
+
     private String id;
 
     private Function<VariableManager, String> idProvider;
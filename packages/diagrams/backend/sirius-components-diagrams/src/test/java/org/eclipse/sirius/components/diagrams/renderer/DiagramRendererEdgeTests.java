@@ -139,6 +139,38 @@ public class DiagramRendererEdgeTests {
         assertThat(diagram.getEdges().get(0).getId()).isNotEqualTo(diagram.getEdges().get(1).getId());
     }
 
+    /**
+     * Check that the graphical targets of an edge are retrieved from the rendering cache when its semantic targets do
+     * not depend on its source.
+     */
+    @Test
+    public void testEdgeRenderingWithSemanticTargets() {
+        NodeDescription nodeDescription1 = this.getNodeDescription(NODE_DESCRIPTION_ID1);
+        NodeDescription nodeDescription2 = this.getNodeDescription(NODE_DESCRIPTION_ID2);
+        List<Object> semanticElementsUsed = new ArrayList<>();
+        EdgeDescription edgeDescription = this.getEdgeDescriptionBuilder(nodeDescription1, EDGE_DESCRIPTION_ID)
+                .targetProvider(variableManager -> {
+                    throw new IllegalStateException("The target provider should not be used");
+                })
+                .semanticTargetsProvider(variableManager -> {
+                    semanticElementsUsed.add(variableManager.get(VariableManager.SELF, Object.class).orElse(null));
+                    return List.of(SECOND_OBJECT_ID);
+                })
+                .build();
+
+        Diagram diagram = this.renderDiagram(List.of(nodeDescription1, nodeDescription2), List.of(edgeDescription));
+        assertThat(diagram.getNodes()).hasSize(4);
+        assertThat(semanticElementsUsed).containsExactly(FIRST_OBJECT_ID);
+
+        Node node1 = diagram.getNodes().get(0);
+        Node node2 = diagram.getNodes().get(1);
+        assertThat(diagram.getEdges()).hasSize(1);
+
+        Edge edge = diagram.getEdges().get(0);
+        assertThat(edge).extracting(Edge::getSourceId).isEqualTo(node1.getId());
+        assertThat(edge).extracting(Edge::getTargetId).isEqualTo(node2.getId());
+    }
+
     private Diagram renderDiagram(List<NodeDescription> nodeDescriptions, List<EdgeDescription> edgeDescriptions) {
         DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(DIAGRAM_DESCRIPTION_ID)
                 .label("")
@@ -228,6 +260,10 @@ public class DiagramRendererEdgeTests {
     }
 
     private EdgeDescription getEdgeDescription(NodeDescription nodeDescription, String id) {
+        return this.getEdgeDescriptionBuilder(nodeDescription, id).build();
+    }
+
+    private EdgeDescription.Builder getEdgeDescriptionBuilder(NodeDescription nodeDescription, String id) {
         Function<VariableManager, List<Element>> sourceProvider = variableManager -> {
             var optionalCache = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class);
             Map<Object, List<Element>> objectToNodes = optionalCache.map(DiagramRenderingCache::getObjectToElements).orElse(new HashMap<>());
@@ -277,8 +313,7 @@ public class DiagramRendererEdgeTests {
                 .targetObjectLabelProvider(variableManager -> "")
                 .styleProvider(edgeStyleProvider)
                 .deleteHandler(variableManager -> new Failure(""))
-                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
-                .build();
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""));
     }
 
     private boolean isFromDescription(Element diagramElement, IDiagramElementDescription diagramElementDescription) {
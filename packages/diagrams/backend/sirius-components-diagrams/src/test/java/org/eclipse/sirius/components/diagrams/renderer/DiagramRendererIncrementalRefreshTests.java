@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.components.IncrementalRefreshScope;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental refresh of diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRendererIncrementalRefreshTests {
+
+    private static final int NODE_COUNT = 5000;
+
+    private static final String BLACK = "black";
+
+    /**
+     * Semantic element used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private static final class Entity {
+
+        private final String id;
+
+        private String name;
+
+        Entity(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private final List<Entity> entities = IntStream.range(0, NODE_COUNT)
+            .mapToObj(index -> new Entity(String.valueOf(index), "Entity " + index))
+            .toList();
+
+    private final AtomicInteger labelEvaluationCount = new AtomicInteger();
+
+    private final AtomicInteger styleEvaluationCount = new AtomicInteger();
+
+    private final DiagramDescription diagramDescription = this.createDiagramDescription();
+
+    @Test
+    public void givenALargeDiagramWhenASingleElementHasChangedThenOnlyItsNodeIsEvaluatedAgain() {
+        Diagram initialDiagram = this.render(Optional.empty(), IncrementalRefreshScope.fullRefresh());
+        assertThat(initialDiagram.getNodes()).hasSize(NODE_COUNT);
+
+        this.entities.get(42).name = "Renamed";
+
+        this.resetCounters();
+        Diagram fullyRefreshedDiagram = this.render(Optional.of(initialDiagram), IncrementalRefreshScope.fullRefresh());
+        int fullRefreshEvaluationCount = this.labelEvaluationCount.get() + this.styleEvaluationCount.get();
+
+        this.resetCounters();
+        Diagram incrementallyRefreshedDiagram = this.render(Optional.of(initialDiagram), IncrementalRefreshScope.changedTargetObjectIds(Set.of("42")));
+        int incrementalRefreshEvaluationCount = this.labelEvaluationCount.get() + this.styleEvaluationCount.get();
+
+        assertThat(fullRefreshEvaluationCount).isEqualTo(2 * NODE_COUNT);
+        assertThat(incrementalRefreshEvaluationCount).isEqualTo(2);
+        for (int index = 0; index < NODE_COUNT; index++) {
+            var previousStyle = initialDiagram.getNodes().get(index).getStyle();
+            var style = incrementallyRefreshedDiagram.getNodes().get(index).getStyle();
+            if (index == 42) {
+                assertThat(style).isNotSameAs(previousStyle);
+            } else {
+                assertThat(style).isSameAs(previousStyle);
+            }
+        }
+
+        assertThat(incrementallyRefreshedDiagram.getNodes()).hasSize(NODE_COUNT);
+        assertThat(incrementallyRefreshedDiagram.getNodes().get(42).getInsideLabel().getText()).isEqualTo("Renamed");
+        assertThat(incrementallyRefreshedDiagram.getNodes())
+                .extracting(node -> node.getInsideLabel().getText())
+                .containsExactlyElementsOf(fullyRefreshedDiagram.getNodes().stream().map(node -> node.getInsideLabel().getText()).toList());
+        assertThat(incrementallyRefreshedDiagram.getNodes()).extracting(Node::getId).containsExactlyElementsOf(initialDiagram.getNodes().stream().map(Node::getId).toList());
+    }
+
+    @Test
+    public void givenAnIncrementalRefreshWhenAnElementIsAddedThenANewNodeIsRendered() {
+        Diagram initialDiagram = this.render(Optional.empty(), IncrementalRefreshScope.fullRefresh());
+
+        List<Entity> newEntities = new ArrayList<>(this.entities);
+        newEntities.add(new Entity("new", "New entity"));
+
+        this.resetCounters();
+        Diagram diagram = this.render(Optional.of(initialDiagram), IncrementalRefreshScope.changedTargetObjectIds(Set.of("new")), newEntities);
+
+        assertThat(diagram.getNodes()).hasSize(NODE_COUNT + 1);
+        assertThat(diagram.getNodes().get(NODE_COUNT).getInsideLabel().getText()).isEqualTo("New entity");
+        assertThat(this.labelEvaluationCount.get()).isEqualTo(1);
+    }
+
+    private void resetCounters() {
+        this.labelEvaluationCount.set(0);
+        this.styleEvaluationCount.set(0);
+    }
+
+    private Diagram render(Optional<Diagram> previousDiagram, IncrementalRefreshScope incrementalRefreshScope) {
+        return this.render(previousDiagram, incrementalRefreshScope, this.entities);
+    }
+
+    private Diagram render(Optional<Diagram> previousDiagram, IncrementalRefreshScope incrementalRefreshScope, List<Entity> semanticElements) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, semanticElements);
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .incrementalRefreshScope(incrementalRefreshScope)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    private Optional<Entity> getEntity(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, Entity.class);
+    }
+
+    private DiagramDescription createDiagramDescription() {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> BLACK)
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> BLACK)
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .idProvider(variableManager -> variableManager.get(InsideLabelDescription.OWNER_ID, String.class).orElse("") + "_label")
+                .textProvider(variableManager -> {
+                    this.labelEvaluationCount.incrementAndGet();
+                    return this.getEntity(variableManager).map(entity -> entity.name).orElse("");
+                })
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        NodeDescription nodeDescription = NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "node:rectangle")
+                .semanticElementsProvider(variableManager -> variableManager.get(VariableManager.SELF, List.class).orElse(List.of()))
+                .targetObjectIdProvider(variableManager -> this.getEntity(variableManager).map(entity -> entity.id).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> {
+                    this.styleEvaluationCount.incrementAndGet();
+                    return RectangularNodeStyle.newRectangularNodeStyle()
+                            .background("white")
+                            .borderColor(BLACK)
+                            .borderSize(1)
+                            .borderStyle(LineStyle.Solid)
+                            .build();
+                })
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(new ArrayList<>())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+}
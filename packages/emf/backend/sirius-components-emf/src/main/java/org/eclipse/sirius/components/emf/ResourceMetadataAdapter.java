@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.Objects;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.NotificationImpl;
 import org.eclipse.sirius.components.emf.migration.api.MigrationData;
 
 /**
@@ -46,8 +47,30 @@ public class ResourceMetadataAdapter implements Adapter {
         return this.name;
     }
 
+    /**
+     * Updates the name of the resource.
+     *
+     * <p>
+     * A notification is sent to the target of the adapter when the name changes in order to let the other adapters of
+     * the resource know that it has been modified.
+     * </p>
+     *
+     * @param name
+     *         The new name of the resource
+     */
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+
+        if (this.notifier != null && this.notifier.eDeliver() && !Objects.equals(oldName, name)) {
+            var targetNotifier = this.notifier;
+            this.notifier.eNotify(new NotificationImpl(Notification.SET, oldName, name) {
+                @Override
+                public Object getNotifier() {
+                    return targetNotifier;
+                }
+            });
+        }
     }
 
     public MigrationData getMigrationData() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,11 @@ import org.springframework.stereotype.Service;
 /**
  * Default implementation of the IDefaultObjectService.
  *
+ * <p>
+ * The objects are first searched in an index of the resource set of the editing context, installed the first time an
+ * object is searched, before looking into each resource for the objects which have not been indexed.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
@@ -64,9 +69,12 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
                     .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
                     .map(resource -> resource.getEObject(eObjectURIFragment));
         } else {
-            optionalEObject = resourceSet.getResources().stream()
-                    .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
-                    .findFirst();
+            optionalEObject = this.getOrCreateIndexAdapter(resourceSet).getEObject(objectId);
+            if (optionalEObject.isEmpty()) {
+                optionalEObject = resourceSet.getResources().stream()
+                        .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
+                        .findFirst();
+            }
         }
 
         // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
@@ -79,4 +87,16 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
         }
         return optionalEObject.map(Object.class::cast);
     }
+
+    private EObjectIndexAdapter getOrCreateIndexAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(EObjectIndexAdapter.class::isInstance)
+                .map(EObjectIndexAdapter.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    var adapter = new EObjectIndexAdapter();
+                    resourceSet.eAdapters().add(adapter);
+                    return adapter;
+                });
+    }
 }
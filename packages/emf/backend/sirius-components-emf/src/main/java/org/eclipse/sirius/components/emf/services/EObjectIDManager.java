@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -79,6 +79,7 @@ public class EObjectIDManager implements IDManager {
             var adapter = iterator.next();
             if (adapter instanceof IDAdapter idAdapter) {
                 iterator.remove();
+                this.reindex(eObject);
                 return Optional.of(idAdapter.getId().toString());
             }
         }
@@ -104,6 +105,21 @@ public class EObjectIDManager implements IDManager {
             }
         }
         eObject.eAdapters().add(new IDAdapter(UUID.fromString(id)));
+        this.reindex(eObject);
+    }
+
+    /**
+     * Updates the {@link EObjectIndexAdapter} of the given eObject, if any, after a change of its ID.
+     *
+     * @param eObject
+     *            The eObject whose ID has changed
+     */
+    private void reindex(EObject eObject) {
+        for (var adapter : eObject.eAdapters()) {
+            if (adapter instanceof EObjectIndexAdapter indexAdapter) {
+                indexAdapter.reindex(eObject);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to find the objects of a resource set by their id without having to look into each of its resources.
+ *
+ * <p>
+ * The objects are indexed by the id stored in their {@link IDAdapter} when they are added to the resource set and
+ * removed from the index when they are removed from it. The changes of id performed with the {@link EObjectIDManager}
+ * are also taken into account.
+ * </p>
+ *
+ * <p>
+ * The ids of the objects removed from the resource set are kept until they are collected in order to find the
+ * representations which may have become dangling. They are only recorded once someone has started to collect them, or
+ * right away if the adapter has been created to do so, in order not to keep them forever otherwise.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexAdapter extends EContentAdapter {
+
+    private final Map<String, EObject> id2EObject = new HashMap<>();
+
+    private final Map<EObject, String> eObject2Id = new HashMap<>();
+
+    private final Set<String> removedIds = new LinkedHashSet<>();
+
+    private final EObjectIDManager idManager = new EObjectIDManager();
+
+    private boolean recordingRemovedIds;
+
+    public EObjectIndexAdapter() {
+        this(false);
+    }
+
+    public EObjectIndexAdapter(boolean recordingRemovedIds) {
+        this.recordingRemovedIds = recordingRemovedIds;
+    }
+
+    /**
+     * Returns the object of the resource set with the given id.
+     *
+     * @param id
+     *         The id of the object
+     * @return The object or an empty optional if no object of the resource set has been indexed with this id
+     */
+    public synchronized Optional<EObject> getEObject(String id) {
+        return Optional.ofNullable(this.id2EObject.get(id))
+                .filter(eObject -> this.idManager.findId(eObject).filter(id::equals).isPresent());
+    }
+
+    /**
+     * Returns the ids of the objects which have been removed from the resource set since the previous call, the
+     * objects which have only been moved are ignored.
+     *
+     * <p>
+     * The removed objects cannot be known if they were not recorded yet, the first call starts to record them in this
+     * case.
+     * </p>
+     *
+     * @return The ids of the removed objects or an empty optional if they have not been recorded
+     */
+    public synchronized Optional<Set<String>> collectRemovedIds() {
+        Optional<Set<String>> optionalIds = Optional.empty();
+        if (this.recordingRemovedIds) {
+            optionalIds = Optional.of(this.removedIds.stream()
+                    .filter(id -> !this.id2EObject.containsKey(id))
+                    .collect(Collectors.toUnmodifiableSet()));
+            this.removedIds.clear();
+        } else {
+            this.recordingRemovedIds = true;
+        }
+        return optionalIds;
+    }
+
+    /**
+     * Indexes the given object again after a change of its id.
+     *
+     * @param eObject
+     *         The object whose id has been changed
+     */
+    public synchronized void reindex(EObject eObject) {
+        this.unindex(eObject);
+        this.index(eObject);
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        synchronized (this) {
+            this.index(target);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        synchronized (this) {
+            this.unindex(target);
+        }
+    }
+
+    private void index(EObject eObject) {
+        this.idManager.findId(eObject).ifPresent(id -> {
+            this.id2EObject.put(id, eObject);
+            this.eObject2Id.put(eObject, id);
+        });
+    }
+
+    private void unindex(EObject eObject) {
+        var id = this.eObject2Id.remove(eObject);
+        if (id != null) {
+            this.id2EObject.remove(id, eObject);
+            if (this.recordingRemovedIds) {
+                this.removedIds.add(id);
+            }
+        }
+    }
+}
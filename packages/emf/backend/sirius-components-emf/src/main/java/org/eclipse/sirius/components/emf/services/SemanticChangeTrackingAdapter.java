@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to keep track of the objects of a resource set which have been changed.
+ *
+ * <p>
+ * Each change increments the revision of the resource set. An object is considered as changed if one of its features
+ * has been modified, if it has been added to or removed from a container, if one of its descendants has been modified
+ * or if one of the objects that it references has been modified. The objects changed by each revision are kept for a
+ * bounded number of revisions only. The changed objects cannot be computed for a revision older than the oldest one
+ * kept or than a change on the contents of a resource or on the resources of the resource set, since these changes
+ * cannot be tracked precisely.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangeTrackingAdapter extends EContentAdapter {
+
+    private static final int DEFAULT_MAX_TRACKED_REVISIONS = 1000;
+
+    private final NavigableMap<Long, Set<EObject>> revision2ChangedObjects = new TreeMap<>();
+
+    private final int maxTrackedRevisions;
+
+    private long revision;
+
+    private long oldestTrackedRevision;
+
+    public SemanticChangeTrackingAdapter() {
+        this(DEFAULT_MAX_TRACKED_REVISIONS);
+    }
+
+    public SemanticChangeTrackingAdapter(int maxTrackedRevisions) {
+        this.maxTrackedRevisions = maxTrackedRevisions;
+    }
+
+    public synchronized long getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * Returns the objects which have been changed since the given revision.
+     *
+     * @param sinceRevision
+     *         The revision
+     * @return The changed objects or an empty optional if they cannot be computed
+     */
+    public synchronized Optional<List<EObject>> getChangedObjects(long sinceRevision) {
+        Optional<List<EObject>> optionalChangedObjects = Optional.empty();
+        if (sinceRevision >= this.oldestTrackedRevision && sinceRevision <= this.revision) {
+            Set<EObject> changedObjects = new LinkedHashSet<>();
+            this.revision2ChangedObjects.tailMap(sinceRevision, false).values().forEach(changedObjects::addAll);
+            optionalChangedObjects = Optional.of(new ArrayList<>(changedObjects));
+        }
+        return optionalChangedObjects;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            synchronized (this) {
+                this.revision++;
+
+                Object notifier = notification.getNotifier();
+                if (notifier instanceof EObject eObject) {
+                    Set<EObject> changedObjects = new LinkedHashSet<>();
+                    this.addWithAncestors(eObject, changedObjects);
+                    changedObjects.addAll(this.getObjects(notification.getOldValue(), notification.getEventType()));
+                    changedObjects.addAll(this.getObjects(notification.getNewValue(), notification.getEventType()));
+                    changedObjects.addAll(this.getReferencingObjects(eObject));
+                    this.revision2ChangedObjects.put(this.revision, changedObjects);
+
+                    while (this.revision2ChangedObjects.size() > this.maxTrackedRevisions) {
+                        this.oldestTrackedRevision = this.revision2ChangedObjects.pollFirstEntry().getKey();
+                    }
+                } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                    this.forgetChanges();
+                } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                    this.forgetChanges();
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the changes performed so far since the changed objects cannot be computed anymore for an older revision.
+     */
+    private void forgetChanges() {
+        this.oldestTrackedRevision = this.revision;
+        this.revision2ChangedObjects.clear();
+    }
+
+    /**
+     * Adds the given object and all its ancestors since their representation may rely on the state of their
+     * descendants.
+     *
+     * @param eObject
+     *         The object which has been changed
+     * @param changedObjects
+     *         The objects changed by the current revision
+     */
+    private void addWithAncestors(EObject eObject, Set<EObject> changedObjects) {
+        EObject ancestor = eObject;
+        while (ancestor != null && changedObjects.add(ancestor)) {
+            ancestor = ancestor.eContainer();
+        }
+    }
+
+    /**
+     * Returns the objects referencing the given object since their representation may rely on its state.
+     *
+     * @param eObject
+     *         The object which has been changed
+     * @return The objects referencing the given object
+     */
+    private List<EObject> getReferencingObjects(EObject eObject) {
+        List<EObject> referencingObjects = new ArrayList<>();
+        var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(eObject);
+        if (crossReferenceAdapter != null) {
+            Collection<Setting> inverseReferences = crossReferenceAdapter.getInverseReferences(eObject, false);
+            for (Setting setting : inverseReferences) {
+                if (setting.getEStructuralFeature() instanceof EReference eReference && !eReference.isContainment() && !eReference.isContainer()) {
+                    referencingObjects.add(setting.getEObject());
+                }
+            }
+        }
+        return referencingObjects;
+    }
+
+    private List<EObject> getObjects(Object value, int eventType) {
+        List<EObject> objects = List.of();
+        if ((eventType == Notification.ADD_MANY || eventType == Notification.REMOVE_MANY) && value instanceof Collection<?> collection) {
+            objects = collection.stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .toList();
+        } else if (value instanceof EObject eObject) {
+            objects = List.of(eObject);
+        }
+        return objects;
+    }
+}
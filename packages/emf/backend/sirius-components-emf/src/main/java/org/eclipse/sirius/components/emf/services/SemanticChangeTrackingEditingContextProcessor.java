@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to install the {@link SemanticChangeTrackingAdapter} on the resource set of an editing context once it has been
+ * loaded, when the incremental refresh of the diagrams is enabled.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticChangeTrackingEditingContextProcessor implements IEditingContextProcessor {
+
+    private final boolean incrementalRefresh;
+
+    public SemanticChangeTrackingEditingContextProcessor(@Value("${sirius.components.diagram.incrementalRefresh:false}") boolean incrementalRefresh) {
+        this.incrementalRefresh = incrementalRefresh;
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (this.incrementalRefresh && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var resourceSet = emfEditingContext.getDomain().getResourceSet();
+            if (resourceSet.eAdapters().stream().noneMatch(SemanticChangeTrackingAdapter.class::isInstance)) {
+                resourceSet.eAdapters().add(new SemanticChangeTrackingAdapter());
+            }
+        }
+    }
+}
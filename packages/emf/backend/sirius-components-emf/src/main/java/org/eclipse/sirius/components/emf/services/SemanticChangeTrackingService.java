@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IIdentityService;
+import org.eclipse.sirius.components.core.api.ISemanticChangeTrackingService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to find the semantic elements which have been changed in an EMF based editing context.
+ *
+ * <p>
+ * The changes are tracked by an adapter installed on the resource set of the editing context once it has been loaded,
+ * see {@link SemanticChangeTrackingEditingContextProcessor}. The changes of an editing context without this adapter
+ * cannot be tracked.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticChangeTrackingService implements ISemanticChangeTrackingService {
+
+    private final IIdentityService identityService;
+
+    public SemanticChangeTrackingService(IIdentityService identityService) {
+        this.identityService = Objects.requireNonNull(identityService);
+    }
+
+    @Override
+    public Optional<Long> getRevision(IEditingContext editingContext) {
+        return this.getResourceSet(editingContext)
+                .flatMap(this::getAdapter)
+                .map(SemanticChangeTrackingAdapter::getRevision);
+    }
+
+    @Override
+    public Optional<Set<String>> getChangedObjectIds(IEditingContext editingContext, long revision) {
+        return this.getResourceSet(editingContext)
+                .flatMap(this::getAdapter)
+                .flatMap(adapter -> adapter.getChangedObjects(revision))
+                .map(changedObjects -> changedObjects.stream()
+                        .map(this.identityService::getId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    private Optional<ResourceSet> getResourceSet(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(domain -> domain.getResourceSet());
+    }
+
+    private Optional<SemanticChangeTrackingAdapter> getAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(SemanticChangeTrackingAdapter.class::isInstance)
+                .map(SemanticChangeTrackingAdapter.class::cast)
+                .findFirst();
+    }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link EObjectIndexAdapter}.
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexAdapterTests {
+
+    private final EObjectIDManager eObjectIDManager = new EObjectIDManager();
+
+    @Test
+    public void givenAResourceSetWhenObjectsAreAddedAndRemovedThenTheIndexIsUpdated() {
+        var resourceSet = new ResourceSetImpl();
+        Resource resource = this.createResource(resourceSet);
+        EObject existingEObject = EcoreFactory.eINSTANCE.createEPackage();
+        resource.getContents().add(existingEObject);
+
+        var adapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        String existingEObjectId = this.eObjectIDManager.findId(existingEObject).orElseThrow();
+        assertThat(adapter.getEObject(existingEObjectId)).containsSame(existingEObject);
+
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        var eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        resource.getContents().add(ePackage);
+
+        String eClassId = this.eObjectIDManager.findId(eClass).orElseThrow();
+        assertThat(adapter.getEObject(eClassId)).containsSame(eClass);
+
+        resource.getContents().remove(ePackage);
+        assertThat(adapter.getEObject(eClassId)).isEmpty();
+        assertThat(adapter.getEObject(existingEObjectId)).containsSame(existingEObject);
+    }
+
+    @Test
+    public void givenAnIndexedObjectWhenItsIdIsChangedThenItIsFoundWithItsNewId() {
+        var resourceSet = new ResourceSetImpl();
+        var adapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        Resource resource = this.createResource(resourceSet);
+        EObject eObject = EcoreFactory.eINSTANCE.create(EcorePackage.Literals.EPACKAGE);
+        resource.getContents().add(eObject);
+        String previousId = this.eObjectIDManager.findId(eObject).orElseThrow();
+
+        String newId = UUID.randomUUID().toString();
+        this.eObjectIDManager.setId(eObject, newId);
+
+        assertThat(adapter.getEObject(previousId)).isEmpty();
+        assertThat(adapter.getEObject(newId)).containsSame(eObject);
+    }
+
+    @Test
+    public void givenIndexedObjectsWhenTheyAreMovedOrRemovedThenOnlyTheRemovedOnesAreCollected() {
+        var resourceSet = new ResourceSetImpl();
+        var adapter = new EObjectIndexAdapter(true);
+        resourceSet.eAdapters().add(adapter);
+
+        Resource resource = this.createResource(resourceSet);
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        var movedEClass = EcoreFactory.eINSTANCE.createEClass();
+        var removedEClass = EcoreFactory.eINSTANCE.createEClass();
+        var removedEAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        removedEClass.getEStructuralFeatures().add(removedEAttribute);
+        ePackage.getEClassifiers().add(movedEClass);
+        ePackage.getEClassifiers().add(removedEClass);
+        resource.getContents().add(ePackage);
+        assertThat(adapter.collectRemovedIds()).hasValueSatisfying(removedIds -> assertThat(removedIds).isEmpty());
+
+        String removedEClassId = this.eObjectIDManager.findId(removedEClass).orElseThrow();
+        String removedEAttributeId = this.eObjectIDManager.findId(removedEAttribute).orElseThrow();
+
+        var otherEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        resource.getContents().add(otherEPackage);
+        otherEPackage.getEClassifiers().add(movedEClass);
+        ePackage.getEClassifiers().remove(removedEClass);
+
+        assertThat(adapter.collectRemovedIds()).hasValueSatisfying(removedIds -> assertThat(removedIds).containsExactlyInAnyOrder(removedEClassId, removedEAttributeId));
+        assertThat(adapter.collectRemovedIds()).hasValueSatisfying(removedIds -> assertThat(removedIds).isEmpty());
+    }
+
+    @Test
+    public void givenAnAdapterWithoutCollectorWhenObjectsAreRemovedThenTheirIdsAreOnlyRecordedOnceCollected() {
+        var resourceSet = new ResourceSetImpl();
+        var adapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        Resource resource = this.createResource(resourceSet);
+        var firstEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        var secondEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        resource.getContents().add(firstEPackage);
+        resource.getContents().add(secondEPackage);
+        String secondEPackageId = this.eObjectIDManager.findId(secondEPackage).orElseThrow();
+
+        resource.getContents().remove(firstEPackage);
+        assertThat(adapter.collectRemovedIds()).isEmpty();
+
+        resource.getContents().remove(secondEPackage);
+        assertThat(adapter.collectRemovedIds()).hasValueSatisfying(removedIds -> assertThat(removedIds).containsExactly(secondEPackageId));
+    }
+
+    private Resource createResource(ResourceSetImpl resourceSet) {
+        var options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
+        JsonResourceImpl resource = new JsonResourceImpl(URI.createURI(UUID.randomUUID().toString()), options);
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+}
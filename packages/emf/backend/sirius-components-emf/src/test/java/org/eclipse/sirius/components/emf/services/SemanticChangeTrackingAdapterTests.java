@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SemanticChangeTrackingAdapter}.
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangeTrackingAdapterTests {
+
+    private static final String RENAMED = "renamed";
+
+    private final EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+
+    private final EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+
+    private final EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+
+    private final EClass otherEClass = EcoreFactory.eINSTANCE.createEClass();
+
+    private final EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+
+    private final ResourceSetImpl resourceSet = new ResourceSetImpl();
+
+    private final Resource resource = new ResourceImpl(URI.createURI("inmemory"));
+
+    public SemanticChangeTrackingAdapterTests() {
+        this.eClass.getEStructuralFeatures().add(this.eAttribute);
+        this.ePackage.getEClassifiers().add(this.eClass);
+        this.ePackage.getEClassifiers().add(this.otherEClass);
+        this.eAnnotation.getReferences().add(this.eClass);
+        this.otherEClass.getEAnnotations().add(this.eAnnotation);
+        this.resource.getContents().add(this.ePackage);
+        this.resourceSet.getResources().add(this.resource);
+        this.resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+    }
+
+    @Test
+    public void givenAnObjectWhenItIsChangedThenItsAncestorsAndTheObjectsReferencingItAreChanged() {
+        var adapter = this.createAdapter(10);
+        long revision = adapter.getRevision();
+
+        this.eAttribute.setName(RENAMED);
+        assertThat(adapter.getRevision()).isEqualTo(revision + 1);
+        assertThat(adapter.getChangedObjects(revision)).hasValueSatisfying(changedObjects -> assertThat(changedObjects).containsExactlyInAnyOrder(this.eAttribute, this.eClass, this.ePackage));
+
+        revision = adapter.getRevision();
+        this.eClass.setName(RENAMED);
+        assertThat(adapter.getChangedObjects(revision)).hasValueSatisfying(changedObjects -> assertThat(changedObjects).containsExactlyInAnyOrder(this.eClass, this.ePackage, this.eAnnotation));
+        assertThat(adapter.getChangedObjects(adapter.getRevision())).hasValueSatisfying(changedObjects -> assertThat(changedObjects).isEmpty());
+    }
+
+    @Test
+    public void givenAnObjectWhenTheSameValueIsSetAgainThenNothingIsChanged() {
+        this.eClass.setName(RENAMED);
+        var adapter = this.createAdapter(10);
+        long revision = adapter.getRevision();
+
+        this.eClass.setName(RENAMED);
+        assertThat(adapter.getRevision()).isEqualTo(revision);
+    }
+
+    @Test
+    public void givenMoreRevisionsThanTheTrackedOnesWhenTheChangedObjectsAreRequestedThenOnlyTheRecentRevisionsAreAvailable() {
+        var adapter = this.createAdapter(2);
+        long firstRevision = adapter.getRevision();
+
+        this.eAttribute.setName("first");
+        long secondRevision = adapter.getRevision();
+        this.otherEClass.setName("second");
+        this.eClass.setName("third");
+
+        assertThat(adapter.getChangedObjects(firstRevision)).isEmpty();
+        assertThat(adapter.getChangedObjects(secondRevision)).hasValueSatisfying(changedObjects -> assertThat(changedObjects).containsExactlyInAnyOrder(this.otherEClass, this.eClass, this.ePackage, this.eAnnotation));
+        assertThat(adapter.getChangedObjects(adapter.getRevision() + 1)).isEmpty();
+    }
+
+    @Test
+    public void givenAResourceWhenItsContentIsChangedThenTheChangedObjectsOfThePreviousRevisionsAreUnknown() {
+        var adapter = this.createAdapter(10);
+        long revision = adapter.getRevision();
+
+        this.eClass.setName(RENAMED);
+        this.resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+
+        assertThat(adapter.getChangedObjects(revision)).isEmpty();
+        assertThat(adapter.getChangedObjects(adapter.getRevision())).hasValueSatisfying(changedObjects -> assertThat(changedObjects).isEmpty());
+    }
+
+    private SemanticChangeTrackingAdapter createAdapter(int maxTrackedRevisions) {
+        var adapter = new SemanticChangeTrackingAdapter(maxTrackedRevisions);
+        this.resourceSet.eAdapters().add(adapter);
+        return adapter;
+    }
+}
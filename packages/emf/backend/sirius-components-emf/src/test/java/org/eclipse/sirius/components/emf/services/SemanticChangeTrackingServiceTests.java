@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.core.api.IIdentityService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SemanticChangeTrackingService} and the {@link SemanticChangeTrackingEditingContextProcessor}.
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangeTrackingServiceTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final String ECLASS_NAME = "eClass";
+
+    private final SemanticChangeTrackingService semanticChangeTrackingService = new SemanticChangeTrackingService(new IIdentityService.NoOp() {
+        @Override
+        public String getId(Object object) {
+            String id = null;
+            if (object instanceof ENamedElement eNamedElement) {
+                id = eNamedElement.getName();
+            }
+            return id;
+        }
+    });
+
+    @Test
+    public void givenAnEditingContextWhenItIsProcessedThenTheChangesOfItsSemanticElementsAreTracked() {
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("ePackage");
+        var eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        var editingContext = this.createEditingContext(ePackage);
+
+        assertThat(this.semanticChangeTrackingService.getRevision(editingContext)).isEmpty();
+
+        var processor = new SemanticChangeTrackingEditingContextProcessor(true);
+        processor.postProcess(editingContext);
+        processor.postProcess(editingContext);
+        assertThat(editingContext.getDomain().getResourceSet().eAdapters()).filteredOn(SemanticChangeTrackingAdapter.class::isInstance).hasSize(1);
+
+        long revision = this.semanticChangeTrackingService.getRevision(editingContext).orElseThrow();
+        eClass.setName(ECLASS_NAME);
+
+        assertThat(this.semanticChangeTrackingService.getRevision(editingContext)).hasValue(revision + 1);
+        assertThat(this.semanticChangeTrackingService.getChangedObjectIds(editingContext, revision)).hasValueSatisfying(changedObjectIds -> assertThat(changedObjectIds).containsExactlyInAnyOrder(ECLASS_NAME, "ePackage"));
+    }
+
+    @Test
+    public void givenTheIncrementalRefreshDisabledWhenAnEditingContextIsProcessedThenItsChangesAreNotTracked() {
+        var editingContext = this.createEditingContext(EcoreFactory.eINSTANCE.createEPackage());
+
+        new SemanticChangeTrackingEditingContextProcessor(false).postProcess(editingContext);
+
+        assertThat(this.semanticChangeTrackingService.getRevision(editingContext)).isEmpty();
+        assertThat(this.semanticChangeTrackingService.getChangedObjectIds(editingContext, 0)).isEmpty();
+    }
+
+    private EMFEditingContext createEditingContext(ENamedElement content) {
+        Resource resource = new ResourceImpl(URI.createURI("inmemory"));
+        resource.getContents().add(content);
+        return new EMFEditingContext(EDITING_CONTEXT_ID, new EditingDomainFactory().create(resource));
+    }
+
+    /**
+     * EMF based editing context used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record EMFEditingContext(String id, AdapterFactoryEditingDomain domain) implements IEMFEditingContext {
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public AdapterFactoryEditingDomain getDomain() {
+            return this.domain;
+        }
+    }
+}
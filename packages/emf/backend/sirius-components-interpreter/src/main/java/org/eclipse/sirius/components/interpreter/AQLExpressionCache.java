@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.acceleo.query.parser.AstResult;
+import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
+import org.eclipse.acceleo.query.runtime.IQueryEnvironment;
+import org.eclipse.acceleo.query.runtime.QueryParsing;
+
+/**
+ * The cache of the expressions parsed in a query environment.
+ *
+ * <p>
+ * The hits, misses and evictions of the cache and the evaluation time of the expressions are recorded in the given
+ * meter registry. These meters are not tagged with the expressions in order to keep their number constant whatever the
+ * number of expressions evaluated and of interpreters created, they are thus shared by all the caches using the same
+ * meter registry.
+ * </p>
+ *
+ * <p>
+ * The number of evaluations and the time spent evaluating each expression are kept next to its parsed version instead
+ * in order to find the most expensive expressions. They are dropped with the expression when it is evicted.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class AQLExpressionCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 500;
+
+    public static final String COUNTER_EXPRESSION_CACHE_HITS = "counter_aql_expression_cache_hits";
+
+    public static final String COUNTER_EXPRESSION_CACHE_MISSES = "counter_aql_expression_cache_misses";
+
+    public static final String COUNTER_EXPRESSION_CACHE_EVICTIONS = "counter_aql_expression_cache_evictions";
+
+    public static final String TIMER_EXPRESSION_EVALUATION = "timer_aql_expression_evaluation";
+
+    private final LoadingCache<String, CachedExpression> parsedExpressions;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter evictionCounter;
+
+    private final Timer evaluationTimer;
+
+    public AQLExpressionCache(IQueryEnvironment queryEnvironment) {
+        this(queryEnvironment, DEFAULT_MAXIMUM_SIZE, new CompositeMeterRegistry());
+    }
+
+    public AQLExpressionCache(IQueryEnvironment queryEnvironment, long maximumSize, MeterRegistry meterRegistry) {
+        IQueryBuilderEngine builder = QueryParsing.newBuilder(Objects.requireNonNull(queryEnvironment));
+        this.parsedExpressions = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .removalListener(this::expressionRemoved)
+                .build(CacheLoader.from(expression -> new CachedExpression(builder.build(expression), new LongAdder(), new LongAdder())));
+
+        this.hitCounter = Counter.builder(COUNTER_EXPRESSION_CACHE_HITS).register(meterRegistry);
+        this.missCounter = Counter.builder(COUNTER_EXPRESSION_CACHE_MISSES).register(meterRegistry);
+        this.evictionCounter = Counter.builder(COUNTER_EXPRESSION_CACHE_EVICTIONS).register(meterRegistry);
+        this.evaluationTimer = Timer.builder(TIMER_EXPRESSION_EVALUATION).register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the parsing of the given expression, the expression is only parsed if it is not already in
+     * the cache.
+     *
+     * @param expression
+     *         The expression without its prefix
+     * @return The result of the parsing
+     * @throws ExecutionException
+     *         If the expression could not be parsed
+     */
+    public AstResult getParsedExpression(String expression) throws ExecutionException {
+        CachedExpression cachedExpression = this.parsedExpressions.getIfPresent(expression);
+        if (cachedExpression != null) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            cachedExpression = this.parsedExpressions.get(expression);
+        }
+        return cachedExpression.astResult();
+    }
+
+    /**
+     * Records the time spent evaluating an expression.
+     *
+     * @param expression
+     *         The expression without its prefix
+     * @param durationInNanoseconds
+     *         The duration of the evaluation
+     */
+    public void recordEvaluation(String expression, long durationInNanoseconds) {
+        this.evaluationTimer.record(durationInNanoseconds, TimeUnit.NANOSECONDS);
+
+        CachedExpression cachedExpression = this.parsedExpressions.getIfPresent(expression);
+        if (cachedExpression != null) {
+            cachedExpression.evaluationCount().increment();
+            cachedExpression.totalDurationInNanoseconds().add(durationInNanoseconds);
+        }
+    }
+
+    /**
+     * Returns the cached expressions which have taken the most time to evaluate.
+     *
+     * @param limit
+     *         The maximum number of expressions returned
+     * @return The statistics of the expressions sorted by decreasing evaluation time
+     */
+    public List<AQLExpressionStatistics> getSlowestExpressions(int limit) {
+        return this.parsedExpressions.asMap().entrySet().stream()
+                .map(entry -> new AQLExpressionStatistics(entry.getKey(), entry.getValue().evaluationCount().sum(), entry.getValue().totalDurationInNanoseconds().sum()))
+                .sorted(Comparator.comparingLong(AQLExpressionStatistics::totalDurationInNanoseconds).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long size() {
+        return this.parsedExpressions.size();
+    }
+
+    private void expressionRemoved(RemovalNotification<String, CachedExpression> notification) {
+        if (notification.wasEvicted()) {
+            this.evictionCounter.increment();
+        }
+    }
+
+    /**
+     * A parsed expression along with its evaluations.
+     *
+     * @author sbegaudeau
+     */
+    private record CachedExpression(AstResult astResult, LongAdder evaluationCount, LongAdder totalDurationInNanoseconds) {
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.Objects;
+
+/**
+ * The evaluations of an expression recorded since it has been parsed and kept in the cache.
+ *
+ * @param expression
+ *         The expression without its prefix
+ * @param evaluationCount
+ *         The number of evaluations of the expression
+ * @param totalDurationInNanoseconds
+ *         The time spent evaluating the expression
+ * @author sbegaudeau
+ */
+public record AQLExpressionStatistics(String expression, long evaluationCount, long totalDurationInNanoseconds) {
+    public AQLExpressionStatistics {
+        Objects.requireNonNull(expression);
+    }
+}
@@ -12,9 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.interpreter;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -22,17 +21,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.ICompletionResult;
-import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
 import org.eclipse.acceleo.query.runtime.IQueryCompletionEngine;
 import org.eclipse.acceleo.query.runtime.IQueryEnvironment;
 import org.eclipse.acceleo.query.runtime.IQueryEvaluationEngine;
 import org.eclipse.acceleo.query.runtime.Query;
 import org.eclipse.acceleo.query.runtime.QueryCompletion;
 import org.eclipse.acceleo.query.runtime.QueryEvaluation;
-import org.eclipse.acceleo.query.runtime.QueryParsing;
 import org.eclipse.acceleo.query.runtime.ServiceUtils;
 import org.eclipse.acceleo.query.validation.type.EClassifierType;
 import org.eclipse.acceleo.query.validation.type.IType;
@@ -61,12 +59,12 @@ public class AQLInterpreter {
     /**
      * The cache of the expressions parsed.
      */
-    private LoadingCache<String, AstResult> parsedExpressions;
+    private final AQLExpressionCache expressionCache;
 
     /**
      * The query environment.
      */
-    private IQueryEnvironment queryEnvironment;
+    private final IQueryEnvironment queryEnvironment;
 
     /**
      * The constructor.
@@ -93,6 +91,25 @@ public class AQLInterpreter {
      *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages) {
+        this(classes, instances, ePackages, AQLExpressionCache.DEFAULT_MAXIMUM_SIZE, new CompositeMeterRegistry());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param classes
+     *            classes for java service that can called by AQLInterpreter
+     * @param instances
+     *            instances for java service that can called by AQLInterpreter
+     * @param ePackages
+     *            Additional meta-models. A typical use case will be to register semantic meta-models so that reference
+     *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
+     * @param expressionCacheSize
+     *            The maximum number of parsed expressions kept in the cache
+     * @param meterRegistry
+     *            The meter registry used to monitor the cache of the parsed expressions and their evaluation
+     */
+    public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages, long expressionCacheSize, MeterRegistry meterRegistry) {
         this.queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
         this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
@@ -108,20 +125,15 @@ public class AQLInterpreter {
 
         ePackages.stream().filter(this::isValidEPackage).forEach(this.queryEnvironment::registerEPackage);
 
-        this.initExpressionsCache();
+        this.expressionCache = new AQLExpressionCache(this.queryEnvironment, expressionCacheSize, meterRegistry);
     }
 
-    private boolean isValidEPackage(EPackage ePackage) {
-        return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
+    public AQLExpressionCache getExpressionCache() {
+        return this.expressionCache;
     }
 
-    /**
-     * Initializes the cache of the expressions.
-     */
-    private void initExpressionsCache() {
-        IQueryBuilderEngine builder = QueryParsing.newBuilder(this.queryEnvironment);
-        int maxCacheSize = 500;
-        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(CacheLoader.from(builder::build));
+    private boolean isValidEPackage(EPackage ePackage) {
+        return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
     }
 
     public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
@@ -131,11 +143,12 @@ public class AQLInterpreter {
         }
 
         try {
-            long start = System.currentTimeMillis();
+            long start = System.nanoTime();
 
-            AstResult build = this.parsedExpressions.get(expression);
+            AstResult build = this.expressionCache.getParsedExpression(expression);
             IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
             EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+            this.expressionCache.recordEvaluation(expression, System.nanoTime() - start);
 
             BasicDiagnostic diagnostic = new BasicDiagnostic();
             if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
@@ -147,11 +160,11 @@ public class AQLInterpreter {
 
             this.log(expressionBody, diagnostic);
 
-            long end = System.currentTimeMillis();
-            if (end - start > 200) {
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (duration > 200) {
                 this.logger.atDebug()
                         .setMessage("{}ms to execute the expression {}")
-                        .addArgument(end - start)
+                        .addArgument(duration)
                         .addArgument(expressionBody)
                         .log();
             }
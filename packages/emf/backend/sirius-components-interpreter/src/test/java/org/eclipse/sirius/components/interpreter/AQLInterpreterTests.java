@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,8 @@ import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Test that the AQLInterpreter can properly evaluate AQL expressions.
  *
@@ -32,6 +34,10 @@ public class AQLInterpreterTests {
 
     private static final String SELF = "self";
 
+    private static final String NAME_EXPRESSION = "aql:self.name";
+
+    private static final String NS_URI_EXPRESSION = "self.nsURI";
+
     @Test
     public void testNameFeatureExpression() {
         AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
@@ -124,4 +130,56 @@ public class AQLInterpreterTests {
         assertThat(result.asString()).contains("instance");
     }
 
+    @Test
+    public void testExpressionCacheMetrics() {
+        var meterRegistry = new SimpleMeterRegistry();
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), 1, meterRegistry);
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), NAME_EXPRESSION);
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), NAME_EXPRESSION);
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.nsURI");
+
+        assertThat(meterRegistry.get(AQLExpressionCache.COUNTER_EXPRESSION_CACHE_HITS).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AQLExpressionCache.COUNTER_EXPRESSION_CACHE_MISSES).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(AQLExpressionCache.COUNTER_EXPRESSION_CACHE_EVICTIONS).counter().count()).isEqualTo(1);
+
+        assertThat(meterRegistry.get(AQLExpressionCache.TIMER_EXPRESSION_EVALUATION).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testExpressionCacheMetersAreSharedByTheInterpreters() {
+        var meterRegistry = new SimpleMeterRegistry();
+        for (int i = 0; i < 10; i++) {
+            AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE), 1, meterRegistry);
+            interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), NAME_EXPRESSION);
+            interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:self.nsURI + '" + i + "'");
+        }
+
+        // The number of meters does not depend on the number of interpreters and expressions
+        assertThat(meterRegistry.getMeters()).hasSize(4);
+        assertThat(meterRegistry.get(AQLExpressionCache.TIMER_EXPRESSION_EVALUATION).timer().count()).isEqualTo(20);
+        assertThat(meterRegistry.get(AQLExpressionCache.COUNTER_EXPRESSION_CACHE_EVICTIONS).counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    public void testSlowestExpressions() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE));
+        for (int i = 0; i < 3; i++) {
+            interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), NAME_EXPRESSION);
+        }
+        interpreter.evaluateExpression(Map.of(SELF, EcorePackage.eINSTANCE), "aql:" + NS_URI_EXPRESSION);
+
+        AQLExpressionCache expressionCache = interpreter.getExpressionCache();
+        expressionCache.recordEvaluation(NS_URI_EXPRESSION, 1_000_000_000L);
+
+        List<AQLExpressionStatistics> slowestExpressions = expressionCache.getSlowestExpressions(1);
+        assertThat(slowestExpressions).hasSize(1);
+        assertThat(slowestExpressions.get(0).expression()).isEqualTo(NS_URI_EXPRESSION);
+        assertThat(slowestExpressions.get(0).evaluationCount()).isEqualTo(2);
+        assertThat(slowestExpressions.get(0).totalDurationInNanoseconds()).isGreaterThanOrEqualTo(1_000_000_000L);
+
+        assertThat(expressionCache.getSlowestExpressions(10))
+                .extracting(AQLExpressionStatistics::expression)
+                .containsExactly(NS_URI_EXPRESSION, "self.name");
+        assertThat(expressionCache.getSlowestExpressions(10).get(1).evaluationCount()).isEqualTo(3);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -59,6 +59,23 @@ public final class EllipseNodeStyle implements INodeStyle {
         return this.borderStyle;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        boolean isEqual = false;
+        if (obj instanceof EllipseNodeStyle ellipseNodeStyle) {
+            isEqual = Objects.equals(this.background, ellipseNodeStyle.background);
+            isEqual = isEqual && Objects.equals(this.borderColor, ellipseNodeStyle.borderColor);
+            isEqual = isEqual && this.borderSize == ellipseNodeStyle.borderSize;
+            isEqual = isEqual && Objects.equals(this.borderStyle, ellipseNodeStyle.borderStyle);
+        }
+        return isEqual;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.background, this.borderColor, this.borderSize, this.borderStyle);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'color: {1}, border: '{' background: {2}, size: {3}, style: {4} '}''}'";
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.components.EdgeIdProvider;
+import org.eclipse.sirius.components.diagrams.components.LabelIdProvider;
+import org.eclipse.sirius.components.diagrams.components.NodeContainmentKind;
+import org.eclipse.sirius.components.diagrams.components.NodeIdProvider;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelDescription;
+import org.eclipse.sirius.components.diagrams.description.OutsideLabelDescription;
+import org.eclipse.sirius.components.view.diagram.OutsideLabelPosition;
+import org.eclipse.sirius.web.application.representation.services.api.IImportedRepresentationIdentifierProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to compute the new identifiers of the nodes, edges and labels of an imported diagram.
+ *
+ * <p>
+ * The identifiers of these elements are derived from the identifier of the diagram, of their parent, of their source
+ * and target or of their owner. They are computed again from the new identifiers in the same way as the diagram
+ * renderer does so that the layout data of the imported diagram, which is stored by element identifier, still matches
+ * the elements of the diagram after its first refresh. Labels are only handled when their identifier has been computed
+ * with one of the suffixes used by the view based and the compatibility based descriptions.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ImportedDiagramIdentifierProvider implements IImportedRepresentationIdentifierProvider {
+
+    private static final String ID = "id";
+
+    private static final String DESCRIPTION_ID = "descriptionId";
+
+    private final ObjectMapper objectMapper;
+
+    private final NodeIdProvider nodeIdProvider = new NodeIdProvider();
+
+    private final EdgeIdProvider edgeIdProvider = new EdgeIdProvider();
+
+    private final LabelIdProvider labelIdProvider = new LabelIdProvider();
+
+    private final List<String> labelSuffixes = new ArrayList<>();
+
+    private final Logger logger = LoggerFactory.getLogger(ImportedDiagramIdentifierProvider.class);
+
+    public ImportedDiagramIdentifierProvider(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+
+        this.labelSuffixes.add(InsideLabelDescription.INSIDE_LABEL_SUFFIX);
+        OutsideLabelPosition.VALUES.forEach(position -> this.labelSuffixes.add(OutsideLabelDescription.OUTSIDE_LABEL_SUFFIX + position.getLiteral()));
+        this.labelSuffixes.addAll(List.of(LabelDescription.BEGIN_LABEL_SUFFIX, LabelDescription.CENTER_LABEL_SUFFIX, LabelDescription.END_LABEL_SUFFIX));
+    }
+
+    @Override
+    public boolean canHandle(String kind) {
+        return Diagram.KIND.equals(kind);
+    }
+
+    @Override
+    public Map<String, String> getIdentifiers(String content, Map<String, String> oldIdToNewId) {
+        Map<String, String> identifiers = new HashMap<>(oldIdToNewId);
+        try {
+            JsonNode diagramJsonNode = this.objectMapper.readTree(content);
+            String diagramId = diagramJsonNode.path(ID).asText();
+            for (JsonNode nodeJsonNode : diagramJsonNode.path("nodes")) {
+                this.computeNodeIdentifiers(nodeJsonNode, diagramId, identifiers);
+            }
+
+            Map<String, JsonNode> oldIdToEdge = new HashMap<>();
+            for (JsonNode edgeJsonNode : diagramJsonNode.path("edges")) {
+                oldIdToEdge.put(edgeJsonNode.path(ID).asText(), edgeJsonNode);
+            }
+            Set<String> visitedEdgeIds = new HashSet<>();
+            for (String oldEdgeId : oldIdToEdge.keySet()) {
+                this.computeEdgeIdentifiers(oldEdgeId, oldIdToEdge, visitedEdgeIds, identifiers);
+            }
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage());
+        }
+        return identifiers;
+    }
+
+    /**
+     * Computes the new identifier of the given node, of its labels and of its descendants, see
+     * {@link NodeIdProvider}.
+     */
+    private void computeNodeIdentifiers(JsonNode nodeJsonNode, String oldParentId, Map<String, String> identifiers) {
+        String oldId = nodeJsonNode.path(ID).asText();
+        String descriptionId = nodeJsonNode.path(DESCRIPTION_ID).asText();
+        String oldTargetObjectId = nodeJsonNode.path("targetObjectId").asText();
+        NodeContainmentKind containmentKind = NodeContainmentKind.CHILD_NODE;
+        if (nodeJsonNode.path("borderNode").asBoolean()) {
+            containmentKind = NodeContainmentKind.BORDER_NODE;
+        }
+
+        if (oldId.equals(this.nodeIdProvider.getNodeId(oldParentId, descriptionId, containmentKind, oldTargetObjectId))) {
+            String newParentId = identifiers.getOrDefault(oldParentId, oldParentId);
+            String newTargetObjectId = identifiers.getOrDefault(oldTargetObjectId, oldTargetObjectId);
+            identifiers.put(oldId, this.nodeIdProvider.getNodeId(newParentId, descriptionId, containmentKind, newTargetObjectId));
+        }
+
+        this.computeLabelIdentifier(nodeJsonNode.path("insideLabel"), oldId, identifiers);
+        for (JsonNode outsideLabelJsonNode : nodeJsonNode.path("outsideLabels")) {
+            this.computeLabelIdentifier(outsideLabelJsonNode, oldId, identifiers);
+        }
+        for (JsonNode childNodeJsonNode : nodeJsonNode.path("childNodes")) {
+            this.computeNodeIdentifiers(childNodeJsonNode, oldId, identifiers);
+        }
+        for (JsonNode borderNodeJsonNode : nodeJsonNode.path("borderNodes")) {
+            this.computeNodeIdentifiers(borderNodeJsonNode, oldId, identifiers);
+        }
+    }
+
+    /**
+     * Computes the new identifier of the given edge and of its labels once the ones of its source and target are
+     * known, see {@link EdgeIdProvider}. Edges can be connected to other edges, the visited edges are thus tracked
+     * to compute each edge only once.
+     *
+     * @return The new identifier of the edge or the given identifier if it is not the one of an edge to update
+     */
+    private String computeEdgeIdentifiers(String oldEdgeId, Map<String, JsonNode> oldIdToEdge, Set<String> visitedEdgeIds, Map<String, String> identifiers) {
+        JsonNode edgeJsonNode = oldIdToEdge.get(oldEdgeId);
+        if (edgeJsonNode != null && visitedEdgeIds.add(oldEdgeId)) {
+            String descriptionId = edgeJsonNode.path(DESCRIPTION_ID).asText();
+            String oldSourceId = edgeJsonNode.path("sourceId").asText();
+            String oldTargetId = edgeJsonNode.path("targetId").asText();
+            String newSourceId = this.computeEdgeIdentifiers(oldSourceId, oldIdToEdge, visitedEdgeIds, identifiers);
+            String newTargetId = this.computeEdgeIdentifiers(oldTargetId, oldIdToEdge, visitedEdgeIds, identifiers);
+
+            if (!newSourceId.equals(oldSourceId) || !newTargetId.equals(oldTargetId)) {
+                for (int count = 0; count < oldIdToEdge.size(); count++) {
+                    if (oldEdgeId.equals(this.edgeIdProvider.getEdgeId(descriptionId, oldSourceId, oldTargetId, count))) {
+                        identifiers.put(oldEdgeId, this.edgeIdProvider.getEdgeId(descriptionId, newSourceId, newTargetId, count));
+                        break;
+                    }
+                }
+            }
+
+            this.computeLabelIdentifier(edgeJsonNode.path("beginLabel"), oldEdgeId, identifiers);
+            this.computeLabelIdentifier(edgeJsonNode.path("centerLabel"), oldEdgeId, identifiers);
+            this.computeLabelIdentifier(edgeJsonNode.path("endLabel"), oldEdgeId, identifiers);
+        }
+        return identifiers.getOrDefault(oldEdgeId, oldEdgeId);
+    }
+
+    /**
+     * Computes the new identifier of the given label once the one of its owner is known, see
+     * {@link LabelIdProvider}.
+     */
+    private void computeLabelIdentifier(JsonNode labelJsonNode, String oldOwnerId, Map<String, String> identifiers) {
+        String newOwnerId = identifiers.getOrDefault(oldOwnerId, oldOwnerId);
+        if (labelJsonNode.isObject() && !newOwnerId.equals(oldOwnerId)) {
+            String oldId = labelJsonNode.path(ID).asText();
+            this.labelSuffixes.stream()
+                    .filter(suffix -> oldId.equals(this.labelIdProvider.getLabelId(oldOwnerId + suffix)))
+                    .findFirst()
+                    .ifPresent(suffix -> identifiers.put(oldId, this.labelIdProvider.getLabelId(newOwnerId + suffix)));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,7 +39,15 @@ public class EditingContext implements IEMFEditingContext {
 
     private final List<View> views;
 
-    private final Map<String, ChangeDescription> inputId2change = new HashMap<>();
+    /**
+     * The changes which can be undone, the oldest ones first.
+     */
+    private final Map<String, ChangeDescription> inputId2change = new LinkedHashMap<>();
+
+    /**
+     * The number of changes of each input of the history, computed once when the changes are recorded.
+     */
+    private final Map<String, Long> inputId2changeCount = new LinkedHashMap<>();
 
     private final ChangeRecorder changeRecorder;
 
@@ -77,4 +85,8 @@ public class EditingContext implements IEMFEditingContext {
         return inputId2change;
     }
 
+    public Map<String, Long> getInputId2changeCount() {
+        return this.inputId2changeCount;
+    }
+
 }
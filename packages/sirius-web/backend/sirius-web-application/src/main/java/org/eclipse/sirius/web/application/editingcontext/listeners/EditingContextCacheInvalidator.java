@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to remove the idle editing contexts from the cache when their semantic data are updated.
+ *
+ * <p>
+ * The semantic data of an idle editing context can only be updated by someone else than its event processor, for
+ * example by an import or by a REST API call, the cached editing context is thus outdated.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextCacheInvalidator {
+
+    private final IEditingContextCache editingContextCache;
+
+    public EditingContextCacheInvalidator(IEditingContextCache editingContextCache) {
+        this.editingContextCache = Objects.requireNonNull(editingContextCache);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent event) {
+        this.editingContextCache.invalidate(event.semanticData().getId().toString());
+    }
+}
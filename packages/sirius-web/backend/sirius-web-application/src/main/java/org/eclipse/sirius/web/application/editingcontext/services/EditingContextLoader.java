@@ -18,6 +18,7 @@ import java.util.Objects;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
 import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
@@ -99,6 +100,13 @@ public class EditingContextLoader implements IEditingContextLoader {
         // of inter-resources references
         resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
 
+        // Keeps track of the modified resources in order to only serialize them during the next persistence, it must be
+        // set after the ECrossReferenceAdapter since it relies on the inverse references computed by this adapter
+        resourceSet.eAdapters().add(new ResourceModificationTrackingAdapter());
+
+        // Indexes the objects by id and keeps track of the removed ones in order to find the dangling representations
+        resourceSet.eAdapters().add(new EObjectIndexAdapter(true));
+
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
     }
 
@@ -12,14 +12,18 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -36,6 +40,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -82,22 +88,18 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                     .ifPresent(semanticDataUUID -> {
                         AggregateReference<SemanticData, UUID> semanticDataId = AggregateReference.to(semanticDataUUID);
 
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
+                        var resources = emfEditingContext.getDomain().getResourceSet().getResources().stream()
                                 .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
                                 .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
-
-                        var documents = new LinkedHashSet<Document>();
-                        var domainUris = new LinkedHashSet<String>();
-
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
-
-                        this.semanticDataUpdateService.updateDocuments(cause, semanticDataId, documents, domainUris);
+                                .toList();
+
+                        var optionalTrackingAdapter = Optional.ofNullable(EcoreUtil.getExistingAdapter(emfEditingContext.getDomain().getResourceSet(), ResourceModificationTrackingAdapter.class))
+                                .map(ResourceModificationTrackingAdapter.class::cast);
+                        if (optionalTrackingAdapter.isPresent()) {
+                            this.persistModifiedResources(cause, semanticDataId, resources, optionalTrackingAdapter.get(), applyMigrationParticipants);
+                        } else {
+                            this.persistAllResources(cause, semanticDataId, resources, applyMigrationParticipants);
+                        }
                     });
         }
 
@@ -110,4 +112,73 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                 .addArgument(() -> String.format("%1$6s", end - start))
                 .log();
     }
+
+    private void persistAllResources(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, List<Resource> resources, boolean applyMigrationParticipants) {
+        var documentData = resources.stream()
+                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+
+        var documents = new LinkedHashSet<Document>();
+        var domainUris = new LinkedHashSet<String>();
+
+        documentData.forEach(data -> {
+            documents.add(data.document());
+            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
+        });
+
+        this.semanticDataUpdateService.updateDocuments(cause, semanticDataId, documents, domainUris);
+    }
+
+    /**
+     * Only serializes the resources which have been modified since their last serialization, the documents of the
+     * other resources are kept as is.
+     */
+    private void persistModifiedResources(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, List<Resource> resources, ResourceModificationTrackingAdapter trackingAdapter, boolean applyMigrationParticipants) {
+        var modifiedDocuments = new LinkedHashSet<Document>();
+        var unmodifiedDocumentIds = new LinkedHashSet<UUID>();
+        var domainUris = new LinkedHashSet<String>();
+        Map<Resource, List<String>> serializedResources = new LinkedHashMap<>();
+
+        for (var resource : resources) {
+            var optionalDocumentId = new UUIDParser().parse(resource.getURI().path().substring(1));
+            if (optionalDocumentId.isPresent() && !trackingAdapter.isModified(resource)) {
+                unmodifiedDocumentIds.add(optionalDocumentId.get());
+                domainUris.addAll(trackingAdapter.getDomainUris(resource));
+            } else {
+                this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants).ifPresent(data -> {
+                    var nsURIs = data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList();
+                    modifiedDocuments.add(data.document());
+                    domainUris.addAll(nsURIs);
+                    serializedResources.put(resource, nsURIs);
+                });
+            }
+        }
+
+        this.semanticDataUpdateService.updateModifiedDocuments(cause, semanticDataId, modifiedDocuments, unmodifiedDocumentIds, domainUris);
+        this.afterCommit(() -> serializedResources.forEach(trackingAdapter::serialized));
+
+        this.logger.atDebug()
+                .setMessage("{} of {} documents serialized")
+                .addArgument(serializedResources.size())
+                .addArgument(resources.size())
+                .log();
+    }
+
+    /**
+     * Runs the given action once the current transaction has been committed, the resources serialized in a transaction
+     * which has been rolled back are thus still considered as modified.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextVersionProvider;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to retrieve the version of an editing context from the last modification date of its semantic data.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextVersionProvider implements IEditingContextVersionProvider {
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    public EditingContextVersionProvider(ISemanticDataSearchService semanticDataSearchService) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getVersion(String editingContextId) {
+        return new UUIDParser().parse(editingContextId)
+                .flatMap(this.semanticDataSearchService::findLastModifiedOnById)
+                .map(Instant::toString);
+    }
+}
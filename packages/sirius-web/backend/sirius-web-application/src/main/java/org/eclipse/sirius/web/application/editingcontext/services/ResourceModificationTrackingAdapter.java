@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to keep track of the resources of a resource set which have been modified since their last serialization.
+ *
+ * <p>
+ * A resource is considered as modified if one of its objects has been changed, if some objects have been added or
+ * removed from its content or if an object that it references has been moved to another resource. This adapter also
+ * keeps the URIs of the domains used by each resource during its last serialization in order to compute the domains of
+ * the semantic data without having to serialize the resources which have not been modified. Resources which have never
+ * been serialized since the creation of this adapter are considered as modified.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ResourceModificationTrackingAdapter extends EContentAdapter {
+
+    private final Set<Resource> modifiedResources = new LinkedHashSet<>();
+
+    private final Map<Resource, Set<String>> resource2DomainUris = new HashMap<>();
+
+    public boolean isModified(Resource resource) {
+        return this.modifiedResources.contains(resource) || !this.resource2DomainUris.containsKey(resource);
+    }
+
+    public Set<String> getDomainUris(Resource resource) {
+        return this.resource2DomainUris.getOrDefault(resource, Set.of());
+    }
+
+    /**
+     * Indicates that the given resource has just been serialized.
+     *
+     * @param resource
+     *         The resource
+     * @param domainUris
+     *         The URIs of the domains used by the serialization of the resource
+     */
+    public void serialized(Resource resource, Collection<String> domainUris) {
+        this.modifiedResources.remove(resource);
+        this.resource2DomainUris.put(resource, Set.copyOf(domainUris));
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ResourceModificationTrackingAdapter.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof ResourceSet) {
+                this.handleResourceSetChange(notification);
+            } else if (notifier instanceof Resource resource) {
+                int featureID = notification.getFeatureID(Resource.class);
+                if (featureID == Resource.RESOURCE__CONTENTS) {
+                    this.modifiedResources.add(resource);
+                    this.handleAddedObjects(notification);
+                } else if (featureID == Resource.RESOURCE__URI || featureID == Notification.NO_FEATURE_ID) {
+                    this.modifiedResources.add(resource);
+                }
+            } else if (notifier instanceof EObject eObject) {
+                Optional.ofNullable(eObject.eResource()).ifPresent(this.modifiedResources::add);
+                if (notification.getFeature() instanceof EReference eReference && eReference.isContainment()) {
+                    this.handleAddedObjects(notification);
+                }
+            }
+        }
+    }
+
+    private void handleResourceSetChange(Notification notification) {
+        if (notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            this.getObjects(notification.getNewValue(), notification.getEventType()).stream()
+                    .filter(Resource.class::isInstance)
+                    .map(Resource.class::cast)
+                    .forEach(this.modifiedResources::add);
+
+            if (notification.getEventType() == Notification.REMOVE || notification.getEventType() == Notification.REMOVE_MANY) {
+                this.getObjects(notification.getOldValue(), notification.getEventType()).stream()
+                        .filter(Resource.class::isInstance)
+                        .map(Resource.class::cast)
+                        .forEach(resource -> {
+                            this.modifiedResources.remove(resource);
+                            this.resource2DomainUris.remove(resource);
+                        });
+            }
+        }
+    }
+
+    /**
+     * Marks as modified the resources referencing the objects which have been added to a new container since their
+     * serialization relies on the resource of the referenced objects.
+     *
+     * @param notification
+     *         The notification
+     */
+    private void handleAddedObjects(Notification notification) {
+        var eventType = notification.getEventType();
+        if (eventType == Notification.ADD || eventType == Notification.ADD_MANY || eventType == Notification.SET) {
+            var addedObjects = this.getObjects(notification.getNewValue(), eventType).stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .toList();
+            if (!addedObjects.isEmpty() && notification.getNotifier() instanceof Notifier notifier) {
+                var optionalCrossReferenceAdapter = Optional.ofNullable(ECrossReferenceAdapter.getCrossReferenceAdapter(notifier));
+                optionalCrossReferenceAdapter.ifPresent(crossReferenceAdapter -> addedObjects.forEach(addedObject -> {
+                    this.markReferencingResources(crossReferenceAdapter, addedObject);
+                    addedObject.eAllContents().forEachRemaining(child -> this.markReferencingResources(crossReferenceAdapter, child));
+                }));
+            }
+        }
+    }
+
+    private void markReferencingResources(ECrossReferenceAdapter crossReferenceAdapter, EObject eObject) {
+        Collection<Setting> inverseReferences = crossReferenceAdapter.getInverseReferences(eObject, false);
+        for (Setting setting : inverseReferences) {
+            if (setting.getEStructuralFeature() instanceof EReference eReference && !eReference.isContainment() && !eReference.isContainer()) {
+                Optional.ofNullable(setting.getEObject().eResource()).ifPresent(this.modifiedResources::add);
+            }
+        }
+    }
+
+    private List<?> getObjects(Object value, int eventType) {
+        List<?> objects = List.of();
+        if ((eventType == Notification.ADD_MANY || eventType == Notification.REMOVE_MANY) && value instanceof Collection<?> collection) {
+            objects = List.copyOf(collection);
+        } else if (value != null) {
+            objects = List.of(value);
+        }
+        return objects;
+    }
+}
@@ -16,8 +16,6 @@ import java.util.Objects;
 
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,6 +26,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The entry point of the HTTP API to download a project in zip.
@@ -40,6 +39,10 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * PROTOCOL://DOMAIN.TLD(:PORT)/API_BASE_PATH/projects/PROJECT_ID
  * </pre>
  *
+ * <p>
+ * The zip is written directly to the response while the project is exported, outside of the request thread.
+ * </p>
+ *
  * @author gcoutable
  */
 @Controller
@@ -57,11 +60,10 @@ public class ProjectDownloadController {
 
     @ResponseBody
     @GetMapping(path = "/{projectId}")
-    public ResponseEntity<Resource> downloadProject(@PathVariable String projectId) {
+    public ResponseEntity<StreamingResponseBody> downloadProject(@PathVariable String projectId) {
         var optionalProject = this.projectSearchService.findById(projectId);
         if (optionalProject.isPresent()) {
             var project = optionalProject.get();
-            byte[] content = this.projectExportService.export(project);
 
             ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                     .filename(project.getName() + ".zip")
@@ -70,10 +72,9 @@ public class ProjectDownloadController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentDisposition(contentDisposition);
             headers.setContentType(MediaType.parseMediaType("application/zip"));
-            headers.setContentLength(content.length);
-            var resource = new ByteArrayResource(content);
+            StreamingResponseBody responseBody = outputStream -> this.projectExportService.export(project, outputStream);
 
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
+            return new ResponseEntity<>(responseBody, headers, HttpStatus.OK);
         }
         return new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_FOUND);
     }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IIdentityService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationImportService;
+import org.eclipse.sirius.web.application.representation.services.api.ImportedRepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * The event handler used to create all the representations of an uploaded project at once.
+ *
+ * <p>
+ * The exported content of the representations is reused instead of rendering them again. The representations are
+ * persisted by batches, each one in its own transaction, and a single change description is emitted once all of them
+ * have been created so that the persistence of the editing context and the refresh of the representations only happen
+ * once.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ImportRepresentationsEventHandler implements IEditingContextEventHandler {
+
+    private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
+
+    private final IObjectSearchService objectSearchService;
+
+    private final IIdentityService identityService;
+
+    private final IRepresentationImportService representationImportService;
+
+    private final IMessageService messageService;
+
+    private final int batchSize;
+
+    private final Counter counter;
+
+    private final Logger logger = LoggerFactory.getLogger(ImportRepresentationsEventHandler.class);
+
+    public ImportRepresentationsEventHandler(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectSearchService objectSearchService, IIdentityService identityService,
+            IRepresentationImportService representationImportService, IMessageService messageService, @Value("${sirius.web.import.representations.batchSize:100}") int batchSize, MeterRegistry meterRegistry) {
+        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
+        this.objectSearchService = Objects.requireNonNull(objectSearchService);
+        this.identityService = Objects.requireNonNull(identityService);
+        this.representationImportService = Objects.requireNonNull(representationImportService);
+        this.messageService = Objects.requireNonNull(messageService);
+        this.batchSize = Math.max(1, batchSize);
+
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof ImportRepresentationsInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        IPayload payload = new ErrorPayload(input.id(), this.messageService.unexpectedError());
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
+
+        var optionalSemanticDataId = new UUIDParser().parse(editingContext.getId());
+        if (input instanceof ImportRepresentationsInput importRepresentationsInput && optionalSemanticDataId.isPresent()) {
+            int importedCount = this.importRepresentations(importRepresentationsInput, editingContext, optionalSemanticDataId.get());
+            if (importedCount > 0) {
+                changeDescription = new ChangeDescription(ChangeKind.REPRESENTATION_CREATION, editingContext.getId(), input);
+            }
+            payload = new ImportRepresentationsSuccessPayload(input.id(), importedCount);
+        }
+
+        payloadSink.tryEmitValue(payload);
+        changeDescriptionSink.tryEmitNext(changeDescription);
+    }
+
+    private int importRepresentations(ImportRepresentationsInput input, IEditingContext editingContext, UUID semanticDataId) {
+        Map<String, String> oldIdToNewId = new HashMap<>(input.oldDocumentIdToNewDocumentId());
+        List<UUID> newRepresentationIds = new ArrayList<>();
+        for (ImportedRepresentation representation : input.representations()) {
+            var newRepresentationId = UUID.randomUUID();
+            newRepresentationIds.add(newRepresentationId);
+            if (representation.id() != null) {
+                oldIdToNewId.put(representation.id().toString(), newRepresentationId.toString());
+            }
+        }
+
+        int importedCount = 0;
+        int processedCount = 0;
+        List<RepresentationMetadata> batch = new ArrayList<>();
+        Map<UUID, ImportedRepresentationContent> representationIdToContent = new HashMap<>();
+        for (ImportedRepresentation representation : input.representations()) {
+            var newRepresentationId = newRepresentationIds.get(processedCount);
+            var optionalTargetObjectId = this.getTargetObjectId(editingContext, representation);
+            if (optionalTargetObjectId.isPresent()) {
+                var representationMetadata = RepresentationMetadata.newRepresentationMetadata(newRepresentationId)
+                        .semanticData(AggregateReference.to(semanticDataId))
+                        .targetObjectId(optionalTargetObjectId.get())
+                        .descriptionId(representation.descriptionId())
+                        .label(representation.label())
+                        .kind(representation.kind())
+                        .iconURLs(List.of())
+                        .documentation("")
+                        .build(input);
+                batch.add(representationMetadata);
+                representationIdToContent.put(newRepresentationId, new ImportedRepresentationContent(representation.content(), representation.migrationData()));
+            } else {
+                this.logger.warn("The representation {} has not been created", representation.label());
+            }
+
+            processedCount++;
+            boolean isLast = processedCount == input.representations().size();
+            if (!batch.isEmpty() && (batch.size() >= this.batchSize || isLast)) {
+                this.representationImportService.importRepresentations(input, batch, representationIdToContent, oldIdToNewId);
+                importedCount += batch.size();
+                batch = new ArrayList<>();
+                representationIdToContent = new HashMap<>();
+            }
+            if (isLast || processedCount % this.batchSize == 0) {
+                this.logger.info("{} of {} representations processed, {} imported", processedCount, input.representations().size(), importedCount);
+            }
+        }
+        return importedCount;
+    }
+
+    private Optional<String> getTargetObjectId(IEditingContext editingContext, ImportedRepresentation representation) {
+        Optional<String> optionalTargetObjectId = Optional.empty();
+        if (this.isComplete(representation) && this.representationDescriptionSearchService.findById(editingContext, representation.descriptionId()).isPresent()) {
+            optionalTargetObjectId = this.objectSearchService.getObject(editingContext, representation.objectId())
+                    .map(this.identityService::getId);
+        }
+        return optionalTargetObjectId;
+    }
+
+    private boolean isComplete(ImportedRepresentation representation) {
+        boolean hasDescription = representation.descriptionId() != null && representation.objectId() != null;
+        boolean hasContent = representation.kind() != null && representation.label() != null && representation.content() != null;
+        return hasDescription && hasContent;
+    }
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input object for the operation to create all the representations of an uploaded project at once.
+ *
+ * @author sbegaudeau
+ */
+public record ImportRepresentationsInput(UUID id, String editingContextId, List<ImportedRepresentation> representations, Map<String, String> oldDocumentIdToNewDocumentId) implements IInput {
+}
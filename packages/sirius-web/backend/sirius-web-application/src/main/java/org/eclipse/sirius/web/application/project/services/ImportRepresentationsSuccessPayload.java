@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.services;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload of the operation used to create all the representations of an uploaded project at once.
+ *
+ * @author sbegaudeau
+ */
+public record ImportRepresentationsSuccessPayload(UUID id, int importedRepresentationCount) implements IPayload {
+    public ImportRepresentationsSuccessPayload {
+        Objects.requireNonNull(id);
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.project.services;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+
+/**
+ * A representation to create during the upload of a project, with the identifiers it had in the exported project and the
+ * migration data of the server which has exported it.
+ *
+ * @author sbegaudeau
+ */
+public record ImportedRepresentation(
+        UUID id,
+        String descriptionId,
+        String objectId,
+        String label,
+        String kind,
+        String content,
+        RepresentationMigrationData migrationData
+) {
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +26,9 @@ import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.project.services.api.IProjectEditingContextService;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
@@ -46,9 +51,15 @@ public class ProjectExportService implements IProjectExportService {
 
     private final ObjectMapper objectMapper;
 
-    public ProjectExportService(List<IProjectExportParticipant> projectExportParticipants, ObjectMapper objectMapper) {
+    private final IProjectEditingContextService projectEditingContextService;
+
+    private final IEditingContextSearchService editingContextSearchService;
+
+    public ProjectExportService(List<IProjectExportParticipant> projectExportParticipants, ObjectMapper objectMapper, IProjectEditingContextService projectEditingContextService, IEditingContextSearchService editingContextSearchService) {
         this.projectExportParticipants = Objects.requireNonNull(projectExportParticipants);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.projectEditingContextService = Objects.requireNonNull(projectEditingContextService);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
     }
 
     @Override
@@ -57,14 +68,8 @@ public class ProjectExportService implements IProjectExportService {
         byte[] zip = new byte[0];
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
-            var manifestEntries = this.projectExportParticipants.stream()
-                    .map(projectExportParticipant -> projectExportParticipant.exportData(project, zipOutputStream))
-                    .map(Map::entrySet)
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            this.addManifest(project, manifestEntries, zipOutputStream);
+        try {
+            this.export(project, outputStream);
         } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
             outputStream.reset();
@@ -77,6 +82,32 @@ public class ProjectExportService implements IProjectExportService {
         return zip;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Project project, OutputStream outputStream) throws IOException {
+        // The editing context is loaded once and shared by all the participants
+        var optionalEditingContext = this.projectEditingContextService.getEditingContextId(project.getId())
+                .flatMap(this.editingContextSearchService::findById)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast);
+
+        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
+            Map<String, Object> manifestEntries = new HashMap<>();
+            if (optionalEditingContext.isPresent()) {
+                var editingContext = optionalEditingContext.get();
+                manifestEntries = this.projectExportParticipants.stream()
+                        .map(projectExportParticipant -> projectExportParticipant.exportData(project, editingContext, zipOutputStream))
+                        .map(Map::entrySet)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            } else {
+                this.logger.warn("The editing context of the project {} could not be loaded, its data won't be exported.", project.getId());
+            }
+
+            this.addManifest(project, manifestEntries, zipOutputStream);
+        }
+    }
+
     private void addManifest(Project project, Map<String, Object> manifestEntries, ZipOutputStream outputStream) {
         try {
             byte[] manifestContent = this.objectMapper.writeValueAsBytes(manifestEntries);
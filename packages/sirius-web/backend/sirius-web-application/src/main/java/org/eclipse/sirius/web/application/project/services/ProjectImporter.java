@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.application.project.services;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,8 +22,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
-import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput;
-import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationSuccessPayload;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
 import org.eclipse.sirius.components.graphql.api.UploadFile;
 import org.eclipse.sirius.web.application.document.dto.DocumentDTO;
 import org.eclipse.sirius.web.application.document.dto.UploadDocumentInput;
@@ -37,6 +37,10 @@ import org.slf4j.LoggerFactory;
  */
 public class ProjectImporter {
 
+    private static final String NONE = "none";
+
+    private static final String INITIAL_MIGRATION_VERSION = "0";
+
     private final Logger logger = LoggerFactory.getLogger(ProjectImporter.class);
 
     private final String projectId;
@@ -71,16 +75,21 @@ public class ProjectImporter {
     }
 
     /**
-     * Creates all representations in the project thanks to the {@link IEditingContextEventProcessor} and the create
-     * representation input. If at least one representation has not been created it will return <code>false</code>.
+     * Creates all representations in the project at once thanks to the {@link IEditingContextEventProcessor} and the
+     * import representations input. If at least one representation has not been created it will return
+     * <code>false</code>.
+     *
+     * <p>
+     * The representations are created from their exported content with a single input in order to persist them by
+     * batches and to refresh the editing context only once, instead of creating and rendering them one by one.
+     * </p>
      *
      * @param inputId
      *            The identifier of the input which has triggered this import
      * @return <code>true</code> whether all representations has been created, <code>false</code> otherwise
      */
     private boolean createRepresentations(UUID inputId) {
-        boolean allRepresentationCreated = true;
-
+        List<ImportedRepresentation> importedRepresentations = new ArrayList<>();
         for (RepresentationImportData representationImportData : this.representations) {
             Map<?, ?> representationManifest = this.getRepresentationManifest(representationImportData);
 
@@ -95,26 +104,42 @@ public class ProjectImporter {
             }
 
             String descriptionURI = (String) representationManifest.get("descriptionURI");
+            RepresentationMigrationData migrationData = this.getMigrationData(representationManifest);
 
-            boolean representationCreated = false;
-
-            CreateRepresentationInput createRepresentationInput = new CreateRepresentationInput(inputId, this.editingContextEventProcessor.getEditingContextId(), descriptionURI, objectId, representationImportData.label());
+            importedRepresentations.add(new ImportedRepresentation(representationImportData.id(), descriptionURI, objectId, representationImportData.label(), representationImportData.kind(),
+                    representationImportData.representation(), migrationData));
+        }
 
-            representationCreated = this.editingContextEventProcessor.handle(createRepresentationInput)
-                    .filter(CreateRepresentationSuccessPayload.class::isInstance)
-                    .map(CreateRepresentationSuccessPayload.class::cast)
-                    .map(CreateRepresentationSuccessPayload::representation)
-                    .blockOptional()
-                    .isPresent();
+        Map<String, String> documentIds = new HashMap<>();
+        for (Map.Entry<String, UUID> entry : this.oldDocumentIdToNewDocumentId.entrySet()) {
+            documentIds.put(entry.getKey(), entry.getValue().toString());
+        }
 
-            if (!representationCreated) {
-                this.logger.warn("The representation {} has not been created", representationImportData.label());
-            }
+        this.logger.info("Importing {} representations in the project {}", importedRepresentations.size(), this.projectId);
+        ImportRepresentationsInput importRepresentationsInput = new ImportRepresentationsInput(inputId, this.editingContextEventProcessor.getEditingContextId(), importedRepresentations, documentIds);
+        int importedRepresentationCount = this.editingContextEventProcessor.handle(importRepresentationsInput)
+                .filter(ImportRepresentationsSuccessPayload.class::isInstance)
+                .map(ImportRepresentationsSuccessPayload.class::cast)
+                .map(ImportRepresentationsSuccessPayload::importedRepresentationCount)
+                .blockOptional()
+                .orElse(0);
+        return importedRepresentationCount == importedRepresentations.size();
+    }
 
-            allRepresentationCreated = allRepresentationCreated && representationCreated;
+    /**
+     * Get the migration data of the content of a representation described into the Manifest. Projects exported without
+     * it are considered as never migrated so that all the migration participants are applied to their content when it
+     * is read.
+     *
+     * @param representationManifest
+     *            the representation details from Manifest
+     * @return the migration data of the content of the representation
+     */
+    private RepresentationMigrationData getMigrationData(Map<?, ?> representationManifest) {
+        if (representationManifest.get("lastMigrationPerformed") instanceof String lastMigrationPerformed && representationManifest.get("migrationVersion") instanceof String migrationVersion) {
+            return new RepresentationMigrationData(lastMigrationPerformed, migrationVersion);
         }
-
-        return allRepresentationCreated;
+        return new RepresentationMigrationData(NONE, INITIAL_MIGRATION_VERSION);
     }
 
     /**
@@ -145,6 +170,7 @@ public class ProjectImporter {
      * @return <code>true</code> whether all documents has been created, <code>false</code> otherwise
      */
     private boolean createDocuments(UUID inputId) {
+        this.logger.info("Importing {} documents in the project {}", this.documents.size(), this.projectId);
         for (Entry<String, UploadFile> entry : this.documents.entrySet()) {
             String oldDocumentId = entry.getKey();
             UploadFile uploadFile = entry.getValue();
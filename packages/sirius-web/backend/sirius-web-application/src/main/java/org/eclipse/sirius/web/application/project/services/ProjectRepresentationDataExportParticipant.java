@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
@@ -31,10 +32,12 @@ import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.project.services.api.IProjectEditingContextService;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,18 +47,21 @@ import org.springframework.stereotype.Service;
 /**
  * Used to add representation data to the export of a project.
  *
+ * <p>
+ * The content of the representations which do not have to be migrated is copied as is from the database instead of
+ * being parsed and serialized again.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class ProjectRepresentationDataExportParticipant implements IProjectExportParticipant {
 
-    private final IEditingContextSearchService editingContextSearchService;
-
     private final IProjectSemanticDataSearchService projectSemanticDataSearchService;
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
-    private final IRepresentationContentSearchService representationContentSearchService;
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
 
     private final ObjectMapper objectMapper;
 
@@ -63,92 +69,143 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
 
     private final IProjectEditingContextService projectEditingContextService;
 
+    private final IEditingContextSearchService editingContextSearchService;
+
     private final Logger logger = LoggerFactory.getLogger(ProjectRepresentationDataExportParticipant.class);
 
-    public ProjectRepresentationDataExportParticipant(IEditingContextSearchService editingContextSearchService, IProjectSemanticDataSearchService projectSemanticDataSearchService, IRepresentationMetadataSearchService representationMetadataSearchService,
-                                                      IRepresentationContentSearchService representationContentSearchService, ObjectMapper objectMapper, IRepresentationContentMigrationService representationContentMigrationService, IProjectEditingContextService projectEditingContextService) {
-        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+    public ProjectRepresentationDataExportParticipant(IProjectSemanticDataSearchService projectSemanticDataSearchService, IRepresentationMetadataSearchService representationMetadataSearchService,
+                                                      IRepresentationContentWriteBehindService representationContentWriteBehindService, ObjectMapper objectMapper, IRepresentationContentMigrationService representationContentMigrationService,
+                                                      IProjectEditingContextService projectEditingContextService, IEditingContextSearchService editingContextSearchService) {
         this.projectSemanticDataSearchService = Objects.requireNonNull(projectSemanticDataSearchService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
-        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.representationContentMigrationService = Objects.requireNonNull(representationContentMigrationService);
         this.projectEditingContextService = Objects.requireNonNull(projectEditingContextService);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
     }
 
     @Override
     public Map<String, Object> exportData(Project project, ZipOutputStream outputStream) {
+        return this.projectEditingContextService.getEditingContextId(project.getId())
+                .flatMap(this.editingContextSearchService::findById)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(editingContext -> this.exportData(project, editingContext, outputStream))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public Map<String, Object> exportData(Project project, IEMFEditingContext editingContext, ZipOutputStream outputStream) {
         Map<String, Map<String, String>> representationManifests = new HashMap<>();
 
         var allRepresentationMetadata = this.projectSemanticDataSearchService.findByProjectId(AggregateReference.to(project.getId()))
                 .map(ProjectSemanticData::getSemanticData)
                 .map(this.representationMetadataSearchService::findAllRepresentationMetadataBySemanticData)
                 .orElse(List.of());
-        for (var representationMetadata: allRepresentationMetadata) {
-            var optionalRepresentationContentNode = this.representationContentSearchService.findContentById(representationMetadata.getId())
-                    .flatMap(representationContent -> this.representationContentMigrationService.getMigratedContent(representationMetadata, representationContent));
-
-            if (optionalRepresentationContentNode.isPresent()) {
-                var representationContentNode = optionalRepresentationContentNode.get();
-
-                var exportData = new RepresentationSerializedExportData(
-                        representationMetadata.getId(),
-                        project.getId(),
-                        representationMetadata.getDescriptionId(),
-                        representationMetadata.getTargetObjectId(),
-                        representationMetadata.getLabel(),
-                        representationMetadata.getKind(),
-                        representationContentNode
-                );
-
-                // Get TargetObjectURI
-                String uriFragment = "";
-                var optionalEditingContext = this.projectEditingContextService.getEditingContextId(project.getId())
-                        .flatMap(this.editingContextSearchService::findById)
-                        .filter(IEMFEditingContext.class::isInstance)
-                        .map(IEMFEditingContext.class::cast);
-
-                if (optionalEditingContext.isPresent()) {
-                    var editingContext = optionalEditingContext.get();
-                    String targetObjectId = representationMetadata.getTargetObjectId();
-                    for (Resource resource : editingContext.getDomain().getResourceSet().getResources()) {
-                        EObject eObject = resource.getEObject(targetObjectId);
-                        if (eObject != null) {
-                            uriFragment = EcoreUtil.getURI(eObject).toString();
-                            break;
-                        }
-                    }
-                }
-                if (uriFragment.isEmpty()) {
-                    this.logger.warn("The serialization of the representationManifest won't be complete.");
-                }
 
-                Map<String, String> representationManifest = Map.of(
-                        "type", representationMetadata.getKind(),
-                        "descriptionURI", representationMetadata.getDescriptionId(),
-                        "targetObjectURI", uriFragment
-                );
-                representationManifests.put(representationMetadata.getId().toString(), representationManifest);
+        for (var representationMetadata: allRepresentationMetadata) {
+            var optionalRepresentationContent = this.representationContentWriteBehindService.findContentById(representationMetadata.getId());
+            if (optionalRepresentationContent.isPresent()) {
+                var representationContent = optionalRepresentationContent.get();
+                String name = project.getName() + "/representations/" + representationMetadata.getId() + "." + JsonResourceFactoryImpl.EXTENSION;
 
+                boolean isExported = false;
                 try {
-                    byte[] bytes = this.objectMapper.writeValueAsBytes(exportData);
-
-                    String name = project.getName() + "/representations/" + representationMetadata.getId() + "." + JsonResourceFactoryImpl.EXTENSION;
-
-                    ZipEntry zipEntry = new ZipEntry(name);
-                    zipEntry.setSize(bytes.length);
-                    zipEntry.setTime(System.currentTimeMillis());
-
-                    outputStream.putNextEntry(zipEntry);
-                    outputStream.write(bytes);
-                    outputStream.closeEntry();
+                    if (this.representationContentMigrationService.needsMigration(representationMetadata, representationContent)) {
+                        isExported = this.exportMigratedContent(project, representationMetadata, representationContent, name, outputStream);
+                    } else {
+                        this.exportStoredContent(project, representationMetadata, representationContent, name, outputStream);
+                        isExported = true;
+                    }
                 } catch (IOException exception) {
                     this.logger.warn(exception.getMessage());
                 }
+
+                if (isExported) {
+                    String uriFragment = this.getTargetObjectURI(editingContext, representationMetadata.getTargetObjectId());
+                    if (uriFragment.isEmpty()) {
+                        this.logger.warn("The serialization of the representationManifest won't be complete.");
+                    }
+
+                    var migrationData = this.representationContentMigrationService.getMigrationData(representationMetadata, representationContent);
+                    Map<String, String> representationManifest = Map.of(
+                            "type", representationMetadata.getKind(),
+                            "descriptionURI", representationMetadata.getDescriptionId(),
+                            "targetObjectURI", uriFragment,
+                            "lastMigrationPerformed", migrationData.lastMigrationPerformed(),
+                            "migrationVersion", migrationData.migrationVersion()
+                    );
+                    representationManifests.put(representationMetadata.getId().toString(), representationManifest);
+                }
             }
         }
 
         return Map.of("representations", representationManifests);
     }
 
+    private String getTargetObjectURI(IEMFEditingContext editingContext, String targetObjectId) {
+        String uriFragment = "";
+        for (Resource resource : editingContext.getDomain().getResourceSet().getResources()) {
+            EObject eObject = resource.getEObject(targetObjectId);
+            if (eObject != null) {
+                uriFragment = EcoreUtil.getURI(eObject).toString();
+                break;
+            }
+        }
+        return uriFragment;
+    }
+
+    private boolean exportMigratedContent(Project project, RepresentationMetadata representationMetadata, RepresentationContent representationContent, String name, ZipOutputStream outputStream) throws IOException {
+        var optionalRepresentationContentNode = this.representationContentMigrationService.getMigratedContent(representationMetadata, representationContent);
+        if (optionalRepresentationContentNode.isPresent()) {
+            var exportData = new RepresentationSerializedExportData(
+                    representationMetadata.getId(),
+                    project.getId(),
+                    representationMetadata.getDescriptionId(),
+                    representationMetadata.getTargetObjectId(),
+                    representationMetadata.getLabel(),
+                    representationMetadata.getKind(),
+                    optionalRepresentationContentNode.get()
+            );
+
+            byte[] bytes = this.objectMapper.writeValueAsBytes(exportData);
+
+            ZipEntry zipEntry = new ZipEntry(name);
+            zipEntry.setSize(bytes.length);
+            zipEntry.setTime(System.currentTimeMillis());
+
+            outputStream.putNextEntry(zipEntry);
+            outputStream.write(bytes);
+            outputStream.closeEntry();
+        }
+        return optionalRepresentationContentNode.isPresent();
+    }
+
+    /**
+     * Writes the same JSON as {@link RepresentationSerializedExportData} with the stored content of the representation
+     * as is.
+     */
+    private void exportStoredContent(Project project, RepresentationMetadata representationMetadata, RepresentationContent representationContent, String name, ZipOutputStream outputStream) throws IOException {
+        ZipEntry zipEntry = new ZipEntry(name);
+        zipEntry.setTime(System.currentTimeMillis());
+        outputStream.putNextEntry(zipEntry);
+
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("id", representationMetadata.getId().toString());
+            generator.writeStringField("projectId", project.getId());
+            generator.writeStringField("descriptionId", representationMetadata.getDescriptionId());
+            generator.writeStringField("targetObjectId", representationMetadata.getTargetObjectId());
+            generator.writeStringField("label", representationMetadata.getLabel());
+            generator.writeStringField("kind", representationMetadata.getKind());
+            generator.writeFieldName("representation");
+            generator.writeRawValue(representationContent.getContent());
+            generator.writeEndObject();
+        }
+
+        outputStream.closeEntry();
+    }
+
 }
@@ -13,11 +13,13 @@
 package org.eclipse.sirius.web.application.project.services;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -30,68 +32,78 @@ import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.document.services.api.IDocumentExporter;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
+import org.eclipse.sirius.web.application.project.services.api.IProjectEditingContextService;
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportParticipant;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Nature;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
-import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
-import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 /**
  * Used to add semantic data to the export of a project.
  *
+ * <p>
+ * The content of the documents which do not have to be migrated is copied as is from the database instead of
+ * serializing their resource again.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class ProjectSemanticDataExportParticipant implements IProjectExportParticipant {
 
-    private final IEditingContextSearchService editingContextSearchService;
-
     private final List<IDocumentExporter> documentExporters;
 
     private final List<IEditingContextPersistenceFilter> persistenceFilters;
 
-    private final IProjectSemanticDataSearchService projectSemanticDataSearchService;
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
+
+    private final IProjectEditingContextService projectEditingContextService;
+
+    private final IEditingContextSearchService editingContextSearchService;
 
     private final Logger logger = LoggerFactory.getLogger(ProjectSemanticDataExportParticipant.class);
 
-    public ProjectSemanticDataExportParticipant(IEditingContextSearchService editingContextSearchService, List<IDocumentExporter> documentExporters, List<IEditingContextPersistenceFilter> persistenceFilters, IProjectSemanticDataSearchService projectSemanticDataSearchService) {
-        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+    public ProjectSemanticDataExportParticipant(List<IDocumentExporter> documentExporters, List<IEditingContextPersistenceFilter> persistenceFilters, ISemanticDataSearchService semanticDataSearchService,
+            List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, IProjectEditingContextService projectEditingContextService, IEditingContextSearchService editingContextSearchService) {
         this.documentExporters = Objects.requireNonNull(documentExporters);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
-        this.projectSemanticDataSearchService = Objects.requireNonNull(projectSemanticDataSearchService);
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.projectEditingContextService = Objects.requireNonNull(projectEditingContextService);
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
     }
 
     @Override
     public Map<String, Object> exportData(Project project, ZipOutputStream outputStream) {
-        Map<String, Object> manifestEntries = new HashMap<>();
-
-        var optionalEditingContext = this.projectSemanticDataSearchService.findByProjectId(AggregateReference.to(project.getId()))
-                .map(ProjectSemanticData::getSemanticData)
-                .map(AggregateReference::getId)
-                .map(UUID::toString)
-                .flatMap(editingContextSearchService::findById)
+        return this.projectEditingContextService.getEditingContextId(project.getId())
+                .flatMap(this.editingContextSearchService::findById)
                 .filter(IEMFEditingContext.class::isInstance)
-                .map(IEMFEditingContext.class::cast);
+                .map(IEMFEditingContext.class::cast)
+                .map(editingContext -> this.exportData(project, editingContext, outputStream))
+                .orElse(Map.of());
+    }
 
-        if (optionalEditingContext.isPresent()) {
-            var editingContext = optionalEditingContext.get();
+    @Override
+    public Map<String, Object> exportData(Project project, IEMFEditingContext editingContext, ZipOutputStream outputStream) {
+        Map<String, Object> manifestEntries = new HashMap<>();
 
-            List<String> metamodels = this.getMetamodels(editingContext);
-            Map<String, String> id2DocumentName = this.exportSemanticData(editingContext, project.getName(), outputStream);
-            List<String> natures = project.getNatures().stream()
-                        .map(Nature::name)
-                        .toList();
+        List<String> metamodels = this.getMetamodels(editingContext);
+        Map<String, String> id2DocumentName = this.exportSemanticData(editingContext, project.getName(), outputStream);
+        List<String> natures = project.getNatures().stream()
+                    .map(Nature::name)
+                    .toList();
 
-            manifestEntries.put("metamodels", metamodels);
-            manifestEntries.put("documentIdsToName", id2DocumentName);
-            manifestEntries.put("natures", natures);
-        }
+        manifestEntries.put("metamodels", metamodels);
+        manifestEntries.put("documentIdsToName", id2DocumentName);
+        manifestEntries.put("natures", natures);
 
         return manifestEntries;
     }
@@ -107,6 +119,10 @@ public class ProjectSemanticDataExportParticipant implements IProjectExportParti
 
     private Map<String, String> exportSemanticData(IEMFEditingContext editingContext, String projectName, ZipOutputStream outputStream) {
         Map<String, String> id2DocumentName = new HashMap<>();
+        Optional<UUID> optionalSemanticDataId = Optional.empty();
+        if (this.canExportStoredContent(editingContext)) {
+            optionalSemanticDataId = new UUIDParser().parse(editingContext.getId());
+        }
 
         List<Resource> resources = editingContext.getDomain().getResourceSet().getResources().stream()
                 .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource))).toList();
@@ -120,10 +136,10 @@ public class ProjectSemanticDataExportParticipant implements IProjectExportParti
                     .map(ResourceMetadataAdapter::getName)
                     .findFirst();
 
-            var optionalContent = this.documentExporters.stream()
-                    .filter(documentExporter -> documentExporter.canHandle(resource, MediaType.APPLICATION_JSON_VALUE))
-                    .findFirst()
-                    .flatMap(documentExporter -> documentExporter.getBytes(resource, MediaType.APPLICATION_JSON_VALUE));
+            var optionalContent = optionalSemanticDataId
+                    .flatMap(semanticDataId -> optionalDocumentId.flatMap(documentId -> this.semanticDataSearchService.findDocumentContentById(semanticDataId, documentId)))
+                    .map(content -> content.getBytes(StandardCharsets.UTF_8))
+                    .or(() -> this.getBytes(resource));
             if (optionalDocumentId.isPresent() && optionalDocumentName.isPresent() && optionalContent.isPresent()) {
                 var documentId = optionalDocumentId.get();
                 var documentName = optionalDocumentName.get();
@@ -148,4 +164,24 @@ public class ProjectSemanticDataExportParticipant implements IProjectExportParti
 
         return id2DocumentName;
     }
+
+    /**
+     * Indicates if the content of the documents stored in the database can be exported as is.
+     *
+     * <p>
+     * Since the editing context has just been loaded from the database, the stored content of its documents is up to
+     * date unless some migration participants have been applied while loading them. The stored content is retrieved
+     * one document at a time so that the content of all the documents is never held in memory at once.
+     * </p>
+     */
+    private boolean canExportStoredContent(IEMFEditingContext editingContext) {
+        return this.migrationParticipantPredicates.stream().noneMatch(predicate -> predicate.test(editingContext.getId()));
+    }
+
+    private Optional<byte[]> getBytes(Resource resource) {
+        return this.documentExporters.stream()
+                .filter(documentExporter -> documentExporter.canHandle(resource, MediaType.APPLICATION_JSON_VALUE))
+                .findFirst()
+                .flatMap(documentExporter -> documentExporter.getBytes(resource, MediaType.APPLICATION_JSON_VALUE));
+    }
 }
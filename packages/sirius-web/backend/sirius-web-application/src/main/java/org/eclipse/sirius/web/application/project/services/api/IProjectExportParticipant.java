@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.application.project.services.api;
 import java.util.Map;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 
 /**
@@ -24,4 +25,26 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
  */
 public interface IProjectExportParticipant {
     Map<String, Object> exportData(Project project, ZipOutputStream outputStream);
+
+    /**
+     * Exports the data of the project with its editing context, which is loaded once by the project export service for
+     * the whole export and shared by all the participants.
+     *
+     * <p>
+     * The default implementation ignores the given editing context and calls
+     * {@link #exportData(Project, ZipOutputStream)}. The participants which need the editing context should override it
+     * instead of loading the editing context again.
+     * </p>
+     *
+     * @param project
+     *         The project to export
+     * @param editingContext
+     *         The editing context of the project
+     * @param outputStream
+     *         The zip of the project
+     * @return The entries to add to the manifest of the project
+     */
+    default Map<String, Object> exportData(Project project, IEMFEditingContext editingContext, ZipOutputStream outputStream) {
+        return this.exportData(project, outputStream);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 
 /**
@@ -21,4 +24,17 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
  */
 public interface IProjectExportService {
     byte[] export(Project project);
+
+    /**
+     * Writes the zip of the given project to the given output stream, entry by entry, without building the whole
+     * archive in memory.
+     *
+     * @param project
+     *         The project to export
+     * @param outputStream
+     *         The output stream, it is closed once the archive has been written
+     * @throws IOException
+     *         If the archive cannot be written
+     */
+    void export(Project project, OutputStream outputStream) throws IOException;
 }
@@ -14,13 +14,18 @@ package org.eclipse.sirius.web.application.representation.services;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataDeletionService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
@@ -31,6 +36,11 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Used to delete dangling representations.
  *
+ * <p>
+ * The ids of the semantic elements removed from an editing context are collected from the {@link EObjectIndexAdapter}
+ * of its resource set, only the representations targeting one of them are then checked.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -40,11 +50,15 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
+
     private final IRepresentationMetadataDeletionService representationMetadataDeletionService;
 
-    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataDeletionService representationMetadataDeletionService) {
+    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataIndexService representationMetadataIndexService,
+            IRepresentationMetadataDeletionService representationMetadataDeletionService) {
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
         this.representationMetadataDeletionService = Objects.requireNonNull(representationMetadataDeletionService);
     }
 
@@ -65,4 +79,49 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
                         .forEach(representationId -> this.representationMetadataDeletionService.delete(cause, representationId))
         );
     }
+
+    @Override
+    public Optional<Set<String>> collectRemovedObjectIds(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(emfEditingContext -> emfEditingContext.getDomain().getResourceSet())
+                .flatMap(this::collectRemovedObjectIds);
+    }
+
+    /**
+     * Collects the ids of the objects removed from the given resource set.
+     *
+     * <p>
+     * The removed objects cannot be known before the index adapter has started to record them, any representation may
+     * thus be dangling in this case.
+     * </p>
+     *
+     * @param resourceSet
+     *         The resource set
+     * @return The ids of the removed objects or an empty optional if they cannot be computed
+     */
+    private Optional<Set<String>> collectRemovedObjectIds(ResourceSet resourceSet) {
+        var indexAdapter = resourceSet.eAdapters().stream()
+                .filter(EObjectIndexAdapter.class::isInstance)
+                .map(EObjectIndexAdapter.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    var adapter = new EObjectIndexAdapter();
+                    resourceSet.eAdapters().add(adapter);
+                    return adapter;
+                });
+        return indexAdapter.collectRemovedIds();
+    }
+
+    @Override
+    @Transactional
+    public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> removedObjectIds) {
+        removedObjectIds.stream()
+                .filter(removedObjectId -> this.objectSearchService.getObject(editingContext, removedObjectId).isEmpty())
+                .flatMap(removedObjectId -> this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(editingContext, removedObjectId).stream())
+                .map(RepresentationMetadata::getId)
+                .toList()
+                .forEach(representationId -> this.representationMetadataDeletionService.delete(cause, representationId));
+    }
 }
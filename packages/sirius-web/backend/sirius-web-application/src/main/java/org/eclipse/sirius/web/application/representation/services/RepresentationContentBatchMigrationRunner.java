@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.RepresentationContentMigrationStatus;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to migrate the content of all the representations of the database once, after an upgrade.
+ *
+ * <p>
+ * This batch is only executed on the startup of a server started with the <code>representation-migration</code>
+ * profile, it should thus be executed by a single dedicated server. The representation contents are read by pages of
+ * <code>sirius.web.representation.migration.batch.size</code> representations along with their metadata in order to
+ * keep a bounded memory footprint and a constant number of queries per page. Each migrated content is persisted with
+ * its new migration version so that it does not have to be migrated again when it is read. The migrated content is
+ * persisted with a conditional update which only succeeds if the content has not been modified since it has been read,
+ * the representations modified in the meantime are counted as conflicts and left untouched.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+@Profile(RepresentationContentBatchMigrationRunner.PROFILE)
+public class RepresentationContentBatchMigrationRunner implements CommandLineRunner {
+
+    public static final String PROFILE = "representation-migration";
+
+    private final IRepresentationContentSearchService representationContentSearchService;
+
+    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    private final IRepresentationContentMigrationService representationContentMigrationService;
+
+    private final int batchSize;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentBatchMigrationRunner.class);
+
+    public RepresentationContentBatchMigrationRunner(IRepresentationContentSearchService representationContentSearchService, IRepresentationMetadataSearchService representationMetadataSearchService,
+            IRepresentationContentMigrationService representationContentMigrationService, @Value("${sirius.web.representation.migration.batch.size:100}") int batchSize) {
+        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.representationContentMigrationService = Objects.requireNonNull(representationContentMigrationService);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void run(String... args) {
+        this.logger.info("Migrating the content of the representations by pages of {}", this.batchSize);
+
+        int processedCount = 0;
+        Map<RepresentationContentMigrationStatus, Integer> status2count = new EnumMap<>(RepresentationContentMigrationStatus.class);
+
+        List<RepresentationContent> representationContents = this.representationContentSearchService.findAllAfter(new UUID(0, 0), this.batchSize);
+        while (!representationContents.isEmpty()) {
+            this.migrate(representationContents, status2count);
+            processedCount += representationContents.size();
+            this.logger.info("{} representations processed, {} migrated, {} skipped since they have been modified concurrently", processedCount,
+                    status2count.getOrDefault(RepresentationContentMigrationStatus.MIGRATED, 0), status2count.getOrDefault(RepresentationContentMigrationStatus.CONFLICT, 0));
+
+            var cursorRepresentationId = representationContents.get(representationContents.size() - 1).getId();
+            representationContents = this.representationContentSearchService.findAllAfter(cursorRepresentationId, this.batchSize);
+        }
+    }
+
+    /**
+     * Migrates the given page of representation contents.
+     *
+     * @param representationContents
+     *         The representation contents
+     * @param status2count
+     *         The number of representation contents for each outcome of their migration, updated with the given page
+     */
+    private void migrate(List<RepresentationContent> representationContents, Map<RepresentationContentMigrationStatus, Integer> status2count) {
+        var representationIds = representationContents.stream()
+                .map(RepresentationContent::getId)
+                .toList();
+        Map<UUID, RepresentationMetadata> id2RepresentationMetadata = this.representationMetadataSearchService.findAllMetadataByIds(representationIds).stream()
+                .collect(Collectors.toMap(RepresentationMetadata::getId, Function.identity()));
+
+        for (RepresentationContent representationContent : representationContents) {
+            var representationMetadata = id2RepresentationMetadata.get(representationContent.getId());
+            if (representationMetadata != null) {
+                var cause = new RepresentationContentMigrationRequested(UUID.randomUUID(), representationContent.getId());
+                var status = this.representationContentMigrationService.migrateContent(cause, representationMetadata, representationContent);
+                status2count.merge(status, 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,19 +21,35 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
 import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationService;
+import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
+import org.eclipse.sirius.web.application.representation.services.api.RepresentationContentMigrationStatus;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
+import org.eclipse.sirius.web.domain.services.Success;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Used to retrieve the migrated content of the representation content.
  *
+ * <p>
+ * When <code>sirius.web.representation.migration.writeBack</code> is enabled, the content migrated while being read is
+ * handed to the write-behind service which persists it later, along with its new migration version, outside of the
+ * read path. The migrated content is only persisted if the content has not been modified since it has been read and a
+ * pending update of the representation always takes precedence over it. Otherwise the contents are only persisted once
+ * migrated by {@link RepresentationContentBatchMigrationRunner} or when the representation is saved again.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -43,11 +59,21 @@ public class RepresentationContentMigrationService implements IRepresentationCon
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
+    private final IRepresentationContentUpdateService representationContentUpdateService;
+
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
+
+    private final boolean writeBack;
+
     private final Logger logger = LoggerFactory.getLogger(RepresentationContentMigrationService.class);
 
-    public RepresentationContentMigrationService(ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants) {
+    public RepresentationContentMigrationService(ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants, IRepresentationContentUpdateService representationContentUpdateService,
+            IRepresentationContentWriteBehindService representationContentWriteBehindService, @Value("${sirius.web.representation.migration.writeBack:false}") boolean writeBack) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = Objects.requireNonNull(migrationParticipants);
+        this.representationContentUpdateService = Objects.requireNonNull(representationContentUpdateService);
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
+        this.writeBack = writeBack;
     }
 
     @Override
@@ -61,6 +87,12 @@ public class RepresentationContentMigrationService implements IRepresentationCon
                 if (!applicableParticipants.isEmpty()) {
                     var migrationService = new RepresentationMigrationService(applicableParticipants, objectNode);
                     migrationService.parseProperties(objectNode, this.objectMapper);
+
+                    if (this.writeBack) {
+                        var cause = new RepresentationContentMigrationRequested(UUID.randomUUID(), representationContent.getId());
+                        this.representationContentWriteBehindService.migrateContent(cause, representationContent.getId(), this.getExpectedContentHash(representationContent), objectNode.toString(),
+                                this.getMigrationData(applicableParticipants));
+                    }
                 }
 
                 optionalObjectNode = Optional.of(objectNode);
@@ -72,6 +104,61 @@ public class RepresentationContentMigrationService implements IRepresentationCon
         return optionalObjectNode;
     }
 
+    @Override
+    public boolean needsMigration(RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+        return !this.getApplicableMigrationParticipants(representationMetadata.getKind(), representationContent).isEmpty();
+    }
+
+    @Override
+    public RepresentationMigrationData getMigrationData(RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+        var migrationData = new RepresentationMigrationData(representationContent.getLastMigrationPerformed(), representationContent.getMigrationVersion());
+
+        var applicableParticipants = this.getApplicableMigrationParticipants(representationMetadata.getKind(), representationContent);
+        if (!applicableParticipants.isEmpty()) {
+            migrationData = this.getMigrationData(applicableParticipants);
+        }
+        return migrationData;
+    }
+
+    @Override
+    public RepresentationContentMigrationStatus migrateContent(ICause cause, RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+        var status = RepresentationContentMigrationStatus.UP_TO_DATE;
+        try {
+            List<IRepresentationMigrationParticipant> applicableParticipants = this.getApplicableMigrationParticipants(representationMetadata.getKind(), representationContent);
+            if (!applicableParticipants.isEmpty() && this.objectMapper.readTree(representationContent.getContent()) instanceof ObjectNode objectNode) {
+                var migrationService = new RepresentationMigrationService(applicableParticipants, objectNode);
+                migrationService.parseProperties(objectNode, this.objectMapper);
+
+                status = this.save(representationContent, objectNode, applicableParticipants);
+            }
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
+            this.logger.warn(exception.getMessage());
+            status = RepresentationContentMigrationStatus.FAILED;
+        }
+        return status;
+    }
+
+    private RepresentationContentMigrationStatus save(RepresentationContent representationContent, ObjectNode migratedContent, List<IRepresentationMigrationParticipant> applicableParticipants) {
+        var migrationData = this.getMigrationData(applicableParticipants);
+        var result = this.representationContentUpdateService.updateMigratedContentByRepresentationId(representationContent.getId(), this.getExpectedContentHash(representationContent),
+                migratedContent.toString(), migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+
+        var status = RepresentationContentMigrationStatus.CONFLICT;
+        if (result instanceof Success<Void>) {
+            status = RepresentationContentMigrationStatus.MIGRATED;
+        }
+        return status;
+    }
+
+    private String getExpectedContentHash(RepresentationContent representationContent) {
+        return Optional.ofNullable(representationContent.getContentHash()).orElse("");
+    }
+
+    private RepresentationMigrationData getMigrationData(List<IRepresentationMigrationParticipant> applicableParticipants) {
+        var lastMigrationParticipant = applicableParticipants.get(applicableParticipants.size() - 1);
+        return new RepresentationMigrationData(lastMigrationParticipant.getClass().getSimpleName(), lastMigrationParticipant.getVersion());
+    }
+
     private List<IRepresentationMigrationParticipant> getApplicableMigrationParticipants(String kind, RepresentationContent representationContent) {
         var migrationVersion = representationContent.getMigrationVersion();
 
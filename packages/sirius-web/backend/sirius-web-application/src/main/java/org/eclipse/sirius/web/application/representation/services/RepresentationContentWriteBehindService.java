@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContentHash;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to update the content of the representations after a delay.
+ *
+ * <p>
+ * When the delay configured with <code>sirius.web.representation.persistenceDelay</code> is greater than zero, the
+ * content of a representation is kept in memory until the delay has expired. All the updates of the representation
+ * performed during this window are coalesced and only the latest content is written. The pending content of a
+ * representation must be flushed before reading its content from the database.
+ * </p>
+ *
+ * <p>
+ * The contents migrated while being read are always written by the write-behind thread, whatever the delay, and only
+ * if the content of the representation has not been modified in the meantime.
+ * </p>
+ *
+ * <p>
+ * A pending content which could not be written is queued again, unless a more recent content of the same representation
+ * has been queued in the meantime, and it will be written again by the write-behind thread after the delay.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationContentWriteBehindService implements IRepresentationContentWriteBehindService {
+
+    private static final Duration MINIMUM_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final IRepresentationContentSearchService representationContentSearchService;
+
+    private final IRepresentationContentUpdateService representationContentUpdateService;
+
+    private final Duration persistenceDelay;
+
+    private final Map<UUID, PendingContent> pendingContents = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("Representation content write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter coalescedUpdatesCounter;
+
+    private final Counter failedWritesCounter;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentWriteBehindService.class);
+
+    public RepresentationContentWriteBehindService(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentUpdateService representationContentUpdateService,
+            MeterRegistry meterRegistry, @Value("${sirius.web.representation.persistenceDelay:0s}") Duration persistenceDelay) {
+        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+        this.representationContentUpdateService = Objects.requireNonNull(representationContentUpdateService);
+        this.persistenceDelay = Objects.requireNonNull(persistenceDelay);
+        this.coalescedUpdatesCounter = Counter.builder(Monitoring.COUNTER_COALESCED_REPRESENTATION_PERSISTENCE)
+                .register(meterRegistry);
+        this.failedWritesCounter = Counter.builder(Monitoring.COUNTER_FAILED_REPRESENTATION_PERSISTENCE)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void updateContent(ICause cause, UUID representationId, String content, String contentHash, RepresentationMigrationData migrationData) {
+        var pendingContent = new PendingContent(cause, representationId, content, contentHash, migrationData, null);
+        if (this.persistenceDelay.isZero() || this.persistenceDelay.isNegative() || this.executorService.isShutdown()) {
+            this.write(pendingContent);
+        } else {
+            var previousPendingContent = this.pendingContents.put(representationId, pendingContent);
+            if (previousPendingContent == null) {
+                this.schedule(representationId);
+            } else {
+                this.coalescedUpdatesCounter.increment();
+            }
+        }
+    }
+
+    @Override
+    public void migrateContent(ICause cause, UUID representationId, String expectedContentHash, String content, RepresentationMigrationData migrationData) {
+        var pendingContent = new PendingContent(cause, representationId, content, RepresentationContentHash.of(content).value(), migrationData, Objects.requireNonNull(expectedContentHash));
+        if (!this.executorService.isShutdown() && this.pendingContents.putIfAbsent(representationId, pendingContent) == null) {
+            this.schedule(representationId);
+        }
+    }
+
+    @Override
+    public Optional<String> findPendingContentHash(UUID representationId) {
+        return Optional.ofNullable(this.pendingContents.get(representationId)).map(PendingContent::contentHash);
+    }
+
+    @Override
+    public Optional<RepresentationContent> findContentById(UUID representationId) {
+        this.flush(representationId);
+        return this.representationContentSearchService.findContentById(representationId);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executorService.shutdown();
+        this.pendingContents.keySet().forEach(this::flushPendingContent);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private synchronized void flush(UUID representationId) {
+        var pendingContent = this.pendingContents.remove(representationId);
+        if (pendingContent != null) {
+            try {
+                this.write(pendingContent);
+            } catch (RuntimeException exception) {
+                this.failedWritesCounter.increment();
+                this.retry(pendingContent);
+                throw exception;
+            }
+        }
+    }
+
+    private void schedule(UUID representationId) {
+        try {
+            this.executorService.schedule(() -> this.flushPendingContent(representationId), this.persistenceDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            this.flush(representationId);
+        }
+    }
+
+    private void retry(PendingContent pendingContent) {
+        var representationId = pendingContent.representationId();
+        if (!this.executorService.isShutdown() && this.pendingContents.putIfAbsent(representationId, pendingContent) == null) {
+            Duration retryDelay = this.persistenceDelay;
+            if (retryDelay.compareTo(MINIMUM_RETRY_DELAY) < 0) {
+                retryDelay = MINIMUM_RETRY_DELAY;
+            }
+            try {
+                this.executorService.schedule(() -> this.flushPendingContent(representationId), retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException exception) {
+                this.logger.warn("The content of the representation {} could not be scheduled to be written again", representationId);
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flushPendingContent(UUID representationId) {
+        try {
+            this.flush(representationId);
+        } catch (RuntimeException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private void write(PendingContent pendingContent) {
+        var migrationData = pendingContent.migrationData();
+        if (pendingContent.expectedContentHash() == null) {
+            this.representationContentUpdateService.updateContentByRepresentationIdWithMigrationData(pendingContent.cause(), pendingContent.representationId(), pendingContent.content(),
+                    migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+        } else {
+            var result = this.representationContentUpdateService.updateMigratedContentByRepresentationId(pendingContent.representationId(), pendingContent.expectedContentHash(),
+                    pendingContent.content(), migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+            if (result instanceof Failure<Void>) {
+                this.logger.debug("The migrated content of the representation {} has not been written since it has been modified in the meantime", pendingContent.representationId());
+            }
+        }
+    }
+
+    /**
+     * The content of a representation waiting to be written, the expected content hash is only used by the migrated
+     * contents which must not overwrite a more recent content.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingContent(ICause cause, UUID representationId, String content, String contentHash, RepresentationMigrationData migrationData, String expectedContentHash) {
+    }
+}
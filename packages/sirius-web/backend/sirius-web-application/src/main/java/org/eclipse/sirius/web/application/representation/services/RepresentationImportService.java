@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.representation.services.api.IImportedRepresentationIdentifierProvider;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationImportService;
+import org.eclipse.sirius.web.application.representation.services.api.ImportedRepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentCreationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataCreationService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to create the representations imported with a project.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationImportService implements IRepresentationImportService {
+
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final IRepresentationMetadataCreationService representationMetadataCreationService;
+
+    private final IRepresentationContentCreationService representationContentCreationService;
+
+    private final List<IImportedRepresentationIdentifierProvider> importedRepresentationIdentifierProviders;
+
+    public RepresentationImportService(IRepresentationMetadataCreationService representationMetadataCreationService, IRepresentationContentCreationService representationContentCreationService,
+            List<IImportedRepresentationIdentifierProvider> importedRepresentationIdentifierProviders) {
+        this.representationMetadataCreationService = Objects.requireNonNull(representationMetadataCreationService);
+        this.representationContentCreationService = Objects.requireNonNull(representationContentCreationService);
+        this.importedRepresentationIdentifierProviders = Objects.requireNonNull(importedRepresentationIdentifierProviders);
+    }
+
+    @Override
+    @Transactional
+    public void importRepresentations(ICause cause, List<RepresentationMetadata> representationMetadata, Map<UUID, ImportedRepresentationContent> representationIdToContent, Map<String, String> oldIdToNewId) {
+        for (RepresentationMetadata metadata : representationMetadata) {
+            var importedContent = representationIdToContent.get(metadata.getId());
+            if (importedContent != null) {
+                var identifiers = this.importedRepresentationIdentifierProviders.stream()
+                        .filter(provider -> provider.canHandle(metadata.getKind()))
+                        .findFirst()
+                        .map(provider -> provider.getIdentifiers(importedContent.content(), oldIdToNewId))
+                        .orElse(oldIdToNewId);
+                var content = this.rewriteIdentifiers(importedContent.content(), identifiers);
+                var migrationData = importedContent.migrationData();
+
+                this.representationMetadataCreationService.create(metadata);
+                this.representationContentCreationService.create(cause, metadata.getId(), content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+            }
+        }
+    }
+
+    /**
+     * Replaces the identifiers of the exported project by the identifiers of their imported counterparts, in a single
+     * pass over the content.
+     */
+    private String rewriteIdentifiers(String content, Map<String, String> oldIdToNewId) {
+        return UUID_PATTERN.matcher(content).replaceAll(matchResult -> Matcher.quoteReplacement(oldIdToNewId.getOrDefault(matchResult.group(), matchResult.group())));
+    }
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps in memory the representation metadata of each editing context indexed by their target object.
+ *
+ * <p>
+ * The representation metadata of an editing context are retrieved with a single query the first time they are
+ * needed and they are then kept up to date thanks to the events of the representation metadata. The index of an
+ * editing context is kept as long as the editing context is in memory.
+ * </p>
+ *
+ * <p>
+ * The query is performed without holding any lock shared by the editing contexts. Concurrent callers interested in
+ * the same editing context wait for the index being loaded, and the events received during the query are applied
+ * once it has completed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationMetadataIndexService implements IRepresentationMetadataIndexService {
+
+    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    private final Map<IEditingContext, RepresentationMetadataIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public RepresentationMetadataIndexService(IRepresentationMetadataSearchService representationMetadataSearchService) {
+        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+    }
+
+    @Override
+    public List<RepresentationMetadata> findAllRepresentationMetadataByTargetObjectId(IEditingContext editingContext, String targetObjectId) {
+        return this.getIndex(editingContext)
+                .map(index -> index.findAllByTargetObjectId(targetObjectId))
+                .orElse(List.of());
+    }
+
+    @Override
+    public boolean existAnyRepresentationMetadataForTargetObjectId(IEditingContext editingContext, String targetObjectId) {
+        return this.getIndex(editingContext)
+                .map(index -> index.existAnyForTargetObjectId(targetObjectId))
+                .orElse(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRepresentationMetadataCreatedEvent(RepresentationMetadataCreatedEvent event) {
+        var representationMetadata = event.representationMetadata();
+        this.getRegisteredIndexes(representationMetadata).forEach(index -> index.put(representationMetadata));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRepresentationMetadataUpdatedEvent(RepresentationMetadataUpdatedEvent event) {
+        var representationMetadata = event.representationMetadata();
+        this.getRegisteredIndexes(representationMetadata).forEach(index -> index.put(representationMetadata));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRepresentationMetadataDeletedEvent(RepresentationMetadataDeletedEvent event) {
+        var representationMetadata = event.representationMetadata();
+        this.getRegisteredIndexes(representationMetadata).forEach(index -> index.remove(representationMetadata.getId()));
+    }
+
+    private Optional<RepresentationMetadataIndex> getIndex(IEditingContext editingContext) {
+        return new UUIDParser().parse(editingContext.getId()).map(semanticDataId -> {
+            var index = this.indexes.get(editingContext);
+            if (index == null) {
+                // The index is registered before the query so that the events received in the meantime are not missed
+                var newIndex = new RepresentationMetadataIndex();
+                index = this.indexes.putIfAbsent(editingContext, newIndex);
+                if (index == null) {
+                    index = newIndex;
+                    this.loadIndex(editingContext, semanticDataId, newIndex);
+                }
+            }
+            index.waitUntilLoaded();
+            return index;
+        });
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void loadIndex(IEditingContext editingContext, UUID semanticDataId, RepresentationMetadataIndex index) {
+        try {
+            index.load(this.representationMetadataSearchService.findAllRepresentationMetadataBySemanticData(AggregateReference.to(semanticDataId)));
+        } catch (RuntimeException exception) {
+            // The next caller will try to load the index again
+            this.indexes.remove(editingContext, index);
+            index.fail(exception);
+            throw exception;
+        }
+    }
+
+    private List<RepresentationMetadataIndex> getRegisteredIndexes(RepresentationMetadata representationMetadata) {
+        String semanticDataId = representationMetadata.getSemanticData().getId().toString();
+        synchronized (this.indexes) {
+            return this.indexes.entrySet().stream()
+                    .filter(entry -> entry.getKey().getId().equals(semanticDataId))
+                    .map(Map.Entry::getValue)
+                    .toList();
+        }
+    }
+
+    /**
+     * The representation metadata of an editing context indexed by their target object.
+     *
+     * @author sbegaudeau
+     */
+    private static final class RepresentationMetadataIndex {
+
+        private final Map<UUID, RepresentationMetadata> representationMetadataById = new HashMap<>();
+
+        private final Map<String, Map<UUID, RepresentationMetadata>> representationMetadataByTargetObjectId = new HashMap<>();
+
+        private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+
+        private List<Runnable> changesDuringLoad = new ArrayList<>();
+
+        public synchronized void load(List<RepresentationMetadata> representationMetadata) {
+            representationMetadata.forEach(this::doPut);
+            this.changesDuringLoad.forEach(Runnable::run);
+            this.changesDuringLoad = null;
+            this.loaded.complete(null);
+        }
+
+        public void fail(RuntimeException exception) {
+            this.loaded.completeExceptionally(exception);
+        }
+
+        public void waitUntilLoaded() {
+            try {
+                this.loaded.join();
+            } catch (CompletionException exception) {
+                // The callers waiting for the load must fail the same way as the caller which has performed it
+                if (exception.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw exception;
+            }
+        }
+
+        public synchronized void put(RepresentationMetadata representationMetadata) {
+            if (this.changesDuringLoad != null) {
+                this.changesDuringLoad.add(() -> this.doPut(representationMetadata));
+            } else {
+                this.doPut(representationMetadata);
+            }
+        }
+
+        public synchronized void remove(UUID representationMetadataId) {
+            if (this.changesDuringLoad != null) {
+                this.changesDuringLoad.add(() -> this.doRemove(representationMetadataId));
+            } else {
+                this.doRemove(representationMetadataId);
+            }
+        }
+
+        public synchronized List<RepresentationMetadata> findAllByTargetObjectId(String targetObjectId) {
+            return List.copyOf(this.representationMetadataByTargetObjectId.getOrDefault(targetObjectId, Map.of()).values());
+        }
+
+        public synchronized boolean existAnyForTargetObjectId(String targetObjectId) {
+            return this.representationMetadataByTargetObjectId.containsKey(targetObjectId);
+        }
+
+        private void doPut(RepresentationMetadata representationMetadata) {
+            this.doRemove(representationMetadata.getId());
+            this.representationMetadataById.put(representationMetadata.getId(), representationMetadata);
+            this.representationMetadataByTargetObjectId.computeIfAbsent(representationMetadata.getTargetObjectId(), targetObjectId -> new LinkedHashMap<>())
+                    .put(representationMetadata.getId(), representationMetadata);
+        }
+
+        private void doRemove(UUID representationMetadataId) {
+            var previousRepresentationMetadata = this.representationMetadataById.remove(representationMetadataId);
+            if (previousRepresentationMetadata != null) {
+                var targetObjectId = previousRepresentationMetadata.getTargetObjectId();
+                var representationMetadata = this.representationMetadataByTargetObjectId.get(targetObjectId);
+                if (representationMetadata != null) {
+                    representationMetadata.remove(representationMetadataId);
+                    if (representationMetadata.isEmpty()) {
+                        this.representationMetadataByTargetObjectId.remove(targetObjectId);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,23 +20,33 @@ import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
 import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContentHash;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentCreationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to persist representations.
  *
+ * <p>
+ * The hash of the content of a representation is compared with the hash of its persisted content, or of its content
+ * waiting to be written, in order to skip the persistence of a representation which has not changed.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -48,7 +58,7 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
     private final IRepresentationContentCreationService representationContentCreationService;
 
-    private final IRepresentationContentUpdateService representationContentUpdateService;
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
 
     private final ObjectMapper objectMapper;
 
@@ -56,12 +66,17 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
-    public RepresentationPersistenceService(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentCreationService representationContentCreationService, IRepresentationContentUpdateService representationContentUpdateService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants) {
+    private final Counter skippedPersistenceCounter;
+
+    public RepresentationPersistenceService(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentCreationService representationContentCreationService,
+            IRepresentationContentWriteBehindService representationContentWriteBehindService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants, MeterRegistry meterRegistry) {
         this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
         this.representationContentCreationService = Objects.requireNonNull(representationContentCreationService);
-        this.representationContentUpdateService = Objects.requireNonNull(representationContentUpdateService);
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = migrationParticipants;
+        this.skippedPersistenceCounter = Counter.builder(Monitoring.COUNTER_SKIPPED_REPRESENTATION_PERSISTENCE)
+                .register(meterRegistry);
     }
 
     @Override
@@ -72,12 +87,16 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
             var representationId = optionalRepresentationId.get();
 
             String content = this.toString(representation);
+            String contentHash = RepresentationContentHash.of(content).value();
 
-            var exists = this.representationContentSearchService.existsById(representationId);
+            var optionalPreviousContentHash = this.representationContentWriteBehindService.findPendingContentHash(representationId)
+                    .or(() -> this.representationContentSearchService.findContentHashById(representationId));
 
-            if (exists) {
+            if (optionalPreviousContentHash.filter(contentHash::equals).isPresent()) {
+                this.skippedPersistenceCounter.increment();
+            } else if (optionalPreviousContentHash.isPresent()) {
                 var migrationData = this.getLastMigrationData(representation.getKind());
-                this.representationContentUpdateService.updateContentByRepresentationIdWithMigrationData(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
+                this.representationContentWriteBehindService.updateContent(cause, representationId, content, contentHash, migrationData);
             } else {
                 var migrationData = this.getInitialMigrationData(representation.getKind());
                 this.representationContentCreationService.create(cause, representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
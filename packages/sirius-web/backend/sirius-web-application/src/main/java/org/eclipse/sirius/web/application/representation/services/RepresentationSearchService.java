@@ -25,9 +25,9 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +43,7 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
-    private final IRepresentationContentSearchService representationContentSearchService;
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
 
     private final IRepresentationContentMigrationService representationContentMigrationService;
 
@@ -51,9 +51,9 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final Logger logger = LoggerFactory.getLogger(RepresentationSearchService.class);
 
-    public RepresentationSearchService(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentSearchService representationContentSearchService, IRepresentationContentMigrationService representationContentMigrationService, ObjectMapper objectMapper) {
+    public RepresentationSearchService(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentWriteBehindService representationContentWriteBehindService, IRepresentationContentMigrationService representationContentMigrationService, ObjectMapper objectMapper) {
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
-        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
         this.representationContentMigrationService = Objects.requireNonNull(representationContentMigrationService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
     }
@@ -68,7 +68,7 @@ public class RepresentationSearchService implements IRepresentationSearchService
     }
 
     private Optional<IRepresentation> getRepresentation(RepresentationMetadata representationMetadata) {
-        return this.representationContentSearchService.findContentById(representationMetadata.getId())
+        return this.representationContentWriteBehindService.findContentById(representationMetadata.getId())
                 .map(representationContent -> this.migratedContent(representationMetadata, representationContent))
                 .flatMap(this::toRepresentation);
     }
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.Map;
+
+/**
+ * Used to compute the new identifiers of the elements of an imported representation whose identifiers are derived from
+ * the identifier of the representation or from the identifiers of the semantic elements.
+ *
+ * @author sbegaudeau
+ */
+public interface IImportedRepresentationIdentifierProvider {
+
+    boolean canHandle(String kind);
+
+    /**
+     * Computes the new identifiers of the elements of the given representation content.
+     *
+     * @param content
+     *         The content of the representation, as exported
+     * @param oldIdToNewId
+     *         The identifiers of the exported project mapped to the identifiers of their imported counterparts
+     * @return The given identifiers completed with the ones of the elements of the representation
+     */
+    Map<String, String> getIdentifiers(String content, Map<String, String> oldIdToNewId);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.Optional;
 
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 
@@ -27,4 +29,41 @@ import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.Represen
 public interface IRepresentationContentMigrationService {
 
     Optional<ObjectNode> getMigratedContent(RepresentationMetadata representationMetadata, RepresentationContent representationContent);
+
+    /**
+     * Indicates if some migration participants have to be applied to the given representation content.
+     *
+     * @param representationMetadata
+     *         The metadata of the representation
+     * @param representationContent
+     *         The content of the representation
+     * @return <code>true</code> if the content is not up to date, <code>false</code> if it can be used as is
+     */
+    boolean needsMigration(RepresentationMetadata representationMetadata, RepresentationContent representationContent);
+
+    /**
+     * Returns the migration data of the content returned by {@link #getMigratedContent(RepresentationMetadata, RepresentationContent)}.
+     *
+     * @param representationMetadata
+     *         The metadata of the representation
+     * @param representationContent
+     *         The content of the representation
+     * @return The migration data of the last migration participant applicable to the content or the migration data of the
+     *         content itself if it is up to date
+     */
+    RepresentationMigrationData getMigrationData(RepresentationMetadata representationMetadata, RepresentationContent representationContent);
+
+    /**
+     * Migrates the given representation content and persists the result along with its new migration version, unless
+     * the content has been modified since it has been read.
+     *
+     * @param cause
+     *         The cause of the migration
+     * @param representationMetadata
+     *         The metadata of the representation
+     * @param representationContent
+     *         The content of the representation
+     * @return The outcome of the migration
+     */
+    RepresentationContentMigrationStatus migrateContent(ICause cause, RepresentationMetadata representationMetadata, RepresentationContent representationContent);
 }
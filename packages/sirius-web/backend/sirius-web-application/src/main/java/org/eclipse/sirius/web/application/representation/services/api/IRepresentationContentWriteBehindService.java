@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+
+/**
+ * Used to update the content of the representations, possibly after a delay in order to coalesce successive updates.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationContentWriteBehindService {
+
+    void updateContent(ICause cause, UUID representationId, String content, String contentHash, RepresentationMigrationData migrationData);
+
+    /**
+     * Persists the migrated content of a representation later, by the write-behind thread.
+     *
+     * <p>
+     * The migrated content is only written if the content of the representation has not been modified since it has
+     * been read. It is dropped if an update of the representation is already pending since the update is more recent.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the migration
+     * @param representationId
+     *         The identifier of the representation
+     * @param expectedContentHash
+     *         The hash of the content which has been migrated, or an empty string if it had no hash
+     * @param content
+     *         The migrated content
+     * @param migrationData
+     *         The migration data of the migrated content
+     */
+    void migrateContent(ICause cause, UUID representationId, String expectedContentHash, String content, RepresentationMigrationData migrationData);
+
+    Optional<String> findPendingContentHash(UUID representationId);
+
+    /**
+     * Returns the latest content of the given representation, its pending content is written beforehand if necessary.
+     *
+     * @param representationId
+     *         The identifier of the representation
+     * @return The representation content or an empty optional if it does not exist
+     */
+    Optional<RepresentationContent> findContentById(UUID representationId);
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+
+/**
+ * Used to create the representations imported with a project.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationImportService {
+
+    /**
+     * Creates the metadata and the content of the given representations in a single transaction.
+     *
+     * <p>
+     * The identifiers of the exported project found in the content of the representations are replaced by the ones of
+     * their imported counterparts. The content keeps the migration data of the server which has exported it so that
+     * the migration participants added since then are applied when it is read.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the import
+     * @param representationMetadata
+     *         The metadata of the representations to create
+     * @param representationIdToContent
+     *         The content of the representations by representation id
+     * @param oldIdToNewId
+     *         The identifiers of the exported project mapped to the identifiers of their imported counterparts
+     */
+    void importRepresentations(ICause cause, List<RepresentationMetadata> representationMetadata, Map<UUID, ImportedRepresentationContent> representationIdToContent, Map<String, String> oldIdToNewId);
+}
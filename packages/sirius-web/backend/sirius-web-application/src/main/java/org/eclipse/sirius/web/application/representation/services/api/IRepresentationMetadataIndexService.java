@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+
+/**
+ * Used to find the representation metadata of an editing context by their target object from memory.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationMetadataIndexService {
+
+    List<RepresentationMetadata> findAllRepresentationMetadataByTargetObjectId(IEditingContext editingContext, String targetObjectId);
+
+    boolean existAnyRepresentationMetadataForTargetObjectId(IEditingContext editingContext, String targetObjectId);
+}
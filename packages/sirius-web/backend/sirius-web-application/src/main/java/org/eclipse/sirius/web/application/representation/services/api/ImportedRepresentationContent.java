@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+
+/**
+ * The content of an imported representation along with the migration data of the server which has exported it.
+ *
+ * @author sbegaudeau
+ */
+public record ImportedRepresentationContent(String content, RepresentationMigrationData migrationData) {
+    public ImportedRepresentationContent {
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(migrationData);
+    }
+}
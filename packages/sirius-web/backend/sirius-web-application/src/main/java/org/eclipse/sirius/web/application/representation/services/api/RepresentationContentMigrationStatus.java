@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+/**
+ * The outcome of the migration of the content of a representation.
+ *
+ * @author sbegaudeau
+ */
+public enum RepresentationContentMigrationStatus {
+    /**
+     * The content has been migrated and persisted with its new migration version.
+     */
+    MIGRATED,
+
+    /**
+     * The content did not need to be migrated.
+     */
+    UP_TO_DATE,
+
+    /**
+     * The content has been modified or deleted since it has been read, the migrated content has not been persisted.
+     */
+    CONFLICT,
+
+    /**
+     * The content could not be migrated.
+     */
+    FAILED
+}
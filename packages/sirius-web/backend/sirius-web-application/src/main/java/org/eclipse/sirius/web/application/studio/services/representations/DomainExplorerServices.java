@@ -26,10 +26,8 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.domain.Domain;
 import org.eclipse.sirius.components.domain.Entity;
-import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IExplorerServices;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
-import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
 /**
@@ -48,13 +46,13 @@ public class DomainExplorerServices {
 
     private final IObjectService objectService;
 
-    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
 
     private final IExplorerServices explorerServices;
 
-    public DomainExplorerServices(IObjectService objectService, IRepresentationMetadataSearchService representationMetadataSearchService, IExplorerServices explorerServices) {
+    public DomainExplorerServices(IObjectService objectService, IRepresentationMetadataIndexService representationMetadataIndexService, IExplorerServices explorerServices) {
         this.objectService = Objects.requireNonNull(objectService);
-        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
         this.explorerServices = Objects.requireNonNull(explorerServices);
     }
 
@@ -101,13 +99,9 @@ public class DomainExplorerServices {
                 if (self instanceof Resource resource) {
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    var optionalSemanticDataId = new UUIDParser().parse(editingContext.getId());
-
-                    if (optionalSemanticDataId.isPresent()) {
-                        var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllRepresentationMetadataBySemanticDataAndTargetObjectId(AggregateReference.to(optionalSemanticDataId.get()), id));
-                        representationMetadata.sort(Comparator.comparing(org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata::getLabel));
-                        result.addAll(representationMetadata);
-                    }
+                    var representationMetadata = new ArrayList<>(this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(editingContext, id));
+                    representationMetadata.sort(Comparator.comparing(org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata::getLabel));
+                    result.addAll(representationMetadata);
 
                     List<Object> contents = this.objectService.getContents(self);
                     if (self instanceof Entity entity) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.undo.services;
 
+import org.eclipse.emf.ecore.change.FeatureChange;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
@@ -21,17 +22,59 @@ import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.undo.dto.RedoInput;
 import org.eclipse.sirius.web.application.undo.dto.UndoInput;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Sinks;
 
 /**
  * Used to save mutations id.
  *
+ * <p>
+ * The history of the changes of an editing context is bounded by a maximum number of inputs and by a maximum number of
+ * recorded changes, the oldest inputs are evicted first and cannot be undone anymore.
+ * </p>
+ *
  * @author mcharfadi
  */
 @Service
 public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor {
 
+    private static final String HISTORY_SIZE = "siriusweb_undo_history_size";
+
+    private static final String HISTORY_CHANGES = "siriusweb_undo_history_changes";
+
+    private static final String HISTORY_EVICTIONS = "siriusweb_undo_history_evictions";
+
+    private final int maxDepth;
+
+    private final int maxChanges;
+
+    private final DistributionSummary historySizeSummary;
+
+    private final DistributionSummary historyChangesSummary;
+
+    private final Counter evictionCounter;
+
+    public UndoRedoRecorder(@Value("${sirius.web.undo.maxDepth:100}") int maxDepth, @Value("${sirius.web.undo.maxChanges:10000}") int maxChanges, MeterRegistry meterRegistry) {
+        this.maxDepth = maxDepth;
+        this.maxChanges = maxChanges;
+
+        this.historySizeSummary = DistributionSummary.builder(HISTORY_SIZE)
+                .description("The number of inputs which can be undone in an editing context")
+                .baseUnit("inputs")
+                .register(meterRegistry);
+        this.historyChangesSummary = DistributionSummary.builder(HISTORY_CHANGES)
+                .description("The number of changes recorded in the undo history of an editing context")
+                .baseUnit("changes")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder(HISTORY_EVICTIONS)
+                .register(meterRegistry);
+    }
+
     private boolean canHandle(IInput input)  {
         return !(input instanceof UndoInput || input instanceof RedoInput || input instanceof LayoutDiagramInput);
     }
@@ -49,8 +92,52 @@ public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor
         if (editingContext instanceof EditingContext siriusEditingContext && canHandle(input)) {
             var changeDescription = siriusEditingContext.getChangeRecorder().summarize();
             siriusEditingContext.getInputId2change().put(input.id().toString(), changeDescription);
+            siriusEditingContext.getInputId2changeCount().put(input.id().toString(), this.countChanges(changeDescription));
             siriusEditingContext.getChangeRecorder().endRecording();
+
+            this.trimHistory(siriusEditingContext);
+        }
+
+    }
+
+    /**
+     * Evicts the oldest changes of the history until it fits in both the maximum depth and the maximum number of
+     * recorded changes. The most recent input is always kept so that it can be undone.
+     *
+     * @param editingContext
+     *         The editing context whose history should be trimmed
+     */
+    private void trimHistory(EditingContext editingContext) {
+        var inputId2changeCount = editingContext.getInputId2changeCount();
+
+        long changes = 0;
+        for (long inputChanges : inputId2changeCount.values()) {
+            changes += inputChanges;
         }
 
+        var iterator = inputId2changeCount.entrySet().iterator();
+        while (inputId2changeCount.size() > 1 && (inputId2changeCount.size() > this.maxDepth || changes > this.maxChanges)) {
+            var oldestEntry = iterator.next();
+            iterator.remove();
+            editingContext.getInputId2change().remove(oldestEntry.getKey());
+            changes -= oldestEntry.getValue();
+            this.evictionCounter.increment();
+        }
+
+        this.historySizeSummary.record(inputId2changeCount.size());
+        this.historyChangesSummary.record(changes);
+    }
+
+    private long countChanges(org.eclipse.emf.ecore.change.ChangeDescription changeDescription) {
+        long changes = changeDescription.getObjectsToAttach().size() + changeDescription.getObjectsToDetach().size();
+        for (var featureChanges : changeDescription.getObjectChanges().values()) {
+            for (FeatureChange featureChange : featureChanges) {
+                changes += Math.max(1, featureChange.getListChanges().size());
+            }
+        }
+        for (var resourceChange : changeDescription.getResourceChanges()) {
+            changes += Math.max(1, resourceChange.getListChanges().size());
+        }
+        return changes;
     }
 }
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to keep the diagnostics of each object of a resource set until the resource of the object or the resources it
+ * may depend on change.
+ *
+ * <p>
+ * The diagnostics are kept by resource. The constraints of an object may depend on other objects, such as the objects
+ * it references or its siblings, which may belong to any editable resource of the resource set. When an editable
+ * resource is modified, the diagnostics of all the editable resources are thus discarded. The read-only resources, such
+ * as the libraries, cannot reference the editable resources, their diagnostics are thus kept until a read-only resource
+ * is modified or the resource set itself changes. Until then, the diagnostics of an object are computed at most once for
+ * all the widgets of the forms displaying it and for the validation view. The adapter is installed on the resource set
+ * of an editing context when it is loaded, see {@link DiagnosticCacheEditingContextProcessor}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagnosticCacheAdapter extends EContentAdapter {
+
+    private final Map<Resource, Map<EObject, List<Diagnostic>>> resource2diagnostics = new HashMap<>();
+
+    private final Predicate<Resource> isReadOnly;
+
+    private long modificationCount;
+
+    public DiagnosticCacheAdapter() {
+        this(resource -> false);
+    }
+
+    public DiagnosticCacheAdapter(Predicate<Resource> isReadOnly) {
+        this.isReadOnly = Objects.requireNonNull(isReadOnly);
+    }
+
+    /**
+     * Returns the diagnostics of all the objects of the given resource set, only the objects without diagnostics in
+     * the cache are validated.
+     *
+     * @param resourceSet
+     *         The resource set
+     * @param validator
+     *         Used to compute the diagnostics of a single object, without its contents
+     * @return The diagnostics of all the objects of the resource set
+     */
+    public synchronized List<Diagnostic> getDiagnostics(ResourceSet resourceSet, Function<EObject, List<Diagnostic>> validator) {
+        List<Diagnostic> allDiagnostics = new ArrayList<>();
+        for (Resource resource : resourceSet.getResources()) {
+            TreeIterator<EObject> iterator = resource.getAllContents();
+            while (iterator.hasNext()) {
+                allDiagnostics.addAll(this.getDiagnostics(iterator.next(), validator));
+            }
+        }
+        return allDiagnostics;
+    }
+
+    /**
+     * Returns the diagnostics of the given object, it is only validated if its diagnostics are not in the cache.
+     *
+     * @param eObject
+     *         The object
+     * @param validator
+     *         Used to compute the diagnostics of the object, without its contents
+     * @return The diagnostics of the object
+     */
+    public synchronized List<Diagnostic> getDiagnostics(EObject eObject, Function<EObject, List<Diagnostic>> validator) {
+        Resource resource = eObject.eResource();
+        List<Diagnostic> eObjectDiagnostics = null;
+        if (resource != null) {
+            eObjectDiagnostics = this.resource2diagnostics.getOrDefault(resource, Map.of()).get(eObject);
+        }
+        if (eObjectDiagnostics == null) {
+            // The validation may load resources and thus notify this adapter, its result is only kept if nothing has changed
+            long initialModificationCount = this.modificationCount;
+            eObjectDiagnostics = List.copyOf(validator.apply(eObject));
+            if (resource != null && initialModificationCount == this.modificationCount && eObject.eAdapters().contains(this)) {
+                this.resource2diagnostics.computeIfAbsent(resource, key -> new HashMap<>()).put(eObject, eObjectDiagnostics);
+            }
+        }
+        return eObjectDiagnostics;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            synchronized (this) {
+                this.modificationCount++;
+                this.invalidate(notification.getNotifier());
+            }
+        }
+    }
+
+    /**
+     * Discards the diagnostics which may depend on the given modified notifier.
+     *
+     * @param notifier
+     *         The notifier which has been modified
+     */
+    private void invalidate(Object notifier) {
+        Resource modifiedResource = null;
+        if (notifier instanceof Resource resource) {
+            modifiedResource = resource;
+        } else if (notifier instanceof EObject eObject) {
+            modifiedResource = eObject.eResource();
+        }
+
+        if (modifiedResource == null || this.isReadOnly.test(modifiedResource)) {
+            this.resource2diagnostics.clear();
+        } else {
+            this.resource2diagnostics.keySet().removeIf(resource -> !this.isReadOnly.test(resource));
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        synchronized (this) {
+            this.resource2diagnostics.values().forEach(diagnostics -> diagnostics.remove(target));
+        }
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        super.unsetTarget(target);
+        synchronized (this) {
+            this.resource2diagnostics.remove(target);
+        }
+    }
+}
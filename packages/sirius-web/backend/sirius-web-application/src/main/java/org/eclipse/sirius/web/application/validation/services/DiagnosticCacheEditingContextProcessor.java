@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.object.services.api.IReadOnlyObjectPredicate;
+import org.eclipse.sirius.web.application.validation.OnValidationEnabled;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to install the {@link DiagnosticCacheAdapter} on the resource set of an editing context once it has been loaded.
+ *
+ * @author sbegaudeau
+ */
+@Service
+@Conditional(OnValidationEnabled.class)
+public class DiagnosticCacheEditingContextProcessor implements IEditingContextProcessor {
+
+    private final IReadOnlyObjectPredicate readOnlyObjectPredicate;
+
+    public DiagnosticCacheEditingContextProcessor(IReadOnlyObjectPredicate readOnlyObjectPredicate) {
+        this.readOnlyObjectPredicate = Objects.requireNonNull(readOnlyObjectPredicate);
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var resourceSet = emfEditingContext.getDomain().getResourceSet();
+            if (resourceSet.eAdapters().stream().noneMatch(DiagnosticCacheAdapter.class::isInstance)) {
+                resourceSet.eAdapters().add(new DiagnosticCacheAdapter(this.readOnlyObjectPredicate::test));
+            }
+        }
+    }
+}
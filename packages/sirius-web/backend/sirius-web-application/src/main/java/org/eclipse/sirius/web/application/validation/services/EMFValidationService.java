@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,21 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.validation.services;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IValidationService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -34,9 +37,18 @@ import org.eclipse.sirius.web.application.validation.OnValidationEnabled;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * Used to validate EMF elements.
  *
+ * <p>
+ * The diagnostics of the objects of an editing context are kept in the {@link DiagnosticCacheAdapter} installed on its
+ * resource set when it is loaded, until the resource set is modified. The widgets of the forms share the same
+ * diagnostics, so that an object is validated at most once for all of them between two modifications. The time spent validating objects for the widgets is published as <code>timer_widget_validation</code>.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
@@ -47,9 +59,13 @@ public class EMFValidationService implements IValidationService {
 
     private final ComposedAdapterFactory composedAdapterFactory;
 
-    public EMFValidationService(EValidator.Registry eValidatorRegistry, ComposedAdapterFactory composedAdapterFactory) {
+    private final Timer widgetValidationTimer;
+
+    public EMFValidationService(EValidator.Registry eValidatorRegistry, ComposedAdapterFactory composedAdapterFactory, MeterRegistry meterRegistry) {
         this.eValidatorRegistry = Objects.requireNonNull(eValidatorRegistry);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
+        this.widgetValidationTimer = Timer.builder(Monitoring.TIMER_WIDGET_VALIDATION)
+                .register(meterRegistry);
     }
 
     @Override
@@ -63,16 +79,23 @@ public class EMFValidationService implements IValidationService {
 
     @Override
     public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
+        if (object instanceof EObject eObject) {
+            Map<Object, Object> options = new HashMap<>();
+            options.put(Diagnostician.VALIDATE_RECURSIVELY, false);
             Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .map(Object.class::cast)
-                        .toList();
-            }
+            Function<EObject, List<Diagnostic>> validator = target -> this.widgetValidationTimer.record(() -> diagnostician.validate(target, options).getChildren());
+
+            List<Diagnostic> diagnostics = Optional.ofNullable(eObject.eResource())
+                    .map(Resource::getResourceSet)
+                    .flatMap(this::getDiagnosticCacheAdapter)
+                    .map(diagnosticCacheAdapter -> diagnosticCacheAdapter.getDiagnostics(eObject, validator))
+                    .orElseGet(() -> validator.apply(eObject));
+
+            return diagnostics.stream()
+                    .filter(diag -> this.filterDiagnosticByObject(diag, object))
+                    .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
+                    .map(Object.class::cast)
+                    .toList();
         }
 
         return List.of();
@@ -96,21 +119,39 @@ public class EMFValidationService implements IValidationService {
 
     private List<Object> validate(IEMFEditingContext editingContext) {
         AdapterFactoryEditingDomain domain = editingContext.getDomain();
+        ResourceSet resourceSet = domain.getResourceSet();
 
         Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
+        options.put(Diagnostician.VALIDATE_RECURSIVELY, false);
         Diagnostician diagnostician = this.getNewDiagnostician();
 
-        return domain.getResourceSet().getResources().stream()
-                .map(Resource::getContents)
-                .flatMap(Collection::stream)
-                .map(eObject -> diagnostician.validate(eObject, options))
-                .map(Diagnostic::getChildren)
-                .flatMap(Collection::stream)
+        Function<EObject, List<Diagnostic>> validator = eObject -> diagnostician.validate(eObject, options).getChildren();
+        List<Diagnostic> diagnostics = this.getDiagnosticCacheAdapter(resourceSet)
+                .map(diagnosticCacheAdapter -> diagnosticCacheAdapter.getDiagnostics(resourceSet, validator))
+                .orElseGet(() -> this.getDiagnostics(resourceSet, validator));
+
+        return diagnostics.stream()
                 .map(Object.class::cast)
                 .toList();
     }
 
+    private List<Diagnostic> getDiagnostics(ResourceSet resourceSet, Function<EObject, List<Diagnostic>> validator) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        resourceSet.getAllContents().forEachRemaining(notifier -> {
+            if (notifier instanceof EObject eObject) {
+                diagnostics.addAll(validator.apply(eObject));
+            }
+        });
+        return diagnostics;
+    }
+
+    private Optional<DiagnosticCacheAdapter> getDiagnosticCacheAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(DiagnosticCacheAdapter.class::isInstance)
+                .map(DiagnosticCacheAdapter.class::cast)
+                .findFirst();
+    }
+
     private Diagnostician getNewDiagnostician() {
         return new Diagnostician(this.eValidatorRegistry) {
             @Override
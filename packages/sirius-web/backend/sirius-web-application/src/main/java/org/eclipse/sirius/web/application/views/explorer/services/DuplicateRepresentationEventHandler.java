@@ -30,13 +30,13 @@ import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.representations.Message;
 import org.eclipse.sirius.components.representations.MessageLevel;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
 import org.eclipse.sirius.web.application.views.explorer.dto.DuplicateObjectInput;
 import org.eclipse.sirius.web.application.views.explorer.dto.DuplicateRepresentationInput;
 import org.eclipse.sirius.web.application.views.explorer.dto.DuplicateRepresentationSuccessPayload;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationIconURL;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentCreationService;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataCreationService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
@@ -58,7 +58,7 @@ public class DuplicateRepresentationEventHandler implements IEditingContextEvent
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
-    private final IRepresentationContentSearchService representationContentSearchService;
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
 
     private final IRepresentationMetadataCreationService representationMetadataCreationService;
 
@@ -72,10 +72,10 @@ public class DuplicateRepresentationEventHandler implements IEditingContextEvent
 
     private final Logger logger = LoggerFactory.getLogger(DuplicateRepresentationEventHandler.class);
 
-    public DuplicateRepresentationEventHandler(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentSearchService representationContentSearchService, IRepresentationMetadataCreationService representationMetadataCreationService,
+    public DuplicateRepresentationEventHandler(IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationContentWriteBehindService representationContentWriteBehindService, IRepresentationMetadataCreationService representationMetadataCreationService,
                                                IRepresentationContentCreationService representationContentCreationService, IMessageService messageService,  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
-        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
         this.representationMetadataCreationService = Objects.requireNonNull(representationMetadataCreationService);
         this.representationContentCreationService = Objects.requireNonNull(representationContentCreationService);
         this.messageService = Objects.requireNonNull(messageService);
@@ -118,7 +118,7 @@ public class DuplicateRepresentationEventHandler implements IEditingContextEvent
         var optionalRepresentationMetadata = new UUIDParser().parse(representationId)
                 .flatMap(this.representationMetadataSearchService::findMetadataById);
         var optionalRepresentationContent = optionalRepresentationMetadata.map(RepresentationMetadata::getId)
-                .flatMap(this.representationContentSearchService::findContentById);
+                .flatMap(this.representationContentWriteBehindService::findContentById);
 
         if (optionalRepresentationMetadata.isPresent() && optionalRepresentationContent.isPresent()) {
             var representationMetadataToDuplicate = optionalRepresentationMetadata.get();
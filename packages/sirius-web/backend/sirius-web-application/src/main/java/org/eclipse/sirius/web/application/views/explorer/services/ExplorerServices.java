@@ -34,11 +34,11 @@ import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.object.services.api.IReadOnlyObjectPredicate;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IExplorerServices;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationIconURL;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
-import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
 /**
@@ -57,13 +57,17 @@ public class ExplorerServices implements IExplorerServices {
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
+
     private final IReadOnlyObjectPredicate readOnlyObjectPredicate;
 
-    public ExplorerServices(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService, IReadOnlyObjectPredicate readOnlyObjectPredicate) {
+    public ExplorerServices(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService,
+            IRepresentationMetadataIndexService representationMetadataIndexService, IReadOnlyObjectPredicate readOnlyObjectPredicate) {
         this.objectService = Objects.requireNonNull(objectService);
         this.urlParser = Objects.requireNonNull(urlParser);
         this.representationImageProviders = Objects.requireNonNull(representationImageProviders);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
         this.readOnlyObjectPredicate = Objects.requireNonNull(readOnlyObjectPredicate);
     }
 
@@ -215,10 +219,9 @@ public class ExplorerServices implements IExplorerServices {
         } else if (self instanceof EObject eObject) {
             hasChildren = !eObject.eContents().isEmpty();
 
-            var optionalSemanticDataId = new UUIDParser().parse(editingContext.getId());
-            if (!hasChildren && optionalSemanticDataId.isPresent()) {
+            if (!hasChildren) {
                 String id = this.objectService.getId(eObject);
-                hasChildren = this.representationMetadataSearchService.existAnyRepresentationMetadataForSemanticDataAndTargetObjectId(AggregateReference.to(optionalSemanticDataId.get()), id);
+                hasChildren = this.representationMetadataIndexService.existAnyRepresentationMetadataForTargetObjectId(editingContext, id);
             }
         }
         return hasChildren;
@@ -233,13 +236,9 @@ public class ExplorerServices implements IExplorerServices {
                 if (self instanceof Resource resource) {
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    var optionalSemanticDataId = new UUIDParser().parse(editingContext.getId());
-
-                    if (optionalSemanticDataId.isPresent()) {
-                        var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllRepresentationMetadataBySemanticDataAndTargetObjectId(AggregateReference.to(optionalSemanticDataId.get()), id));
-                        representationMetadata.sort(Comparator.comparing(RepresentationMetadata::getLabel));
-                        result.addAll(representationMetadata);
-                    }
+                    var representationMetadata = new ArrayList<>(this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(editingContext, id));
+                    representationMetadata.sort(Comparator.comparing(RepresentationMetadata::getLabel));
+                    result.addAll(representationMetadata);
 
                     List<Object> contents = this.objectService.getContents(self);
                     result.addAll(contents);
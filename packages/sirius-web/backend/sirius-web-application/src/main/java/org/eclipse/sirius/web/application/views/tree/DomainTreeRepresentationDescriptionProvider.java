@@ -40,10 +40,10 @@ import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.description.TreeDescription;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationIconURL;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
-import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
 /**
@@ -69,11 +69,15 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
-    public DomainTreeRepresentationDescriptionProvider(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService) {
+    private final IRepresentationMetadataIndexService representationMetadataIndexService;
+
+    public DomainTreeRepresentationDescriptionProvider(IObjectService objectService, IURLParser urlParser, List<IRepresentationImageProvider> representationImageProviders, IRepresentationMetadataSearchService representationMetadataSearchService,
+            IRepresentationMetadataIndexService representationMetadataIndexService) {
         this.objectService = Objects.requireNonNull(objectService);
         this.urlParser = Objects.requireNonNull(urlParser);
         this.representationImageProviders = Objects.requireNonNull(representationImageProviders);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+        this.representationMetadataIndexService = Objects.requireNonNull(representationMetadataIndexService);
     }
 
     @Override
@@ -192,14 +196,11 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
         boolean hasChildren = false;
         if (self instanceof EObject eObject) {
             hasChildren = !eObject.eContents().isEmpty();
-            var optionalSemanticDataId = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class)
-                    .map(IEditingContext::getId)
-                    .flatMap(semanticDataId -> new UUIDParser().parse(semanticDataId));
+            var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
 
-            if (!hasChildren && optionalSemanticDataId.isPresent()) {
+            if (!hasChildren && optionalEditingContext.isPresent()) {
                 String id = this.objectService.getId(eObject);
-                var semanticDataId = optionalSemanticDataId.get();
-                hasChildren = this.representationMetadataSearchService.existAnyRepresentationMetadataForSemanticDataAndTargetObjectId(AggregateReference.to(semanticDataId), id);
+                hasChildren = this.representationMetadataIndexService.existAnyRepresentationMetadataForTargetObjectId(optionalEditingContext.get(), id);
             }
 
             if (!hasChildren && self instanceof Entity) {
@@ -237,12 +238,9 @@ public class DomainTreeRepresentationDescriptionProvider implements IEditingCont
         String id = this.getTreeItemId(variableManager);
         if (expandedIds.contains(id)) {
             if (self instanceof EObject) {
-                var optionalSemanticDataId = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class)
-                        .map(IEditingContext::getId)
-                        .flatMap(semanticDataId -> new UUIDParser().parse(semanticDataId));
-                if (optionalSemanticDataId.isPresent()) {
-                    var semanticDataId = optionalSemanticDataId.get();
-                    var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllRepresentationMetadataBySemanticDataAndTargetObjectId(AggregateReference.to(semanticDataId), id));
+                var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
+                if (optionalEditingContext.isPresent()) {
+                    var representationMetadata = new ArrayList<>(this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(optionalEditingContext.get(), id));
                     representationMetadata.sort(Comparator.comparing(RepresentationMetadata::getLabel));
                     result.addAll(representationMetadata);
                 }
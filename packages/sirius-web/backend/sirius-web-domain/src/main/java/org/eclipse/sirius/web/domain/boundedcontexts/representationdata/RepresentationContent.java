@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,8 @@ public class RepresentationContent extends AbstractValidatingAggregateRoot<Repre
 
     private String content;
 
+    private String contentHash;
+
     private String lastMigrationPerformed;
 
     private String migrationVersion;
@@ -59,6 +61,10 @@ public class RepresentationContent extends AbstractValidatingAggregateRoot<Repre
         return this.content;
     }
 
+    public String getContentHash() {
+        return this.contentHash;
+    }
+
     public Instant getCreatedOn() {
         return this.createdOn;
     }
@@ -78,11 +84,14 @@ public class RepresentationContent extends AbstractValidatingAggregateRoot<Repre
     public void updateContent(ICause cause, String newContent) {
         if (!Objects.equals(this.content, newContent)) {
             this.content = newContent;
+            this.contentHash = RepresentationContentHash.of(newContent).value();
 
             var now = Instant.now();
             this.lastModifiedOn = now;
 
             this.registerEvent(new RepresentationContentUpdatedEvent(UUID.randomUUID(), now, cause, this));
+        } else if (this.contentHash == null && this.content != null) {
+            this.contentHash = RepresentationContentHash.of(this.content).value();
         }
     }
 
@@ -143,6 +152,7 @@ public class RepresentationContent extends AbstractValidatingAggregateRoot<Repre
             representationContent.isNew = true;
             representationContent.id = Objects.requireNonNull(this.id);
             representationContent.content = Objects.requireNonNull(this.content);
+            representationContent.contentHash = RepresentationContentHash.of(this.content).value();
             representationContent.lastMigrationPerformed = Objects.requireNonNull(this.lastMigrationPerformed);
             representationContent.migrationVersion = Objects.requireNonNull(this.migrationVersion);
 
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * The hash of the content of a representation used to detect that a representation has not changed.
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationContentHash(String value) {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    public RepresentationContentHash {
+        Objects.requireNonNull(value);
+    }
+
+    public static RepresentationContentHash of(String content) {
+        try {
+            var messageDigest = MessageDigest.getInstance(ALGORITHM);
+            var digest = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return new RepresentationContentHash(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -26,4 +31,28 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface IRepresentationContentRepository extends ListPagingAndSortingRepository<RepresentationContent, UUID>, ListCrudRepository<RepresentationContent, UUID> {
+
+    @Query("""
+        SELECT COALESCE(representationContent.content_hash, '')
+        FROM representation_content representationContent
+        WHERE representationContent.id = :representationId
+        """)
+    Optional<String> findContentHashById(UUID representationId);
+
+    @Query("""
+        SELECT representationContent.*
+        FROM representation_content representationContent
+        WHERE representationContent.id > :cursorRepresentationId
+        ORDER BY representationContent.id ASC
+        LIMIT :limit
+        """)
+    List<RepresentationContent> findAllAfter(UUID cursorRepresentationId, int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE representation_content
+        SET content = :content, content_hash = :contentHash, last_migration_performed = :lastMigrationPerformed, migration_version = :migrationVersion, last_modified_on = :lastModifiedOn
+        WHERE id = :representationId AND COALESCE(content_hash, '') = :expectedContentHash
+        """)
+    int updateMigratedContent(UUID representationId, String expectedContentHash, String content, String contentHash, String lastMigrationPerformed, String migrationVersion, Instant lastModifiedOn);
 }
@@ -37,6 +37,13 @@ public interface IRepresentationMetadataRepository extends ListPagingAndSortingR
         """)
     Optional<RepresentationMetadata> findMetadataById(UUID id);
 
+    @Query("""
+        SELECT representationMetadata.*
+        FROM representation_metadata representationMetadata
+        WHERE representationMetadata.id IN (:ids)
+        """)
+    List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids);
+
     @Query("""
         SELECT representationMetadata.*
         FROM representation_metadata representationMetadata
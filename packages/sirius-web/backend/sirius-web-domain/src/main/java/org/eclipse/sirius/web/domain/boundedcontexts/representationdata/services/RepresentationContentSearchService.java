@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,4 +46,14 @@ public class RepresentationContentSearchService implements IRepresentationConten
     public boolean existsById(UUID representationId) {
         return this.representationContentRepository.existsById(representationId);
     }
+
+    @Override
+    public Optional<String> findContentHashById(UUID representationId) {
+        return this.representationContentRepository.findContentHashById(representationId);
+    }
+
+    @Override
+    public List<RepresentationContent> findAllAfter(UUID cursorRepresentationId, int limit) {
+        return this.representationContentRepository.findAllAfter(cursorRepresentationId, limit);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContentHash;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationContentRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
 import org.eclipse.sirius.web.domain.services.Failure;
@@ -77,4 +79,19 @@ public class RepresentationContentUpdateService implements IRepresentationConten
 
         return result;
     }
+
+    @Override
+    public IResult<Void> updateMigratedContentByRepresentationId(UUID representationId, String expectedContentHash, String content, String lastMigrationPerformed, String migrationVersion) {
+        IResult<Void> result = null;
+
+        var contentHash = RepresentationContentHash.of(content).value();
+        int updatedCount = this.representationContentRepository.updateMigratedContent(representationId, expectedContentHash, content, contentHash, lastMigrationPerformed, migrationVersion, Instant.now());
+        if (updatedCount > 0) {
+            result = new Success<>(null);
+        } else {
+            result = new Failure<>(this.messageService.notFound());
+        }
+
+        return result;
+    }
 }
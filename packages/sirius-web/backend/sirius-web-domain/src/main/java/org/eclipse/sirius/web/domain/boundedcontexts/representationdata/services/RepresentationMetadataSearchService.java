@@ -48,6 +48,11 @@ public class RepresentationMetadataSearchService implements IRepresentationMetad
         return this.representationMetadataRepository.findMetadataById(id);
     }
 
+    @Override
+    public List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids) {
+        return this.representationMetadataRepository.findAllMetadataByIds(ids);
+    }
+
     @Override
     public boolean existsByIdAndKind(UUID id, List<String> kinds) {
         return this.representationMetadataRepository.existsByIdAndKind(id, kinds);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,4 +29,25 @@ public interface IRepresentationContentSearchService {
     Optional<RepresentationContent> findContentById(UUID representationId);
 
     boolean existsById(UUID representationId);
+
+    /**
+     * Returns the hash of the content of the given representation.
+     *
+     * @param representationId
+     *         The identifier of the representation
+     * @return The hash of the content, an empty string if it has never been computed or an empty optional if the
+     *         representation content does not exist
+     */
+    Optional<String> findContentHashById(UUID representationId);
+
+    /**
+     * Returns the representation contents following the given one, ordered by identifier.
+     *
+     * @param cursorRepresentationId
+     *         The identifier after which the representation contents are returned
+     * @param limit
+     *         The maximum number of representation contents returned
+     * @return The following representation contents
+     */
+    List<RepresentationContent> findAllAfter(UUID cursorRepresentationId, int limit);
 }
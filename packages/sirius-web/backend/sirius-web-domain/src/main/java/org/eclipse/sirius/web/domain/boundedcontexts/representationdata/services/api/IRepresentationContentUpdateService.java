@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -27,4 +27,28 @@ public interface IRepresentationContentUpdateService {
     IResult<Void> updateContentByRepresentationId(ICause cause, UUID representationId, String content);
 
     IResult<Void> updateContentByRepresentationIdWithMigrationData(ICause cause, UUID representationId, String content, String lastMigrationPerformed, String migrationVersion);
+
+    /**
+     * Updates the content of a representation with its migrated content, only if it has not been modified since it has
+     * been read.
+     *
+     * <p>
+     * The content is updated with a single conditional statement, without being loaded again. Since the migration does
+     * not change the representation from the point of view of the user, no domain event is published.
+     * </p>
+     *
+     * @param representationId
+     *         The identifier of the representation
+     * @param expectedContentHash
+     *         The hash of the content which has been migrated, or an empty string if it had no hash
+     * @param content
+     *         The migrated content
+     * @param lastMigrationPerformed
+     *         The name of the last migration participant applied
+     * @param migrationVersion
+     *         The version of the last migration participant applied
+     * @return A success if the content has been updated, or a failure if the representation does not exist anymore or
+     *         if its content has been modified in the meantime
+     */
+    IResult<Void> updateMigratedContentByRepresentationId(UUID representationId, String expectedContentHash, String content, String lastMigrationPerformed, String migrationVersion);
 }
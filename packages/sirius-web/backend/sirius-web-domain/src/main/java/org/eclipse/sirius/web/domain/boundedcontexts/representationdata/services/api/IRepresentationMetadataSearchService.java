@@ -31,6 +31,8 @@ public interface IRepresentationMetadataSearchService {
 
     Optional<RepresentationMetadata> findMetadataById(UUID id);
 
+    List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids);
+
     boolean existsByIdAndKind(UUID id, List<String> kinds);
 
     List<RepresentationMetadata> findAllRepresentationMetadataBySemanticData(AggregateReference<SemanticData, UUID> semanticData);
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,6 +34,7 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.jdbc.core.RowMapper;
 
 /**
  * The aggregate root of the semantic data bounded context.
@@ -131,6 +134,22 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         }
     }
 
+    /**
+     * Indicates that some documents of the semantic data have been written without saving the whole aggregate.
+     *
+     * <p>
+     * Used when only the modified documents of some semantic data loaded with {@link MetadataRowMapper}, and thus
+     * without its documents, domains and dependencies, have been written.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the update
+     */
+    public void documentsUpdated(ICause cause) {
+        this.lastModifiedOn = Instant.now();
+        this.registerEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), this.lastModifiedOn, cause, this));
+    }
+
     public void addDependencies(ICause cause, List<AggregateReference<SemanticData, UUID>> dependencySemanticDataIds) {
         var newDependencies = dependencySemanticDataIds.stream()
                 .filter(newDependency -> this.dependencies.stream()
@@ -172,6 +191,23 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         return new Builder();
     }
 
+    /**
+     * Used to load the semantic data without their documents, domains and dependencies.
+     *
+     * @author sbegaudeau
+     */
+    public static final class MetadataRowMapper implements RowMapper<SemanticData> {
+
+        @Override
+        public SemanticData mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+            var semanticData = new SemanticData();
+            semanticData.id = resultSet.getObject("id", UUID.class);
+            semanticData.createdOn = resultSet.getTimestamp("created_on").toInstant();
+            semanticData.lastModifiedOn = resultSet.getTimestamp("last_modified_on").toInstant();
+            return semanticData;
+        }
+    }
+
     /**
      * Used to create new semantic data.
      *
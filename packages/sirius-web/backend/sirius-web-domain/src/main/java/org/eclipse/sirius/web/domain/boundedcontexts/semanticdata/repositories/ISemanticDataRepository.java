@@ -12,10 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -60,4 +64,82 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         SELECT dependency_semantic_data_id FROM dependencies
         """)
     List<UUID> findAllDependenciesRecursivelyById(UUID id);
+
+    @Query(value = """
+        SELECT * FROM semantic_data
+        WHERE id = :id
+        """, rowMapperClass = SemanticData.MetadataRowMapper.class)
+    Optional<SemanticData> findMetadataById(UUID id);
+
+    @Query("""
+        SELECT id FROM document
+        WHERE semantic_data_id = :semanticDataId
+        """)
+    List<UUID> findAllDocumentIdsBySemanticDataId(UUID semanticDataId);
+
+    @Query("""
+        SELECT uri FROM semantic_data_domain
+        WHERE semantic_data_id = :semanticDataId
+        """)
+    List<String> findAllDomainUrisBySemanticDataId(UUID semanticDataId);
+
+    @Query("""
+        SELECT content FROM document
+        WHERE semantic_data_id = :semanticDataId AND id = :id
+        """)
+    Optional<String> findDocumentContentById(UUID semanticDataId, UUID id);
+
+    @Modifying
+    @Query("""
+        INSERT INTO document (id, semantic_data_id, name, content, created_on, last_modified_on)
+        VALUES (:id, :semanticDataId, :name, :content, :createdOn, :lastModifiedOn)
+        """)
+    void insertDocument(UUID semanticDataId, UUID id, String name, String content, Instant createdOn, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        UPDATE document
+        SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+        WHERE semantic_data_id = :semanticDataId AND id = :id AND (name <> :name OR content <> :content)
+        """)
+    int updateDocument(UUID semanticDataId, UUID id, String name, String content, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        DELETE FROM document
+        WHERE semantic_data_id = :semanticDataId AND id IN (:ids)
+        """)
+    void deleteDocuments(UUID semanticDataId, Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+        DELETE FROM semantic_data_domain
+        WHERE semantic_data_id = :semanticDataId
+        """)
+    void deleteDomains(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO semantic_data_domain (semantic_data_id, uri)
+        VALUES (:semanticDataId, :uri)
+        """)
+    void insertDomain(UUID semanticDataId, String uri);
+
+    /**
+     * Saves the last modification date of semantic data loaded with {@link #findMetadataById(UUID)}.
+     *
+     * <p>
+     * Like the other save methods of the repository, it publishes the domain events registered by the semantic data.
+     * </p>
+     *
+     * @param semanticData
+     *         The semantic data
+     */
+    @Modifying
+    @Query("""
+        UPDATE semantic_data
+        SET last_modified_on = :#{#semanticData.lastModifiedOn}
+        WHERE id = :#{#semanticData.id}
+        """)
+    void saveLastModifiedOn(SemanticData semanticData);
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,6 +53,11 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         return this.semanticDataRepository.existsById(id);
     }
 
+    @Override
+    public Optional<Instant> findLastModifiedOnById(UUID id) {
+        return this.semanticDataRepository.findMetadataById(id).map(SemanticData::getLastModifiedOn);
+    }
+
     @Override
     public List<AggregateReference<SemanticData, UUID>> findAllDependenciesIdById(UUID id) {
         return this.semanticDataRepository.findAllDependenciesById(id).stream()
@@ -64,4 +70,9 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         var semanticDataIds = this.semanticDataRepository.findAllDependenciesRecursivelyById(id);
         return this.semanticDataRepository.findAllById(semanticDataIds);
     }
+
+    @Override
+    public Optional<String> findDocumentContentById(UUID semanticDataId, UUID documentId) {
+        return this.semanticDataRepository.findDocumentContentById(semanticDataId, documentId);
+    }
 }
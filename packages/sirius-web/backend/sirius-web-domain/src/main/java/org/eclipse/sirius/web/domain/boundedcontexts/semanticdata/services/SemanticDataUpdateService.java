@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
@@ -47,6 +48,57 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
         });
     }
 
+    @Override
+    public void updateModifiedDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, Set<Document> modifiedDocuments, Set<UUID> unmodifiedDocumentIds, Set<String> domainUris) {
+        // Saving the aggregate would load and write again every document, only the modified rows are written instead
+        this.semanticDataRepository.findMetadataById(semanticDataId.getId()).ifPresent(semanticData -> {
+            boolean documentsWritten = this.writeModifiedDocuments(semanticData.getId(), modifiedDocuments, unmodifiedDocumentIds);
+            boolean domainsWritten = this.writeModifiedDomains(semanticData.getId(), domainUris);
+            if (documentsWritten || domainsWritten) {
+                semanticData.documentsUpdated(cause);
+                this.semanticDataRepository.saveLastModifiedOn(semanticData);
+            }
+        });
+    }
+
+    private boolean writeModifiedDocuments(UUID semanticDataId, Set<Document> modifiedDocuments, Set<UUID> unmodifiedDocumentIds) {
+        boolean documentsWritten = false;
+
+        var existingDocumentIds = Set.copyOf(this.semanticDataRepository.findAllDocumentIdsBySemanticDataId(semanticDataId));
+        for (var document : modifiedDocuments) {
+            if (existingDocumentIds.contains(document.getId())) {
+                int updatedCount = this.semanticDataRepository.updateDocument(semanticDataId, document.getId(), document.getName(), document.getContent(), document.getLastModifiedOn());
+                documentsWritten = documentsWritten || updatedCount > 0;
+            } else {
+                this.semanticDataRepository.insertDocument(semanticDataId, document.getId(), document.getName(), document.getContent(), document.getCreatedOn(), document.getLastModifiedOn());
+                documentsWritten = true;
+            }
+        }
+
+        var modifiedDocumentIds = modifiedDocuments.stream()
+                .map(Document::getId)
+                .collect(Collectors.toSet());
+        var removedDocumentIds = existingDocumentIds.stream()
+                .filter(documentId -> !unmodifiedDocumentIds.contains(documentId) && !modifiedDocumentIds.contains(documentId))
+                .toList();
+        if (!removedDocumentIds.isEmpty()) {
+            this.semanticDataRepository.deleteDocuments(semanticDataId, removedDocumentIds);
+            documentsWritten = true;
+        }
+
+        return documentsWritten;
+    }
+
+    private boolean writeModifiedDomains(UUID semanticDataId, Set<String> domainUris) {
+        var previousDomainUris = Set.copyOf(this.semanticDataRepository.findAllDomainUrisBySemanticDataId(semanticDataId));
+        boolean domainsWritten = !previousDomainUris.equals(domainUris);
+        if (domainsWritten) {
+            this.semanticDataRepository.deleteDomains(semanticDataId);
+            domainUris.forEach(domainUri -> this.semanticDataRepository.insertDomain(semanticDataId, domainUri));
+        }
+        return domainsWritten;
+    }
+
     @Override
     public void addDependencies(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, List<AggregateReference<SemanticData, UUID>> dependencySemanticDataIds) {
         this.semanticDataRepository.findById(semanticDataId.getId()).ifPresent(semanticData -> {
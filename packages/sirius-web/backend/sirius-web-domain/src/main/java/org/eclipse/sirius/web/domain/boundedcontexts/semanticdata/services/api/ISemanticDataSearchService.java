@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,7 +33,18 @@ public interface ISemanticDataSearchService {
 
     boolean existsById(UUID id);
 
+    /**
+     * Returns the last modification date of the semantic data without loading its documents.
+     *
+     * @param id
+     *         The id of the semantic data
+     * @return The last modification date or an empty optional if the semantic data does not exist
+     */
+    Optional<Instant> findLastModifiedOnById(UUID id);
+
     List<AggregateReference<SemanticData, UUID>> findAllDependenciesIdById(UUID id);
 
     List<SemanticData> findAllDependenciesRecursivelyById(UUID id);
+
+    Optional<String> findDocumentContentById(UUID semanticDataId, UUID documentId);
 }
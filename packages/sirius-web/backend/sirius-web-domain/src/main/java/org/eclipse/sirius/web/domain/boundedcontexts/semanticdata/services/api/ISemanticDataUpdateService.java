@@ -29,6 +29,8 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
 public interface ISemanticDataUpdateService {
     void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<Document> documents, Set<String> domainUris);
 
+    void updateModifiedDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticData, Set<Document> modifiedDocuments, Set<UUID> unmodifiedDocumentIds, Set<String> domainUris);
+
     void addDependencies(ICause cause, AggregateReference<SemanticData, UUID> semanticData, List<AggregateReference<SemanticData, UUID>> dependencySemanticDataIds);
 
     void removeDependencies(ICause cause, AggregateReference<SemanticData, UUID> semanticData, List<AggregateReference<SemanticData, UUID>> dependencySemanticDataIds);
@@ -18,6 +18,7 @@ import java.util.List;
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
 import org.eclipse.sirius.components.graphql.api.InstantScalarType;
 import org.eclipse.sirius.components.graphql.api.UploadScalarType;
+import org.eclipse.sirius.components.graphql.execution.CachingPreparsedDocumentProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,6 +41,7 @@ import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.SchemaPrinter;
 import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Spring Configuration used to create everything necessary to run GraphQL queries.
@@ -57,7 +59,8 @@ public class GraphQLConfiguration {
     private final Logger logger = LoggerFactory.getLogger(GraphQLConfiguration.class);
 
     @Bean
-    public GraphQL graphQL(GraphQLSchema graphQLSchema, @Value("${sirius.web.graphql.tracing:false}") boolean activateTracing) {
+    public GraphQL graphQL(GraphQLSchema graphQLSchema, @Value("${sirius.web.graphql.tracing:false}") boolean activateTracing, MeterRegistry meterRegistry,
+            @Value("${sirius.web.graphql.documentCacheSize:" + CachingPreparsedDocumentProvider.DEFAULT_MAXIMUM_SIZE + "}") int documentCacheSize) {
         var options = SchemaPrinter.Options.defaultOptions();
         String schema = new SchemaPrinter(options).print(graphQLSchema);
 
@@ -73,7 +76,8 @@ public class GraphQLConfiguration {
         var graphQLJavaBuilder = GraphQL.newGraphQL(graphQLSchema)
                 .queryExecutionStrategy(queryExecutionStrategy)
                 .mutationExecutionStrategy(mutationExecutionStrategy)
-                .subscriptionExecutionStrategy(subscriptionExecutionStrategy);
+                .subscriptionExecutionStrategy(subscriptionExecutionStrategy)
+                .preparsedDocumentProvider(new CachingPreparsedDocumentProvider(documentCacheSize, meterRegistry));
 
         if (activateTracing) {
             var tracingOptions = TracingInstrumentation.Options.newOptions().includeTrivialDataFetchers(false);
@@ -15,9 +15,9 @@ package org.eclipse.sirius.web.view.fork.listeners;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectCreatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataUpdatedEvent;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
 import org.eclipse.sirius.web.view.fork.dto.CreateForkedStudioInput;
@@ -35,12 +35,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Service
 public class ForkedStudioRepresentationMetadataUpdater {
 
-    private final IRepresentationContentSearchService representationContentSearchService;
+    private final IRepresentationContentWriteBehindService representationContentWriteBehindService;
 
     private final IRepresentationContentUpdateService representationContentUpdateService;
 
-    public ForkedStudioRepresentationMetadataUpdater(IRepresentationContentSearchService representationContentSearchService, IRepresentationContentUpdateService representationContentUpdateService) {
-        this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
+    public ForkedStudioRepresentationMetadataUpdater(IRepresentationContentWriteBehindService representationContentWriteBehindService, IRepresentationContentUpdateService representationContentUpdateService) {
+        this.representationContentWriteBehindService = Objects.requireNonNull(representationContentWriteBehindService);
         this.representationContentUpdateService = Objects.requireNonNull(representationContentUpdateService);
     }
 
@@ -61,7 +61,7 @@ public class ForkedStudioRepresentationMetadataUpdater {
                     .replace(previousSourceId, newSourceId)
                     .replace(previousSourceElementId, newSourceElementId);
 
-            var representationContent = this.representationContentSearchService.findContentById(UUID.fromString(representationId));
+            var representationContent = this.representationContentWriteBehindService.findContentById(UUID.fromString(representationId));
             if (representationContent.isPresent()) {
                 //  Update the descriptionId of the current representation
                 var newContent = representationContent.get().getContent()
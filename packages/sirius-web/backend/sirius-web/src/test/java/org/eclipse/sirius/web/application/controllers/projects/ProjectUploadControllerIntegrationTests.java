@@ -23,6 +23,7 @@ import com.jayway.jsonpath.JsonPath;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.zip.ZipEntry;
@@ -33,6 +34,10 @@ import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.project.dto.UploadProjectInput;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
 import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +48,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -63,6 +69,8 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
 
     private static final String ECORE_SAMPLE = "EcoreSample";
 
+    private static final String PORTAL_ID = "e81eec5c-42d6-491c-8bcc-9beb951356f8";
+
     @LocalServerPort
     private int port;
 
@@ -73,6 +81,15 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
     @Autowired
     private IProjectSearchService projectSearchService;
 
+    @Autowired
+    private IProjectSemanticDataSearchService projectSemanticDataSearchService;
+
+    @Autowired
+    private IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    @Autowired
+    private IRepresentationContentSearchService representationContentSearchService;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -153,12 +170,31 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
         var optionalProject = this.projectSearchService.findById(newProjectId);
         assertThat(optionalProject).isPresent();
         optionalProject.ifPresent(project -> assertThat(project.getName()).isEqualTo(ECORE_SAMPLE));
+
+        var representationMetadata = this.projectSemanticDataSearchService.findByProjectId(AggregateReference.to(newProjectId))
+                .map(ProjectSemanticData::getSemanticData)
+                .map(this.representationMetadataSearchService::findAllRepresentationMetadataBySemanticData)
+                .orElse(List.of());
+        assertThat(representationMetadata).hasSize(1);
+        var portalMetadata = representationMetadata.get(0);
+        assertThat(portalMetadata.getLabel()).isEqualTo("Portal");
+        assertThat(portalMetadata.getId().toString()).isNotEqualTo(PORTAL_ID);
+
+        var optionalRepresentationContent = this.representationContentSearchService.findContentById(portalMetadata.getId());
+        assertThat(optionalRepresentationContent).isPresent();
+        optionalRepresentationContent.ifPresent(representationContent -> assertThat(representationContent.getContent())
+                .contains(portalMetadata.getId().toString())
+                .contains("\"width\":500")
+                .doesNotContain(PORTAL_ID));
+
+        // The manifest does not contain the migration version of the representation, its content is thus migrated when read
+        optionalRepresentationContent.ifPresent(representationContent -> assertThat(representationContent.getMigrationVersion()).isEqualTo("0"));
     }
 
     private byte[] getZipTestFile() {
         byte[] zipByte = null;
         String projectName = ECORE_SAMPLE;
-        String representationId = "e81eec5c-42d6-491c-8bcc-9beb951356f8";
+        String representationId = PORTAL_ID;
         String documentId = "48dc942a-6b76-4133-bca5-5b29ebee133d";
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -15,13 +15,20 @@ package org.eclipse.sirius.web.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Optional;
+
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceModificationTrackingAdapter;
 import org.eclipse.sirius.web.application.library.services.LibraryMetadataAdapter;
 import org.eclipse.sirius.web.data.PapayaIdentifiers;
 import org.eclipse.sirius.web.data.TestIdentifiers;
@@ -30,6 +37,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +56,9 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
     @Autowired
     private IEditingContextPersistenceService editingContextPersistenceService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @GivenSiriusWebServer
     @DisplayName("Given semantic data using static metamodels, when the loading is performed, then the semantic data are available in the editing context")
@@ -119,6 +130,57 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
         }
     }
 
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an editing context properly loaded, when it is persisted, then only the modified resources need to be serialized during the next persistence")
+    public void givenEditingContextProperlyLoadedWhenItIsPersistedThenOnlyModifiedResourcesNeedToBeSerialized() {
+        var optionalEditingContext = this.editingContextSearchService.findById(TestIdentifiers.ECORE_SAMPLE_EDITING_CONTEXT_ID.toString());
+        assertThat(optionalEditingContext).isPresent();
+
+        var editingContext = optionalEditingContext.get();
+        if (editingContext instanceof EditingContext siriusWebEditingContext) {
+            var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
+            var resource = resourceSet.getResources().get(0);
+
+            var optionalTrackingAdapter = Optional.ofNullable(EcoreUtil.getExistingAdapter(resourceSet, ResourceModificationTrackingAdapter.class))
+                    .map(ResourceModificationTrackingAdapter.class::cast);
+            assertThat(optionalTrackingAdapter).isPresent();
+            var trackingAdapter = optionalTrackingAdapter.get();
+            assertThat(trackingAdapter.isModified(resource)).isTrue();
+
+            this.editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+            assertThat(trackingAdapter.isModified(resource)).isTrue();
+            TestTransaction.flagForRollback();
+            TestTransaction.end();
+            assertThat(trackingAdapter.isModified(resource)).isTrue();
+
+            this.persistAndCommit(editingContext);
+            assertThat(trackingAdapter.isModified(resource)).isFalse();
+            assertThat(trackingAdapter.getDomainUris(resource)).contains(EcorePackage.eNS_URI);
+
+            var rowVersion = this.getDocumentRowVersion();
+            this.persistAndCommit(editingContext);
+            assertThat(this.getDocumentRowVersion()).isEqualTo(rowVersion);
+
+            EPackage ePackage = (EPackage) resource.getContents().get(0);
+            ePackage.setName("Sample Updated");
+            assertThat(trackingAdapter.isModified(resource)).isTrue();
+
+            this.persistAndCommit(editingContext);
+            assertThat(trackingAdapter.isModified(resource)).isFalse();
+            assertThat(this.getDocumentRowVersion()).isNotEqualTo(rowVersion);
+
+            resource.eAdapters().stream()
+                    .filter(ResourceMetadataAdapter.class::isInstance)
+                    .map(ResourceMetadataAdapter.class::cast)
+                    .findFirst()
+                    .ifPresent(resourceMetadataAdapter -> resourceMetadataAdapter.setName("Renamed"));
+            assertThat(trackingAdapter.isModified(resource)).isTrue();
+        } else {
+            fail("Invalid editing context");
+        }
+    }
+
     @Test
     @GivenSiriusWebServer
     @DisplayName("Given semantic data with a dependency, when the loading is performed, then the semantic data are available in the editing context")
@@ -137,4 +199,22 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
             fail("Invalid editing context");
         }
     }
+
+    /**
+     * Persists the editing context in a new transaction, the serialized resources are only considered as unmodified
+     * once this transaction has been committed.
+     */
+    private void persistAndCommit(IEditingContext editingContext) {
+        TestTransaction.start();
+        this.editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    /**
+     * Returns the physical location of the row of the sample document, it changes every time the row is written.
+     */
+    private String getDocumentRowVersion() {
+        return this.jdbcTemplate.queryForObject("SELECT ctid::text FROM document WHERE id = ?", String.class, TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+    }
 }
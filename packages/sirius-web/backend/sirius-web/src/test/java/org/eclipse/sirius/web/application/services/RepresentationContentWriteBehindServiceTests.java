@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.representation.services.RepresentationContentWriteBehindService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.eclipse.sirius.web.domain.services.IResult;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the delayed persistence of the content of the representations.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationContentWriteBehindServiceTests {
+
+    private static final Duration LONG_DELAY = Duration.ofHours(1);
+
+    private static final RepresentationMigrationData MIGRATION_DATA = new RepresentationMigrationData("none", "0");
+
+    private static final String FIRST_CONTENT = "{\"label\":\"first\"}";
+
+    private static final String SECOND_CONTENT = "{\"label\":\"second\"}";
+
+    private static final String THIRD_CONTENT = "{\"label\":\"third\"}";
+
+    private static final String FIRST_HASH = "firstHash";
+
+    private static final String SECOND_HASH = "secondHash";
+
+    private static final String THIRD_HASH = "thirdHash";
+
+    private static final String WRITE_BEHIND_THREAD_NAME = "Representation content write-behind";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RepresentationContentStore representationContentStore = new RepresentationContentStore(new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>(), new ConcurrentHashMap<>(), new CountDownLatch(1), new AtomicInteger());
+
+    private RepresentationContentWriteBehindService writeBehindService;
+
+    @AfterEach
+    public void tearDown() {
+        if (this.writeBehindService != null) {
+            this.writeBehindService.dispose();
+        }
+    }
+
+    @Test
+    public void givenSeveralUpdatesOfTheSameRepresentationWhenTheDelayHasNotExpiredThenTheyAreCoalesced() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+        var representationId = UUID.randomUUID();
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, SECOND_CONTENT, SECOND_HASH, MIGRATION_DATA);
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, THIRD_CONTENT, THIRD_HASH, MIGRATION_DATA);
+
+        assertThat(this.representationContentStore.writes()).isEmpty();
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).hasValue(THIRD_HASH);
+        assertThat(this.meterRegistry.get(Monitoring.COUNTER_COALESCED_REPRESENTATION_PERSISTENCE).counter().count()).isEqualTo(2);
+
+        this.writeBehindService.dispose();
+
+        assertThat(this.representationContentStore.writes()).containsExactly(THIRD_CONTENT);
+    }
+
+    @Test
+    public void givenAPendingUpdateWhenTheContentIsReadThenThePendingContentIsWrittenFirst() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+        var representationId = UUID.randomUUID();
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, SECOND_CONTENT, SECOND_HASH, MIGRATION_DATA);
+
+        var optionalRepresentationContent = this.writeBehindService.findContentById(representationId);
+
+        assertThat(optionalRepresentationContent).map(RepresentationContent::getContent).hasValue(SECOND_CONTENT);
+        assertThat(this.representationContentStore.writes()).containsExactly(SECOND_CONTENT);
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).isEmpty();
+
+        this.writeBehindService.findContentById(representationId);
+        assertThat(this.representationContentStore.writes()).containsExactly(SECOND_CONTENT);
+    }
+
+    @Test
+    public void givenPendingUpdatesWhenTheServiceIsDisposedThenTheyAreAllWritten() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), UUID.randomUUID(), FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+        this.writeBehindService.updateContent(new ICause.NoOp(), UUID.randomUUID(), SECOND_CONTENT, SECOND_HASH, MIGRATION_DATA);
+        assertThat(this.representationContentStore.writes()).isEmpty();
+
+        this.writeBehindService.dispose();
+        assertThat(this.representationContentStore.writes()).containsExactlyInAnyOrder(FIRST_CONTENT, SECOND_CONTENT);
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), UUID.randomUUID(), THIRD_CONTENT, THIRD_HASH, MIGRATION_DATA);
+        assertThat(this.representationContentStore.writes()).containsExactlyInAnyOrder(FIRST_CONTENT, SECOND_CONTENT, THIRD_CONTENT);
+    }
+
+    @Test
+    public void givenAPendingUpdateWhenTheDelayHasExpiredThenItIsWrittenByTheWriteBehindThread() throws InterruptedException {
+        this.writeBehindService = this.createWriteBehindService(Duration.ofMillis(10));
+        var representationId = UUID.randomUUID();
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+
+        assertThat(this.representationContentStore.written().await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.representationContentStore.writes()).containsExactly(FIRST_CONTENT);
+        assertThat(this.representationContentStore.writerThreadNames()).containsExactly(WRITE_BEHIND_THREAD_NAME);
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).isEmpty();
+    }
+
+    @Test
+    public void givenNoDelayWhenTheContentIsUpdatedThenItIsWrittenImmediately() {
+        this.writeBehindService = this.createWriteBehindService(Duration.ZERO);
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), UUID.randomUUID(), FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+
+        assertThat(this.representationContentStore.writes()).containsExactly(FIRST_CONTENT);
+    }
+
+    @Test
+    public void givenNoDelayWhenAMigratedContentIsWrittenThenItIsWrittenByTheWriteBehindThread() throws InterruptedException {
+        this.writeBehindService = this.createWriteBehindService(Duration.ZERO);
+        var representationContent = this.createRepresentationContent(FIRST_CONTENT);
+
+        this.writeBehindService.migrateContent(new ICause.NoOp(), representationContent.getId(), representationContent.getContentHash(), SECOND_CONTENT, MIGRATION_DATA);
+
+        assertThat(this.representationContentStore.written().await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.representationContentStore.writes()).containsExactly(SECOND_CONTENT);
+        assertThat(this.representationContentStore.writerThreadNames()).containsExactly(WRITE_BEHIND_THREAD_NAME);
+    }
+
+    @Test
+    public void givenAContentModifiedAfterBeingReadWhenItsMigratedContentIsWrittenThenItIsNotOverwritten() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+        var representationContent = this.createRepresentationContent(FIRST_CONTENT);
+
+        this.writeBehindService.migrateContent(new ICause.NoOp(), representationContent.getId(), FIRST_HASH, SECOND_CONTENT, MIGRATION_DATA);
+        var optionalRepresentationContent = this.writeBehindService.findContentById(representationContent.getId());
+
+        assertThat(optionalRepresentationContent).map(RepresentationContent::getContent).hasValue(FIRST_CONTENT);
+        assertThat(this.representationContentStore.writes()).isEmpty();
+    }
+
+    @Test
+    public void givenAPendingUpdateWhenAMigratedContentIsWrittenThenThePendingUpdateIsKept() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+        var representationContent = this.createRepresentationContent(FIRST_CONTENT);
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationContent.getId(), SECOND_CONTENT, SECOND_HASH, MIGRATION_DATA);
+        this.writeBehindService.migrateContent(new ICause.NoOp(), representationContent.getId(), representationContent.getContentHash(), THIRD_CONTENT, MIGRATION_DATA);
+        assertThat(this.writeBehindService.findPendingContentHash(representationContent.getId())).hasValue(SECOND_HASH);
+
+        this.writeBehindService.dispose();
+        assertThat(this.representationContentStore.writes()).containsExactly(SECOND_CONTENT);
+    }
+
+    @Test
+    public void givenAWriteWhichFailsOnceWhenTheDelayHasExpiredThenItIsWrittenAgainByTheWriteBehindThread() throws InterruptedException {
+        this.writeBehindService = this.createWriteBehindService(Duration.ofMillis(10));
+        this.representationContentStore.remainingFailures().set(1);
+        var representationId = UUID.randomUUID();
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+
+        assertThat(this.representationContentStore.written().await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(this.representationContentStore.writes()).containsExactly(FIRST_CONTENT);
+        assertThat(this.representationContentStore.writerThreadNames()).containsExactly(WRITE_BEHIND_THREAD_NAME);
+        assertThat(this.meterRegistry.get(Monitoring.COUNTER_FAILED_REPRESENTATION_PERSISTENCE).counter().count()).isEqualTo(1);
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).isEmpty();
+    }
+
+    @Test
+    public void givenAWriteWhichFailsOnceWhenANewerContentIsQueuedThenOnlyTheNewerContentIsWritten() {
+        this.writeBehindService = this.createWriteBehindService(LONG_DELAY);
+        this.representationContentStore.remainingFailures().set(1);
+        var representationId = UUID.randomUUID();
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, FIRST_CONTENT, FIRST_HASH, MIGRATION_DATA);
+
+        assertThatThrownBy(() -> this.writeBehindService.findContentById(representationId)).isInstanceOf(IllegalStateException.class);
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).hasValue(FIRST_HASH);
+        assertThat(this.meterRegistry.get(Monitoring.COUNTER_FAILED_REPRESENTATION_PERSISTENCE).counter().count()).isEqualTo(1);
+
+        this.writeBehindService.updateContent(new ICause.NoOp(), representationId, SECOND_CONTENT, SECOND_HASH, MIGRATION_DATA);
+        assertThat(this.writeBehindService.findPendingContentHash(representationId)).hasValue(SECOND_HASH);
+
+        var optionalRepresentationContent = this.writeBehindService.findContentById(representationId);
+        assertThat(optionalRepresentationContent).map(RepresentationContent::getContent).hasValue(SECOND_CONTENT);
+        assertThat(this.representationContentStore.writes()).containsExactly(SECOND_CONTENT);
+    }
+
+    private RepresentationContent createRepresentationContent(String content) {
+        var representationContent = RepresentationContent.newRepresentationContent(UUID.randomUUID())
+                .content(content)
+                .lastMigrationPerformed(MIGRATION_DATA.lastMigrationPerformed())
+                .migrationVersion(MIGRATION_DATA.migrationVersion())
+                .build(new ICause.NoOp());
+        this.representationContentStore.contents().put(representationContent.getId(), representationContent);
+        return representationContent;
+    }
+
+    private RepresentationContentWriteBehindService createWriteBehindService(Duration persistenceDelay) {
+        return new RepresentationContentWriteBehindService(this.representationContentStore, this.representationContentStore, this.meterRegistry, persistenceDelay);
+    }
+
+    /**
+     * Stores the content of the representations in memory and records each write, the given number of writes fail
+     * before the first successful one.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationContentStore(List<String> writes, List<String> writerThreadNames, Map<UUID, RepresentationContent> contents, CountDownLatch written, AtomicInteger remainingFailures) implements IRepresentationContentSearchService, IRepresentationContentUpdateService {
+
+        @Override
+        public Optional<RepresentationContent> findContentById(UUID representationId) {
+            return Optional.ofNullable(this.contents.get(representationId));
+        }
+
+        @Override
+        public boolean existsById(UUID representationId) {
+            return this.contents.containsKey(representationId);
+        }
+
+        @Override
+        public Optional<String> findContentHashById(UUID representationId) {
+            return this.findContentById(representationId).map(RepresentationContent::getContentHash);
+        }
+
+        @Override
+        public List<RepresentationContent> findAllAfter(UUID cursorRepresentationId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public IResult<Void> updateContentByRepresentationId(ICause cause, UUID representationId, String content) {
+            return this.updateContentByRepresentationIdWithMigrationData(cause, representationId, content, MIGRATION_DATA.lastMigrationPerformed(), MIGRATION_DATA.migrationVersion());
+        }
+
+        @Override
+        public IResult<Void> updateContentByRepresentationIdWithMigrationData(ICause cause, UUID representationId, String content, String lastMigrationPerformed, String migrationVersion) {
+            if (this.remainingFailures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                throw new IllegalStateException("The content of the representation could not be written");
+            }
+            var representationContent = RepresentationContent.newRepresentationContent(representationId)
+                    .content(content)
+                    .lastMigrationPerformed(lastMigrationPerformed)
+                    .migrationVersion(migrationVersion)
+                    .build(cause);
+            this.contents.put(representationId, representationContent);
+            this.writes.add(content);
+            this.writerThreadNames.add(Thread.currentThread().getName());
+            this.written.countDown();
+            return new Success<>(null);
+        }
+
+        @Override
+        public IResult<Void> updateMigratedContentByRepresentationId(UUID representationId, String expectedContentHash, String content, String lastMigrationPerformed, String migrationVersion) {
+            IResult<Void> result = new Failure<>("");
+            boolean unmodified = this.findContentHashById(representationId).filter(expectedContentHash::equals).isPresent();
+            if (unmodified) {
+                result = this.updateContentByRepresentationIdWithMigrationData(new ICause.NoOp(), representationId, content, lastMigrationPerformed, migrationVersion);
+            }
+            return result;
+        }
+    }
+}
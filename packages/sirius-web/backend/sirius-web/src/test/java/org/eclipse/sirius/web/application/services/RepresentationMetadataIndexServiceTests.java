@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationMetadataIndexService;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataDeletionService;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to test the in-memory index of the representation metadata.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationMetadataIndexServiceTests extends AbstractIntegrationTests {
+
+    @Autowired
+    private IEditingContextSearchService editingContextSearchService;
+
+    @Autowired
+    private IRepresentationMetadataIndexService representationMetadataIndexService;
+
+    @Autowired
+    private IRepresentationMetadataDeletionService representationMetadataDeletionService;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an editing context, when a representation is deleted, then its metadata are removed from the index")
+    public void givenEditingContextWhenRepresentationIsDeletedThenItsMetadataAreRemovedFromTheIndex() {
+        var optionalEditingContext = this.editingContextSearchService.findById(TestIdentifiers.ECORE_SAMPLE_EDITING_CONTEXT_ID);
+        assertThat(optionalEditingContext).isPresent();
+        var editingContext = optionalEditingContext.get();
+
+        var targetObjectId = TestIdentifiers.EPACKAGE_OBJECT.toString();
+        assertThat(this.representationMetadataIndexService.existAnyRepresentationMetadataForTargetObjectId(editingContext, targetObjectId)).isTrue();
+        assertThat(this.representationMetadataIndexService.existAnyRepresentationMetadataForTargetObjectId(editingContext, UUID.randomUUID().toString())).isFalse();
+        assertThat(this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(editingContext, targetObjectId))
+                .extracting(RepresentationMetadata::getId)
+                .contains(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION, TestIdentifiers.EPACKAGE_EMPTY_PORTAL_REPRESENTATION);
+
+        this.representationMetadataDeletionService.delete(new ICause.NoOp(), TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        assertThat(this.representationMetadataIndexService.findAllRepresentationMetadataByTargetObjectId(editingContext, targetObjectId))
+                .extracting(RepresentationMetadata::getId)
+                .doesNotContain(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION)
+                .contains(TestIdentifiers.EPACKAGE_EMPTY_PORTAL_REPRESENTATION);
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.sirius.components.charts.hierarchy.Hierarchy;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.data.MigrationIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContentHash;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to test the persistence of the representations.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationPersistenceServiceTests extends AbstractIntegrationTests {
+
+    @Autowired
+    private IEditingContextSearchService editingContextSearchService;
+
+    @Autowired
+    private IRepresentationSearchService representationSearchService;
+
+    @Autowired
+    private IRepresentationPersistenceService representationPersistenceService;
+
+    @Autowired
+    private IRepresentationContentSearchService representationContentSearchService;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a representation, when it is saved again without any change, then its content is not written again")
+    public void givenRepresentationWhenItIsSavedAgainWithoutAnyChangeThenItsContentIsNotWrittenAgain() {
+        var optionalEditingContext = this.editingContextSearchService.findById(MigrationIdentifiers.MIGRATION_NODE_DESCRIPTION_LABEL_EXPRESSION_STUDIO.toString());
+        assertThat(optionalEditingContext).isPresent();
+        var editingContext = optionalEditingContext.get();
+
+        var optionalRepresentation = this.representationSearchService.findById(editingContext, MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY.toString(), Hierarchy.class);
+        assertThat(optionalRepresentation).isPresent();
+        var representation = optionalRepresentation.get();
+
+        this.representationPersistenceService.save(null, editingContext, representation);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        var optionalRepresentationContent = this.representationContentSearchService.findContentById(MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY);
+        assertThat(optionalRepresentationContent).isPresent();
+        var representationContent = optionalRepresentationContent.get();
+        assertThat(representationContent.getContentHash()).isEqualTo(RepresentationContentHash.of(representationContent.getContent()).value());
+
+        this.representationPersistenceService.save(null, editingContext, representation);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        var optionalSavedAgainRepresentationContent = this.representationContentSearchService.findContentById(MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY);
+        assertThat(optionalSavedAgainRepresentationContent).isPresent();
+        assertThat(optionalSavedAgainRepresentationContent.get().getLastModifiedOn()).isEqualTo(representationContent.getLastModifiedOn());
+    }
+}
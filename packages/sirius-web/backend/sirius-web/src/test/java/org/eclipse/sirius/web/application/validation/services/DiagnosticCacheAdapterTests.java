@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.library.services.LibraryMetadataAdapter;
+import org.eclipse.sirius.web.application.object.services.DefaultReadOnlyObjectPredicate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the {@link DiagnosticCacheAdapter}.
+ *
+ * @author sbegaudeau
+ */
+public class DiagnosticCacheAdapterTests {
+
+    private static final String IN_MEMORY_URI = "inmemory";
+
+    private static final String MODIFIED = "Modified";
+
+    @Test
+    public void givenValidatedObjectsWhenOneOfThemIsModifiedThenAllTheObjectsAreValidatedAgain() {
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        var modifiedEClass = EcoreFactory.eINSTANCE.createEClass();
+        var eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        modifiedEClass.getEStructuralFeatures().add(eAttribute);
+        var otherEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(modifiedEClass);
+        ePackage.getEClassifiers().add(otherEClass);
+
+        var resourceSet = new ResourceSetImpl();
+        var resource = new ResourceImpl(URI.createURI(IN_MEMORY_URI));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        var adapter = new DiagnosticCacheAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        List<EObject> validatedEObjects = new ArrayList<>();
+        Function<EObject, List<Diagnostic>> validator = eObject -> {
+            validatedEObjects.add(eObject);
+            return List.of(new BasicDiagnostic(Diagnostic.WARNING, "test", 0, "warning", new Object[] { eObject }));
+        };
+
+        var diagnostics = adapter.getDiagnostics(resourceSet, validator);
+        assertThat(diagnostics).hasSize(4);
+        assertThat(validatedEObjects).containsExactly(ePackage, modifiedEClass, eAttribute, otherEClass);
+
+        validatedEObjects.clear();
+        assertThat(adapter.getDiagnostics(resourceSet, validator)).isEqualTo(diagnostics);
+        assertThat(validatedEObjects).isEmpty();
+
+        // The constraints of the other objects may depend on the modified one, such as the uniqueness of the names
+        modifiedEClass.setName(MODIFIED);
+        assertThat(adapter.getDiagnostics(resourceSet, validator)).hasSize(4);
+        assertThat(validatedEObjects).containsExactly(ePackage, modifiedEClass, eAttribute, otherEClass);
+
+        validatedEObjects.clear();
+        ePackage.getEClassifiers().remove(otherEClass);
+        assertThat(adapter.getDiagnostics(resourceSet, validator)).hasSize(3);
+        assertThat(validatedEObjects).containsExactly(ePackage, modifiedEClass, eAttribute);
+    }
+
+    @Test
+    public void givenADocumentAndALibraryWhenTheDocumentIsModifiedThenOnlyTheObjectsOfTheDocumentAreValidatedAgain() {
+        var documentEClass = EcoreFactory.eINSTANCE.createEClass();
+        var libraryEClass = EcoreFactory.eINSTANCE.createEClass();
+
+        var resourceSet = new ResourceSetImpl();
+        var documentResource = new ResourceImpl(URI.createURI(IN_MEMORY_URI));
+        documentResource.getContents().add(documentEClass);
+        resourceSet.getResources().add(documentResource);
+        var libraryResource = new ResourceImpl(URI.createURI("library"));
+        libraryResource.getContents().add(libraryEClass);
+        libraryResource.eAdapters().add(new LibraryMetadataAdapter("namespace", "library", "1.0.0"));
+        resourceSet.getResources().add(libraryResource);
+
+        var readOnlyObjectPredicate = new DefaultReadOnlyObjectPredicate();
+        var adapter = new DiagnosticCacheAdapter(readOnlyObjectPredicate::test);
+        resourceSet.eAdapters().add(adapter);
+
+        List<EObject> validatedEObjects = new ArrayList<>();
+        Function<EObject, List<Diagnostic>> validator = eObject -> {
+            validatedEObjects.add(eObject);
+            return List.of();
+        };
+
+        adapter.getDiagnostics(resourceSet, validator);
+        assertThat(validatedEObjects).containsExactly(documentEClass, libraryEClass);
+
+        validatedEObjects.clear();
+        documentEClass.setName(MODIFIED);
+        adapter.getDiagnostics(resourceSet, validator);
+        assertThat(validatedEObjects).containsExactly(documentEClass);
+
+        // A library is not supposed to be modified, all the diagnostics are discarded if it happens anyway
+        validatedEObjects.clear();
+        libraryEClass.setName(MODIFIED);
+        adapter.getDiagnostics(resourceSet, validator);
+        assertThat(validatedEObjects).containsExactly(documentEClass, libraryEClass);
+    }
+
+    @Test
+    public void givenAnObjectBeingValidatedWhenTheResourceSetIsModifiedThenItsDiagnosticsAreNotKept() {
+        var eClass = EcoreFactory.eINSTANCE.createEClass();
+
+        var resourceSet = new ResourceSetImpl();
+        var resource = new ResourceImpl(URI.createURI(IN_MEMORY_URI));
+        resource.getContents().add(eClass);
+        resourceSet.getResources().add(resource);
+
+        var adapter = new DiagnosticCacheAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        List<EObject> validatedEObjects = new ArrayList<>();
+        Function<EObject, List<Diagnostic>> modifyingValidator = eObject -> {
+            validatedEObjects.add(eObject);
+            resourceSet.getResources().add(new ResourceImpl(URI.createURI("loaded")));
+            return List.of();
+        };
+        Function<EObject, List<Diagnostic>> validator = eObject -> {
+            validatedEObjects.add(eObject);
+            return List.of();
+        };
+
+        adapter.getDiagnostics(eClass, modifyingValidator);
+        adapter.getDiagnostics(eClass, validator);
+        adapter.getDiagnostics(eClass, validator);
+        assertThat(validatedEObjects).containsExactly(eClass, eClass);
+    }
+
+    @Test
+    public void givenAnEMFEditingContextWhenItIsLoadedThenTheDiagnosticCacheAdapterIsInstalledOnce() {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        IEMFEditingContext editingContext = new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return "editingContextId";
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+
+        var editingContextProcessor = new DiagnosticCacheEditingContextProcessor(object -> false);
+        editingContextProcessor.postProcess(editingContext);
+        editingContextProcessor.postProcess(editingContext);
+
+        assertThat(editingDomain.getResourceSet().eAdapters()).filteredOn(DiagnosticCacheAdapter.class::isInstance).hasSize(1);
+    }
+
+    @Test
+    public void givenAnObjectDisplayedByManyWidgetsWhenItsDiagnosticsAreRequestedThenItIsValidatedOnlyOnce() {
+        var eClass = EcoreFactory.eINSTANCE.createEClass();
+
+        var resourceSet = new ResourceSetImpl();
+        var resource = new ResourceImpl(URI.createURI(IN_MEMORY_URI));
+        resource.getContents().add(eClass);
+        resourceSet.getResources().add(resource);
+
+        var adapter = new DiagnosticCacheAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        List<EObject> validatedEObjects = new ArrayList<>();
+        Function<EObject, List<Diagnostic>> validator = eObject -> {
+            validatedEObjects.add(eObject);
+            return List.of();
+        };
+
+        adapter.getDiagnostics(eClass, validator);
+        adapter.getDiagnostics(eClass, validator);
+        assertThat(validatedEObjects).containsExactly(eClass);
+
+        eClass.setName(MODIFIED);
+        adapter.getDiagnostics(eClass, validator);
+        assertThat(validatedEObjects).containsExactly(eClass, eClass);
+
+        resource.getContents().remove(eClass);
+        adapter.getDiagnostics(eClass, validator);
+        adapter.getDiagnostics(eClass, validator);
+        assertThat(validatedEObjects).hasSize(4);
+    }
+}
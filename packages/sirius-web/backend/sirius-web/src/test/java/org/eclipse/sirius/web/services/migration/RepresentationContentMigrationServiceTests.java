@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jayway.jsonpath.JsonPath;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.representation.services.RepresentationContentBatchMigrationRunner;
+import org.eclipse.sirius.web.application.representation.services.RepresentationContentMigrationRequested;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.RepresentationContentMigrationStatus;
+import org.eclipse.sirius.web.data.MigrationIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the persistence of the migrated representation contents.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RepresentationContentMigrationServiceTests extends AbstractIntegrationTests {
+
+    @Autowired
+    private IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    @Autowired
+    private IRepresentationContentSearchService representationContentSearchService;
+
+    @Autowired
+    private IRepresentationContentUpdateService representationContentUpdateService;
+
+    @Autowired
+    private IRepresentationContentMigrationService representationContentMigrationService;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an old hierarchy representation, when its content is migrated, then the migrated content is persisted with its new migration version")
+    public void givenAnOldHierarchyRepresentationWhenItsContentIsMigratedThenTheMigratedContentIsPersistedWithItsNewMigrationVersion() {
+        var representationId = MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY;
+        var cause = new RepresentationContentMigrationRequested(UUID.randomUUID(), representationId);
+
+        var representationMetadata = this.representationMetadataSearchService.findMetadataById(representationId).orElseThrow();
+        var representationContentBeforeMigration = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+
+        var status = this.representationContentMigrationService.migrateContent(cause, representationMetadata, representationContentBeforeMigration);
+        assertThat(status).isEqualTo(RepresentationContentMigrationStatus.MIGRATED);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        var migratedRepresentationContent = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+        assertThat(migratedRepresentationContent.getMigrationVersion()).isNotEqualTo(representationContentBeforeMigration.getMigrationVersion());
+
+        List<Object> children = JsonPath.read(migratedRepresentationContent.getContent(), "$..children");
+        assertThat(children).isEmpty();
+
+        var statusOfTheSecondMigration = this.representationContentMigrationService.migrateContent(cause, representationMetadata, migratedRepresentationContent);
+        assertThat(statusOfTheSecondMigration).isEqualTo(RepresentationContentMigrationStatus.UP_TO_DATE);
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an old representation modified after being read, when its content is migrated, then the modified content is not overwritten")
+    public void givenAnOldRepresentationModifiedAfterBeingReadWhenItsContentIsMigratedThenTheModifiedContentIsNotOverwritten() {
+        var representationId = MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY;
+        var cause = new RepresentationContentMigrationRequested(UUID.randomUUID(), representationId);
+
+        var representationMetadata = this.representationMetadataSearchService.findMetadataById(representationId).orElseThrow();
+        var representationContentRead = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+
+        String modifiedContent = representationContentRead.getContent().replaceFirst("\\{", "{\"modified\":true,");
+        this.representationContentUpdateService.updateContentByRepresentationId(cause, representationId, modifiedContent);
+
+        var status = this.representationContentMigrationService.migrateContent(cause, representationMetadata, representationContentRead);
+        assertThat(status).isEqualTo(RepresentationContentMigrationStatus.CONFLICT);
+
+        var representationContent = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+        assertThat(representationContent.getContent()).isEqualTo(modifiedContent);
+        assertThat(representationContent.getMigrationVersion()).isEqualTo(representationContentRead.getMigrationVersion());
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given old representations, when the migration batch is executed, then their contents are migrated page by page")
+    public void givenOldRepresentationsWhenTheMigrationBatchIsExecutedThenTheirContentsAreMigratedPageByPage() {
+        var representationId = MigrationIdentifiers.MIGRATION_STUDIO_DIAGRAM_HIERARCHY;
+        var representationContentBeforeMigration = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+        var representationMetadata = this.representationMetadataSearchService.findMetadataById(representationId).orElseThrow();
+        assertThat(this.representationContentMigrationService.needsMigration(representationMetadata, representationContentBeforeMigration)).isTrue();
+
+        var runner = new RepresentationContentBatchMigrationRunner(this.representationContentSearchService, this.representationMetadataSearchService, this.representationContentMigrationService, 1);
+        runner.run();
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        var migratedRepresentationContent = this.representationContentSearchService.findContentById(representationId).orElseThrow();
+        assertThat(migratedRepresentationContent.getMigrationVersion()).isNotEqualTo(representationContentBeforeMigration.getMigrationVersion());
+        assertThat(this.representationContentMigrationService.needsMigration(representationMetadata, migratedRepresentationContent)).isFalse();
+    }
+}
@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.components.EdgeIdProvider;
+import org.eclipse.sirius.components.diagrams.components.LabelIdProvider;
+import org.eclipse.sirius.components.diagrams.components.NodeContainmentKind;
+import org.eclipse.sirius.components.diagrams.components.NodeIdProvider;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.application.diagram.services.ImportedDiagramIdentifierProvider;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the computation of the new identifiers of the elements of an imported diagram.
+ *
+ * @author sbegaudeau
+ */
+public class ImportedDiagramIdentifierProviderTests {
+
+    private static final String OLD_DIAGRAM_ID = "1c9a8b4e-8a3b-4bd4-9d5f-4a4f0e2f3a11";
+
+    private static final String NEW_DIAGRAM_ID = "6f0b1f2a-2d2b-4e8e-a6a1-0c2b3c4d5e6f";
+
+    private static final String NODE_DESCRIPTION_ID = "nodeDescriptionId";
+
+    private static final String BORDER_NODE_DESCRIPTION_ID = "borderNodeDescriptionId";
+
+    private static final String EDGE_DESCRIPTION_ID = "edgeDescriptionId";
+
+    private static final String FIRST_OBJECT_ID = "3237b215-ae23-48d7-861e-f542a4b9a4b8";
+
+    private static final String SECOND_OBJECT_ID = "a7d2f1e0-5b8c-4d3e-9f6a-1b2c3d4e5f60";
+
+    private static final String THIRD_OBJECT_ID = "0e9d8c7b-6a5f-4e3d-8c2b-1a0f9e8d7c6b";
+
+    private static final String CHILD_NODE_DESCRIPTION_ID = "childNodeDescriptionId";
+
+    private static final String BLACK = "black";
+
+    private final NodeIdProvider nodeIdProvider = new NodeIdProvider();
+
+    private final EdgeIdProvider edgeIdProvider = new EdgeIdProvider();
+
+    private final LabelIdProvider labelIdProvider = new LabelIdProvider();
+
+    @Test
+    public void givenAnImportedDiagramWhenItsIdentifiersAreComputedThenTheyMatchTheOnesOfTheDiagramRenderer() {
+        String oldNodeId = this.nodeIdProvider.getNodeId(OLD_DIAGRAM_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, FIRST_OBJECT_ID);
+        String oldBorderNodeId = this.nodeIdProvider.getNodeId(oldNodeId, BORDER_NODE_DESCRIPTION_ID, NodeContainmentKind.BORDER_NODE, SECOND_OBJECT_ID);
+        String oldOtherNodeId = this.nodeIdProvider.getNodeId(OLD_DIAGRAM_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, THIRD_OBJECT_ID);
+        String oldFirstEdgeId = this.getEdgeId(oldBorderNodeId, oldOtherNodeId, 0);
+        String oldSecondEdgeId = this.getEdgeId(oldBorderNodeId, oldOtherNodeId, 1);
+        String oldEdgeOnEdgeId = this.getEdgeId(oldFirstEdgeId, oldNodeId, 0);
+
+        String content = """
+                {
+                  "id": "%s",
+                  "kind": "siriusComponents://representation?type=Diagram",
+                  "nodes": [
+                    {
+                      "id": "%s",
+                      "descriptionId": "%s",
+                      "targetObjectId": "%s",
+                      "borderNode": false,
+                      "insideLabel": { "id": "%s" },
+                      "outsideLabels": [],
+                      "childNodes": [],
+                      "borderNodes": [
+                        {
+                          "id": "%s",
+                          "descriptionId": "%s",
+                          "targetObjectId": "%s",
+                          "borderNode": true,
+                          "outsideLabels": [],
+                          "childNodes": [],
+                          "borderNodes": []
+                        }
+                      ]
+                    },
+                    {
+                      "id": "%s",
+                      "descriptionId": "%s",
+                      "targetObjectId": "%s",
+                      "borderNode": false,
+                      "outsideLabels": [],
+                      "childNodes": [],
+                      "borderNodes": []
+                    }
+                  ],
+                  "edges": [
+                    { "id": "%s", "descriptionId": "%s", "sourceId": "%s", "targetId": "%s" },
+                    { "id": "%s", "descriptionId": "%s", "sourceId": "%s", "targetId": "%s", "centerLabel": { "id": "%s" } },
+                    { "id": "%s", "descriptionId": "%s", "sourceId": "%s", "targetId": "%s" }
+                  ]
+                }
+                """.formatted(OLD_DIAGRAM_ID,
+                        oldNodeId, NODE_DESCRIPTION_ID, FIRST_OBJECT_ID, this.getLabelId(oldNodeId, InsideLabelDescription.INSIDE_LABEL_SUFFIX),
+                        oldBorderNodeId, BORDER_NODE_DESCRIPTION_ID, SECOND_OBJECT_ID,
+                        oldOtherNodeId, NODE_DESCRIPTION_ID, THIRD_OBJECT_ID,
+                        oldEdgeOnEdgeId, EDGE_DESCRIPTION_ID, oldFirstEdgeId, oldNodeId,
+                        oldSecondEdgeId, EDGE_DESCRIPTION_ID, oldBorderNodeId, oldOtherNodeId, this.getLabelId(oldSecondEdgeId, LabelDescription.CENTER_LABEL_SUFFIX),
+                        oldFirstEdgeId, EDGE_DESCRIPTION_ID, oldBorderNodeId, oldOtherNodeId);
+
+        var provider = new ImportedDiagramIdentifierProvider(new ObjectMapper());
+        assertThat(provider.canHandle(Diagram.KIND)).isTrue();
+
+        var identifiers = provider.getIdentifiers(content, Map.of(OLD_DIAGRAM_ID, NEW_DIAGRAM_ID));
+
+        String newNodeId = this.nodeIdProvider.getNodeId(NEW_DIAGRAM_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, FIRST_OBJECT_ID);
+        String newBorderNodeId = this.nodeIdProvider.getNodeId(newNodeId, BORDER_NODE_DESCRIPTION_ID, NodeContainmentKind.BORDER_NODE, SECOND_OBJECT_ID);
+        String newOtherNodeId = this.nodeIdProvider.getNodeId(NEW_DIAGRAM_ID, NODE_DESCRIPTION_ID, NodeContainmentKind.CHILD_NODE, THIRD_OBJECT_ID);
+        String newFirstEdgeId = this.getEdgeId(newBorderNodeId, newOtherNodeId, 0);
+        String newSecondEdgeId = this.getEdgeId(newBorderNodeId, newOtherNodeId, 1);
+
+        assertThat(identifiers)
+                .containsEntry(OLD_DIAGRAM_ID, NEW_DIAGRAM_ID)
+                .containsEntry(oldNodeId, newNodeId)
+                .containsEntry(oldBorderNodeId, newBorderNodeId)
+                .containsEntry(oldOtherNodeId, newOtherNodeId)
+                .containsEntry(this.getLabelId(oldNodeId, InsideLabelDescription.INSIDE_LABEL_SUFFIX), this.getLabelId(newNodeId, InsideLabelDescription.INSIDE_LABEL_SUFFIX))
+                .containsEntry(oldFirstEdgeId, newFirstEdgeId)
+                .containsEntry(oldSecondEdgeId, newSecondEdgeId)
+                .containsEntry(this.getLabelId(oldSecondEdgeId, LabelDescription.CENTER_LABEL_SUFFIX), this.getLabelId(newSecondEdgeId, LabelDescription.CENTER_LABEL_SUFFIX))
+                .containsEntry(oldEdgeOnEdgeId, this.getEdgeId(newFirstEdgeId, newNodeId, 0));
+    }
+
+    @Test
+    public void givenAnInvalidDiagramContentWhenItsIdentifiersAreComputedThenTheGivenIdentifiersAreReturned() {
+        var provider = new ImportedDiagramIdentifierProvider(new ObjectMapper());
+
+        var identifiers = provider.getIdentifiers("{", Map.of(OLD_DIAGRAM_ID, NEW_DIAGRAM_ID));
+
+        assertThat(identifiers).containsExactlyEntriesOf(Map.of(OLD_DIAGRAM_ID, NEW_DIAGRAM_ID));
+    }
+
+    @Test
+    public void givenARenderedDiagramWhenItsIdentifiersAreComputedThenTheyMatchTheOnesOfTheSameDiagramRenderedWithTheNewIdentifier() throws JsonProcessingException {
+        var diagramDescription = this.getDiagramDescription();
+        Diagram oldDiagram = this.renderDiagram(diagramDescription);
+        Diagram newDiagram = this.renderDiagram(diagramDescription);
+        assertThat(oldDiagram.getId()).isNotEqualTo(newDiagram.getId());
+
+        var objectMapper = new ObjectMapper();
+        var provider = new ImportedDiagramIdentifierProvider(objectMapper);
+        var identifiers = provider.getIdentifiers(objectMapper.writeValueAsString(oldDiagram), Map.of(oldDiagram.getId(), newDiagram.getId()));
+
+        List<String> oldIds = this.getElementIds(oldDiagram);
+        List<String> newIds = this.getElementIds(newDiagram);
+        assertThat(oldIds).hasSize(16).doesNotContainAnyElementsOf(newIds);
+        assertThat(oldIds.stream().map(identifiers::get).toList()).containsExactlyElementsOf(newIds);
+    }
+
+    private String getEdgeId(String sourceId, String targetId, int count) {
+        return this.edgeIdProvider.getEdgeId(EDGE_DESCRIPTION_ID, sourceId, targetId, count);
+    }
+
+    private String getLabelId(String ownerId, String suffix) {
+        return this.labelIdProvider.getLabelId(ownerId + suffix);
+    }
+
+    /**
+     * Returns the identifiers of the nodes, edges and labels of the given diagram in the order of their rendering.
+     */
+    private List<String> getElementIds(Diagram diagram) {
+        List<String> ids = new ArrayList<>();
+        diagram.getNodes().forEach(node -> this.collectElementIds(node, ids));
+        for (Edge edge : diagram.getEdges()) {
+            ids.add(edge.getId());
+            Optional.ofNullable(edge.getCenterLabel()).ifPresent(label -> ids.add(label.getId()));
+        }
+        return ids;
+    }
+
+    private void collectElementIds(Node node, List<String> ids) {
+        ids.add(node.getId());
+        Optional.ofNullable(node.getInsideLabel()).ifPresent(label -> ids.add(label.getId()));
+        node.getBorderNodes().forEach(borderNode -> this.collectElementIds(borderNode, ids));
+        node.getChildNodes().forEach(childNode -> this.collectElementIds(childNode, ids));
+    }
+
+    private Diagram renderDiagram(DiagramDescription diagramDescription) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(Optional.empty())
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .build();
+        return new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+    }
+
+    /**
+     * Returns the description of a diagram with two nodes, each with a border node and a child node, and with two
+     * edges, with a center label, between the first and the second node.
+     */
+    private DiagramDescription getDiagramDescription() {
+        Function<VariableManager, List<?>> selfProvider = variableManager -> variableManager.get(VariableManager.SELF, Object.class).stream().toList();
+        var borderNodeDescription = this.getNodeDescription(BORDER_NODE_DESCRIPTION_ID, selfProvider, List.of(), List.of());
+        var childNodeDescription = this.getNodeDescription(CHILD_NODE_DESCRIPTION_ID, selfProvider, List.of(), List.of());
+        var nodeDescription = this.getNodeDescription(NODE_DESCRIPTION_ID, variableManager -> List.of(FIRST_OBJECT_ID, SECOND_OBJECT_ID), List.of(borderNodeDescription), List.of(childNodeDescription));
+
+        var centerLabelDescription = LabelDescription.newLabelDescription(EDGE_DESCRIPTION_ID + LabelDescription.CENTER_LABEL_SUFFIX)
+                .idProvider(variableManager -> variableManager.get(LabelDescription.OWNER_ID, String.class).orElse(null) + LabelDescription.CENTER_LABEL_SUFFIX)
+                .textProvider(variableManager -> "Edge")
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .build();
+
+        var edgeDescription = EdgeDescription.newEdgeDescription(EDGE_DESCRIPTION_ID)
+                .semanticElementsProvider(variableManager -> List.of(THIRD_OBJECT_ID, THIRD_OBJECT_ID + "2"))
+                .sourceProvider(variableManager -> this.getRenderedNodes(variableManager, FIRST_OBJECT_ID))
+                .targetProvider(variableManager -> this.getRenderedNodes(variableManager, SECOND_OBJECT_ID))
+                .sourceDescriptions(List.of(nodeDescription))
+                .targetDescriptions(List.of(nodeDescription))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .centerLabelDescription(centerLabelDescription)
+                .styleProvider(variableManager -> EdgeStyle.newEdgeStyle()
+                        .size(1)
+                        .lineStyle(LineStyle.Solid)
+                        .sourceArrow(ArrowStyle.None)
+                        .targetArrow(ArrowStyle.InputArrow)
+                        .color(BLACK)
+                        .build())
+                .deleteHandler(variableManager -> new Failure(""))
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
+                .build();
+
+        return DiagramDescription.newDiagramDescription("diagramDescriptionId")
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of(edgeDescription))
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+
+    private List<Element> getRenderedNodes(VariableManager variableManager, String targetObjectId) {
+        return variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(cache -> cache.getObjectToElements().getOrDefault(targetObjectId, List.of()))
+                .orElse(List.of())
+                .stream()
+                .filter(element -> element.getProps() instanceof NodeElementProps nodeElementProps && nodeElementProps.getDescriptionId().equals(NODE_DESCRIPTION_ID))
+                .toList();
+    }
+
+    private NodeDescription getNodeDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider, List<NodeDescription> borderNodeDescriptions, List<NodeDescription> childNodeDescriptions) {
+        var insideLabelDescription = InsideLabelDescription.newInsideLabelDescription(id + InsideLabelDescription.INSIDE_LABEL_SUFFIX)
+                .idProvider(variableManager -> variableManager.get(InsideLabelDescription.OWNER_ID, String.class).orElse(null) + InsideLabelDescription.INSIDE_LABEL_SUFFIX)
+                .textProvider(variableManager -> "Node")
+                .styleDescriptionProvider(variableManager -> this.getLabelStyleDescription())
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> "")
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor(BLACK)
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(borderNodeDescriptions)
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private LabelStyleDescription getLabelStyleDescription() {
+        return LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> BLACK)
+                .fontSizeProvider(variableManager -> 14)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> BLACK)
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+    }
+}
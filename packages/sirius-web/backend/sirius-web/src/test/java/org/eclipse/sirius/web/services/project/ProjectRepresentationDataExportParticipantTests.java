@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.collaborative.representations.migration.RepresentationMigrationData;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.project.services.ProjectRepresentationDataExportParticipant;
+import org.eclipse.sirius.web.application.project.services.RepresentationSerializedExportData;
+import org.eclipse.sirius.web.application.project.services.api.IProjectEditingContextService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentMigrationService;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentWriteBehindService;
+import org.eclipse.sirius.web.application.representation.services.api.RepresentationContentMigrationStatus;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.ProjectSemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.projectsemanticdata.services.api.IProjectSemanticDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationContent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the export of the representations of a project.
+ *
+ * @author sbegaudeau
+ */
+public class ProjectRepresentationDataExportParticipantTests {
+
+    private static final String PROJECT_NAME = "Project";
+
+    private static final String LAST_MIGRATION_PERFORMED = "none";
+
+    private static final String MIGRATION_VERSION = "0";
+
+    private static final String CONTENT = """
+            {
+              "id": "6f0b1f2a-2d2b-4e8e-a6a1-0c2b3c4d5e6f",
+              "kind": "siriusComponents://representation?type=Diagram",
+              "label": "Diagram \\"with\\" quotes",
+              "nodes": [ { "id": "node", "size": { "width": 150.5, "height": 70 } } ],
+              "edges": []
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void givenARepresentationWhichDoesNotNeedAMigrationWhenItIsExportedThenItsStoredContentIsCopiedAsTheSerializedExportData() throws IOException {
+        this.assertStoredContentExported((participant, project, editingContext, zipOutputStream) -> participant.exportData(project, editingContext, zipOutputStream));
+    }
+
+    @Test
+    public void givenARepresentationWhenItIsExportedWithoutTheEditingContextThenTheEditingContextIsLoadedByTheParticipant() throws IOException {
+        this.assertStoredContentExported((participant, project, editingContext, zipOutputStream) -> participant.exportData(project, zipOutputStream));
+    }
+
+    private void assertStoredContentExported(ExportCall exportCall) throws IOException {
+        var project = Project.newProject()
+                .name(PROJECT_NAME)
+                .natures(List.of())
+                .build(new ICause.NoOp());
+        AggregateReference<SemanticData, UUID> semanticData = AggregateReference.to(UUID.randomUUID());
+        var projectSemanticData = ProjectSemanticData.newProjectSemanticData()
+                .project(AggregateReference.to(project.getId()))
+                .semanticData(semanticData)
+                .name(PROJECT_NAME)
+                .build(new ICause.NoOp());
+
+        var representationId = UUID.randomUUID();
+        var representationMetadata = RepresentationMetadata.newRepresentationMetadata(representationId)
+                .semanticData(semanticData)
+                .targetObjectId(UUID.randomUUID().toString())
+                .descriptionId("descriptionId")
+                .label("Diagram")
+                .kind("siriusComponents://representation?type=Diagram")
+                .iconURLs(List.of())
+                .documentation("")
+                .build(new ICause.NoOp());
+        var representationContent = RepresentationContent.newRepresentationContent(representationId)
+                .content(CONTENT)
+                .lastMigrationPerformed(LAST_MIGRATION_PERFORMED)
+                .migrationVersion(MIGRATION_VERSION)
+                .build(new ICause.NoOp());
+
+        var editingContext = this.createEditingContext();
+        var participant = new ProjectRepresentationDataExportParticipant(new ProjectSemanticDataSearchService(projectSemanticData), new RepresentationMetadataSearchService(representationMetadata),
+                new RepresentationContentWriteBehindService(representationContent), this.objectMapper, new RepresentationContentMigrationService(),
+                new ProjectEditingContextService(project.getId(), editingContext.getId()), new EditingContextSearchService(editingContext));
+
+        var outputStream = new ByteArrayOutputStream();
+        Map<String, Object> manifestEntries;
+        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
+            manifestEntries = exportCall.export(participant, project, editingContext, zipOutputStream);
+        }
+
+        assertThat(manifestEntries).extractingByKey("representations")
+                .asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsOnlyKeys(representationId.toString());
+
+        var expectedExportData = new RepresentationSerializedExportData(
+                representationId,
+                project.getId(),
+                representationMetadata.getDescriptionId(),
+                representationMetadata.getTargetObjectId(),
+                representationMetadata.getLabel(),
+                representationMetadata.getKind(),
+                (ObjectNode) this.objectMapper.readTree(CONTENT)
+        );
+        JsonNode expectedJsonNode = this.objectMapper.readTree(this.objectMapper.writeValueAsBytes(expectedExportData));
+
+        var entries = this.readEntries(outputStream.toByteArray());
+        String entryName = PROJECT_NAME + "/representations/" + representationId + ".json";
+        assertThat(entries).containsOnlyKeys(entryName);
+        assertThat(this.objectMapper.readTree(entries.get(entryName))).isEqualTo(expectedJsonNode);
+    }
+
+    private Map<String, byte[]> readEntries(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (var zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry zipEntry = zipInputStream.getNextEntry();
+            while (zipEntry != null) {
+                entries.put(zipEntry.getName(), zipInputStream.readAllBytes());
+                zipEntry = zipInputStream.getNextEntry();
+            }
+        }
+        return entries;
+    }
+
+    private IEMFEditingContext createEditingContext() {
+        var editingContextId = UUID.randomUUID().toString();
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+
+    /**
+     * Used to export the data of a project with one of the methods of the participant.
+     *
+     * @author sbegaudeau
+     */
+    @FunctionalInterface
+    private interface ExportCall {
+        Map<String, Object> export(ProjectRepresentationDataExportParticipant participant, Project project, IEMFEditingContext editingContext, ZipOutputStream zipOutputStream);
+    }
+
+    /**
+     * Project editing context service which only knows the editing context of the given project.
+     *
+     * @author sbegaudeau
+     */
+    private record ProjectEditingContextService(String projectId, String editingContextId) implements IProjectEditingContextService {
+
+        @Override
+        public Optional<String> getEditingContextId(String projectIdToFind) {
+            return Optional.of(this.editingContextId).filter(id -> this.projectId.equals(projectIdToFind));
+        }
+
+        @Override
+        public Optional<String> getEditingContextId(String projectIdToFind, String name) {
+            return this.getEditingContextId(projectIdToFind);
+        }
+
+        @Override
+        public Optional<String> getProjectId(String editingContextIdToFind) {
+            return Optional.of(this.projectId).filter(id -> this.editingContextId.equals(editingContextIdToFind));
+        }
+    }
+
+    /**
+     * Editing context search service which returns the given editing context.
+     *
+     * @author sbegaudeau
+     */
+    private record EditingContextSearchService(IEditingContext editingContext) implements IEditingContextSearchService {
+
+        @Override
+        public boolean existsById(String editingContextId) {
+            return this.editingContext.getId().equals(editingContextId);
+        }
+
+        @Override
+        public Optional<IEditingContext> findById(String editingContextId) {
+            return Optional.of(this.editingContext).filter(context -> context.getId().equals(editingContextId));
+        }
+    }
+
+    /**
+     * Project semantic data search service which returns the given project semantic data.
+     *
+     * @author sbegaudeau
+     */
+    private record ProjectSemanticDataSearchService(ProjectSemanticData projectSemanticData) implements IProjectSemanticDataSearchService {
+
+        @Override
+        public Optional<ProjectSemanticData> findByProjectId(AggregateReference<Project, String> project) {
+            return Optional.of(this.projectSemanticData);
+        }
+
+        @Override
+        public List<ProjectSemanticData> findAllByProjectId(AggregateReference<Project, String> project) {
+            return List.of(this.projectSemanticData);
+        }
+
+        @Override
+        public Optional<ProjectSemanticData> findByProjectIdAndName(AggregateReference<Project, String> project, String name) {
+            return Optional.of(this.projectSemanticData);
+        }
+
+        @Override
+        public Optional<ProjectSemanticData> findBySemanticDataId(AggregateReference<SemanticData, UUID> semanticData) {
+            return Optional.of(this.projectSemanticData);
+        }
+    }
+
+    /**
+     * Representation metadata search service which returns the given representation metadata.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationMetadataSearchService(RepresentationMetadata representationMetadata) implements IRepresentationMetadataSearchService {
+
+        @Override
+        public boolean existsById(UUID id) {
+            return this.representationMetadata.getId().equals(id);
+        }
+
+        @Override
+        public Optional<RepresentationMetadata> findMetadataById(UUID id) {
+            return Optional.of(this.representationMetadata).filter(metadata -> metadata.getId().equals(id));
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids) {
+            return this.findAll().stream().filter(metadata -> ids.contains(metadata.getId())).toList();
+        }
+
+        @Override
+        public boolean existsByIdAndKind(UUID id, List<String> kinds) {
+            return this.existsById(id) && kinds.contains(this.representationMetadata.getKind());
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllRepresentationMetadataBySemanticData(AggregateReference<SemanticData, UUID> semanticData) {
+            return this.findAll();
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllRepresentationMetadataBySemanticDataAndTargetObjectId(AggregateReference<SemanticData, UUID> semanticData, String targetObjectId) {
+            return this.findAll().stream().filter(metadata -> metadata.getTargetObjectId().equals(targetObjectId)).toList();
+        }
+
+        @Override
+        public boolean existAnyRepresentationMetadataForSemanticDataAndTargetObjectId(AggregateReference<SemanticData, UUID> semanticData, String targetObjectId) {
+            return !this.findAllRepresentationMetadataBySemanticDataAndTargetObjectId(semanticData, targetObjectId).isEmpty();
+        }
+
+        @Override
+        public Optional<AggregateReference<SemanticData, UUID>> findSemanticDataByRepresentationId(UUID representationId) {
+            return this.findMetadataById(representationId).map(RepresentationMetadata::getSemanticData);
+        }
+
+        private List<RepresentationMetadata> findAll() {
+            return List.of(this.representationMetadata);
+        }
+    }
+
+    /**
+     * Write-behind service which only returns the given stored representation content.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationContentWriteBehindService(RepresentationContent representationContent) implements IRepresentationContentWriteBehindService {
+
+        @Override
+        public void updateContent(ICause cause, UUID representationId, String content, String contentHash, RepresentationMigrationData migrationData) {
+            // Do nothing
+        }
+
+        @Override
+        public void migrateContent(ICause cause, UUID representationId, String expectedContentHash, String content, RepresentationMigrationData migrationData) {
+            // Do nothing
+        }
+
+        @Override
+        public Optional<String> findPendingContentHash(UUID representationId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RepresentationContent> findContentById(UUID representationId) {
+            return Optional.of(this.representationContent).filter(content -> content.getId().equals(representationId));
+        }
+    }
+
+    /**
+     * Migration service for representations which are up to date.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationContentMigrationService() implements IRepresentationContentMigrationService {
+
+        @Override
+        public Optional<ObjectNode> getMigratedContent(RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean needsMigration(RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+            return false;
+        }
+
+        @Override
+        public RepresentationMigrationData getMigrationData(RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+            return new RepresentationMigrationData(representationContent.getLastMigrationPerformed(), representationContent.getMigrationVersion());
+        }
+
+        @Override
+        public RepresentationContentMigrationStatus migrateContent(ICause cause, RepresentationMetadata representationMetadata, RepresentationContent representationContent) {
+            return RepresentationContentMigrationStatus.UP_TO_DATE;
+        }
+    }
+}
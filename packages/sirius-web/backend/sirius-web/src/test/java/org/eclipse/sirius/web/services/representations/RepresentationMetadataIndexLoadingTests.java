@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.application.representation.services.RepresentationMetadataIndexService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the loading of the in-memory index of the representation metadata.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationMetadataIndexLoadingTests {
+
+    private static final String TARGET_OBJECT_ID = "targetObjectId";
+
+    private static final long TIMEOUT_IN_SECONDS = 10;
+
+    @Test
+    public void givenAnIndexBeingLoadedWhenTheIndexOfAnotherEditingContextIsRequestedThenItDoesNotWait() throws Exception {
+        var blockedSemanticDataId = UUID.randomUUID();
+        var otherSemanticDataId = UUID.randomUUID();
+        var otherRepresentationMetadata = this.createRepresentationMetadata(otherSemanticDataId);
+
+        var searchService = new BlockingRepresentationMetadataSearchService(blockedSemanticDataId, Map.of(otherSemanticDataId, List.of(otherRepresentationMetadata)));
+        var indexService = new RepresentationMetadataIndexService(searchService);
+
+        var blockedLoad = CompletableFuture.supplyAsync(() -> indexService.existAnyRepresentationMetadataForTargetObjectId(new EditingContext(blockedSemanticDataId.toString()), TARGET_OBJECT_ID));
+        assertThat(searchService.loadStarted().await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        var otherLoad = CompletableFuture.supplyAsync(() -> indexService.findAllRepresentationMetadataByTargetObjectId(new EditingContext(otherSemanticDataId.toString()), TARGET_OBJECT_ID));
+        assertThat(otherLoad.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).containsExactly(otherRepresentationMetadata);
+        assertThat(blockedLoad).isNotDone();
+
+        searchService.releaseLoad().countDown();
+        assertThat(blockedLoad.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void givenAnIndexBeingLoadedWhenARepresentationIsDeletedThenTheDeletionIsAppliedOnceLoaded() throws Exception {
+        var semanticDataId = UUID.randomUUID();
+        var representationMetadata = this.createRepresentationMetadata(semanticDataId);
+
+        var searchService = new BlockingRepresentationMetadataSearchService(semanticDataId, Map.of(semanticDataId, List.of(representationMetadata)));
+        var indexService = new RepresentationMetadataIndexService(searchService);
+        var editingContext = new EditingContext(semanticDataId.toString());
+
+        var load = CompletableFuture.supplyAsync(() -> indexService.existAnyRepresentationMetadataForTargetObjectId(editingContext, TARGET_OBJECT_ID));
+        assertThat(searchService.loadStarted().await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        indexService.onRepresentationMetadataDeletedEvent(new RepresentationMetadataDeletedEvent(UUID.randomUUID(), Instant.now(), new ICause.NoOp(), representationMetadata));
+        searchService.releaseLoad().countDown();
+
+        assertThat(load.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isFalse();
+        assertThat(indexService.findAllRepresentationMetadataByTargetObjectId(editingContext, TARGET_OBJECT_ID)).isEmpty();
+    }
+
+    private RepresentationMetadata createRepresentationMetadata(UUID semanticDataId) {
+        return RepresentationMetadata.newRepresentationMetadata(UUID.randomUUID())
+                .semanticData(AggregateReference.to(semanticDataId))
+                .targetObjectId(TARGET_OBJECT_ID)
+                .descriptionId("descriptionId")
+                .label("Diagram")
+                .kind("siriusComponents://representation?type=Diagram")
+                .iconURLs(List.of())
+                .documentation("")
+                .build(new ICause.NoOp());
+    }
+
+    /**
+     * Editing context with the given id.
+     *
+     * @author sbegaudeau
+     */
+    private record EditingContext(String id) implements IEditingContext {
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+    }
+
+    /**
+     * Search service whose query of the representation metadata of the given semantic data waits until it is released.
+     *
+     * @author sbegaudeau
+     */
+    private static final class BlockingRepresentationMetadataSearchService implements IRepresentationMetadataSearchService {
+
+        private final UUID blockedSemanticDataId;
+
+        private final Map<UUID, List<RepresentationMetadata>> representationMetadataBySemanticDataId;
+
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+
+        private final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        private BlockingRepresentationMetadataSearchService(UUID blockedSemanticDataId, Map<UUID, List<RepresentationMetadata>> representationMetadataBySemanticDataId) {
+            this.blockedSemanticDataId = blockedSemanticDataId;
+            this.representationMetadataBySemanticDataId = new ConcurrentHashMap<>(representationMetadataBySemanticDataId);
+        }
+
+        public CountDownLatch loadStarted() {
+            return this.loadStarted;
+        }
+
+        public CountDownLatch releaseLoad() {
+            return this.releaseLoad;
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllRepresentationMetadataBySemanticData(AggregateReference<SemanticData, UUID> semanticData) {
+            if (this.blockedSemanticDataId.equals(semanticData.getId())) {
+                this.loadStarted.countDown();
+                try {
+                    this.releaseLoad.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return this.representationMetadataBySemanticDataId.getOrDefault(semanticData.getId(), List.of());
+        }
+
+        @Override
+        public boolean existsById(UUID id) {
+            return false;
+        }
+
+        @Override
+        public Optional<RepresentationMetadata> findMetadataById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existsByIdAndKind(UUID id, List<String> kinds) {
+            return false;
+        }
+
+        @Override
+        public List<RepresentationMetadata> findAllRepresentationMetadataBySemanticDataAndTargetObjectId(AggregateReference<SemanticData, UUID> semanticData, String targetObjectId) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existAnyRepresentationMetadataForSemanticDataAndTargetObjectId(AggregateReference<SemanticData, UUID> semanticData, String targetObjectId) {
+            return false;
+        }
+
+        @Override
+        public Optional<AggregateReference<SemanticData, UUID>> findSemanticDataByRepresentationId(UUID representationId) {
+            return Optional.empty();
+        }
+    }
+}
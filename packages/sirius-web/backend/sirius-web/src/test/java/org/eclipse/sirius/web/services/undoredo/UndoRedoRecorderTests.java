@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.undoredo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.diagrams.messages.ICollaborativeDiagramMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.undo.dto.RedoInput;
+import org.eclipse.sirius.web.application.undo.dto.UndoInput;
+import org.eclipse.sirius.web.application.undo.handlers.RedoEventHandler;
+import org.eclipse.sirius.web.application.undo.handlers.UndoEventHandler;
+import org.eclipse.sirius.web.application.undo.services.UndoRedoRecorder;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the bounds of the undo history.
+ *
+ * @author sbegaudeau
+ */
+public class UndoRedoRecorderTests {
+
+    private static final String EVICTIONS = "siriusweb_undo_history_evictions";
+
+    private static final int UNBOUNDED = 1000;
+
+    private static final String EVICTED = "evicted";
+
+    private static final String RETAINED = "retained";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EditingContext editingContext = this.createEditingContext();
+
+    private final EPackage ePackage = this.createEPackage();
+
+    @Test
+    public void givenMoreInputsThanTheMaximumDepthWhenTheyAreRecordedThenTheOldestOnesAreEvicted() {
+        var recorder = new UndoRedoRecorder(3, UNBOUNDED, this.meterRegistry);
+
+        List<String> inputIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String name = "name" + i;
+            inputIds.add(this.record(recorder, () -> this.ePackage.setName(name)));
+        }
+
+        assertThat(this.editingContext.getInputId2change()).containsOnlyKeys(inputIds.subList(2, 5));
+        assertThat(this.editingContext.getInputId2changeCount().keySet()).containsExactlyElementsOf(inputIds.subList(2, 5));
+        assertThat(this.meterRegistry.get(EVICTIONS).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenInputsOverTheChangeBudgetWhenTheyAreRecordedThenTheOldestOnesAreEvicted() {
+        var recorder = new UndoRedoRecorder(UNBOUNDED, 3, this.meterRegistry);
+        var eClass = this.ePackage.getEClassifiers().get(0);
+
+        String firstInputId = this.record(recorder, () -> {
+            this.ePackage.setName("first");
+            eClass.setName("First");
+        });
+        assertThat(this.editingContext.getInputId2changeCount()).containsExactlyEntriesOf(Map.of(firstInputId, 2L));
+
+        String secondInputId = this.record(recorder, () -> {
+            this.ePackage.setName("second");
+            eClass.setName("Second");
+        });
+        assertThat(this.editingContext.getInputId2change()).containsOnlyKeys(secondInputId);
+        assertThat(this.editingContext.getInputId2changeCount()).containsExactlyEntriesOf(Map.of(secondInputId, 2L));
+
+        String thirdInputId = this.record(recorder, () -> this.ePackage.setName("third"));
+        assertThat(this.editingContext.getInputId2change()).containsOnlyKeys(secondInputId, thirdInputId);
+        assertThat(this.editingContext.getInputId2changeCount().values()).containsExactly(2L, 1L);
+        assertThat(this.meterRegistry.get(EVICTIONS).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenAnInputOverTheChangeBudgetWhenItIsRecordedThenItIsKept() {
+        var recorder = new UndoRedoRecorder(UNBOUNDED, 1, this.meterRegistry);
+        var eClass = this.ePackage.getEClassifiers().get(0);
+
+        String firstInputId = this.record(recorder, () -> {
+            this.ePackage.setName("first");
+            eClass.setName("First");
+        });
+        assertThat(this.editingContext.getInputId2change()).containsOnlyKeys(firstInputId);
+
+        String secondInputId = this.record(recorder, () -> {
+            this.ePackage.setName("second");
+            eClass.setName("Second");
+        });
+        assertThat(this.editingContext.getInputId2change()).containsOnlyKeys(secondInputId);
+        assertThat(this.editingContext.getInputId2changeCount()).containsExactlyEntriesOf(Map.of(secondInputId, 2L));
+    }
+
+    @Test
+    public void givenAnEvictedInputWhenItIsUndoneThenOnlyTheRetainedInputsCanBeUndoneAndRedone() {
+        var recorder = new UndoRedoRecorder(1, UNBOUNDED, this.meterRegistry);
+        var undoEventHandler = new UndoEventHandler(new ICollaborativeDiagramMessageService.NoOp());
+        var redoEventHandler = new RedoEventHandler(new ICollaborativeDiagramMessageService.NoOp());
+
+        String evictedInputId = this.record(recorder, () -> this.ePackage.setName(EVICTED));
+        String retainedInputId = this.record(recorder, () -> this.ePackage.setName(RETAINED));
+
+        var payload = this.handle(undoEventHandler::handle, new UndoInput(UUID.randomUUID(), this.editingContext.getId(), evictedInputId));
+        assertThat(payload).isInstanceOf(ErrorPayload.class);
+        assertThat(this.ePackage.getName()).isEqualTo(RETAINED);
+
+        payload = this.handle(undoEventHandler::handle, new UndoInput(UUID.randomUUID(), this.editingContext.getId(), retainedInputId));
+        assertThat(payload).isInstanceOf(SuccessPayload.class);
+        assertThat(this.ePackage.getName()).isEqualTo(EVICTED);
+
+        payload = this.handle(redoEventHandler::handle, new RedoInput(UUID.randomUUID(), this.editingContext.getId(), retainedInputId));
+        assertThat(payload).isInstanceOf(SuccessPayload.class);
+        assertThat(this.ePackage.getName()).isEqualTo(RETAINED);
+    }
+
+    private String record(UndoRedoRecorder recorder, Runnable change) {
+        var input = new TestInput(UUID.randomUUID());
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+
+        recorder.preProcess(this.editingContext, input, changeDescriptionSink);
+        change.run();
+        recorder.postProcess(this.editingContext, input, changeDescriptionSink);
+
+        return input.id().toString();
+    }
+
+    private IPayload handle(EventHandler eventHandler, IInput input) {
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        eventHandler.handle(payloadSink, changeDescriptionSink, this.editingContext, input);
+        return payloadSink.asMono().block();
+    }
+
+    private EditingContext createEditingContext() {
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), new ResourceSetImpl());
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackageToRecord = EcoreFactory.eINSTANCE.createEPackage();
+        ePackageToRecord.setName("initial");
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Initial");
+        ePackageToRecord.getEClassifiers().add(eClass);
+
+        var resource = new ResourceImpl(URI.createURI("inmemory:/" + UUID.randomUUID()));
+        resource.getContents().add(ePackageToRecord);
+        this.editingContext.getDomain().getResourceSet().getResources().add(resource);
+        return ePackageToRecord;
+    }
+
+    /**
+     * Input which can be undone.
+     *
+     * @author sbegaudeau
+     */
+    private record TestInput(UUID id) implements IInput {
+    }
+
+    /**
+     * Used to call the undo and redo event handlers the same way.
+     *
+     * @author sbegaudeau
+     */
+    @FunctionalInterface
+    private interface EventHandler {
+        void handle(Sinks.One<IPayload> payloadSink, Sinks.Many<ChangeDescription> changeDescriptionSink, EditingContext editingContext, IInput input);
+    }
+}
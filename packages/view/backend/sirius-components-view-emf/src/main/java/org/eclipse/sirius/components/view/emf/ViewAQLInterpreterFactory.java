@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,13 +13,19 @@
 package org.eclipse.sirius.components.view.emf;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.eclipse.acceleo.query.runtime.IReadOnlyQueryEnvironment;
 import org.eclipse.acceleo.query.runtime.IServiceProvider;
 import org.eclipse.acceleo.query.runtime.ServiceUtils;
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Node;
@@ -30,13 +36,23 @@ import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to create an AQL interpreter parameterized for the view DSL.
  *
+ * <p>
+ * Creating an interpreter instantiates all the Java services of the view and registers them with all the visible
+ * EPackages in a new query environment. The interpreter of each view is thus kept as long as the view is in memory and
+ * reused as long as the view and its visible EPackages are not modified. The size of the cache of the parsed
+ * expressions of each interpreter can be configured with <code>sirius.components.interpreter.expressionCacheSize</code>.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -46,19 +62,45 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
 
     private final ApplicationContext applicationContext;
 
+    private final MeterRegistry meterRegistry;
+
+    private final long expressionCacheSize;
+
+    private final Map<View, CachedInterpreter> cachedInterpreters = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final Logger logger = LoggerFactory.getLogger(ViewAQLInterpreterFactory.class);
 
-    public ViewAQLInterpreterFactory(List<IJavaServiceProvider> javaServiceProviders, ApplicationContext applicationContext) {
+    public ViewAQLInterpreterFactory(List<IJavaServiceProvider> javaServiceProviders, ApplicationContext applicationContext, MeterRegistry meterRegistry,
+            @Value("${sirius.components.interpreter.expressionCacheSize:500}") long expressionCacheSize) {
         this.javaServiceProviders = new ArrayList<>();
         this.javaServiceProviders.addAll(Objects.requireNonNull(javaServiceProviders));
         IServiceProvider nodeServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment, boolean forWorkspace) -> ServiceUtils.getReceiverServices(null, Node.class).stream().toList();
         this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, nodeServiceProvider.getClass()));
         this.applicationContext = Objects.requireNonNull(applicationContext);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.expressionCacheSize = expressionCacheSize;
     }
 
     @Override
     public AQLInterpreter createInterpreter(IEditingContext editingContext, View view) {
-        List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
+        return this.createInterpreter(view, this.getAccessibleEPackages(editingContext));
+    }
+
+    @Override
+    public AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
+        Set<EPackage> ePackages = Set.copyOf(visibleEPackages);
+        var cachedInterpreter = this.cachedInterpreters.get(view);
+        if (cachedInterpreter == null || !cachedInterpreter.visibleEPackages().equals(ePackages)) {
+            cachedInterpreter = new CachedInterpreter(ePackages, this.doCreateInterpreter(view, visibleEPackages));
+            if (view.eAdapters().stream().noneMatch(ViewChangeAdapter.class::isInstance)) {
+                view.eAdapters().add(new ViewChangeAdapter(view));
+            }
+            this.cachedInterpreters.put(view, cachedInterpreter);
+        }
+        return cachedInterpreter.interpreter();
+    }
+
+    private AQLInterpreter doCreateInterpreter(View view, List<EPackage> visibleEPackages) {
         AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
         List<Object> serviceInstances = this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
@@ -73,7 +115,7 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
                 .filter(Objects::nonNull)
                 .map(Object.class::cast)
                 .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
+        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages, this.expressionCacheSize, this.meterRegistry);
     }
 
     private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
@@ -86,4 +128,34 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
         }
         return List.of();
     }
+
+    /**
+     * The interpreter of a view and the EPackages used to create it.
+     *
+     * @author sbegaudeau
+     */
+    private record CachedInterpreter(Set<EPackage> visibleEPackages, AQLInterpreter interpreter) {
+    }
+
+    /**
+     * Used to discard the interpreter of a view once the view has been modified.
+     *
+     * @author sbegaudeau
+     */
+    private final class ViewChangeAdapter extends EContentAdapter {
+
+        private final View view;
+
+        ViewChangeAdapter(View view) {
+            this.view = Objects.requireNonNull(view);
+        }
+
+        @Override
+        public void notifyChanged(Notification notification) {
+            super.notifyChanged(notification);
+            if (!notification.isTouch()) {
+                ViewAQLInterpreterFactory.this.cachedInterpreters.remove(this.view);
+            }
+        }
+    }
 }
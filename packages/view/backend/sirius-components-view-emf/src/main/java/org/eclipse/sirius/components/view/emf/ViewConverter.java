@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,13 +21,8 @@ import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.eclipse.acceleo.query.runtime.IReadOnlyQueryEnvironment;
-import org.eclipse.acceleo.query.runtime.IServiceProvider;
-import org.eclipse.acceleo.query.runtime.ServiceUtils;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
-import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.RepresentationDescription;
@@ -35,11 +30,9 @@ import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.diagram.DiagramDescription;
 import org.eclipse.sirius.components.view.diagram.DialogDescription;
 import org.eclipse.sirius.components.view.emf.api.IDialogDescriptionConverter;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 /**
@@ -52,21 +45,15 @@ public class ViewConverter implements IViewConverter {
 
     private final Logger logger = LoggerFactory.getLogger(ViewConverter.class);
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
+    private final IViewAQLInterpreterFactory aqlInterpreterFactory;
 
     private final List<IRepresentationDescriptionConverter> representationDescriptionConverters;
 
-    private final ApplicationContext applicationContext;
-
     private final List<IDialogDescriptionConverter> dialogDescriptionConverts;
 
-    public ViewConverter(List<IJavaServiceProvider> javaServiceProviders, List<IRepresentationDescriptionConverter> representationDescriptionConverters, ApplicationContext applicationContext, List<IDialogDescriptionConverter> dialogDescriptionConverts) {
-        this.javaServiceProviders = new ArrayList<>();
-        this.javaServiceProviders.addAll(Objects.requireNonNull(javaServiceProviders));
-        IServiceProvider nodeServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment, boolean forWorkspace) -> ServiceUtils.getReceiverServices(null, Node.class).stream().toList();
-        this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, nodeServiceProvider.getClass()));
+    public ViewConverter(IViewAQLInterpreterFactory aqlInterpreterFactory, List<IRepresentationDescriptionConverter> representationDescriptionConverters, List<IDialogDescriptionConverter> dialogDescriptionConverts) {
+        this.aqlInterpreterFactory = Objects.requireNonNull(aqlInterpreterFactory);
         this.representationDescriptionConverters = Objects.requireNonNull(representationDescriptionConverters);
-        this.applicationContext = Objects.requireNonNull(applicationContext);
         this.dialogDescriptionConverts = Objects.requireNonNull(dialogDescriptionConverts);
     }
 
@@ -79,7 +66,7 @@ public class ViewConverter implements IViewConverter {
         List<IRepresentationDescription> result = new ArrayList<>();
         List<RepresentationDescription> allViewsRepresentationDescriptions = views.stream().flatMap(v -> v.getDescriptions().stream()).toList();
         views.forEach(view -> {
-            AQLInterpreter interpreter = this.createInterpreter(view, visibleEPackages);
+            AQLInterpreter interpreter = this.aqlInterpreterFactory.createInterpreter(view, visibleEPackages);
             try {
                 result.addAll(view.getDescriptions().stream()
                         .map(representationDescription -> this.convert(representationDescription, allViewsRepresentationDescriptions, interpreter))
@@ -128,24 +115,4 @@ public class ViewConverter implements IViewConverter {
                 .map(converter -> converter.convert(representationDescription, allViewsRepresentationDescriptions, aqlInterpreter))
                 .findFirst();
     }
-
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        // @formatter:off
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        this.logger.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(Object.class::cast)
-                .toList();
-        // @formatter:on
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
-    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.springframework.stereotype.Service;
 
 /**
@@ -38,13 +39,13 @@ public class ViewRepresentationDescriptionsProvider implements IRepresentationDe
 
     private final IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService;
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
+    private final IViewAQLInterpreterFactory aqlInterpreterFactory;
 
     private final IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate;
 
-    public ViewRepresentationDescriptionsProvider(IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, List<IJavaServiceProvider> javaServiceProviders, IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate) {
+    public ViewRepresentationDescriptionsProvider(IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IViewAQLInterpreterFactory aqlInterpreterFactory, IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate) {
         this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
-        this.javaServiceProviders = Objects.requireNonNull(javaServiceProviders);
+        this.aqlInterpreterFactory = Objects.requireNonNull(aqlInterpreterFactory);
         this.viewRepresentationDescriptionPredicate = Objects.requireNonNull(viewRepresentationDescriptionPredicate);
     }
 
@@ -80,18 +81,11 @@ public class ViewRepresentationDescriptionsProvider implements IRepresentationDe
         String titleExpression = viewRepresentationDescription.getTitleExpression();
         if (titleExpression != null && !titleExpression.isBlank()) {
             List<EPackage> accessibleEPackages = this.getAccessibleEPackages(editingContext);
-            AQLInterpreter interpreter = this.createInterpreter((View) viewRepresentationDescription.eContainer(), accessibleEPackages);
+            AQLInterpreter interpreter = this.aqlInterpreterFactory.createInterpreter((View) viewRepresentationDescription.eContainer(), accessibleEPackages);
             VariableManager variableManager = new VariableManager();
             variableManager.put(VariableManager.SELF, self);
-            return interpreter.evaluateExpression(variableManager.getVariables(), titleExpression).asString().orElse(null);
+            return interpreter.evaluateExpression(variableManager.getScopedVariables(), titleExpression).asString().orElse(null);
         }
         return null;
     }
-
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        List<Class<?>> serviceClasses = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .toList();
-        return new AQLInterpreter(serviceClasses, visibleEPackages);
-    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -202,7 +202,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElements(org.eclipse.sirius.components.view.deck.LaneDescription viewLaneDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), viewLaneDescription.getSemanticCandidatesExpression())
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), viewLaneDescription.getSemanticCandidatesExpression())
                 .asObjects().orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
                 .map(EObject.class::cast)
@@ -211,7 +211,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElements(org.eclipse.sirius.components.view.deck.CardDescription viewCardDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), viewCardDescription.getSemanticCandidatesExpression())
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), viewCardDescription.getSemanticCandidatesExpression())
                 .asObjects().orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
                 .map(EObject.class::cast)
@@ -232,7 +232,7 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression)
+                result = interpreter.evaluateExpression(variableManager.getScopedVariables(), preconditionExpression)
                         .asBoolean()
                         .orElse(false);
             } else {
@@ -253,13 +253,13 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asString()
                 .orElse("");
     }
 
     private Boolean evaluateBoolean(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asBoolean()
                 .orElse(true);
     }
@@ -269,6 +269,6 @@ public class ViewDeckDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
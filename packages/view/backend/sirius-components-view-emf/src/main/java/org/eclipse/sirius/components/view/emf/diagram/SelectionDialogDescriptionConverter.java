@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -180,7 +180,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
             if (safeExpression.isBlank()) {
                 return true;
             }
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), safeExpression);
             return result.asBoolean()
                     .orElse(false);
         };
@@ -295,7 +295,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
         String childrenExpression = selectionDialogTreeDescription.getChildrenExpression();
         String safeExpression = Optional.ofNullable(childrenExpression).orElse("");
         if (!safeExpression.isBlank()) {
-            Result interpreterResult = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result interpreterResult = interpreter.evaluateExpression(variableManager.getScopedVariables(), safeExpression);
             result = interpreterResult.asObjects()
                     .orElse(List.of())
                     .stream()
@@ -314,7 +314,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
                 this.convertTreeIdParametersToVariables(variableManager, optionalEditingContext.get());
 
                 String elementsExpression = selectionDialogTreeDescription.getElementsExpression();
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementsExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), elementsExpression);
                 return result.asObjects()
                         .orElse(List.of())
                         .stream()
@@ -61,7 +61,7 @@ public class TargetProvider implements Function<VariableManager, List<Element>>
         DiagramRenderingCache cache = optionalCache.get();
 
         String expression = this.edgeDescription.getTargetExpression();
-        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asObjects().orElse(List.of());
 
         return semanticCandidates.stream()
                 .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
@@ -292,7 +292,7 @@ public class ToolConverter {
     }
 
     private List<String> evaluateListString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> objects = interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asObjects().orElse(List.of());
         return objects.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
@@ -250,7 +250,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         if (optionalEClass.isPresent()) {
             String preconditionExpression = viewDiagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getScopedVariables(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -313,7 +313,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .toList();
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewNodeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), viewNodeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -355,16 +355,16 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private ILayoutStrategy getiLayoutStrategy(ListLayoutStrategyDescription listLayoutStrategyDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
+        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getScopedVariables(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
         var builder = ListLayoutStrategy.newListLayoutStrategy()
                 .areChildNodesDraggable(resultAreChildNodesDraggable.asBoolean().orElse(true))
                 .growableNodeIds(listLayoutStrategyDescription.getGrowableNodes().stream().map(this.diagramIdProvider::getId).toList());
         if (listLayoutStrategyDescription.getBottomGapExpression() != null && !listLayoutStrategyDescription.getBottomGapExpression().isBlank()) {
-            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getBottomGapExpression());
+            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getScopedVariables(), listLayoutStrategyDescription.getBottomGapExpression());
             builder.bottomGap(resultBottomGap.asInt().orElse(0));
         }
         if (listLayoutStrategyDescription.getTopGapExpression() != null && !listLayoutStrategyDescription.getTopGapExpression().isBlank()) {
-            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getTopGapExpression());
+            Result resultTopGap = interpreter.evaluateExpression(variableManager.getScopedVariables(), listLayoutStrategyDescription.getTopGapExpression());
             builder.topGap(resultTopGap.asInt().orElse(0));
         }
 
@@ -373,7 +373,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Boolean computeBooleanProvider(String booleanExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (booleanExpression != null && !booleanExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), booleanExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), booleanExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0) {
                 return result.asBoolean().orElse(false);
             }
@@ -383,7 +383,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Integer computeDefaultSizeProvider(String defaultSizeExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (defaultSizeExpression != null && !defaultSizeExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), defaultSizeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), defaultSizeExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asInt().isPresent()) {
                 return result.asInt().getAsInt();
             }
@@ -398,7 +398,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private InsideLabelDescription getInsideLabelDescription(org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription, AQLInterpreter interpreter, StylesFactory stylesFactory) {
@@ -514,7 +514,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Function<VariableManager, List<?>> getSemanticElementsProvider(DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             return candidates.stream()
                     .filter(EObject.class::isInstance)
@@ -536,10 +536,14 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
             semanticElementsProvider = new RelationBasedSemanticElementsProvider(sourceNodeDescriptions.map(NodeDescription::getId).toList());
         }
 
-        Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewEdgeDescription.getPreconditionExpression());
-            return result.asBoolean().orElse(true);
-        };
+        Predicate<VariableManager> shouldRenderPredicate = variableManager -> true;
+        String preconditionExpression = viewEdgeDescription.getPreconditionExpression();
+        if (preconditionExpression != null && !preconditionExpression.isBlank()) {
+            shouldRenderPredicate = variableManager -> {
+                Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), preconditionExpression);
+                return result.asBoolean().orElse(true);
+            };
+        }
 
         Function<VariableManager, List<Element>> sourceProvider = null;
         if (viewEdgeDescription.isIsDomainBasedEdge()) {
@@ -551,7 +555,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
                 var diagramElementCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
 
@@ -605,10 +609,15 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .styleProvider(styleProvider)
                 .deleteHandler(this.createDeleteHandler(viewEdgeDescription, converterContext));
 
-        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getBeginLabelExpression(), "_beginlabel", interpreter, stylesFactory).ifPresent(builder::beginLabelDescription);
-        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getCenterLabelExpression(), "_centerlabel", interpreter, stylesFactory)
+        String targetExpression = viewEdgeDescription.getTargetExpression();
+        if (this.isIndependentFromEdgeSource(targetExpression)) {
+            builder.semanticTargetsProvider(variableManager -> interpreter.evaluateExpression(variableManager.getScopedVariables(), targetExpression).asObjects().orElse(List.of()));
+        }
+
+        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getBeginLabelExpression(), LabelDescription.BEGIN_LABEL_SUFFIX, interpreter, stylesFactory).ifPresent(builder::beginLabelDescription);
+        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getCenterLabelExpression(), LabelDescription.CENTER_LABEL_SUFFIX, interpreter, stylesFactory)
                 .ifPresent(builder::centerLabelDescription);
-        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getEndLabelExpression(), "_endlabel", interpreter, stylesFactory).ifPresent(builder::endLabelDescription);
+        this.getSpecificEdgeLabelDescription(viewEdgeDescription, viewEdgeDescription.getEndLabelExpression(), LabelDescription.END_LABEL_SUFFIX, interpreter, stylesFactory).ifPresent(builder::endLabelDescription);
         new ToolFinder().findEdgeLabelEditTool(viewEdgeDescription)
                 .ifPresent(labelEditTool -> builder.labelEditHandler(this.createEdgeLabelEditHandler(viewEdgeDescription, converterContext)));
         EdgeDescription result = builder.build();
@@ -616,6 +625,14 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         return result;
     }
 
+    /**
+     * Indicates if the given expression can be evaluated without the source of the edge, in which case its result can
+     * be shared by all the sources of the edge.
+     */
+    private boolean isIndependentFromEdgeSource(String expression) {
+        return expression != null && !expression.contains(EdgeDescription.SEMANTIC_EDGE_SOURCE) && !expression.contains(EdgeDescription.GRAPHICAL_EDGE_SOURCE);
+    }
+
     private Function<VariableManager, IStatus> createDeleteHandler(DiagramElementDescription diagramElementDescription, ViewDiagramDescriptionConverterContext converterContext) {
         Function<VariableManager, IStatus> handler = variableManager -> {
             IStatus result;
@@ -739,7 +756,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asString().orElse("");
     }
 
     private IDiagramContext getDiagramContext(VariableManager variableManager) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -151,7 +151,7 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
                         variableManager.put("semanticEdgeTarget", semanticEdgeTarget);
                     }
 
-                    Result result = interpreter.evaluateExpression(variableManager.getVariables(), labelEditTool.getInitialDirectEditLabelExpression());
+                    Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), labelEditTool.getInitialDirectEditLabelExpression());
                     if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asString().isPresent()) {
                         initialDirectEditElementLabel = result.asString().get();
                     }
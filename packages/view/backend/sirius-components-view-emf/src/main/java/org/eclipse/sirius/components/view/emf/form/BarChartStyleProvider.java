@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -74,6 +74,6 @@ public class BarChartStyleProvider implements Function<VariableManager, BarChart
     }
 
     private boolean matches(String condition, VariableManager variableManager) {
-        return this.interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return this.interpreter.evaluateExpression(variableManager.getScopedVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -81,7 +81,7 @@ public class PieChartStyleProvider implements Function<VariableManager, PieChart
     private void handleColors(VariableManager variableManager, Builder pieChartStyleBuilder, String colors) {
         if (colors != null && !colors.isBlank()) {
             // @formatter:off
-            List<Object> colorsObjects = this.interpreter.evaluateExpression(variableManager.getVariables(), colors).asObjects()
+            List<Object> colorsObjects = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), colors).asObjects()
                     .orElse(List.of());
             List<String> colorsValues = colorsObjects.stream()
                     .filter(String.class::isInstance)
@@ -103,6 +103,6 @@ public class PieChartStyleProvider implements Function<VariableManager, PieChart
     }
 
     private boolean matches(String condition, VariableManager variableManager) {
-        return this.interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return this.interpreter.evaluateExpression(variableManager.getScopedVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -105,7 +105,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
 
         UnaryOperator<VariableManager> variableManagerInitializer = variableManager -> {
             for (FormVariable formVariable : viewFormDescription.getFormVariables()) {
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), formVariable.getDefaultValueExpression());
+                Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), formVariable.getDefaultValueExpression());
                 if (result.asObject().isPresent()) {
                     variableManager.put(formVariable.getName(), result.asObject().get());
                 }
@@ -214,7 +214,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElementsProvider(org.eclipse.sirius.components.view.form.GroupDescription viewGroupDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewGroupDescription.getSemanticCandidatesExpression());
+        Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), viewGroupDescription.getSemanticCandidatesExpression());
         List<Object> candidates = result.asObjects().orElse(List.of());
         return candidates.stream()
                 .filter(EObject.class::isInstance)
@@ -223,7 +223,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private List<?> getSemanticElementsProvider(org.eclipse.sirius.components.view.form.PageDescription viewPageDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewPageDescription.getSemanticCandidatesExpression());
+        Result result = interpreter.evaluateExpression(variableManager.getScopedVariables(), viewPageDescription.getSemanticCandidatesExpression());
         List<Object> candidates = result.asObjects().orElse(List.of());
         return candidates.stream()
                 .filter(EObject.class::isInstance)
@@ -232,7 +232,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private Optional<String> evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString();
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asString();
     }
 
     private boolean canCreate(String domainType, String preconditionExpression, VariableManager variableManager, AQLInterpreter interpreter) {
@@ -242,7 +242,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getScopedVariables(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -264,6 +264,6 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private boolean matches(String condition, VariableManager variableManager, AQLInterpreter interpreter) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 }
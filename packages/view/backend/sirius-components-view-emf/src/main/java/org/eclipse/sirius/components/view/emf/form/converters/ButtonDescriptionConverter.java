@@ -65,7 +65,7 @@ public class ButtonDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewButtonDescription.getConditionalStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getScopedVariables(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(ButtonDescriptionStyle.class::cast)
@@ -66,7 +66,7 @@ public class CheckboxDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewCheckboxDescription.getConditionalStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getScopedVariables(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(CheckboxDescriptionStyle.class::cast)
@@ -92,7 +92,7 @@ public class DateTimeDescriptionConverter {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewDateTimeDescription.getConditionalStyles().stream()
-                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> this.interpreter.evaluateExpression(childVariableManager.getScopedVariables(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(DateTimeDescriptionStyle.class::cast)
@@ -113,7 +113,7 @@ public class TreeDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getScopedVariables(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
                 }
@@ -129,7 +129,7 @@ public class TreeDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getScopedVariables(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     var list = optionalResult.get().stream().filter(List.class::isInstance).map(List.class::cast).toList();
                     return list.stream().map(valuesList -> (List<String>) valuesList.stream().filter(String.class::isInstance).map(String.class::cast).toList())
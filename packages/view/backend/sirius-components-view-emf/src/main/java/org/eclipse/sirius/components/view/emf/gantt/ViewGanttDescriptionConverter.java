@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -169,7 +169,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     private Temporal getTemporalFromExpression(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
         Temporal result = null;
 
-        var optionalObject = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObject();
+        var optionalObject = interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asObject();
         if (optionalObject.isPresent()) {
             var object = optionalObject.get();
             if (object instanceof Temporal temporal) {
@@ -190,7 +190,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
 
 
     private <T> T evaluateExpression(VariableManager variableManager, AQLInterpreter interpreter, String expression, Class<T> type, T defaultValue) {
-        T value = interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        T value = interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asObject()
                 .filter(type::isInstance)
                 .map(type::cast)
@@ -200,7 +200,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private List<EObject> getSemanticCandidateElements(VariableManager variableManager, AQLInterpreter interpreter, org.eclipse.sirius.components.view.gantt.TaskDescription viewTaskDescription) {
-        List<EObject> semanticObjects = interpreter.evaluateExpression(variableManager.getVariables(), viewTaskDescription.getSemanticCandidatesExpression())
+        List<EObject> semanticObjects = interpreter.evaluateExpression(variableManager.getScopedVariables(), viewTaskDescription.getSemanticCandidatesExpression())
                 .asObjects()
                 .orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
@@ -211,7 +211,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private List<Object> getTaskDependencies(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        List<Object> semanticObjects = interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        List<Object> semanticObjects = interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asObjects()
                 .orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
@@ -224,7 +224,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
         Optional<EClass> optionalEClass = variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eClass).filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getScopedVariables(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -243,7 +243,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asString().orElse("");
     }
 
     private Optional<Object> self(VariableManager variableManager) {
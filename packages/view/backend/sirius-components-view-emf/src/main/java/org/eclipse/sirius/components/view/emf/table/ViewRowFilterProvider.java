@@ -83,8 +83,8 @@ public class ViewRowFilterProvider implements IRowFilterProvider {
     }
 
     private RowFilter convertRowFilterDescription(RowFilterDescription rowFilterDescription, AQLInterpreter interpreter, VariableManager variableManager) {
-        String label = interpreter.evaluateExpression(variableManager.getVariables(), rowFilterDescription.getLabelExpression()).asString().orElse("");
-        boolean initialState = interpreter.evaluateExpression(variableManager.getVariables(), rowFilterDescription.getInitialStateExpression()).asBoolean().orElse(false);
+        String label = interpreter.evaluateExpression(variableManager.getScopedVariables(), rowFilterDescription.getLabelExpression()).asString().orElse("");
+        boolean initialState = interpreter.evaluateExpression(variableManager.getScopedVariables(), rowFilterDescription.getInitialStateExpression()).asBoolean().orElse(false);
         return new RowFilter(rowFilterDescription.getId(), label, initialState);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -101,7 +101,7 @@ public class ViewFetchTreeItemContextMenuEntryDataProvider implements IFetchTree
     }
 
     private String evaluateString(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asString()
                 .orElse("");
     }
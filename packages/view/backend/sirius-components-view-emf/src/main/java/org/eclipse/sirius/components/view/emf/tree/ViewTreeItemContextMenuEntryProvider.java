@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -114,7 +114,7 @@ public class ViewTreeItemContextMenuEntryProvider implements ITreeItemContextMen
     }
 
     private String evaluateString(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asString()
                 .orElse("");
     }
@@ -122,7 +122,7 @@ public class ViewTreeItemContextMenuEntryProvider implements ITreeItemContextMen
     private List<String> evaluateStringList(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
         List<String> values = new ArrayList<>();
         if (expression != null && !expression.isBlank()) {
-            Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects();
+            Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getScopedVariables(), expression).asObjects();
             if (optionalResult.isPresent()) {
                 values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
             }
@@ -131,7 +131,7 @@ public class ViewTreeItemContextMenuEntryProvider implements ITreeItemContextMen
     }
 
     private Boolean evaluateBoolean(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getScopedVariables(), expression)
                 .asBoolean()
                 .orElse(true);
     }
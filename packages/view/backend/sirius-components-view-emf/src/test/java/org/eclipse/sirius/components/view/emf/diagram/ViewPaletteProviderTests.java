@@ -54,6 +54,8 @@ import org.eclipse.sirius.components.view.emf.diagram.api.IViewDiagramDescriptio
 import org.junit.jupiter.api.Test;
 import org.springframework.context.support.StaticApplicationContext;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests of the ViewPaletteProvider.
  *
@@ -222,7 +224,7 @@ public class ViewPaletteProviderTests {
         };
 
         return new ViewPaletteProvider(urlParser, representationDescription -> true, viewDiagramDescriptionSearchService, new IDiagramDescriptionService.NoOp(), new IDiagramIdProvider.NoOp(),
-                new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext()), List.of(new PaletteDefaultToolsProvider()));
+                new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext(), new SimpleMeterRegistry(), 500), List.of(new PaletteDefaultToolsProvider()));
     }
 
     private DiagramDescription createDiagramDescription() {
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.emf.ViewAQLInterpreterFactory;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the reuse of the AQL interpreters of the views.
+ *
+ * @author sbegaudeau
+ */
+public class ViewAQLInterpreterFactoryTests {
+
+    private final IViewAQLInterpreterFactory aqlInterpreterFactory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext(), new SimpleMeterRegistry(), 500);
+
+    @Test
+    public void givenAViewWhenTheInterpreterIsRequestedTwiceThenTheSameInterpreterIsReturned() {
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE));
+        assertThat(this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE))).isSameAs(interpreter);
+        assertThat(this.aqlInterpreterFactory.createInterpreter(ViewFactory.eINSTANCE.createView(), List.of(EcorePackage.eINSTANCE))).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void givenAViewWhenTheVisibleEPackagesChangeThenANewInterpreterIsCreated() {
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE));
+        assertThat(this.aqlInterpreterFactory.createInterpreter(view, List.of())).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void givenAViewWhenItIsModifiedThenANewInterpreterIsCreated() {
+        View view = ViewFactory.eINSTANCE.createView();
+        var diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        view.getDescriptions().add(diagramDescription);
+
+        var interpreter = this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE));
+
+        diagramDescription.setName("Renamed");
+        var interpreterAfterChange = this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE));
+        assertThat(interpreterAfterChange).isNotSameAs(interpreter);
+        assertThat(this.aqlInterpreterFactory.createInterpreter(view, List.of(EcorePackage.eINSTANCE))).isSameAs(interpreterAfterChange);
+    }
+}
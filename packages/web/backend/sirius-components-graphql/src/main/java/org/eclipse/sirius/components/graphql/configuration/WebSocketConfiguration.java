@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.Objects;
 
 import org.eclipse.sirius.components.graphql.api.URLConstants;
 import org.eclipse.sirius.components.graphql.ws.GraphQLWebSocketHandler;
+import org.eclipse.sirius.components.graphql.ws.OutboundMessageQueue;
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -53,18 +54,21 @@ public class WebSocketConfiguration implements WebSocketConfigurer {
 
     private final IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener;
 
+    private final int outboundBufferSize;
+
     public WebSocketConfiguration(@Value("${sirius.components.cors.allowedOriginPatterns:}") String[] allowedOriginPatterns, GraphQL graphQL, ObjectMapper objectMapper, MeterRegistry meterRegistry,
-            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener) {
+            IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener, @Value("${sirius.components.graphql.ws.outboundBufferSize:" + OutboundMessageQueue.DEFAULT_BUFFER_SIZE + "}") int outboundBufferSize) {
         this.allowedOriginPatterns = Objects.requireNonNull(allowedOriginPatterns);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.graphQLWebSocketHandlerListener = Objects.requireNonNull(graphQLWebSocketHandlerListener);
+        this.outboundBufferSize = outboundBufferSize;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener);
+        GraphQLWebSocketHandler graphQLWebSocketHandler = new GraphQLWebSocketHandler(this.objectMapper, this.graphQL, this.meterRegistry, this.graphQLWebSocketHandlerListener, this.outboundBufferSize);
         WebSocketHandlerRegistration graphQLWebSocketRegistration = registry.addHandler(graphQLWebSocketHandler, URLConstants.GRAPHQL_SUBSCRIPTION_PATH);
         graphQLWebSocketRegistration.setAllowedOriginPatterns(this.allowedOriginPatterns);
     }
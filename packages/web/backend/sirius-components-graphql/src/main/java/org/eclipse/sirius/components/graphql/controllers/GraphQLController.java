@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,7 @@ import org.springframework.web.multipart.MultipartFile;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -139,14 +140,17 @@ public class GraphQLController {
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request) {
-        String query = graphQLPayload.getQuery();
+        // Persisted queries can be sent with only their hash in the extensions
+        String query = Optional.ofNullable(graphQLPayload.getQuery()).orElse(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
+        Map<String, Object> extensions = Optional.ofNullable(graphQLPayload.getExtensions()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
         // @formatter:off
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                 .query(query)
                 .variables(variables)
+                .extensions(extensions)
                 .operationName(operationName)
                 .build();
         // @formatter:on
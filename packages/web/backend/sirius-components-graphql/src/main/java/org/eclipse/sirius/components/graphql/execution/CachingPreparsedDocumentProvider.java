@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Used to keep the parsed and validated GraphQL documents in order to execute the same queries again without parsing
+ * and validating them each time.
+ *
+ * <p>
+ * The documents are kept in a least recently used cache with a bounded size. Persisted queries are also supported
+ * using the protocol of Apollo: a client can send only the SHA-256 hash of a query in the
+ * <code>extensions.persistedQuery.sha256Hash</code> field of its request. If the query is not known yet, the error
+ * <code>PersistedQueryNotFound</code> is returned and the client has to send the query along with its hash.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final String METRIC_NAME = "siriusweb_graphql_document_cache";
+
+    private static final String KIND = "kind";
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+
+    private final DocumentCache queries;
+
+    private final DocumentCache persistedQueries;
+
+    private final PreparsedDocumentProvider persistedQuerySupport;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter evictionCounter;
+
+    public CachingPreparsedDocumentProvider(int maximumSize, MeterRegistry meterRegistry) {
+        this.queries = new DocumentCache(maximumSize);
+        this.persistedQueries = new DocumentCache(maximumSize);
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport((persistedQueryId, executionInput, onCacheMiss) -> {
+            var document = this.getDocument(this.persistedQueries, persistedQueryId, () -> this.parsePersistedQuery(persistedQueryId, executionInput, onCacheMiss));
+            return CompletableFuture.completedFuture(document);
+        });
+
+        // @formatter:off
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag(KIND, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag(KIND, "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder(METRIC_NAME)
+                .tag(KIND, "eviction")
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        CompletableFuture<PreparsedDocumentEntry> document;
+        if (executionInput.getExtensions().containsKey(PERSISTED_QUERY)) {
+            document = this.persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+        } else {
+            var preparsedDocumentEntry = this.getDocument(this.queries, executionInput.getQuery(), () -> parseAndValidateFunction.apply(executionInput));
+            document = CompletableFuture.completedFuture(preparsedDocumentEntry);
+        }
+        return document;
+    }
+
+    private PreparsedDocumentEntry parsePersistedQuery(Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+        // Without its query, the client has to send the persisted query again along with its hash
+        String query = executionInput.getQuery();
+        if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+        return onCacheMiss.apply(query);
+    }
+
+    private PreparsedDocumentEntry getDocument(DocumentCache documentCache, Object key, Supplier<PreparsedDocumentEntry> parseAndValidate) {
+        var document = documentCache.get(key);
+        if (document != null) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+
+            // The query is parsed outside of the lock, the same query may thus be parsed concurrently a few times
+            document = parseAndValidate.get();
+            if (documentCache.put(key, document)) {
+                this.evictionCounter.increment();
+            }
+        }
+        return document;
+    }
+
+    /**
+     * A least recently used cache of documents.
+     *
+     * @author sbegaudeau
+     */
+    private static final class DocumentCache {
+
+        private final int maximumSize;
+
+        private final Map<Object, PreparsedDocumentEntry> documents = new LinkedHashMap<>(16, 0.75f, true);
+
+        private DocumentCache(int maximumSize) {
+            this.maximumSize = Math.max(1, maximumSize);
+        }
+
+        public synchronized PreparsedDocumentEntry get(Object key) {
+            return this.documents.get(key);
+        }
+
+        /**
+         * Adds the given document to the cache.
+         *
+         * @return <code>true</code> if the least recently used document has been evicted
+         */
+        public synchronized boolean put(Object key, PreparsedDocumentEntry document) {
+            boolean evicted = false;
+            this.documents.put(key, document);
+            if (this.documents.size() > this.maximumSize) {
+                var iterator = this.documents.entrySet().iterator();
+                iterator.next();
+                iterator.remove();
+                evicted = true;
+            }
+            return evicted;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -51,6 +51,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * The entry point of the GraphQL Web Socket API.
@@ -175,6 +176,8 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private static final String TIMER_METRIC_NAME = "siriusweb_graphql_ws_sessions";
 
+    private static final String OUTBOUND_QUEUE_METRIC_NAME = "siriusweb_graphql_ws_outbound_messages";
+
     private static final String MESSAGE = "message";
 
     private static final String GRAPHQL_WS = "graphql-ws";
@@ -191,6 +194,8 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final Map<WebSocketSession, Disposable> sessions2keepAliveSubscriptions = new ConcurrentHashMap<>();
 
+    private final Map<WebSocketSession, OutboundMessageQueue> sessions2outboundMessageQueues = new ConcurrentHashMap<>();
+
     private final Counter connectionInitCounter;
 
     private final Counter startMessageCounter;
@@ -205,11 +210,14 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final IGraphQLWebSocketHandlerListener listener;
 
-    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener) {
+    private final int outboundBufferSize;
+
+    public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry, IGraphQLWebSocketHandlerListener listener, int outboundBufferSize) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.listener = Objects.requireNonNull(listener);
+        this.outboundBufferSize = outboundBufferSize;
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -229,6 +237,8 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
                 .register(meterRegistry);
         Gauge.builder(TIMER_METRIC_NAME, this.sessions2keepAliveSubscriptions.keySet()::size)
                 .register(meterRegistry);
+        Gauge.builder(OUTBOUND_QUEUE_METRIC_NAME, this::getOutboundMessageCount)
+                .register(meterRegistry);
         // @formatter:on
 
     }
@@ -254,7 +264,7 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             } else if (operationMessage instanceof StartMessage) {
                 StartMessage startMessage = (StartMessage) operationMessage;
 
-                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.meterRegistry).handle(startMessage);
+                new StartMessageHandler(session, this.graphQL, this.getOutboundMessageQueue(session), this.sessions2entries, this.meterRegistry).handle(startMessage);
                 this.startMessageCounter.increment();
             } else if (operationMessage instanceof StopMessage) {
                 StopMessage stopMessage = (StopMessage) operationMessage;
@@ -274,16 +284,18 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     }
 
     private void send(WebSocketSession session, IOperationMessage message) {
-        try {
-            String responsePayload = this.objectMapper.writeValueAsString(message);
-            TextMessage textMessage = new TextMessage(responsePayload);
+        // Messages sent after the closing of the connection are ignored
+        Optional.ofNullable(this.sessions2outboundMessageQueues.get(session)).ifPresent(outboundMessageQueue -> outboundMessageQueue.enqueue(message));
+    }
 
-            this.logger.trace("Message sent: {}", message);
+    private OutboundMessageQueue getOutboundMessageQueue(WebSocketSession session) {
+        return this.sessions2outboundMessageQueues.computeIfAbsent(session, key -> new OutboundMessageQueue(key, this.objectMapper, this.outboundBufferSize, Schedulers.boundedElastic(), this.meterRegistry));
+    }
 
-            session.sendMessage(textMessage);
-        } catch (IOException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-        }
+    private int getOutboundMessageCount() {
+        return this.sessions2outboundMessageQueues.values().stream()
+                .mapToInt(OutboundMessageQueue::size)
+                .sum();
     }
 
     private Optional<IOperationMessage> parseRequest(TextMessage message) {
@@ -337,6 +349,7 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         this.listener.afterConnectionEstablished(session);
+        this.getOutboundMessageQueue(session);
 
         // @formatter:off
         Disposable subscribe = Flux.interval(GRAPHQL_KEEP_ALIVE_INTERVAL)
@@ -352,6 +365,11 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
         Disposable keepAliveSubscription = this.sessions2keepAliveSubscriptions.remove(session);
         keepAliveSubscription.dispose();
 
+        OutboundMessageQueue outboundMessageQueue = this.sessions2outboundMessageQueues.remove(session);
+        if (outboundMessageQueue != null) {
+            outboundMessageQueue.dispose();
+        }
+
         // Closing the connection will trigger the same behavior as indicating that the connection should be closed
         new ConnectionTerminateMessageHandler(session, this.sessions2entries).handle();
     }
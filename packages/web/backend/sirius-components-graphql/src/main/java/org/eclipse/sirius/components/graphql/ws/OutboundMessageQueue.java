@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.graphql.ws.dto.IOperationMessage;
+import org.eclipse.sirius.components.graphql.ws.dto.output.DataMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Holds the messages waiting to be sent to a Web Socket session.
+ *
+ * <p>
+ * The messages are serialized and sent on the given scheduler, one at a time and in order, so that a slow client cannot
+ * block the threads producing the messages. While a refresh payload containing the whole representation is waiting to
+ * be sent, a more recent one of the same subscription replaces it since only the latest one is relevant for the client.
+ * If the buffer is full, the oldest of those refresh payloads is dropped and if there is none, the session is closed
+ * since the client would miss some messages.
+ * </p>
+ *
+ * <p>
+ * Other refresh payloads, such as the deltas of a diagram, only contain the changes since the previous payload and are
+ * thus never replaced nor dropped. A refresh payload containing the whole representation which is followed by such an
+ * incremental payload of the same subscription is not replaced nor dropped anymore either, since the incremental payload
+ * has been computed from it.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class OutboundMessageQueue {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_graphql_ws_dropped_messages";
+
+    private static final String KIND = "kind";
+
+    private static final String DATA = "data";
+
+    private static final String TYPENAME = "__typename";
+
+    private static final String REFRESHED_EVENT_PAYLOAD_SUFFIX = "RefreshedEventPayload";
+
+    /**
+     * The type names of the refresh payloads containing the whole representation.
+     */
+    private static final Set<String> SNAPSHOT_TYPENAMES = Set.of(
+            "DeckRefreshedEventPayload",
+            "DiagramRefreshedEventPayload",
+            "FormDescriptionEditorRefreshedEventPayload",
+            "FormRefreshedEventPayload",
+            "GanttRefreshedEventPayload",
+            "HierarchyRefreshedEventPayload",
+            "PortalRefreshedEventPayload",
+            "TableRefreshedEventPayload",
+            "TreeRefreshedEventPayload",
+            "ValidationRefreshedEventPayload"
+    );
+
+    private final Logger logger = LoggerFactory.getLogger(OutboundMessageQueue.class);
+
+    private final WebSocketSession session;
+
+    private final ObjectMapper objectMapper;
+
+    private final int bufferSize;
+
+    private final Scheduler scheduler;
+
+    private final Counter coalescedMessageCounter;
+
+    private final Counter overflowMessageCounter;
+
+    private final Map<Object, IOperationMessage> pendingMessages = new LinkedHashMap<>();
+
+    /**
+     * The keys of the pending snapshots which can still be replaced or dropped, by subscription id.
+     */
+    private final Map<String, SnapshotKey> replaceableSnapshotKeys = new HashMap<>();
+
+    private long snapshotSequence;
+
+    private boolean isDraining;
+
+    private boolean isDisposed;
+
+    public OutboundMessageQueue(WebSocketSession session, ObjectMapper objectMapper, int bufferSize, Scheduler scheduler, MeterRegistry meterRegistry) {
+        this.session = Objects.requireNonNull(session);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.scheduler = Objects.requireNonNull(scheduler);
+
+        this.coalescedMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(KIND, "coalesced")
+                .register(meterRegistry);
+        this.overflowMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(KIND, "overflow")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the given message to the messages waiting to be sent.
+     *
+     * @param message
+     *         The message to send
+     */
+    public void enqueue(IOperationMessage message) {
+        boolean shouldDrain = false;
+        boolean shouldClose = false;
+
+        synchronized (this.pendingMessages) {
+            if (!this.isDisposed) {
+                Object key = this.getKey(message);
+                if (key instanceof SnapshotKey snapshotKey && this.removeReplaceableSnapshot(snapshotKey.subscriptionId())) {
+                    this.coalescedMessageCounter.increment();
+                } else if (this.pendingMessages.size() >= this.bufferSize) {
+                    shouldClose = !this.dropOldestReplaceableSnapshot();
+                }
+
+                if (shouldClose) {
+                    this.overflowMessageCounter.increment(this.pendingMessages.size() + 1);
+                    this.pendingMessages.clear();
+                    this.replaceableSnapshotKeys.clear();
+                    this.isDisposed = true;
+                } else {
+                    this.pendingMessages.put(key, message);
+                    if (key instanceof SnapshotKey snapshotKey) {
+                        this.replaceableSnapshotKeys.put(snapshotKey.subscriptionId(), snapshotKey);
+                    }
+                    shouldDrain = !this.isDraining;
+                    this.isDraining = true;
+                }
+            }
+        }
+
+        if (shouldDrain) {
+            this.scheduler.schedule(this::drain);
+        } else if (shouldClose) {
+            this.close();
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be sent.
+     *
+     * @return The number of messages waiting to be sent
+     */
+    public int size() {
+        synchronized (this.pendingMessages) {
+            return this.pendingMessages.size();
+        }
+    }
+
+    /**
+     * Discards the messages waiting to be sent and ignores the messages enqueued afterward.
+     */
+    public void dispose() {
+        synchronized (this.pendingMessages) {
+            this.pendingMessages.clear();
+            this.replaceableSnapshotKeys.clear();
+            this.isDisposed = true;
+        }
+    }
+
+    private Object getKey(IOperationMessage message) {
+        Object key = new Object();
+        var optionalRefreshTypename = this.getRefreshTypename(message);
+        if (message instanceof DataMessage dataMessage && optionalRefreshTypename.isPresent()) {
+            if (SNAPSHOT_TYPENAMES.contains(optionalRefreshTypename.get())) {
+                this.snapshotSequence++;
+                key = new SnapshotKey(dataMessage.getId(), this.snapshotSequence);
+            } else {
+                // The pending snapshot is needed by the client to apply this incremental refresh
+                this.replaceableSnapshotKeys.remove(dataMessage.getId());
+            }
+        }
+        return key;
+    }
+
+    private Optional<String> getRefreshTypename(IOperationMessage message) {
+        Optional<String> optionalTypename = Optional.empty();
+        if (message instanceof DataMessage dataMessage && dataMessage.getPayload() != null && dataMessage.getPayload().get(DATA) instanceof Map<?, ?> data && data.size() == 1) {
+            optionalTypename = data.values().stream()
+                    .filter(Map.class::isInstance)
+                    .map(Map.class::cast)
+                    .map(payload -> payload.get(TYPENAME))
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .filter(typename -> typename.endsWith(REFRESHED_EVENT_PAYLOAD_SUFFIX))
+                    .findFirst();
+        }
+        return optionalTypename;
+    }
+
+    private boolean removeReplaceableSnapshot(String subscriptionId) {
+        var snapshotKey = this.replaceableSnapshotKeys.remove(subscriptionId);
+        return snapshotKey != null && this.pendingMessages.remove(snapshotKey) != null;
+    }
+
+    private boolean dropOldestReplaceableSnapshot() {
+        boolean hasDropped = false;
+        Iterator<Object> iterator = this.pendingMessages.keySet().iterator();
+        while (!hasDropped && iterator.hasNext()) {
+            if (iterator.next() instanceof SnapshotKey snapshotKey && this.replaceableSnapshotKeys.remove(snapshotKey.subscriptionId(), snapshotKey)) {
+                iterator.remove();
+                this.overflowMessageCounter.increment();
+                hasDropped = true;
+            }
+        }
+        return hasDropped;
+    }
+
+    private void drain() {
+        Optional<IOperationMessage> optionalMessage = this.poll();
+        while (optionalMessage.isPresent()) {
+            this.send(optionalMessage.get());
+            optionalMessage = this.poll();
+        }
+    }
+
+    private Optional<IOperationMessage> poll() {
+        synchronized (this.pendingMessages) {
+            Optional<IOperationMessage> optionalMessage = Optional.empty();
+            Iterator<Map.Entry<Object, IOperationMessage>> iterator = this.pendingMessages.entrySet().iterator();
+            if (iterator.hasNext()) {
+                var entry = iterator.next();
+                optionalMessage = Optional.of(entry.getValue());
+                iterator.remove();
+                if (entry.getKey() instanceof SnapshotKey snapshotKey) {
+                    this.replaceableSnapshotKeys.remove(snapshotKey.subscriptionId(), snapshotKey);
+                }
+            } else {
+                this.isDraining = false;
+            }
+            return optionalMessage;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void send(IOperationMessage message) {
+        try {
+            TextMessage textMessage = new TextMessage(this.objectMapper.writeValueAsString(message));
+            synchronized (this.session) {
+                if (this.session.isOpen()) {
+                    this.logger.trace("Message sent: {}", message);
+                    this.session.sendMessage(textMessage);
+                }
+            }
+        } catch (RuntimeException | IOException exception) {
+            // The draining must continue for the next messages
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private void close() {
+        this.logger.warn("Closing the Web Socket session {} since its client cannot keep up with the messages sent", this.session.getId());
+        try {
+            this.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * The key of a pending snapshot, each snapshot has its own sequence number since a snapshot which cannot be replaced
+     * may be followed by another one of the same subscription.
+     *
+     * @author sbegaudeau
+     */
+    private record SnapshotKey(String subscriptionId, long sequence) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.ws.OutboundMessageQueue;
 import org.eclipse.sirius.components.graphql.ws.SubscriptionEntry;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.CompleteMessage;
@@ -36,6 +35,7 @@ import org.springframework.web.socket.WebSocketSession;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
@@ -45,7 +45,8 @@ import reactor.core.publisher.Flux;
  * This class will handle all the start messages sent by the consumers of the Web Socket API. It will executes the
  * GraphQL payload provided. If that payload contains a query or a mutation, it will return the result directly. If,
  * otherwise, it contains a subscription then it creates a new GraphQL subscription and registers it in the subscription
- * entries of the Web Socket session.
+ * entries of the Web Socket session. The results are sent using the outbound message queue of the Web Socket session
+ * in order to never block the thread producing them.
  *
  * @author sbegaudeau
  */
@@ -59,16 +60,16 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final GraphQL graphQL;
 
-    private final ObjectMapper objectMapper;
+    private final OutboundMessageQueue outboundMessageQueue;
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries;
 
     private final Timer graphQLRequestTimer;
 
-    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, OutboundMessageQueue outboundMessageQueue, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
         this.session = Objects.requireNonNull(session);
         this.graphQL = Objects.requireNonNull(graphQL);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.outboundMessageQueue = Objects.requireNonNull(outboundMessageQueue);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
@@ -78,14 +79,17 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         String id = startMessage.getId();
         GraphQLPayload graphQLPayload = startMessage.getPayload();
 
-        String query = graphQLPayload.getQuery();
+        // Persisted queries can be sent with only their hash in the extensions
+        String query = Optional.ofNullable(graphQLPayload.getQuery()).orElse(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
+        Map<String, Object> extensions = Optional.ofNullable(graphQLPayload.getExtensions()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
         // @formatter:off
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                 .query(query)
                 .variables(variables)
+                .extensions(extensions)
                 .operationName(operationName)
                 .build();
         // @formatter:on
@@ -101,17 +105,17 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
             this.subscribe(id, publisher);
         } else {
-            this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
+            this.outboundMessageQueue.enqueue(new DataMessage(id, executionResult.toSpecification()));
         }
     }
 
     private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+        Consumer<ExecutionResult> consumer = result -> this.outboundMessageQueue.enqueue(new DataMessage(id, result.toSpecification()));
         Consumer<Throwable> onErrorConsumer = error -> {
             this.logger.warn(error.getMessage(), error);
-            this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
+            this.outboundMessageQueue.enqueue(new ErrorMessage(id, null));
         };
-        Runnable onCompleteConsumer = () -> this.send(this.objectMapper, this.session, new CompleteMessage(id), this.logger);
+        Runnable onCompleteConsumer = () -> this.outboundMessageQueue.enqueue(new CompleteMessage(id));
 
         // @formatter:off
         Disposable subscription = Flux.from(publisher)
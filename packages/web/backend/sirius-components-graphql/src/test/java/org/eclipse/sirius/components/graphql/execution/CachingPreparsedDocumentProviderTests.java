@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the cache of the GraphQL documents.
+ *
+ * @author sbegaudeau
+ */
+public class CachingPreparsedDocumentProviderTests {
+
+    private static final String QUERY = "query getMessage { message }";
+
+    private static final String METRIC_NAME = "siriusweb_graphql_document_cache";
+
+    private static final String KIND = "kind";
+
+    private static final String MESSAGE = "message";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GraphQL getGraphQL(int maximumSize) {
+        GraphQLFieldDefinition messageField = GraphQLFieldDefinition.newFieldDefinition()
+                .name(MESSAGE)
+                .type(Scalars.GraphQLString)
+                .build();
+        GraphQLObjectType queryObjectType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(messageField)
+                .build();
+
+        DataFetcher<String> dataFetcher = environment -> "Hello";
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", MESSAGE), dataFetcher)
+                .build();
+
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryObjectType)
+                .codeRegistry(codeRegistry)
+                .build();
+
+        return GraphQL.newGraphQL(graphQLSchema)
+                .preparsedDocumentProvider(new CachingPreparsedDocumentProvider(maximumSize, this.meterRegistry))
+                .build();
+    }
+
+    private double count(String kind) {
+        return this.meterRegistry.get(METRIC_NAME).tag(KIND, kind).counter().count();
+    }
+
+    @Test
+    public void givenAQueryWhenItIsExecutedTwiceThenItIsParsedOnce() {
+        GraphQL graphQL = this.getGraphQL(CachingPreparsedDocumentProvider.DEFAULT_MAXIMUM_SIZE);
+
+        var firstResult = graphQL.execute(QUERY);
+        var secondResult = graphQL.execute(QUERY);
+
+        assertThat(firstResult.getErrors()).isEmpty();
+        assertThat(secondResult.<Map<String, Object>>getData()).isEqualTo(firstResult.getData());
+        assertThat(this.count("miss")).isEqualTo(1);
+        assertThat(this.count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    public void givenMoreQueriesThanTheMaximumSizeWhenTheyAreExecutedThenTheLeastRecentlyUsedOnesAreEvicted() {
+        GraphQL graphQL = this.getGraphQL(1);
+
+        graphQL.execute(QUERY);
+        graphQL.execute("query getOtherMessage { message }");
+        graphQL.execute(QUERY);
+
+        assertThat(this.count("miss")).isEqualTo(3);
+        assertThat(this.count("eviction")).isEqualTo(2);
+    }
+
+    @Test
+    public void givenAPersistedQueryWhenOnlyItsHashIsSentThenItIsExecutedOnceItIsKnown() throws NoSuchAlgorithmException {
+        GraphQL graphQL = this.getGraphQL(CachingPreparsedDocumentProvider.DEFAULT_MAXIMUM_SIZE);
+
+        var hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(QUERY.getBytes(StandardCharsets.UTF_8)));
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+
+        var unknownResult = graphQL.execute(ExecutionInput.newExecutionInput().query(PersistedQuerySupport.PERSISTED_QUERY_MARKER).extensions(extensions).build());
+        assertThat(unknownResult.getErrors()).hasSize(1);
+        assertThat(unknownResult.getErrors().get(0).getMessage()).isEqualTo("PersistedQueryNotFound");
+
+        var registrationResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).extensions(extensions).build());
+        assertThat(registrationResult.getErrors()).isEmpty();
+
+        var hashOnlyResult = graphQL.execute(ExecutionInput.newExecutionInput().query(PersistedQuerySupport.PERSISTED_QUERY_MARKER).extensions(extensions).build());
+        assertThat(hashOnlyResult.getErrors()).isEmpty();
+        assertThat(hashOnlyResult.<Map<String, Object>>getData()).isEqualTo(Map.of(MESSAGE, "Hello"));
+        assertThat(this.count("hit")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.graphql.ws.dto.output.CompleteMessage;
+import org.eclipse.sirius.components.graphql.ws.dto.output.DataMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit tests of the outbound message queue of the Web Socket sessions.
+ *
+ * @author sbegaudeau
+ */
+public class OutboundMessageQueueTests {
+
+    private static final String SUBSCRIPTION_ID = "subscriptionId";
+
+    private static final String DIAGRAM_EVENT = "diagramEvent";
+
+    private static final String DIAGRAM_REFRESHED_EVENT_PAYLOAD = "DiagramRefreshedEventPayload";
+
+    private static final String DIAGRAM_DELTA_REFRESHED_EVENT_PAYLOAD = "DiagramDeltaRefreshedEventPayload";
+
+    private static final String THIRD = "third";
+
+    private static final String KIND = "kind";
+
+    private static final String COALESCED = "coalesced";
+
+    private static final String FIRST = "first";
+
+    private static final String SECOND = "second";
+
+    private static final String DROPPED_MESSAGES = "siriusweb_graphql_ws_dropped_messages";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final Scheduler scheduler = Schedulers.fromExecutor(this.tasks::add);
+
+    @Test
+    public void givenPendingRefreshPayloadWhenANewOneIsEnqueuedThenOnlyTheLatestOneIsSent() {
+        var session = new NoOpWebSocketSession();
+        var meterRegistry = new SimpleMeterRegistry();
+        var outboundMessageQueue = new OutboundMessageQueue(session, new ObjectMapper(), OutboundMessageQueue.DEFAULT_BUFFER_SIZE, this.scheduler, meterRegistry);
+
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, FIRST));
+        outboundMessageQueue.enqueue(this.createDataMessage("SubscribersUpdatedEventPayload", "subscribers"));
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, SECOND));
+        outboundMessageQueue.enqueue(new CompleteMessage(SUBSCRIPTION_ID));
+        assertThat(session.getMessages()).isEmpty();
+        assertThat(outboundMessageQueue.size()).isEqualTo(3);
+
+        this.runTasks();
+
+        assertThat(outboundMessageQueue.size()).isZero();
+        assertThat(session.getMessages())
+                .map(TextMessage.class::cast)
+                .map(TextMessage::getPayload)
+                .satisfiesExactly(
+                        payload -> assertThat(payload).contains("subscribers"),
+                        payload -> assertThat(payload).contains(SECOND).doesNotContain(FIRST),
+                        payload -> assertThat(payload).contains("complete"));
+        assertThat(meterRegistry.get(DROPPED_MESSAGES).tag(KIND, COALESCED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenFullBufferWhenMessagesAreEnqueuedThenRefreshPayloadsAreDroppedBeforeClosingTheSession() {
+        List<CloseStatus> closeStatuses = new ArrayList<>();
+        var session = new NoOpWebSocketSession() {
+            @Override
+            public void close(CloseStatus status) {
+                closeStatuses.add(status);
+            }
+        };
+        var meterRegistry = new SimpleMeterRegistry();
+        var outboundMessageQueue = new OutboundMessageQueue(session, new ObjectMapper(), 2, this.scheduler, meterRegistry);
+
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, "refresh"));
+        outboundMessageQueue.enqueue(new CompleteMessage(FIRST));
+        outboundMessageQueue.enqueue(new CompleteMessage(SECOND));
+        assertThat(outboundMessageQueue.size()).isEqualTo(2);
+        assertThat(closeStatuses).isEmpty();
+
+        outboundMessageQueue.enqueue(new CompleteMessage(THIRD));
+        assertThat(outboundMessageQueue.size()).isZero();
+        assertThat(closeStatuses).containsExactly(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get(DROPPED_MESSAGES).tag(KIND, "overflow").counter().count()).isEqualTo(4);
+
+        this.runTasks();
+        assertThat(session.getMessages()).isEmpty();
+    }
+
+    @Test
+    public void givenPendingDeltaRefreshPayloadsWhenANewOneIsEnqueuedThenAllOfThemAreSent() {
+        var session = new NoOpWebSocketSession();
+        var meterRegistry = new SimpleMeterRegistry();
+        var outboundMessageQueue = new OutboundMessageQueue(session, new ObjectMapper(), OutboundMessageQueue.DEFAULT_BUFFER_SIZE, this.scheduler, meterRegistry);
+
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_DELTA_REFRESHED_EVENT_PAYLOAD, FIRST));
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_DELTA_REFRESHED_EVENT_PAYLOAD, SECOND));
+        assertThat(outboundMessageQueue.size()).isEqualTo(2);
+
+        this.runTasks();
+
+        assertThat(session.getMessages())
+                .map(TextMessage.class::cast)
+                .map(TextMessage::getPayload)
+                .satisfiesExactly(
+                        payload -> assertThat(payload).contains(FIRST),
+                        payload -> assertThat(payload).contains(SECOND));
+        assertThat(meterRegistry.get(DROPPED_MESSAGES).tag(KIND, COALESCED).counter().count()).isZero();
+    }
+
+    @Test
+    public void givenPendingRefreshPayloadFollowedByADeltaWhenANewRefreshPayloadIsEnqueuedThenTheyAreAllSentInOrder() {
+        var session = new NoOpWebSocketSession();
+        var meterRegistry = new SimpleMeterRegistry();
+        var outboundMessageQueue = new OutboundMessageQueue(session, new ObjectMapper(), OutboundMessageQueue.DEFAULT_BUFFER_SIZE, this.scheduler, meterRegistry);
+
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, FIRST));
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_DELTA_REFRESHED_EVENT_PAYLOAD, SECOND));
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, THIRD));
+        outboundMessageQueue.enqueue(this.createDataMessage(DIAGRAM_REFRESHED_EVENT_PAYLOAD, "fourth"));
+        assertThat(outboundMessageQueue.size()).isEqualTo(3);
+
+        this.runTasks();
+
+        // The delta has been computed from the first refresh payload which must thus be sent before it
+        assertThat(session.getMessages())
+                .map(TextMessage.class::cast)
+                .map(TextMessage::getPayload)
+                .satisfiesExactly(
+                        payload -> assertThat(payload).contains(FIRST),
+                        payload -> assertThat(payload).contains(SECOND),
+                        payload -> assertThat(payload).contains("fourth").doesNotContain(THIRD));
+        assertThat(meterRegistry.get(DROPPED_MESSAGES).tag(KIND, COALESCED).counter().count()).isEqualTo(1);
+    }
+
+    private DataMessage createDataMessage(String typename, String value) {
+        Map<String, Object> payload = Map.of("__typename", typename, "value", value);
+        return new DataMessage(SUBSCRIPTION_ID, Map.of("data", Map.of(DIAGRAM_EVENT, payload)));
+    }
+
+    private void runTasks() {
+        while (!this.tasks.isEmpty()) {
+            this.tasks.remove(0).run();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,7 @@ import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Unit tests of the various Web Socket handlers. The handlers should implement the behavior described in the
@@ -91,7 +92,7 @@ public class WebSocketHandlerTests {
         // @formatter:on
 
         StartMessage startMessage = new StartMessage("operationId", payload);
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, graphQL, this.createOutboundMessageQueue(session, objectMapper), sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(1);
         WebSocketMessage<?> webSocketMessage = session.getMessages().get(0);
@@ -143,7 +144,7 @@ public class WebSocketHandlerTests {
         assertThat(session.getMessages()).hasSize(0);
 
         StartMessage startMessage = new StartMessage("subscriptionOperationId", payload);
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        new StartMessageHandler(session, graphQL, this.createOutboundMessageQueue(session, objectMapper), sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(2);
 
@@ -197,4 +198,8 @@ public class WebSocketHandlerTests {
 
         assertThat(sessions2entries.size()).isEqualTo(0);
     }
+
+    private OutboundMessageQueue createOutboundMessageQueue(WebSocketSession session, ObjectMapper objectMapper) {
+        return new OutboundMessageQueue(session, objectMapper, OutboundMessageQueue.DEFAULT_BUFFER_SIZE, Schedulers.immediate(), new SimpleMeterRegistry());
+    }
 }